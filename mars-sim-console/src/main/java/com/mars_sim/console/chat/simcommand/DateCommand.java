@@ -13,6 +13,8 @@ import java.time.format.DateTimeFormatter;
 import com.mars_sim.console.chat.ChatCommand;
 import com.mars_sim.console.chat.Conversation;
 import com.mars_sim.console.chat.ConversationRole;
+import com.mars_sim.core.UnitManager;
+import com.mars_sim.core.structure.PulsePhase;
 import com.mars_sim.core.time.MarsTime;
 import com.mars_sim.core.time.MasterClock;
 
@@ -53,6 +55,16 @@ public class DateCommand extends ChatCommand {
 			responseText.appendLabelledDigit("Last Pulse execution (msec)", clock.getExecutionTime());
 			responseText.appendLabelledDigit("Last sleep time (msec)", clock.getSleepTime());
 			responseText.appendLabelledDigit("Pulse count", (int) clock.getTotalPulses());
+
+			// Timing of the settlement update phases
+			UnitManager um = context.getSim().getUnitManager();
+			responseText.appendBlankLine();
+			responseText.appendTableHeading("Pulse Phase", 12, "Time (msec)", "Speedup");
+			for (PulsePhase phase : PulsePhase.values()) {
+				responseText.appendTableRow(phase.name(),
+						String.format("%.2f", um.getPhaseTime(phase)),
+						String.format("%.2f", um.getPhaseSpeedup(phase)));
+			}
 		}
 
 		context.println(responseText.getOutput());
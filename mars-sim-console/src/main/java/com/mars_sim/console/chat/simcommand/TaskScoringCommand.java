@@ -0,0 +1,66 @@
+/*
+ * Mars Simulation Project
+ * TaskScoringCommand.java
+ * @date 2026-10-17
+ */
+
+package com.mars_sim.console.chat.simcommand;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.mars_sim.console.chat.ChatCommand;
+import com.mars_sim.console.chat.Conversation;
+import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTaskUtil;
+import com.mars_sim.core.person.ai.task.util.PersonTaskManager;
+import com.mars_sim.core.person.ai.task.util.ScoringStats;
+
+/**
+ * Command to display how often each MetaTask is scored and the time it takes.
+ * This is a singleton.
+ */
+public class TaskScoringCommand extends ChatCommand {
+
+	public static final ChatCommand TASK_SCORING = new TaskScoringCommand();
+	private static final String RESET = "reset";
+
+	private TaskScoringCommand() {
+		super(TopLevel.SIMULATION_GROUP, "ts", "task scoring",
+				"Time spent scoring each Task and how often a cached score is reused; 'reset' clears");
+	}
+
+	@Override
+	public boolean execute(Conversation context, String input) {
+		List<MetaTask> tasks = MetaTaskUtil.getAllMetaTasks().stream()
+						.sorted(Comparator.comparingDouble((MetaTask m) -> m.getScoringStats().getTotalTime())
+									.reversed())
+						.toList();
+
+		if (RESET.equalsIgnoreCase(input)) {
+			tasks.forEach(m -> m.getScoringStats().reset());
+			PersonTaskManager.getSettlementScoringStats().reset();
+			context.println("Task scoring counts cleared");
+			return true;
+		}
+
+		StructuredResponse response = new StructuredResponse();
+		response.appendTableHeading("Task", CommandHelper.TASK_WIDTH,
+									"Scored", 9, "Reused", 9, "Hit %", 6,
+									"Avg us", 8, "Total ms", 10);
+		for (MetaTask m : tasks) {
+			appendRow(response, m.getName(), m.getScoringStats());
+		}
+		appendRow(response, "Settlement Tasks per Person", PersonTaskManager.getSettlementScoringStats());
+
+		context.println(response.getOutput());
+		return true;
+	}
+
+	private static void appendRow(StructuredResponse response, String name, ScoringStats stats) {
+		response.appendTableRow(name, stats.getScored(), stats.getReused(),
+								String.format(CommandHelper.PERC_FORMAT, stats.getHitRate() * 100D),
+								String.format(CommandHelper.DOUBLE_FORMAT, stats.getAverageTime()),
+								String.format(CommandHelper.DOUBLE_FORMAT, stats.getTotalTime()));
+	}
+}
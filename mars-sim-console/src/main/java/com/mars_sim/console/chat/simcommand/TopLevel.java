@@ -33,6 +33,7 @@ public class TopLevel extends InteractiveChatCommand {
 																	ExpertCommand.EXPERT,
 																	EventCommand.EVENT,
 																	DiagnosticsCommand.DIAGNOSTICS,
+																	TaskScoringCommand.TASK_SCORING,
 																	
 																	// Admin commands
 																	new SaveCommand(),
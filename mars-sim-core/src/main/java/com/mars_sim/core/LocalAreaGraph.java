@@ -0,0 +1,184 @@
+/*
+ * Mars Simulation Project
+ * LocalAreaGraph.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.mars_sim.core.map.location.LocalPosition;
+
+/**
+ * A visibility graph of the ways around the obstacles at a location. The nodes are the
+ * corners of each obstacle pushed out to leave room to walk past; two nodes are joined if
+ * the line between them is clear. The shortest way around obstacles always turns at such
+ * corners, so an A* search over the graph finds it if there is one, and takes at most one
+ * step per corner.
+ * The nodes seen from each node are only found when the search first reaches it.
+ */
+final class LocalAreaGraph {
+
+	private record Open(int node, double estimate) {}
+
+	/** Room left between a path and the corner of an obstacle in metres. */
+	static final double CLEARANCE = 1D;
+
+	private final LocalAreaIndex index;
+	private final double[] xs;
+	private final double[] ys;
+	private final AtomicReferenceArray<int[]> visible;
+
+	/**
+	 * Builds the graph around the objects of an index.
+	 *
+	 * @param index
+	 */
+	LocalAreaGraph(LocalAreaIndex index) {
+		this.index = index;
+
+		double[] x = new double[index.size() * 4];
+		double[] y = new double[x.length];
+		int n = 0;
+		for (int i = 0; i < index.size(); i++) {
+			double[] corners = index.getBox(i).getCorners(CLEARANCE);
+			for (int c = 0; c < corners.length; c += 2) {
+				// A corner inside another obstacle can not be walked to
+				if (!index.contains(corners[c], corners[c + 1], LocalAreaIndex.ALL)) {
+					x[n] = corners[c];
+					y[n] = corners[c + 1];
+					n++;
+				}
+			}
+		}
+		xs = Arrays.copyOf(x, n);
+		ys = Arrays.copyOf(y, n);
+		visible = new AtomicReferenceArray<>(n);
+	}
+
+	/**
+	 * Gets the number of corners that can be walked to.
+	 */
+	int getNumNodes() {
+		return xs.length;
+	}
+
+	/**
+	 * Finds the shortest path between two positions that does not cross an obstacle.
+	 *
+	 * @param start
+	 * @param end
+	 * @return The positions from start to end, or null if there is no way
+	 */
+	List<LocalPosition> findPath(LocalPosition start, LocalPosition end) {
+		int n = xs.length;
+		int startNode = n;
+		int endNode = n + 1;
+		double[] x = Arrays.copyOf(xs, n + 2);
+		double[] y = Arrays.copyOf(ys, n + 2);
+		x[startNode] = start.getX();
+		y[startNode] = start.getY();
+		x[endNode] = end.getX();
+		y[endNode] = end.getY();
+
+		double[] cost = new double[n + 2];
+		Arrays.fill(cost, Double.POSITIVE_INFINITY);
+		int[] cameFrom = new int[n + 2];
+		boolean[] done = new boolean[n + 2];
+
+		PriorityQueue<Open> open = new PriorityQueue<>(Comparator.comparingDouble(Open::estimate));
+		cost[startNode] = 0D;
+		open.add(new Open(startNode, distance(x, y, startNode, endNode)));
+
+		while (!open.isEmpty()) {
+			int current = open.poll().node();
+			if (done[current]) {
+				// Already reached at a lower cost
+				continue;
+			}
+			if (current == endNode) {
+				return getPath(x, y, cameFrom, startNode, endNode);
+			}
+			done[current] = true;
+
+			int[] neighbours;
+			if (current == startNode) {
+				neighbours = findVisible(x[startNode], y[startNode], -1);
+			}
+			else {
+				neighbours = getVisible(current);
+			}
+			for (int next : neighbours) {
+				visit(current, next, x, y, cost, cameFrom, done, open, endNode);
+			}
+			if (index.isClear(x[current], y[current], x[endNode], y[endNode])) {
+				visit(current, endNode, x, y, cost, cameFrom, done, open, endNode);
+			}
+		}
+		return null;
+	}
+
+	private static void visit(int current, int next, double[] x, double[] y, double[] cost, int[] cameFrom,
+						boolean[] done, PriorityQueue<Open> open, int endNode) {
+		if (done[next]) {
+			return;
+		}
+		double tentative = cost[current] + distance(x, y, current, next);
+		if (tentative < cost[next]) {
+			cost[next] = tentative;
+			cameFrom[next] = current;
+			open.add(new Open(next, tentative + distance(x, y, next, endNode)));
+		}
+	}
+
+	private static List<LocalPosition> getPath(double[] x, double[] y, int[] cameFrom, int startNode, int endNode) {
+		List<LocalPosition> path = new ArrayList<>();
+		for (int node = endNode; node != startNode; node = cameFrom[node]) {
+			path.add(new LocalPosition(x[node], y[node]));
+		}
+		path.add(new LocalPosition(x[startNode], y[startNode]));
+		Collections.reverse(path);
+		return path;
+	}
+
+	/**
+	 * Gets the nodes that can be seen from a node, finding them the first time.
+	 */
+	private int[] getVisible(int node) {
+		int[] result = visible.get(node);
+		if (result == null) {
+			result = findVisible(xs[node], ys[node], node);
+			visible.set(node, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Finds the nodes that can be seen from a point.
+	 *
+	 * @param px
+	 * @param py
+	 * @param self Node at the point, or -1
+	 * @return
+	 */
+	private int[] findVisible(double px, double py, int self) {
+		int[] found = new int[xs.length];
+		int count = 0;
+		for (int i = 0; i < xs.length; i++) {
+			if ((i != self) && index.isClear(px, py, xs[i], ys[i])) {
+				found[count++] = i;
+			}
+		}
+		return Arrays.copyOf(found, count);
+	}
+
+	private static double distance(double[] x, double[] y, int a, int b) {
+		return Math.hypot(x[b] - x[a], y[b] - y[a]);
+	}
+}
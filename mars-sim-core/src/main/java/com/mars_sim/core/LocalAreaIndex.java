@@ -0,0 +1,227 @@
+/*
+ * Mars Simulation Project
+ * LocalAreaIndex.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import com.mars_sim.core.map.location.LocalBoundedObject;
+import com.mars_sim.core.structure.building.Building;
+import com.mars_sim.core.vehicle.Vehicle;
+
+/**
+ * The boxes of the buildings, construction sites and vehicles at one location held in a
+ * uniform grid, so a collision check only tests the boxes in the cells it covers.
+ * An index is never changed once built; it is replaced when something at the location moves.
+ */
+final class LocalAreaIndex {
+
+	/** Matches every object. */
+	static final Predicate<LocalBoundedObject> ALL = o -> true;
+	/** Matches the vehicles. */
+	static final Predicate<LocalBoundedObject> VEHICLES = Vehicle.class::isInstance;
+	/** Matches the buildings that have arrived and the construction sites. */
+	static final Predicate<LocalBoundedObject> IMMOVABLES = o -> !(o instanceof Vehicle)
+								&& !((o instanceof Building b) && b.getInTransport());
+
+	/** Size of a cell in metres. */
+	private static final double CELL_SIZE = 10D;
+	/** Largest number of cells across the grid. */
+	private static final int MAX_CELLS = 128;
+
+	private final LocalBoundedObject[] objects;
+	private final OrientedBox[] boxes;
+
+	private double minX;
+	private double minY;
+	private double cellSize = CELL_SIZE;
+	private int columns;
+	private int rows;
+	/** The boxes in cell i are cellItems[cellStart[i]] up to cellItems[cellStart[i + 1]]. */
+	private int[] cellStart;
+	private int[] cellItems;
+	/** Ways around the objects; built when first needed. */
+	private volatile LocalAreaGraph graph;
+
+	/**
+	 * Builds an index of some objects.
+	 *
+	 * @param contents
+	 */
+	LocalAreaIndex(Set<LocalBoundedObject> contents) {
+		objects = contents.toArray(new LocalBoundedObject[contents.size()]);
+		boxes = new OrientedBox[objects.length];
+		if (objects.length == 0) {
+			return;
+		}
+
+		minX = Double.MAX_VALUE;
+		minY = Double.MAX_VALUE;
+		double maxX = -Double.MAX_VALUE;
+		double maxY = -Double.MAX_VALUE;
+		for (int i = 0; i < objects.length; i++) {
+			OrientedBox box = OrientedBox.of(objects[i]);
+			boxes[i] = box;
+			minX = Math.min(minX, box.getMinX());
+			minY = Math.min(minY, box.getMinY());
+			maxX = Math.max(maxX, box.getMaxX());
+			maxY = Math.max(maxY, box.getMaxY());
+		}
+
+		// Widen the cells if the objects are spread far apart
+		double span = Math.max(maxX - minX, maxY - minY);
+		if (span / cellSize > MAX_CELLS) {
+			cellSize = span / MAX_CELLS;
+		}
+		columns = getCell(maxX, minX) + 1;
+		rows = getCell(maxY, minY) + 1;
+
+		// Count the boxes in each cell and then place them
+		cellStart = new int[columns * rows + 1];
+		for (OrientedBox box : boxes) {
+			forEachCell(box, c -> cellStart[c + 1]++);
+		}
+		for (int c = 0; c < columns * rows; c++) {
+			cellStart[c + 1] += cellStart[c];
+		}
+		cellItems = new int[cellStart[columns * rows]];
+		int[] next = cellStart.clone();
+		for (int i = 0; i < boxes.length; i++) {
+			int item = i;
+			forEachCell(boxes[i], c -> cellItems[next[c]++] = item);
+		}
+	}
+
+	/**
+	 * Gets the objects in the index.
+	 */
+	List<LocalBoundedObject> getObjects() {
+		List<LocalBoundedObject> result = new ArrayList<>(objects.length);
+		Collections.addAll(result, objects);
+		return result;
+	}
+
+	/**
+	 * Gets the number of objects in the index.
+	 */
+	int size() {
+		return boxes.length;
+	}
+
+	/**
+	 * Gets the box of an object in the index.
+	 *
+	 * @param i
+	 * @return
+	 */
+	OrientedBox getBox(int i) {
+		return boxes[i];
+	}
+
+	/**
+	 * Gets the graph of the ways around the objects.
+	 */
+	LocalAreaGraph getGraph() {
+		LocalAreaGraph result = graph;
+		if (result == null) {
+			// Two threads may both build it, which does no harm
+			result = new LocalAreaGraph(this);
+			graph = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Is a line clear of every object ?
+	 *
+	 * @param x1
+	 * @param y1
+	 * @param x2
+	 * @param y2
+	 * @return
+	 */
+	boolean isClear(double x1, double y1, double x2, double y2) {
+		return !intersects(OrientedBox.ofLine(x1, y1, x2, y2), null, ALL);
+	}
+
+	/**
+	 * Is a point inside any matching object ?
+	 *
+	 * @param x
+	 * @param y
+	 * @param filter The objects to check
+	 * @return
+	 */
+	boolean contains(double x, double y, Predicate<LocalBoundedObject> filter) {
+		if ((objects.length == 0) || (x < minX) || (y < minY)) {
+			return false;
+		}
+		int column = getCell(x, minX);
+		int row = getCell(y, minY);
+		if ((column >= columns) || (row >= rows)) {
+			return false;
+		}
+
+		int c = row * columns + column;
+		for (int j = cellStart[c]; j < cellStart[c + 1]; j++) {
+			int i = cellItems[j];
+			if (boxes[i].contains(x, y) && filter.test(objects[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Does a box overlap any matching object ?
+	 *
+	 * @param box
+	 * @param ignore Object never matched; may be null
+	 * @param filter The objects to check
+	 * @return
+	 */
+	boolean intersects(OrientedBox box, Object ignore, Predicate<LocalBoundedObject> filter) {
+		if (objects.length == 0) {
+			return false;
+		}
+		int firstColumn = Math.max(0, getCell(box.getMinX(), minX));
+		int lastColumn = Math.min(columns - 1, getCell(box.getMaxX(), minX));
+		int firstRow = Math.max(0, getCell(box.getMinY(), minY));
+		int lastRow = Math.min(rows - 1, getCell(box.getMaxY(), minY));
+
+		// An object in several cells may be tested more than once, which does no harm
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				int c = row * columns + column;
+				for (int j = cellStart[c]; j < cellStart[c + 1]; j++) {
+					int i = cellItems[j];
+					if ((objects[i] != ignore) && boxes[i].intersects(box) && filter.test(objects[i])) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private int getCell(double value, double min) {
+		return (int) Math.floor((value - min) / cellSize);
+	}
+
+	private void forEachCell(OrientedBox box, IntConsumer action) {
+		int lastColumn = Math.min(columns - 1, getCell(box.getMaxX(), minX));
+		int lastRow = Math.min(rows - 1, getCell(box.getMaxY(), minY));
+		for (int row = getCell(box.getMinY(), minY); row <= lastRow; row++) {
+			for (int column = getCell(box.getMinX(), minX); column <= lastColumn; column++) {
+				action.accept(row * columns + column);
+			}
+		}
+	}
+}
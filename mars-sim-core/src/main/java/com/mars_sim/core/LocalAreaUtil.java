@@ -7,25 +7,20 @@
 
 package com.mars_sim.core;
 
-import java.awt.geom.AffineTransform;
-import java.awt.geom.Area;
 import java.awt.geom.Line2D;
-import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.map.location.LocalBoundedObject;
 import com.mars_sim.core.map.location.LocalPosition;
 import com.mars_sim.core.structure.Settlement;
-import com.mars_sim.core.structure.building.Building;
-import com.mars_sim.core.structure.construction.ConstructionSite;
-import com.mars_sim.core.time.MarsTime;
 import com.mars_sim.core.time.MasterClock;
 import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.vehicle.Vehicle;
@@ -36,9 +31,6 @@ import com.mars_sim.core.vehicle.Vehicle;
  */
 public class LocalAreaUtil {
 
-	// Record representing an Area and when it was calculated
-	private record CachedArea(Area area, MarsTime when) {};
-
 	/** default logger. */
 	// May add back private static SimLogger logger = SimLogger.getLogger(LocalAreaUtil.class.getName())
 
@@ -50,12 +42,12 @@ public class LocalAreaUtil {
 	private static final double DEGREE_PER_RAD = 180 / Math.PI;
 
 	/**
-	 * Cache for total area containing obstacles for a given coordinate location.
+	 * Index of the obstacles at each coordinate location. An index is dropped when
+	 * anything at its location moves and built again when next needed.
 	 */
-	private static final Map<Coordinates, CachedArea> obstacleAreaCache = new HashMap<>();
+	private static final Map<Coordinates, LocalAreaIndex> obstacleIndexes = new ConcurrentHashMap<>();
 
 	private static UnitManager unitManager;
-	private static MasterClock master;
 
 	/**
 	 * Private empty constructor for utility class.
@@ -246,51 +238,7 @@ public class LocalAreaUtil {
 	 * @return true if location doesn't collide with anything.
 	 */
 	public static boolean isPositionCollisionFree(LocalPosition pos, Coordinates coordinates) {
-
-//		Iterator<LocalBoundedObject> i = getAllLocalBoundedObjectsAtLocation(coordinates).iterator();
-//		while (i.hasNext()) {
-//			if (isPositionWithinLocalBoundedObject(pos, i.next())) {
-//				return false;
-//			}
-//		}
-
-		// Add all vehicles at location.
-		Iterator<Vehicle> i = unitManager.getVehicles().iterator();
-		while (i.hasNext()) {
-			Vehicle vehicle = i.next();
-			if (vehicle.getCoordinates().equals(coordinates)) {
-				if (isPositionWithinLocalBoundedObject(pos, vehicle)) {
-					return false;
-				}
-			}
-		}
-
-		// Check for any settlements at coordinates.
-		Iterator<Settlement> l = unitManager.getSettlements().iterator();
-		while (l.hasNext()) {
-			Settlement settlement = l.next();
-			if (settlement.getCoordinates().equals(coordinates)) {
-
-				// Add all buildings at settlement.
-				Iterator<Building> j = settlement.getBuildingManager().getBuildingSet().iterator();
-				while (j.hasNext()) {
-					if (isPositionWithinLocalBoundedObject(pos, j.next())) {
-						return false;
-					}
-				}
-
-				
-				// Check all construction sites at settlement.
-				Iterator<ConstructionSite> k = settlement.getConstructionManager().getConstructionSites().iterator();
-				while (k.hasNext()) {
-					if (isPositionWithinLocalBoundedObject(pos, k.next())) {
-						return false;
-					}
-				}
-			}
-		}
-		
-		return true;
+		return !getIndex(coordinates).contains(pos.getX(), pos.getY(), LocalAreaIndex.ALL);
 	}
 
 	/**
@@ -325,62 +273,9 @@ public class LocalAreaUtil {
 	 */
 	public static boolean isVehicleBoundedOjectIntersected(LocalBoundedObject object, Coordinates coordinates,
 			boolean needToMove) {
-		
-//		boolean result = false;
-
-//		Iterator<LocalBoundedObject> i = getAllVehicleBoundedObjectsAtLocation(coordinates).iterator();
-//		while (i.hasNext()) {
-//			LocalBoundedObject vehicle = i.next();
-//
-//			if (isTwoBoundedOjectsIntersected(object, vehicle)) {
-//				result = true;
-//				if (needToMove) {
-//					Vehicle v = (Vehicle) vehicle;
-//					logger.info(v, "Collided with '" + object + "'.");
-//					v.findNewParkingLoc();
-//					// Call again recursively to clear any vehicles
-//					result = isVehicleBoundedOjectIntersected(object, coordinates, needToMove);
-//				}
-//			}
-//		}
-		
-		// Add all vehicles at location.
-		Iterator<Vehicle> i = unitManager.getVehicles().iterator();
-		while (i.hasNext()) {
-			Vehicle vehicle = i.next();
-			if (vehicle.getCoordinates().equals(coordinates)) {				
-				if (isTwoBoundedOjectsIntersected(object, vehicle)) {
-					return true;
-				}
-			}
-		}
-
-		return false;
+		return getIndex(coordinates).intersects(OrientedBox.of(object), null, LocalAreaIndex.VEHICLES);
 	}
 
-
-//	/**
-//	 * Gets a set of vehicles at a given coordinate location.
-//	 *
-//	 * @param coordinates the coordinate location.
-//	 * @return set of local bounded objects at location (may be empty).
-//	 */
-//	public static Set<LocalBoundedObject> getAllVehicleBoundedObjectsAtLocation(Coordinates coordinates) {
-//
-//		Set<LocalBoundedObject> result = new HashSet<>(); //ConcurrentHashMap.newKeySet();
-//
-//		// Add all vehicles at location.
-//		Iterator<Vehicle> i = unitManager.getVehicles().iterator();
-//		while (i.hasNext()) {
-//			Vehicle vehicle = i.next();
-//			if (vehicle.getCoordinates().equals(coordinates)) {
-//				result.add(vehicle);
-//			}
-//		}
-//
-//		return result;
-//	}
-
 	/**
 	 * Checks for collisions with any immovable objects.
 	 *
@@ -389,78 +284,9 @@ public class LocalAreaUtil {
 	 * @param Coordinates        coordinates
 	 */
 	public static boolean isImmovableBoundedOjectIntersected(LocalBoundedObject object, Coordinates coordinates) { 
-//		Iterator<LocalBoundedObject> i = getAllImmovableBoundedObjectsAtLocation(coordinates).iterator();
-//		while (i.hasNext()) {
-//			LocalBoundedObject immovable = i.next();
-//			if (isTwoBoundedOjectsIntersected(object, immovable)) {
-//				return true;
-//			}
-//		}
-		
-		// Check for any settlements at coordinates.
-		Iterator<Settlement> l = unitManager.getSettlements().iterator();
-		while (l.hasNext()) {
-			Settlement settlement = l.next();
-			if (settlement.getCoordinates().equals(coordinates)) {
-
-				// Add all buildings at settlement.
-				Iterator<Building> j = settlement.getBuildingManager().getBuildingSet().iterator();
-				while (j.hasNext()) {
-					Building b = j.next();
-					if (!b.getInTransport() && isTwoBoundedOjectsIntersected(object, b)) {
-						return true;
-					}
-				}
-
-				// Check all construction sites at settlement.
-				Iterator<ConstructionSite> k = settlement.getConstructionManager().getConstructionSites().iterator();
-				while (k.hasNext()) {
-					if (isTwoBoundedOjectsIntersected(object, k.next())) {
-						return true;
-					}
-				}
-			}
-		}
-		
-		return false;
+		return getIndex(coordinates).intersects(OrientedBox.of(object), null, LocalAreaIndex.IMMOVABLES);
 	}
 
-//	/**
-//	 * Gets a set of local Immovable bounded objects (buildings and construction
-//	 * sites) at a given coordinate location.
-//	 *
-//	 * @param coordinates the coordinate location.
-//	 * @return set of local bounded objects at location (may be empty).
-//	 */
-//	private static Set<LocalBoundedObject> getAllImmovableBoundedObjectsAtLocation(Coordinates coordinates) {
-//
-//		Set<LocalBoundedObject> result = new HashSet<>(); //ConcurrentHashMap.newKeySet();
-//
-//		// Check for any settlements at coordinates.
-//		Iterator<Settlement> l = unitManager.getSettlements().iterator();
-//		while (l.hasNext()) {
-//			Settlement settlement = l.next();
-//			if (settlement.getCoordinates().equals(coordinates)) {
-//
-//				// Add all buildings at settlement.
-//				Iterator<Building> j = settlement.getBuildingManager().getBuildingSet().iterator();
-//				while (j.hasNext()) {
-//					Building b = j.next();
-//					if (!b.getInTransport())
-//						result.add(b);
-//				}
-//
-//				// Check all construction sites at settlement.
-//				Iterator<ConstructionSite> k = settlement.getConstructionManager().getConstructionSites().iterator();
-//				while (k.hasNext()) {
-//					result.add(k.next());
-//				}
-//			}
-//		}
-//
-//		return result;
-//	}
-
 	/**
 	 * Gets a set of local bounded objects at a given coordinate location.
 	 *
@@ -468,6 +294,16 @@ public class LocalAreaUtil {
 	 * @return set of local bounded objects at location (may be empty).
 	 */
 	public static Set<LocalBoundedObject> getAllLocalBoundedObjectsAtLocation(Coordinates coordinates) {
+		return new HashSet<>(getIndex(coordinates).getObjects());
+	}
+
+	/**
+	 * Finds the vehicles, buildings and construction sites at a given coordinate location.
+	 *
+	 * @param coordinates the coordinate location.
+	 * @return set of local bounded objects at location (may be empty).
+	 */
+	private static Set<LocalBoundedObject> findObjectsAtLocation(Coordinates coordinates) {
 
 		Set<LocalBoundedObject> result = new HashSet<>();
 
@@ -485,21 +321,7 @@ public class LocalAreaUtil {
 		while (l.hasNext()) {
 			Settlement settlement = l.next();
 			if (settlement.getCoordinates().equals(coordinates)) {
-
-				// Add all buildings at settlement.
-//				Iterator<Building> j = settlement.getBuildingManager().getBuildingSet().iterator();
-//				while (j.hasNext()) {
-//					result.add(j.next());
-//				}
-
 				result.addAll(settlement.getBuildingManager().getBuildingSet());
-				
-				// Check all construction sites at settlement.
-//				Iterator<ConstructionSite> k = settlement.getConstructionManager().getConstructionSites().iterator();
-//				while (k.hasNext()) {
-//					result.add(k.next());
-//				}
-				
 				result.addAll(settlement.getConstructionManager().getConstructionSites());
 			}
 		}
@@ -507,6 +329,28 @@ public class LocalAreaUtil {
 		return result;
 	}
 
+	/**
+	 * Gets the index of the obstacles at a location, building it if anything there has moved.
+	 *
+	 * @param coordinates the coordinate location.
+	 * @return
+	 */
+	private static LocalAreaIndex getIndex(Coordinates coordinates) {
+		return obstacleIndexes.computeIfAbsent(coordinates, c -> new LocalAreaIndex(findObjectsAtLocation(c)));
+	}
+
+	/**
+	 * Notes that a vehicle, building or construction site at a location has been added,
+	 * removed or moved, so the obstacles there are found again.
+	 *
+	 * @param coordinates the coordinate location; may be null.
+	 */
+	public static void invalidate(Coordinates coordinates) {
+		if (coordinates != null) {
+			obstacleIndexes.remove(coordinates);
+		}
+	}
+
 	/**
 	 * Helper method to output the various geometry aspects in string format.
 	 */
@@ -523,11 +367,7 @@ public class LocalAreaUtil {
 	 * @return true if position is within object bounds.
 	 */
 	public static boolean isPositionWithinLocalBoundedObject(LocalPosition position, LocalBoundedObject object) {
-		Rectangle2D rect = new Rectangle2D.Double(object.getPosition().getX() - (object.getWidth() / 2D),
-				object.getPosition().getY() - (object.getLength() / 2D), object.getWidth(), object.getLength());
-		Path2D path = getPathFromRectangleRotation(rect, object.getFacing());
-		Area area = new Area(path);
-		return area.contains(position.getX(), position.getY());
+		return OrientedBox.of(object).contains(position.getX(), position.getY());
 	}
 
 	/**
@@ -537,12 +377,9 @@ public class LocalAreaUtil {
 	 * @return bounding rectangle.
 	 */
 	public static Rectangle2D getBoundingRectangle(LocalBoundedObject object) {
-
-		Rectangle2D rect = new Rectangle2D.Double(object.getXLocation() - (object.getWidth() / 2D),
-				object.getYLocation() - (object.getLength() / 2D), object.getWidth(), object.getLength());
-		Path2D path = getPathFromRectangleRotation(rect, object.getFacing());
-
-		return path.getBounds2D();
+		OrientedBox box = OrientedBox.of(object);
+		return new Rectangle2D.Double(box.getMinX(), box.getMinY(), box.getMaxX() - box.getMinX(),
+				box.getMaxY() - box.getMinY());
 	}
 
 	/**
@@ -560,16 +397,8 @@ public class LocalAreaUtil {
 	 */
 	public static boolean isObjectCollisionFree(Object object, double width, double length, double xLoc, double yLoc,
 			double facing, Coordinates coordinates) {
-
-		boolean result = true;
-
-		// Create path for object.
-		Rectangle2D objectRect = new Rectangle2D.Double(xLoc - (width / 2D), yLoc - (length / 2D), width, length);
-		Path2D objectPath = getPathFromRectangleRotation(objectRect, facing);
-
-		result = isPathCollisionFree(object, objectPath, coordinates, false);
-
-		return result;
+		OrientedBox box = OrientedBox.of(xLoc, yLoc, width, length, facing);
+		return !getIndex(coordinates).intersects(box, object, LocalAreaIndex.ALL);
 	}
 
 	/**
@@ -582,11 +411,25 @@ public class LocalAreaUtil {
 	 * @return true if line path doesn't collide with anything.
 	 */
 	public static boolean isLinePathCollisionFree(Line2D line, Coordinates coordinates, boolean useCache) {
-		// Create line path
-//		Path2D linePath = createLinePath(line);
-
-		return isPathCollisionFree(null, createLinePath(line), coordinates, useCache);
+		// Treat the line as a box 1 mm wide
+		OrientedBox box = OrientedBox.ofLine(line.getX1(), line.getY1(), line.getX2(), line.getY2());
+		LocalAreaIndex index = (useCache ? getIndex(coordinates)
+								: new LocalAreaIndex(findObjectsAtLocation(coordinates)));
+		return !index.intersects(box, null, LocalAreaIndex.ALL);
+	}
 
+	/**
+	 * Finds the shortest walk between two positions that keeps clear of every vehicle,
+	 * building, and construction site at a location. The walk turns at points just off
+	 * the corners of the obstacles.
+	 *
+	 * @param start       the starting position.
+	 * @param end         the destination position.
+	 * @param coordinates the global coordinate location.
+	 * @return positions from start to end, or null if there is no clear way.
+	 */
+	public static List<LocalPosition> findClearPath(LocalPosition start, LocalPosition end, Coordinates coordinates) {
+		return getIndex(coordinates).getGraph().findPath(start, end);
 	}
 
 	/**
@@ -639,20 +482,6 @@ public class LocalAreaUtil {
 		return new Point2D.Double(x, y);
 	}
 
-	/**
-	 * Gets the bounded object area.
-	 * 
-	 * @param object
-	 * @return
-	 */
-	private static Area getBoundedObjectArea(LocalBoundedObject object) {
-
-		Rectangle2D rect = new Rectangle2D.Double(object.getXLocation() - (object.getWidth() / 2D),
-				object.getYLocation() - (object.getLength() / 2D), object.getWidth(), object.getLength());
-		Path2D path = getPathFromRectangleRotation(rect, object.getFacing());
-		return new Area(path);
-	}
-
 	/**
 	 * Checks if two bound objects collide.
 	 *
@@ -661,7 +490,7 @@ public class LocalAreaUtil {
 	 * @return true if they do collide
 	 */
 	public static boolean isTwoBoundedOjectsIntersected(LocalBoundedObject o1, LocalBoundedObject o2) {
-		return doAreasCollide(getBoundedObjectArea(o1), getBoundedObjectArea(o2));
+		return OrientedBox.of(o1).intersects(OrientedBox.of(o2));
 	}
 
 	private static Set<Line2D> getLocalBoundedObjectLineSegments(LocalBoundedObject object) {
@@ -690,29 +519,6 @@ public class LocalAreaUtil {
 		return result;
 	}
 
-	/**
-	 * Creates a thin (1 mm wide) rectangle path representing a line.
-	 *
-	 * @param line the line.
-	 * @return rectangle path for the line.
-	 */
-	private static Path2D createLinePath(Line2D line) {
-
-		// Make rectangle width 1mm.
-		double width = .001D;
-		double length = line.getP1().distance(line.getP2());
-		double centerX = (line.getX1() + line.getX2()) / 2D;
-		double centerY = (line.getY1() + line.getY2()) / 2D;
-
-		double x1 = centerX - (width / 2D);
-		double y1 = centerY - (length / 2D);
-		Rectangle2D lineRect = new Rectangle2D.Double(x1, y1, width, length);
-
-		double facing = getDirection(line.getP1(), line.getP2());
-
-		return getPathFromRectangleRotation(lineRect, facing);
-	}
-
 	/**
 	 * Gets the direction from point1 to point2.
 	 *
@@ -736,105 +542,10 @@ public class LocalAreaUtil {
 	}
 
 	/**
-	 * Checks if a path collides with an existing building, construction site, or
-	 * vehicle at a location.
-	 *
-	 * @param object      the object being checked (may be null if no object).
-	 * @param path        the path to check.
-	 * @param coordinates the global coordinate location to check.
-	 * @param useCache    true if caching should be used.
-	 * @return true if path doesn't collide with anything.
-	 */
-	private static boolean isPathCollisionFree(Object object, Path2D path, Coordinates coordinates, boolean useCache) {
-
-		boolean result = true;
-
-		// Check if obstacle area has been cached for this coordinate location if using
-		// cache.
-		boolean cached = false;
-		Area obstacleArea = null;
-		if (useCache && obstacleAreaCache.containsKey(coordinates)) {
-			CachedArea cachedArea = obstacleAreaCache.get(coordinates);
-			if (master.getMarsTime().equals(cachedArea.when())) {
-				cached = true;
-				obstacleArea = cachedArea.area();
-			}
-		}
-
-		if (!cached) {
-			// Add all obstacle areas at location together to create a total obstacle area.
-			Iterator<LocalBoundedObject> i = getAllLocalBoundedObjectsAtLocation(coordinates).iterator();
-			while (i.hasNext()) {
-				LocalBoundedObject lbo = i.next();
-				if (object == null || lbo != object) {
-					Rectangle2D objectRect = new Rectangle2D.Double(lbo.getXLocation() - (lbo.getWidth() / 2D),
-							lbo.getYLocation() - (lbo.getLength() / 2D), lbo.getWidth(), lbo.getLength());
-					Path2D objectPath = getPathFromRectangleRotation(objectRect, lbo.getFacing());
-					Area objectArea = new Area(objectPath);
-					if (obstacleArea == null) {
-						obstacleArea = objectArea;
-					} else {
-						obstacleArea.add(objectArea);
-					}
-				}
-			}
-		}
-
-		if (obstacleArea != null) {
-			// Check for intersection of obstacle and path bounding rectangles first
-			// (faster).
-			Rectangle2D pathBounds = path.getBounds2D();
-			Rectangle2D obstacleBounds = obstacleArea.getBounds2D();
-			if (pathBounds.intersects(obstacleBounds)) {
-				// If rectangles intersect, check for collision of path and obstacle areas
-				// (slower).
-				Area pathArea = new Area(path);
-				result = !doAreasCollide(pathArea, obstacleArea);
-			}
-		}
-
-		// Store cached obstacle area for location with current timestamp if needed.
-		if (useCache && !cached && (obstacleArea != null)) {
-			obstacleAreaCache.put(coordinates, new CachedArea(obstacleArea, master.getMarsTime()));
-		}
-
-		return result;
-	}
-
-	/**
-	 * Clears the obstacle area cache and time stamps.
+	 * Clears the obstacle indexes of every location.
 	 */
 	public static void clearObstacleCache() {
-		obstacleAreaCache.clear();
-	}
-
-	/**
-	 * Checks if two areas collide.
-	 *
-	 * @param area1 the first area.
-	 * @param area2 the second area.
-	 * @return true if areas collide.
-	 */
-	private static boolean doAreasCollide(Area area1, Area area2) {
-
-		Area collide = new Area(area1);
-		collide.intersect(area2);
-		return !collide.isEmpty();
-
-	}
-
-	/**
-	 * Creates a Path2D object from a rectangle with a given rotation.
-	 *
-	 * @param rectangle the rectangle.
-	 * @param rotation  the rotation (degrees clockwise from North).
-	 * @return path representing rotated rectangle.
-	 */
-	private static Path2D getPathFromRectangleRotation(Rectangle2D rectangle, double rotation) {
-		double radianRotation = rotation / DEGREE_PER_RAD;
-		AffineTransform at = AffineTransform.getRotateInstance(radianRotation, rectangle.getCenterX(),
-				rectangle.getCenterY());
-		return new Path2D.Double(rectangle, at);
+		obstacleIndexes.clear();
 	}
 
 	/**
@@ -845,6 +556,6 @@ public class LocalAreaUtil {
 	 */
 	public static void initializeInstances(UnitManager unitMgr, MasterClock clock) {
 		unitManager = unitMgr;
-		master = clock;
+		obstacleIndexes.clear();
 	}
 }
\ No newline at end of file
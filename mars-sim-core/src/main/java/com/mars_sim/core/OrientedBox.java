@@ -0,0 +1,175 @@
+/*
+ * Mars Simulation Project
+ * OrientedBox.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core;
+
+import com.mars_sim.core.map.location.LocalBoundedObject;
+
+/**
+ * The footprint of a local bounded object: a rectangle turned about its centre.
+ * Collisions are found with the separating axis test, where two boxes are apart if
+ * their shadows on the axis of one of the four sides do not overlap.
+ * Boxes that only touch along a side do not collide, so buildings may share a wall.
+ */
+final class OrientedBox {
+
+	/** Overlap too small to count as a collision. */
+	private static final double TOUCH = 1E-6;
+	/** Width of the box standing in for a line. */
+	private static final double LINE_WIDTH = .001D;
+
+	private final double x;
+	private final double y;
+	private final double halfWidth;
+	private final double halfLength;
+	// The width runs along (cos, sin) and the length along (-sin, cos)
+	private final double cos;
+	private final double sin;
+
+	private OrientedBox(double x, double y, double halfWidth, double halfLength, double cos, double sin) {
+		this.x = x;
+		this.y = y;
+		this.halfWidth = halfWidth;
+		this.halfLength = halfLength;
+		this.cos = cos;
+		this.sin = sin;
+	}
+
+	/**
+	 * Creates a box.
+	 *
+	 * @param x Centre
+	 * @param y Centre
+	 * @param width
+	 * @param length
+	 * @param facing Degrees clockwise from North
+	 * @return
+	 */
+	static OrientedBox of(double x, double y, double width, double length, double facing) {
+		double radians = Math.toRadians(facing);
+		return new OrientedBox(x, y, width / 2D, length / 2D, Math.cos(radians), Math.sin(radians));
+	}
+
+	/**
+	 * Creates the box of a local bounded object.
+	 *
+	 * @param object
+	 * @return
+	 */
+	static OrientedBox of(LocalBoundedObject object) {
+		return of(object.getXLocation(), object.getYLocation(), object.getWidth(), object.getLength(),
+					object.getFacing());
+	}
+
+	/**
+	 * Creates a thin box along a line.
+	 *
+	 * @param x1
+	 * @param y1
+	 * @param x2
+	 * @param y2
+	 * @return
+	 */
+	static OrientedBox ofLine(double x1, double y1, double x2, double y2) {
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		double length = Math.sqrt(dx * dx + dy * dy);
+		double cos = 1D;
+		double sin = 0D;
+		if (length > 0D) {
+			cos = dy / length;
+			sin = -dx / length;
+		}
+		return new OrientedBox((x1 + x2) / 2D, (y1 + y2) / 2D, LINE_WIDTH / 2D, length / 2D, cos, sin);
+	}
+
+	/**
+	 * Is a point inside the box ?
+	 *
+	 * @param px
+	 * @param py
+	 * @return
+	 */
+	boolean contains(double px, double py) {
+		double dx = px - x;
+		double dy = py - y;
+		return (Math.abs(dx * cos + dy * sin) <= halfWidth)
+				&& (Math.abs(dy * cos - dx * sin) <= halfLength);
+	}
+
+	/**
+	 * Does this box overlap another ?
+	 *
+	 * @param other
+	 * @return
+	 */
+	boolean intersects(OrientedBox other) {
+		double dx = other.x - x;
+		double dy = other.y - y;
+		return !isSeparated(dx, dy, cos, sin, other)
+				&& !isSeparated(dx, dy, -sin, cos, other)
+				&& !isSeparated(dx, dy, other.cos, other.sin, other)
+				&& !isSeparated(dx, dy, -other.sin, other.cos, other);
+	}
+
+	/**
+	 * Are the shadows of the two boxes on an axis apart ?
+	 */
+	private boolean isSeparated(double dx, double dy, double ax, double ay, OrientedBox other) {
+		double distance = Math.abs(dx * ax + dy * ay);
+		return distance >= getExtent(ax, ay) + other.getExtent(ax, ay) - TOUCH;
+	}
+
+	/**
+	 * Gets half the length of the shadow of the box on an axis.
+	 */
+	private double getExtent(double ax, double ay) {
+		return halfWidth * Math.abs(cos * ax + sin * ay) + halfLength * Math.abs(cos * ay - sin * ax);
+	}
+
+	/**
+	 * Gets the corners of the box after pushing each side out.
+	 *
+	 * @param margin Distance to push the sides out
+	 * @return The x and y of each corner in turn
+	 */
+	double[] getCorners(double margin) {
+		double w = halfWidth + margin;
+		double l = halfLength + margin;
+		double[] corners = new double[8];
+		int i = 0;
+		for (int side = -1; side <= 1; side += 2) {
+			for (int end = -1; end <= 1; end += 2) {
+				corners[i++] = x + side * w * cos - end * l * sin;
+				corners[i++] = y + side * w * sin + end * l * cos;
+			}
+		}
+		return corners;
+	}
+
+	double getMinX() {
+		return x - getExtentX();
+	}
+
+	double getMaxX() {
+		return x + getExtentX();
+	}
+
+	double getMinY() {
+		return y - getExtentY();
+	}
+
+	double getMaxY() {
+		return y + getExtentY();
+	}
+
+	private double getExtentX() {
+		return halfWidth * Math.abs(cos) + halfLength * Math.abs(sin);
+	}
+
+	private double getExtentY() {
+		return halfWidth * Math.abs(sin) + halfLength * Math.abs(cos);
+	}
+}
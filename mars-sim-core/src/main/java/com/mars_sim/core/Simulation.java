@@ -8,8 +8,8 @@ package com.mars_sim.core;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.ObjectStreamException;
@@ -23,12 +23,17 @@ import java.text.DateFormat;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mars_sim.core.air.AirComposition;
 import com.mars_sim.core.authority.AuthorityFactory;
 import com.mars_sim.core.data.DataLogger;
@@ -48,7 +53,13 @@ import com.mars_sim.core.logging.SimuLoggingFormatter;
 import com.mars_sim.core.malfunction.MalfunctionFactory;
 import com.mars_sim.core.malfunction.MalfunctionManager;
 import com.mars_sim.core.manufacture.ManufactureUtil;
+import com.mars_sim.core.map.megdr.MEGDRFactory;
 import com.mars_sim.core.mission.MissionStep;
+import com.mars_sim.core.persist.SaveFormat;
+import com.mars_sim.core.persist.SaveInputStream;
+import com.mars_sim.core.persist.SaveOutputStream;
+import com.mars_sim.core.persist.SaveSnapshot;
+import com.mars_sim.core.persist.SectionOutputStream;
 import com.mars_sim.core.moon.LunarColonyManager;
 import com.mars_sim.core.moon.LunarWorld;
 import com.mars_sim.core.moon.Moon;
@@ -136,6 +147,13 @@ public class Simulation implements ClockListener, Serializable {
 	/** The dashes. */
 	public final String DASHES = " ---------------------------------------------------------";
 
+	/** Autosave capture time [ms] above which a warning is logged. */
+	private static final long MAX_AUTOSAVE_PAUSE = 100;
+	/** Time to wait for an autosave to be written when stopping [s]. */
+	private static final long AUTOSAVE_WAIT = 60;
+	/** Free heap kept on top of an autosave snapshot [bytes]. */
+	private static final long SNAPSHOT_HEADROOM = 64L << 20;
+
 	/** Default save filename. */
 	public static final  String SAVE_FILE = Msg.getString("Simulation.saveFile"); //$NON-NLS-1$
 	/** Default save filename extension. */
@@ -191,6 +209,11 @@ public class Simulation implements ClockListener, Serializable {
 	/** The SimulationConfig instance. */
 	private transient SimulationConfig simulationConfig;
 
+	private transient ExecutorService autosaveExecutor;
+	private transient Future<?> autosaveWrite;
+	/** Compressed size of the last autosave snapshot [bytes]. */
+	private transient volatile long lastSnapshotSize = 0;
+
 	private transient SaveType savePending = null;
 	private transient File savePendingFile = null;
 	private transient SimulationListener saveCallback = null;
@@ -703,6 +726,9 @@ public class Simulation implements ClockListener, Serializable {
 		logger.config("Setting up autosave to be triggered every " + autoSaveDuration + " ms (" +
 				autoSaveDuration/60.0/1000.0 + " mins).");
 		masterClock.addClockListener(autoSaveHandler, autoSaveDuration);
+
+		// Build the terrain levels before the vehicles need them
+		MEGDRFactory.preparePyramid();
 		masterClock.start();
 		
 		printLastSavedSol();
@@ -751,14 +777,21 @@ public class Simulation implements ClockListener, Serializable {
      */
     private void deserialize(File file) throws IOException, ClassNotFoundException {
 
-		FileInputStream in = null;
+		InputStream in = null;
 	    ObjectInputStream ois = null;
 
 		try {
-			in = new FileInputStream(file);
+			if (SaveFormat.isChunked(file.toPath())) {
+				// Chunks are decompressed in parallel ahead of the object stream
+				in = new SaveInputStream(file.toPath());
+			}
+			else {
+				// Older saves are one GZIP stream
+				in = new GZIPInputStream(new FileInputStream(file));
+			}
 
 			// Stream the file directly into the Object stream to reduce memory
-			ois = new ObjectInputStream(new GZIPInputStream(in));
+			ois = new ObjectInputStream(in);
 
 			// Load remaining serialized objects
 			lastSaveTimeStamp = (Date) ois.readObject();
@@ -886,7 +919,9 @@ public class Simulation implements ClockListener, Serializable {
 
 
 	/**
-	 * Saves a simulation instance to a save file.
+	 * Saves a simulation instance to a save file. An autosave does not stop the clock;
+	 * it captures a snapshot and the file is written in the background. A manual save
+	 * waits for any autosave still being written.
 	 *
 	 * @param type
 	 * @param file the file to be saved to.
@@ -894,6 +929,14 @@ public class Simulation implements ClockListener, Serializable {
 	 */
 	synchronized void saveSimulation(SaveType type, File file, SimulationListener callback) {
 
+		if ((type == SaveType.AUTOSAVE) || (type == SaveType.AUTOSAVE_AS_DEFAULT)) {
+			autosave(type, callback);
+			return;
+		}
+
+		// Don't let a background autosave write over or alongside this save
+		awaitAutosave();
+		
 		// Checks to see if the simulation is on pause
 		boolean isAlreadyPaused = masterClock.isPaused();
 
@@ -907,34 +950,36 @@ public class Simulation implements ClockListener, Serializable {
 
 		lastSaveTimeStamp = new Date();
 
-		Path srcPath = null;
-		Path destPath = null;
+		file = getSaveFile(type, file);
+		Path destPath = backupDefaultFile(type, file);
+		Path srcPath = (destPath != null ? file.toPath() : null);
 
+		boolean success = checkHeapSizeSerialize(type, file, srcPath, destPath);
+			
+		if (callback != null) {
+			callback.eventPerformed(success ? SimulationListener.SAVE_COMPLETED : SimulationListener.SAVE_FAILED);
+		}
+
+		// Restarts the master clock and adds back the Simulation clock listener
+		if (!isAlreadyPaused) 
+			masterClock.setPaused(false, false);
+		
+		masterClock.start();
+	}
+
+	/**
+	 * Works out the file to save to.
+	 * 
+	 * @param type
+	 * @param file the file requested; only used for SAVE_AS
+	 * @return
+	 */
+	private File getSaveFile(SaveType type, File file) {
 		// Use type to differentiate in what name/dir it is saved
 		switch(type) {
 			case AUTOSAVE_AS_DEFAULT:
 			case SAVE_DEFAULT:
 				file = new File(SimulationRuntime.getSaveDir(), SAVE_FILE + SAVE_FILE_EXTENSION);
-	
-				if (file.exists() && !file.isDirectory()) {
-					FileSystem fileSys = FileSystems.getDefault();
-					
-					// Create the backup file for storing the previous version of default.sim
-					File backupFile = new File(SimulationRuntime.getSaveDir(), "previous" + SAVE_FILE_EXTENSION);
-
-					destPath = fileSys.getPath(backupFile.getPath());
-					srcPath = fileSys.getPath(file.getPath());
-					
-					try {
-						// Backup the existing default.sim
-						Files.move(srcPath, destPath, StandardCopyOption.REPLACE_EXISTING);
-					
-					}
-					catch (IOException ioe) {
-						logger.severe("Problem saving simulation " + ioe.getMessage());
-					}
-				}
-	
 				logger.config("Saving the simulation as " + SAVE_FILE + SAVE_FILE_EXTENSION + ".");
 				break;
 			
@@ -953,8 +998,6 @@ public class Simulation implements ClockListener, Serializable {
 						+ SAVE_FILE_EXTENSION;
 				file = new File(SimulationRuntime.getAutoSaveDir(), autosaveFilename);
 				logger.config("Autosaving the simulation as " + autosaveFilename + ".");
-				
-				// NOTE: Should purge old auto saved files
 				break;
 				
 			default:
@@ -965,18 +1008,197 @@ public class Simulation implements ClockListener, Serializable {
 		if (!file.getParentFile().exists()) {
 			file.getParentFile().mkdirs();
 		}
+		return file;
+	}
 
-		boolean success = checkHeapSizeSerialize(type, file, srcPath, destPath);
-			
+	/**
+	 * Moves an existing default save file to the previous save file.
+	 * 
+	 * @param type
+	 * @param file
+	 * @return The backup path or null if there is no backup
+	 */
+	private static Path backupDefaultFile(SaveType type, File file) {
+		if (((type != SaveType.AUTOSAVE_AS_DEFAULT) && (type != SaveType.SAVE_DEFAULT))
+				|| !file.exists() || file.isDirectory()) {
+			return null;
+		}
+
+		FileSystem fileSys = FileSystems.getDefault();
+		
+		// Create the backup file for storing the previous version of default.sim
+		File backupFile = new File(SimulationRuntime.getSaveDir(), "previous" + SAVE_FILE_EXTENSION);
+		Path destPath = fileSys.getPath(backupFile.getPath());
+		
+		try {
+			// Backup the existing default.sim
+			Files.move(fileSys.getPath(file.getPath()), destPath, StandardCopyOption.REPLACE_EXISTING);
+			return destPath;
+		}
+		catch (IOException ioe) {
+			logger.severe("Problem saving simulation " + ioe.getMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * Autosaves the simulation. The simulation is captured into memory on the pulse thread,
+	 * which is the only time the simulation is held up. The snapshot is compressed as it is
+	 * captured and written on the autosave thread while the clock carries on. If the heap
+	 * is short the simulation is saved straight to file instead.
+	 * 
+	 * @param type
+	 * @param callback Told the outcome once the file is written; may be null
+	 */
+	private void autosave(SaveType type, SimulationListener callback) {
+		if ((autosaveWrite != null) && !autosaveWrite.isDone()) {
+			logger.warning("The previous autosave is still being written. Skipping this autosave.");
+			reportSave(callback, false);
+			return;
+		}
+
+		lastSaveTimeStamp = new Date();
+		if (!hasHeapForSnapshot()) {
+			// Save straight to file; this holds up the simulation for longer
+			File file = getSaveFile(type, null);
+			logger.warning("Not enough free heap to hold an autosave snapshot. Saving straight to "
+							+ file.getName() + ".");
+			Path destPath = backupDefaultFile(type, file);
+			Path srcPath = (destPath != null ? file.toPath() : null);
+			boolean success = false;
+			try {
+				success = serialize(type, file, srcPath, destPath);
+			}
+			catch (IOException ioe) {
+				logger.log(Level.SEVERE, "Problem autosaving " + file, ioe);
+			}
+			if (success) {
+				purgeAutosaves(type);
+			}
+			reportSave(callback, success);
+			return;
+		}
+
+		File file = getSaveFile(type, null);
+
+		long start = System.nanoTime();
+		SaveSnapshot snapshot = new SaveSnapshot();
+		try {
+			writeSimulation(snapshot);
+		}
+		catch (IOException ioe) {
+			logger.log(Level.SEVERE, "Problem capturing the simulation for an autosave", ioe);
+			reportSave(callback, false);
+			return;
+		}
+		long captureTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		justSaved = true;
+
+		if (captureTime > MAX_AUTOSAVE_PAUSE) {
+			logger.warning("Autosave capture of " + formatSize(snapshot.getSize()) + " held the simulation for "
+							+ captureTime + " ms.");
+		}
+
+		if (autosaveExecutor == null) {
+			autosaveExecutor = Executors.newSingleThreadExecutor(
+						new ThreadFactoryBuilder().setNameFormat("autosave-%d").setDaemon(true).build());
+		}
+		autosaveWrite = autosaveExecutor.submit(
+						() -> reportSave(callback, writeAutosave(type, file, snapshot, captureTime)));
+	}
+
+	/**
+	 * Tells a save listener how the save went.
+	 * 
+	 * @param callback May be null
+	 * @param success
+	 */
+	private static void reportSave(SimulationListener callback, boolean success) {
 		if (callback != null) {
 			callback.eventPerformed(success ? SimulationListener.SAVE_COMPLETED : SimulationListener.SAVE_FAILED);
 		}
+	}
 
-		// Restarts the master clock and adds back the Simulation clock listener
-		if (!isAlreadyPaused) 
-			masterClock.setPaused(false, false);
-		
-		masterClock.start();
+	/**
+	 * Purges the old autosave files once a timestamped autosave has been written.
+	 * 
+	 * @param type
+	 */
+	private void purgeAutosaves(SaveType type) {
+		if (type == SaveType.AUTOSAVE) {
+			SimulationRuntime.purgeOldFiles(SimulationRuntime.getAutoSaveDir(),
+										   simulationConfig.getNumberAutoSaves(), SAVE_FILE_EXTENSION);
+		}
+	}
+
+	/**
+	 * Is there room on the heap for an autosave snapshot ? The snapshot holds the compressed
+	 * save, which is assumed to be no more than twice the size of the last one.
+	 * 
+	 * @return
+	 */
+	private boolean hasHeapForSnapshot() {
+		Runtime rt = Runtime.getRuntime();
+		long available = rt.maxMemory() - (rt.totalMemory() - rt.freeMemory());
+		return available > (2 * lastSnapshotSize) + SNAPSHOT_HEADROOM;
+	}
+
+	/**
+	 * Writes a captured autosave to file. This runs on the autosave thread.
+	 * 
+	 * @param type
+	 * @param file
+	 * @param snapshot
+	 * @param captureTime Time taken to capture the snapshot [ms]
+	 * @return Was the file written ?
+	 */
+	private boolean writeAutosave(SaveType type, File file, SaveSnapshot snapshot, long captureTime) {
+		long start = System.nanoTime();
+		Path destPath = backupDefaultFile(type, file);
+		try {
+			var sections = snapshot.writeTo(file.toPath());
+			lastSnapshotSize = snapshot.getCompressedSize();
+			long writeTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			logSections(sections);
+			logger.config("Autosave of " + computeFileSize(file) + " captured in " + captureTime
+							+ " ms and written in " + writeTime + " ms.");
+
+			purgeAutosaves(type);
+			return true;
+		}
+		catch (IOException ioe) {
+			logger.log(Level.SEVERE, "Problem writing autosave " + file, ioe);
+			if (destPath != null) {
+				try {
+					// Restore the previous default.sim
+					Files.move(destPath, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+				catch (IOException e) {
+					logger.severe("Problem restoring " + file + " " + e.getMessage());
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Waits for an autosave being written in the background to finish.
+	 */
+	private void awaitAutosave() {
+		if (autosaveWrite == null) {
+			return;
+		}
+
+		try {
+			autosaveWrite.get(AUTOSAVE_WAIT, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException | TimeoutException e) {
+			logger.log(Level.SEVERE, "Autosave did not complete", e);
+		}
 	}
 
 	private boolean checkHeapSizeSerialize(SaveType type, File file, Path  srcPath, Path destPath) {
@@ -994,12 +1216,6 @@ public class Simulation implements ClockListener, Serializable {
 			// Serialize the file
 			lastSaveTimeStamp = new Date();
 			sucessful = serialize(type, file, srcPath, destPath);
-
-			if (sucessful && (type == SaveType.AUTOSAVE)) {
-				// Purge old auto backups
-				SimulationRuntime.purgeOldFiles( SimulationRuntime.getAutoSaveDir(),
-											   simulationConfig.getNumberAutoSaves(), SAVE_FILE_EXTENSION);
-			}
 		}
 		catch (IOException ioe) {
 			logger.severe("Problem saving simulation " + ioe.getMessage());
@@ -1008,21 +1224,6 @@ public class Simulation implements ClockListener, Serializable {
 		return sucessful;
 	}
 	
-	/**
-	 * Delays for a period of time in millis
-	 *
-	 * @param millis
-	 */
-    private static void delay(long millis) {
-        try {
-			TimeUnit.MILLISECONDS.sleep(millis);
-        } catch (InterruptedException e) {
-          	logger.log(Level.SEVERE, "Cannot sleep : " + e.getMessage());
-          	// Restore interrupted state
-            Thread.currentThread().interrupt();
-        }
-    }
-
     /**
      * Prints the format for the size of files.
      * 
@@ -1043,34 +1244,16 @@ public class Simulation implements ClockListener, Serializable {
     private boolean serialize(SaveType type, File file, Path srcPath, Path destPath)
             throws IOException {
 		boolean success = false;
-	    ObjectOutputStream oos = new ObjectOutputStream(
-	    			new GZIPOutputStream(new FileOutputStream(file)));
+		long start = System.currentTimeMillis();
+		SaveOutputStream out = new SaveOutputStream(file.toPath());
 		try {
-
-			// Set a delay for 500 millis to avoid java.util.ConcurrentModificationException
-			delay(500L);
-
-			// Store the in-transient objects.
-			oos.writeObject(lastSaveTimeStamp);
-			oos.writeObject(malfunctionFactory);
-			oos.writeObject(lunarWorld);
-			oos.writeObject(lunarColonyManager);
-			oos.writeObject(orbitInfo);
-			oos.writeObject(weather);
-			oos.writeObject(surfaceFeatures);		
-			oos.writeObject(missionManager);
-			oos.writeObject(medicalManager);
-			oos.writeObject(scientificStudyManager);
-			oos.writeObject(eventManager);
-			oos.writeObject(transportManager);
-			oos.writeObject(unitManager);
-			oos.writeObject(masterClock);
-
-			oos.flush();
-			oos.close();
+			writeSimulation(out);
+			out.close();
 
 			// Print the size of the saved sim
-			logger.config("           File size: " + computeFileSize(file));
+			logSections(out.getSections());
+			logger.config("           File size: " + computeFileSize(file)
+							+ " in " + (System.currentTimeMillis() - start) + " ms");
 			logger.config("Done saving. The simulation resumes.");
 			success = true;
 
@@ -1084,14 +1267,72 @@ public class Simulation implements ClockListener, Serializable {
 			}
 		}
 		finally {
-			if (oos != null)
-				oos.close();
+			out.close();
 			justSaved = true;
 		}
 
 		return success;
     }
 
+	/**
+	 * Writes the simulation to a stream. This must be called on the pulse thread once
+	 * all the units have been updated.
+	 * 
+	 * @param out
+	 * @throws IOException
+	 */
+	private void writeSimulation(SectionOutputStream out) throws IOException {
+		ObjectOutputStream oos = new ObjectOutputStream(out);
+
+		// Store the in-transient objects. Each goes in its own section but they share
+		// one object stream as they refer to each other.
+		writeSection(out, oos, "Timestamp", lastSaveTimeStamp);
+		writeSection(out, oos, "MalfunctionFactory", malfunctionFactory);
+		writeSection(out, oos, "LunarWorld", lunarWorld);
+		writeSection(out, oos, "LunarColonyManager", lunarColonyManager);
+		writeSection(out, oos, "OrbitInfo", orbitInfo);
+		writeSection(out, oos, "Weather", weather);
+		writeSection(out, oos, "SurfaceFeatures", surfaceFeatures);		
+		writeSection(out, oos, "MissionManager", missionManager);
+		writeSection(out, oos, "MedicalManager", medicalManager);
+		writeSection(out, oos, "ScientificStudyManager", scientificStudyManager);
+		writeSection(out, oos, "HistoricalEventManager", eventManager);
+		writeSection(out, oos, "TransportManager", transportManager);
+		writeSection(out, oos, "UnitManager", unitManager);
+		writeSection(out, oos, "MasterClock", masterClock);
+
+		oos.flush();
+	}
+
+	/**
+	 * Logs the size of each section of a save file.
+	 * 
+	 * @param sections
+	 */
+	private static void logSections(List<SaveFormat.Section> sections) {
+		for (var s : sections) {
+			logger.config(String.format("%25s : %10s -> %10s", s.name(),
+								formatSize(s.rawBytes()), formatSize(s.compressedBytes())));
+		}
+	}
+
+	/**
+	 * Writes an object into a new section of the save file.
+	 * 
+	 * @param out
+	 * @param oos
+	 * @param name
+	 * @param o
+	 * @throws IOException
+	 */
+	private static void writeSection(SectionOutputStream out, ObjectOutputStream oos, String name, Object o)
+			throws IOException {
+		// Push anything buffered by the object stream into the previous section
+		oos.flush();
+		out.startSection(name);
+		oos.writeObject(o);
+	}
+
 	/**
 	 * Prints the object and its size.
 	 * 
@@ -1242,6 +1483,7 @@ public class Simulation implements ClockListener, Serializable {
 			masterClock.removeClockListener(this);
 			masterClock.removeClockListener(autoSaveHandler);
 		}
+		awaitAutosave();
 	}
 
 	/**
@@ -47,6 +47,7 @@ public class SimulationBuilder {
 	private static final String CREW_ARG = "crew";
 	private static final String DIAGNOSTICS_ARG = "diags";
 	private static final String SCENARIO_ARG = "scenario";
+	private static final String SEED_ARG = "seed";
 	private static final String WHITESPACES = "---------------------------------------------------";
 	
 	private static final Logger logger = Logger.getLogger(SimulationBuilder.class.getName());
@@ -61,6 +62,9 @@ public class SimulationBuilder {
 	private boolean useCrews = true;
 	private UserConfigurableConfig<Crew> crewConfig;
 	private Scenario bootstrap;
+	private double fastForwardPulse = 0; // zero means real-time clock
+	private int fastForwardSols = 0;
+	private Long seed = null;
 
 	public SimulationBuilder() {
 		super();
@@ -83,6 +87,15 @@ public class SimulationBuilder {
 	public void setUseCrews(boolean useCrew) {
 		this.useCrews = useCrew;
 	}
+
+	/**
+	 * Sets the random seed of a new simulation so the run can be repeated.
+	 * 
+	 * @param seed
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
 	
 	private void setLatitude(String lat) {
 		String error = Coordinates.checkLat(lat);
@@ -162,6 +175,22 @@ public class SimulationBuilder {
 		this.bootstrap = scenario;
 	}
 	
+	/**
+	 * Runs the clock in fast-forward mode with a fixed pulse width rather than
+	 * following the time ratio.
+	 * 
+	 * @param pulseTime Fixed pulse width [in millisols]
+	 * @param sols Number of sols to run; zero means no end
+	 * @see com.mars_sim.core.time.MasterClock#setFastForward(double, int)
+	 */
+	public void setFastForward(double pulseTime, int sols) {
+		if (pulseTime <= 0) {
+			throw new IllegalArgumentException("Fast-forward pulse must be positive");
+		}
+		this.fastForwardPulse = pulseTime;
+		this.fastForwardSols = sols;
+	}
+
 	/**
 	 * Gets the list of core command line options that are supported by this builder.
 	 * 
@@ -193,6 +222,8 @@ public class SimulationBuilder {
 				.desc("Enable or disable use of the crews").build());	
 		options.add(Option.builder(DIAGNOSTICS_ARG).argName("<module>,<module>.....").hasArg()
 				.desc("Enable diagnositics modules").build());	
+		options.add(Option.builder(SEED_ARG).argName("number").hasArg()
+				.desc("Set the random seed of a new simulation").build());
 		return options;
 	}
 
@@ -235,6 +266,9 @@ public class SimulationBuilder {
 		}
 		if (line.hasOption(DIAGNOSTICS_ARG)) {
 			setDiagnostics(line.getOptionValue(DIAGNOSTICS_ARG));
+		}
+		if (line.hasOption(SEED_ARG)) {
+			setSeed(Long.parseLong(line.getOptionValue(SEED_ARG)));
 		}		
 	}
 
@@ -294,6 +328,11 @@ public class SimulationBuilder {
 		}
 		
 		if (!loaded) {
+			if (seed != null) {
+				RandomUtil.setSeed(seed);
+			}
+			logger.config("Random seed " + RandomUtil.getSeed());
+
 			// Create a new simulation
 			sim.createNewSimulation(userTimeRatio); 
 			
@@ -330,6 +369,9 @@ public class SimulationBuilder {
 	        try {
 				TimeUnit.MILLISECONDS.sleep(1000);
 				if (!sim.isUpdating()) {
+					if (fastForwardPulse > 0) {
+						sim.getMasterClock().setFastForward(fastForwardPulse, fastForwardSols);
+					}
 					logger.config("Starting the Master Clock...");		
 					sim.startClock(false);
 					break;
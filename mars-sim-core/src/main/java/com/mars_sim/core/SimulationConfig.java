@@ -10,15 +10,20 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-
-import javax.xml.XMLConstants;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.mars_sim.core.structure.SettlementTemplateConfig;
 import org.apache.commons.io.FileUtils;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.JDOMException;
-import org.jdom2.input.SAXBuilder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import com.mars_sim.core.authority.AuthorityFactory;
 import com.mars_sim.core.environment.LandmarkConfig;
@@ -45,6 +50,7 @@ import com.mars_sim.core.structure.building.function.cooking.MealConfig;
 import com.mars_sim.core.structure.building.function.farming.CropConfig;
 import com.mars_sim.core.structure.construction.ConstructionConfig;
 import com.mars_sim.core.time.MasterClock;
+import com.mars_sim.core.tool.DocumentCache;
 import com.mars_sim.core.tool.ResourceCache;
 import com.mars_sim.core.vehicle.VehicleConfig;
 
@@ -59,6 +65,10 @@ public class SimulationConfig {
 
 	private static final String XML_FOLDER = "xml";
 	private static final String XML_EXTENSION = ".xml";
+	/** Sub-folder of the XML folder holding the parsed documents. */
+	private static final String DOCUMENT_CACHE_DIR = "cache";
+	/** Most threads used to parse the XML files. */
+	private static final int MAX_PARSE_THREADS = 4;
 	private static final String SIMULATION_FILE = "simulation";
 	private static final String GOVERNANCE_FILE = "governance";
 	private static final String PEOPLE_FILE = "people";
@@ -159,6 +169,7 @@ public class SimulationConfig {
 	private double minEVALight;
 
 	private ResourceCache cachedResources;
+	private DocumentCache documentCache;
 
 	/*
 	 * -----------------------------------------------------------------------------
@@ -169,6 +180,8 @@ public class SimulationConfig {
 	/** hidden constructor. */
 	private SimulationConfig(String xmlLoc) {
 		cachedResources = new ResourceCache(new File(xmlLoc), true);
+		documentCache = new DocumentCache(new File(xmlLoc, DOCUMENT_CACHE_DIR),
+										SimulationRuntime.VERSION.getShortVersion());
 	}
 
 	/**
@@ -612,7 +625,8 @@ public class SimulationConfig {
 	}
 
 	/**
-	 * Parses an XML file into a DOM document.
+	 * Parses an XML file into a DOM document. A cached copy of the document is used
+	 * if the file has not changed since it was last parsed.
 	 *
 	 * @param filename the path of the file.
 	 * @param useDTD   true if the XML DTD should be used.
@@ -624,10 +638,7 @@ public class SimulationConfig {
 			throws JDOMException, IOException {
 		File f = getBundledXML(filename);
 		if (f != null) {
-			SAXBuilder builder = new SAXBuilder();
-			builder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-			builder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-			return builder.build(f);
+			return documentCache.load(f);
 		}
 		else {
 			logger.warning("Can not find default XML " + filename);
@@ -637,42 +648,123 @@ public class SimulationConfig {
 
 
 	/**
-	 * load the default config files
+	 * Starts parsing a set of XML files on an executor. The files are extracted
+	 * first on the calling thread as the resource cache is not thread safe.
+	 *
+	 * @param executor Executor to run the parsing
+	 * @param filenames XML files in the order they are needed
+	 * @return Pending documents keyed by filename
+	 */
+	private Map<String, Future<Document>> parseXMLFiles(ExecutorService executor, String... filenames) {
+		Map<String, Future<Document>> result = new HashMap<>();
+		for (String filename : filenames) {
+			if (!result.containsKey(filename)) {
+				File f = getBundledXML(filename);
+				if (f == null) {
+					throw new IllegalStateException("Can not find default XML " + filename);
+				}
+				result.put(filename, executor.submit(() -> documentCache.load(f)));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Waits for a document being parsed by {@link #parseXMLFiles(ExecutorService, String...)}.
+	 *
+	 * @param docs Pending documents
+	 * @param filename XML file
+	 * @return
+	 * @throws IOException
+	 * @throws JDOMException
+	 */
+	private static Document getDocument(Map<String, Future<Document>> docs, String filename)
+			throws JDOMException, IOException {
+		try {
+			return docs.get(filename).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted parsing " + filename, e);
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof JDOMException je) {
+				throw je;
+			}
+			if (cause instanceof IOException ioe) {
+				throw ioe;
+			}
+			if (cause instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new IllegalStateException("Cannot parse " + filename, cause);
+		}
+	}
+
+	/**
+	 * load the default config files. The files are parsed in parallel whilst the config
+	 * classes are created in order as each document becomes ready, because some classes
+	 * depend on ones created before them.
 	 * @throws IOException
 	 * @throws JDOMException
 	 */
 	private void loadDefaultConfiguration() throws JDOMException, IOException {
-  BuildingPackageConfig buildingPackageConfig;
+		long start = System.currentTimeMillis();
+		int threads = Math.min(MAX_PARSE_THREADS, Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads,
+				new ThreadFactoryBuilder().setNameFormat("config-parser-%d").setDaemon(true).build());
+		try {
+			var docs = parseXMLFiles(executor, GOVERNANCE_FILE, RESOURCE_FILE, PART_FILE, PART_PACKAGE_FILE,
+					BUILDING_PACKAGE_FILE, PEOPLE_FILE, MEDICAL_FILE, LANDMARK_FILE, MINERAL_MAP_FILE,
+					MANUFACTURE_FILE, MALFUNCTION_FILE, CROP_FILE, VEHICLE_FILE, RESPROCESS_FILE,
+					BUILDING_FILE, RESUPPLY_FILE, SETTLEMENT_FILE, SETTLEMENT_TEMPLATE_FILE,
+					CONSTRUCTION_FILE, FOODPRODUCTION_FILE, MEAL_FILE, ROBOT_FILE, QUOTATION_FILE);
+			createConfigs(docs);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		logger.config("Done loading all xml config files in " + (System.currentTimeMillis() - start) + " ms.");
+	}
+
+	/**
+	 * Creates the subset configuration classes from the parsed documents.
+	 *
+	 * @param docs Pending documents
+	 * @throws IOException
+	 * @throws JDOMException
+	 */
+	private void createConfigs(Map<String, Future<Document>> docs) throws JDOMException, IOException {
+		BuildingPackageConfig buildingPackageConfig;
 
 		// Load subset configuration classes.
-		raFactory = new AuthorityFactory(parseXMLFileAsJDOMDocument(GOVERNANCE_FILE, true));
-		resourceConfig = new AmountResourceConfig(parseXMLFileAsJDOMDocument(RESOURCE_FILE, true));
-		partConfig = new PartConfig(parseXMLFileAsJDOMDocument(PART_FILE, true));
-		partPackageConfig = new PartPackageConfig(parseXMLFileAsJDOMDocument(PART_PACKAGE_FILE, true));
-		buildingPackageConfig = new BuildingPackageConfig(parseXMLFileAsJDOMDocument(BUILDING_PACKAGE_FILE, true));
-		personConfig = new PersonConfig(parseXMLFileAsJDOMDocument(PEOPLE_FILE, true));
-		medicalConfig = new MedicalConfig(parseXMLFileAsJDOMDocument(MEDICAL_FILE, true));
-		landmarkConfig = new LandmarkConfig(parseXMLFileAsJDOMDocument(LANDMARK_FILE, true));
-		mineralMapConfig = new MineralMapConfig(parseXMLFileAsJDOMDocument(MINERAL_MAP_FILE, true));
-		manufactureConfig = new ManufactureConfig(parseXMLFileAsJDOMDocument(MANUFACTURE_FILE, true));
-		malfunctionConfig = new MalfunctionConfig(parseXMLFileAsJDOMDocument(MALFUNCTION_FILE, true));
-		cropConfig = new CropConfig(parseXMLFileAsJDOMDocument(CROP_FILE, true), personConfig);
-		vehicleConfig = new VehicleConfig(parseXMLFileAsJDOMDocument(VEHICLE_FILE, true), manufactureConfig);
-		ResourceProcessConfig resourceProcessConfig = new ResourceProcessConfig(parseXMLFileAsJDOMDocument(RESPROCESS_FILE, true));
-		buildingConfig = new BuildingConfig(parseXMLFileAsJDOMDocument(BUILDING_FILE, true), resourceProcessConfig);
-		resupplyConfig = new ResupplyConfig(parseXMLFileAsJDOMDocument(RESUPPLY_FILE, true), partPackageConfig);
-		settlementConfig = new SettlementConfig(parseXMLFileAsJDOMDocument(SETTLEMENT_FILE, true));
-		settlementTemplateConfig = new SettlementTemplateConfig(parseXMLFileAsJDOMDocument(
-				SETTLEMENT_TEMPLATE_FILE, true), partPackageConfig, buildingPackageConfig, resupplyConfig, settlementConfig);
-
-
-		constructionConfig = new ConstructionConfig(parseXMLFileAsJDOMDocument(CONSTRUCTION_FILE, true));
-		foodProductionConfig = new FoodProductionConfig(parseXMLFileAsJDOMDocument(FOODPRODUCTION_FILE, true));
-		mealConfig = new MealConfig(parseXMLFileAsJDOMDocument(MEAL_FILE, true));
-		robotConfig = new RobotConfig(parseXMLFileAsJDOMDocument(ROBOT_FILE, true));
-		quotationConfig = new QuotationConfig(parseXMLFileAsJDOMDocument(QUOTATION_FILE, true));
+		raFactory = new AuthorityFactory(getDocument(docs, GOVERNANCE_FILE));
+		resourceConfig = new AmountResourceConfig(getDocument(docs, RESOURCE_FILE));
+		partConfig = new PartConfig(getDocument(docs, PART_FILE));
+		partPackageConfig = new PartPackageConfig(getDocument(docs, PART_PACKAGE_FILE));
+		buildingPackageConfig = new BuildingPackageConfig(getDocument(docs, BUILDING_PACKAGE_FILE));
+		personConfig = new PersonConfig(getDocument(docs, PEOPLE_FILE));
+		medicalConfig = new MedicalConfig(getDocument(docs, MEDICAL_FILE));
+		landmarkConfig = new LandmarkConfig(getDocument(docs, LANDMARK_FILE));
+		mineralMapConfig = new MineralMapConfig(getDocument(docs, MINERAL_MAP_FILE));
+		manufactureConfig = new ManufactureConfig(getDocument(docs, MANUFACTURE_FILE));
+		malfunctionConfig = new MalfunctionConfig(getDocument(docs, MALFUNCTION_FILE));
+		cropConfig = new CropConfig(getDocument(docs, CROP_FILE), personConfig);
+		vehicleConfig = new VehicleConfig(getDocument(docs, VEHICLE_FILE), manufactureConfig);
+		ResourceProcessConfig resourceProcessConfig = new ResourceProcessConfig(getDocument(docs, RESPROCESS_FILE));
+		buildingConfig = new BuildingConfig(getDocument(docs, BUILDING_FILE), resourceProcessConfig);
+		resupplyConfig = new ResupplyConfig(getDocument(docs, RESUPPLY_FILE), partPackageConfig);
+		settlementConfig = new SettlementConfig(getDocument(docs, SETTLEMENT_FILE));
+		settlementTemplateConfig = new SettlementTemplateConfig(getDocument(docs, SETTLEMENT_TEMPLATE_FILE),
+				partPackageConfig, buildingPackageConfig, resupplyConfig, settlementConfig);
+
+		constructionConfig = new ConstructionConfig(getDocument(docs, CONSTRUCTION_FILE));
+		foodProductionConfig = new FoodProductionConfig(getDocument(docs, FOODPRODUCTION_FILE));
+		mealConfig = new MealConfig(getDocument(docs, MEAL_FILE));
+		robotConfig = new RobotConfig(getDocument(docs, ROBOT_FILE));
+		quotationConfig = new QuotationConfig(getDocument(docs, QUOTATION_FILE));
 		scienceConfig = new ScienceConfig();
-
-		logger.config("Done loading all xml config files.");
 	}
 }
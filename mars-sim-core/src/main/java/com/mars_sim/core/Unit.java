@@ -8,8 +8,8 @@ package com.mars_sim.core;
 
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import com.mars_sim.core.environment.Weather;
 import com.mars_sim.core.logging.SimLogger;
@@ -18,6 +18,8 @@ import com.mars_sim.core.structure.Settlement;
 import com.mars_sim.core.structure.building.Building;
 import com.mars_sim.core.time.ClockPulse;
 import com.mars_sim.core.time.MasterClock;
+import com.mars_sim.core.tool.RandomStream;
+import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.vehicle.Vehicle;
 
 /**
@@ -51,6 +53,8 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 	private String description = "No Description";
 	/** Commander's notes on this unit. */
 	private String notes = "";
+	/** The random numbers drawn by this unit; saved so a loaded sim carries on the same. */
+	private RandomStream randomStream;
 
 	/** Unit listeners. */
 	private transient Set<UnitListener> listeners;
@@ -108,6 +112,17 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 		return identifier;
 	}
 
+	/**
+	 * Gets the random stream of this unit. It is derived from the simulation seed and
+	 * the identifier, so it does not depend on which thread updates the unit.
+	 */
+	public synchronized RandomStream getRandomStream() {
+		if (randomStream == null) {
+			randomStream = RandomUtil.createStream(identifier);
+		}
+		return randomStream;
+	}
+
 	/**
 	 * Constructor 1: the name and identifier are defined.
 	 *
@@ -302,11 +317,9 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 		if (newListener == null)
 			throw new IllegalArgumentException();
 		if (listeners == null)
-			listeners = new HashSet<>();
+			listeners = new CopyOnWriteArraySet<>();
 
-		synchronized(listeners) {	
-			listeners.add(newListener);
-		}
+		listeners.add(newListener);
 	}
 
 	/**
@@ -319,9 +332,7 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 			throw new IllegalArgumentException();
 
 		if (listeners != null) {
-			synchronized(listeners) {
-				listeners.remove(oldListener);
-			}
+			listeners.remove(oldListener);
 		}
 	}
 
@@ -335,7 +346,9 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 	}
 
 	/**
-	 * Fires a unit update event.
+	 * Fires a unit update event. The listeners are called later by the
+	 * {@link UnitEventBus}; they are only called straight away if there is no
+	 * UnitManager or its bus has not been set up yet.
 	 *
 	 * @param updateType the update type.
 	 * @param target     the event target object or null if none.
@@ -344,16 +357,32 @@ public abstract class Unit implements UnitIdentifer, Comparable<Unit> {
 		if (listeners == null || listeners.isEmpty()) {
 			return;
 		}
-		final UnitEvent ue = new UnitEvent(this, updateType, target);
-		synchronized (listeners) {
-			for(UnitListener i : listeners) {
-				try {
-					// Stop listeners breaking the update thread
-					i.unitUpdate(ue);
-				}
-				catch(RuntimeException rte) {
-					logger.severe(this, "Problem executing listener " + i + " for event " + ue, rte);
-				}
+		UnitEventBus bus = (unitManager != null ? unitManager.getEventBus() : null);
+		if (bus != null) {
+			bus.post(this, updateType, target);
+		}
+		else {
+			deliverUnitEvent(new UnitEvent(this, updateType, target));
+		}
+	}
+
+	/**
+	 * Calls the listeners with an event.
+	 *
+	 * @param ue the event.
+	 */
+	void deliverUnitEvent(UnitEvent ue) {
+		var current = listeners;
+		if (current == null) {
+			return;
+		}
+		for(UnitListener i : current) {
+			try {
+				// Stop listeners breaking the update thread
+				i.unitUpdate(ue);
+			}
+			catch(RuntimeException rte) {
+				logger.severe(this, "Problem executing listener " + i + " for event " + ue, rte);
 			}
 		}
 	}
@@ -0,0 +1,187 @@
+/*
+ * Mars Simulation Project
+ * UnitEventBus.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mars_sim.core.logging.SimLogger;
+
+/**
+ * Delivers unit events to the unit listeners away from the simulation threads.
+ * Events are collected during a pulse and handed over as one batch when the pulse
+ * completes; events raised whilst the clock is paused are swept up on a timer.
+ * An event for the same unit, type and target as one already waiting is merged into it.
+ * The batch is delivered on the bus's own thread, so a slow listener only delays
+ * later batches. Whilst a batch is still being delivered the next one keeps merging,
+ * and once the waiting batch is full new events are dropped rather than blocking
+ * the simulation.
+ * Posting does not take a lock, so the settlement threads do not wait on each other.
+ */
+public class UnitEventBus {
+
+	private static final SimLogger logger = SimLogger.getLogger(UnitEventBus.class.getName());
+
+	/** Most distinct events waiting to be delivered. */
+	static final int MAX_PENDING = 20_000;
+	/** Interval between sweeps for events raised outside a pulse. */
+	private static final long SWEEP_INTERVAL = 200;
+
+	private record EventKey(Unit source, UnitEventType type, Object target) {}
+
+	/** An event waiting to be delivered, numbered so a batch keeps the order of posting. */
+	private record Waiting(UnitEvent event, long order) {}
+
+	private Map<EventKey, Waiting> pending = new ConcurrentHashMap<>();
+	private AtomicInteger numPending = new AtomicInteger();
+	private AtomicLong nextOrder = new AtomicLong();
+	private AtomicBoolean delivering = new AtomicBoolean(false);
+	private ScheduledExecutorService executor;
+
+	private AtomicLong posted = new AtomicLong();
+	private AtomicLong merged = new AtomicLong();
+	private AtomicLong dropped = new AtomicLong();
+	private AtomicLong delivered = new AtomicLong();
+
+	/**
+	 * Creates a bus with its delivery thread. Events raised outside a pulse are only
+	 * swept up once {@link #start()} is called.
+	 */
+	public UnitEventBus() {
+		var pool = new ScheduledThreadPoolExecutor(1,
+				new ThreadFactoryBuilder().setNameFormat("unit-event-%d").setDaemon(true).build());
+		pool.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		executor = pool;
+	}
+
+	/**
+	 * Starts sweeping up the events raised whilst the clock is paused.
+	 */
+	public void start() {
+		executor.scheduleWithFixedDelay(this::flush, SWEEP_INTERVAL, SWEEP_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Posts an event for later delivery. This never blocks on the listeners.
+	 *
+	 * @param source Unit raising the event
+	 * @param type
+	 * @param target Optional target of the event
+	 */
+	public void post(Unit source, UnitEventType type, Object target) {
+		var key = new EventKey(source, type, target);
+		if (pending.containsKey(key)) {
+			merged.incrementAndGet();
+			return;
+		}
+		if (numPending.incrementAndGet() > MAX_PENDING) {
+			numPending.decrementAndGet();
+			dropped.incrementAndGet();
+			return;
+		}
+		var waiting = new Waiting(new UnitEvent(source, type, target), nextOrder.getAndIncrement());
+		if (pending.putIfAbsent(key, waiting) != null) {
+			// Another thread posted the same event first
+			numPending.decrementAndGet();
+			merged.incrementAndGet();
+			return;
+		}
+		posted.incrementAndGet();
+	}
+
+	/**
+	 * Hands the waiting events to the delivery thread. If the previous batch is still
+	 * being delivered, the events are left to merge with later ones.
+	 */
+	public void flush() {
+		if (!delivering.compareAndSet(false, true)) {
+			return;
+		}
+
+		// An event posted whilst the batch is taken either joins it or waits for the next one
+		List<Waiting> batch = new ArrayList<>();
+		for (var e : pending.entrySet()) {
+			if (pending.remove(e.getKey(), e.getValue())) {
+				numPending.decrementAndGet();
+				batch.add(e.getValue());
+			}
+		}
+		if (batch.isEmpty()) {
+			delivering.set(false);
+			return;
+		}
+
+		try {
+			executor.execute(() -> deliver(batch));
+		}
+		catch (RejectedExecutionException e) {
+			// Bus has been shut down
+			delivering.set(false);
+		}
+	}
+
+	private void deliver(List<Waiting> batch) {
+		try {
+			batch.sort(Comparator.comparingLong(Waiting::order));
+			for (Waiting w : batch) {
+				UnitEvent event = w.event();
+				((Unit) event.getSource()).deliverUnitEvent(event);
+			}
+			delivered.addAndGet(batch.size());
+		}
+		finally {
+			delivering.set(false);
+		}
+	}
+
+	/**
+	 * Gets the number of events accepted for delivery.
+	 */
+	public long getPosted() {
+		return posted.get();
+	}
+
+	/**
+	 * Gets the number of events merged into one already waiting.
+	 */
+	public long getMerged() {
+		return merged.get();
+	}
+
+	/**
+	 * Gets the number of events dropped because too many were waiting.
+	 */
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	/**
+	 * Gets the number of events delivered to the listeners.
+	 */
+	public long getDelivered() {
+		return delivered.get();
+	}
+
+	/**
+	 * Stops the delivery thread. Waiting events are discarded.
+	 */
+	public void shutdown() {
+		executor.shutdownNow();
+		logger.config("Unit events posted " + posted.get() + ", merged " + merged.get()
+						+ ", dropped " + dropped.get() + ", delivered " + delivered.get() + ".");
+	}
+}
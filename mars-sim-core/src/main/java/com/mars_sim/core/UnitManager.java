@@ -7,6 +7,8 @@
 package com.mars_sim.core;
 
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,12 +22,12 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mars_sim.core.authority.Authority;
 import com.mars_sim.core.environment.MarsSurface;
 import com.mars_sim.core.environment.OuterSpace;
@@ -36,11 +38,13 @@ import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.moon.Moon;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.robot.Robot;
+import com.mars_sim.core.structure.PulsePhase;
 import com.mars_sim.core.structure.Settlement;
 import com.mars_sim.core.structure.building.Building;
 import com.mars_sim.core.structure.construction.ConstructionSite;
 import com.mars_sim.core.time.ClockPulse;
 import com.mars_sim.core.time.Temporal;
+import com.mars_sim.core.tool.RandomUtil;
 import com.mars_sim.core.vehicle.Vehicle;
 
 /**
@@ -67,6 +71,8 @@ public class UnitManager implements Serializable, Temporal {
 	// Data members
 	/** Flag true if the class has just been loaded. */
 	public boolean justLoaded = true;
+	/** The seed the random streams were derived from. */
+	private long randomSeed = RandomUtil.getSeed();
 	/** Counter of unit identifiers. */
 	private int uniqueId = 0;
 	/** The commander's unique id . */
@@ -77,11 +83,14 @@ public class UnitManager implements Serializable, Temporal {
 	/** List of unit manager listeners. */
 	private transient Map<UnitType, Set<UnitManagerListener>> listeners;
 
-	private transient ExecutorService executor;
+	private transient ForkJoinPool executor;
 
 	private transient Set<Authority> sponsorSet = new HashSet<>();
 
 	private transient Set<SettlementTask> settlementTasks = new HashSet<>();
+	/** The timing of each phase of the pulse. */
+	private transient Map<PulsePhase, PhaseTiming> phaseTimings;
+	private transient volatile UnitEventBus eventBus;
 	/** Map of equipment types and their numbers. */
 	private Map<String, Integer> unitCounts = new HashMap<>();
 	/** A map of settlements with its unit identifier. */
@@ -98,7 +107,7 @@ public class UnitManager implements Serializable, Temporal {
 	private Map<Integer, Equipment> lookupEquipment;
 	/** A map of building with its unit identifier. */
 	private Map<Integer, Building> lookupBuilding;
-	/** A map of settlements with its coordinates. */
+	/** A map of settlements with its coordinates; kept as settlements are added and removed. */
 	private Map<Coordinates, Integer> settlementCoordinateMap;
 
 	private static SimulationConfig simulationConfig = SimulationConfig.instance();
@@ -108,6 +117,8 @@ public class UnitManager implements Serializable, Temporal {
 
 	private static ThreadLocal<Settlement> activeSettlement = new ThreadLocal<>();
 
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
 	/** The instance of Mars Surface. */
 	private MarsSurface marsSurface;
 
@@ -130,7 +141,20 @@ public class UnitManager implements Serializable, Temporal {
 		lookupVehicle    = new ConcurrentHashMap<>();
 		lookupBuilding   = new ConcurrentHashMap<>();
 
-		settlementCoordinateMap = new HashMap<>();
+		settlementCoordinateMap = new ConcurrentHashMap<>();
+
+		eventBus = createEventBus();
+	}
+
+	/**
+	 * Creates the bus for unit events and starts its sweep.
+	 *
+	 * @return
+	 */
+	private static UnitEventBus createEventBus() {
+		UnitEventBus bus = new UnitEventBus();
+		bus.start();
+		return bus;
 	}
 
 	/**
@@ -203,25 +227,6 @@ public class UnitManager implements Serializable, Temporal {
 	 * @return
 	 */
 	public Settlement findSettlement(Coordinates c) {
-
-		if (!settlementCoordinateMap.containsKey(c)) {
-			Collection<Settlement> ss = getSettlements();
-
-			Settlement settlement = null;
-			for (Settlement s : ss) {
-				Coordinates coord = s.getCoordinates();
-
-				// Put the coord and id into the map
-				if (!settlementCoordinateMap.containsKey(coord))
-					settlementCoordinateMap.put(coord, s.getIdentifier());
-				if (coord.equals(c)) {
-					settlement = s;
-				}
-			}
-
-			return settlement;
-		}
-
 		Integer i = settlementCoordinateMap.get(c);
 		if (i != null)
 			return lookupSettlement.get(i);
@@ -236,17 +241,7 @@ public class UnitManager implements Serializable, Temporal {
 	 * @return
 	 */
 	public boolean isSettlement(Coordinates c) {
-		if (settlementCoordinateMap == null) {
-			settlementCoordinateMap = new HashMap<>();
-
-			Collection<Settlement> ss = getSettlements();
-
-			for (Settlement s : ss) {
-				settlementCoordinateMap.put(s.getCoordinates(), s.getIdentifier());
-			}
-		}
-		Integer i = settlementCoordinateMap.get(c);
-		return (i != null);
+		return settlementCoordinateMap.containsKey(c);
 	}
 
 	/**
@@ -312,10 +307,19 @@ public class UnitManager implements Serializable, Temporal {
 		int unitIdentifier = unit.getIdentifier();
 
 		switch(unit) {
-			case Settlement s -> lookupSettlement.put(unitIdentifier, s);
+			case Settlement s -> {
+				lookupSettlement.put(unitIdentifier, s);
+				if (s.getCoordinates() != null) {
+					settlementCoordinateMap.put(s.getCoordinates(), unitIdentifier);
+					LocalAreaUtil.invalidate(s.getCoordinates());
+				}
+			}
 			case Person p -> lookupPerson.put(unitIdentifier, p);
 			case Robot r -> lookupRobot.put(unitIdentifier, r);
-			case Vehicle v -> lookupVehicle.put(unitIdentifier, v);
+			case Vehicle v -> {
+				lookupVehicle.put(unitIdentifier, v);
+				LocalAreaUtil.invalidate(v.getCoordinates());
+			}
 			case Equipment e -> lookupEquipment.put(unitIdentifier, e);
 			case Building b -> lookupBuilding.put(unitIdentifier, b);
 			case ConstructionSite c -> lookupSite.put(unitIdentifier, c);
@@ -337,6 +341,13 @@ public class UnitManager implements Serializable, Temporal {
 		Map<Integer,? extends Unit> map = getUnitMap(type);
 
 		map.remove(unit.getIdentifier());
+		if (unit instanceof Vehicle v) {
+			LocalAreaUtil.invalidate(v.getCoordinates());
+		}
+		if (unit instanceof Settlement s) {
+			settlementCoordinateMap.remove(s.getCoordinates(), unit.getIdentifier());
+			LocalAreaUtil.invalidate(s.getCoordinates());
+		}
 
 		// Fire unit manager event.
 		fireUnitManagerUpdate(UnitManagerEventType.REMOVE_UNIT, unit);
@@ -387,20 +398,45 @@ public class UnitManager implements Serializable, Temporal {
 			logger.warning("Zero elapsed pulse #" + pulse.getId());
 		}
 
+		// Hand over the unit events raised in this pulse
+		UnitEventBus bus = eventBus;
+		if (bus != null) {
+			bus.flush();
+		}
+
 		return true;
 	}
 
 	/**
-	 * Sets up executive service.
+	 * Gets the bus that delivers the unit events to the listeners.
+	 *
+	 * @return The bus, or null whilst a saved simulation is still being loaded
+	 */
+	public UnitEventBus getEventBus() {
+		return eventBus;
+	}
+
+	/**
+	 * Sets up executive service. This is a work-stealing pool so idle threads pick up
+	 * the jobs of the busy settlements.
 	 */
 	private void setupExecutor() {
 		if (executor == null) {
-			int size = (int)(getSettlementNum()/2D);
-			int num = Math.min(size, SimulationRuntime.NUM_CORES - simulationConfig.getUnusedCores());
+			int num = SimulationRuntime.NUM_CORES - simulationConfig.getUnusedCores();
 			if (num <= 0) num = 1;
 			logger.config("Setting up " + num + " thread(s) for running the settlement update.");
-			executor = Executors.newFixedThreadPool(num,
-					new ThreadFactoryBuilder().setNameFormat("unitmanager-thread-%d").build());
+			ForkJoinWorkerThreadFactory threadFactory = pool -> {
+				ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				t.setName("unitmanager-thread-" + t.getPoolIndex());
+				return t;
+			};
+			executor = new ForkJoinPool(num, threadFactory, null, false);
+		}
+		if (phaseTimings == null) {
+			phaseTimings = new EnumMap<>(PulsePhase.class);
+			for (PulsePhase phase : PulsePhase.values()) {
+				phaseTimings.put(phase, new PhaseTiming());
+			}
 		}
 	}
 
@@ -430,6 +466,23 @@ public class UnitManager implements Serializable, Temporal {
 		settlementTasks.add(st);
 	}
 
+	/**
+	 * Makes a Settlement the active one of this thread.
+	 * 
+	 * @param settlement The Settlement or null to clear it
+	 * @return The Settlement that was active before
+	 */
+	public static Settlement setActiveSettlement(Settlement settlement) {
+		Settlement previous = activeSettlement.get();
+		if (settlement == null) {
+			activeSettlement.remove();
+		}
+		else {
+			activeSettlement.set(settlement);
+		}
+		return previous;
+	}
+
 	/**
 	 * This method validates whether the current active Settlement in this thread matches
 	 * the owner of an entity. This is a Thread specific method.
@@ -455,42 +508,76 @@ public class UnitManager implements Serializable, Temporal {
 	}
 
 	/**
-	 * Fires the clock pulse to each clock listener.
+	 * Fires the clock pulse to each settlement. The pulse is applied one phase at a time;
+	 * all settlements complete a phase before the next phase starts.
 	 *
 	 * @param pulse
 	 */
 	private void runExecutor(ClockPulse pulse) {
 		setupExecutor();
 		setupTasks();
-		// May use parallelStream() after it's proven to be safe
-		settlementTasks.stream().forEach(s -> s.setCurrentPulse(pulse));
-
-		// Execute all listener concurrently and wait for all to complete before advancing
-		// Ensure that Settlements stay synch'ed and some don't get ahead of others as tasks queue
-		try {
-			List<Future<String>> results = executor.invokeAll(settlementTasks);
-			for (Future<String> future : results) {
-				future.get();
+
+		for (PulsePhase phase : PulsePhase.values()) {
+			// May use parallelStream() after it's proven to be safe
+			settlementTasks.stream().forEach(s -> s.setCurrentPulse(pulse, phase));
+
+			// Execute all listener concurrently and wait for all to complete before advancing
+			// Ensure that Settlements stay synch'ed and some don't get ahead of others as tasks queue
+			try {
+				long start = System.nanoTime();
+				List<Future<String>> results = executor.invokeAll(settlementTasks);
+				for (Future<String> future : results) {
+					future.get();
+				}
+				long busy = 0;
+				for (SettlementTask st : settlementTasks) {
+					busy += st.getBusyTime();
+				}
+				phaseTimings.get(phase).record(System.nanoTime() - start, busy);
 			}
-		}
-		catch (ExecutionException ee) {
-			// Problem running the pulse
-			logger.severe("Problem running the pulse : ", ee);
-		}
-		catch (InterruptedException ie) {
-			// Program probably exiting
-			if (executor.isShutdown()) {
-				Thread.currentThread().interrupt();
+			catch (ExecutionException ee) {
+				// Problem running the pulse
+				logger.severe("Problem running the pulse : ", ee);
+			}
+			catch (InterruptedException ie) {
+				// Program probably exiting
+				if (executor.isShutdown()) {
+					Thread.currentThread().interrupt();
+				}
+				return;
 			}
 		}
 	}
 
+	/**
+	 * Gets the parallel speedup of a pulse phase. This is the time the settlement jobs
+	 * of the phase kept a thread busy divided by the elapsed time of the phase.
+	 * 
+	 * @param phase
+	 * @return Speedup; 1 means no gain from the parallel update and 0 not measured yet
+	 */
+	public double getPhaseSpeedup(PulsePhase phase) {
+		return (phaseTimings == null ? 0D : phaseTimings.get(phase).getSpeedup());
+	}
+
+	/**
+	 * Gets the average elapsed time of a pulse phase.
+	 * 
+	 * @param phase
+	 * @return Time in milliseconds
+	 */
+	public double getPhaseTime(PulsePhase phase) {
+		return (phaseTimings == null ? 0D : phaseTimings.get(phase).getElapsed() / 1_000_000D);
+	}
+
 	/**
 	 * Ends the current executor.
 	 */
 	public void endSimulation() {
 		if (executor != null)
 			executor.shutdownNow();
+		if (eventBus != null)
+			eventBus.shutdown();
 	}
 
 	/**
@@ -701,6 +788,10 @@ public class UnitManager implements Serializable, Temporal {
 	 * @param clock
 	 */
 	public void reinit() {
+		eventBus = createEventBus();
+
+		// Units created after the load must get the streams they would have had
+		RandomUtil.setSeed(randomSeed);
 
 		for (Person p: lookupPerson.values()) {
 			p.reinit();
@@ -708,8 +799,10 @@ public class UnitManager implements Serializable, Temporal {
 		for (Robot r: lookupRobot.values()) {
 			r.reinit();
 		}
+		settlementCoordinateMap = new ConcurrentHashMap<>();
 		for (Settlement s: lookupSettlement.values()) {
 			s.reinit();
+			settlementCoordinateMap.put(s.getCoordinates(), s.getIdentifier());
 		}
 
 		// Sets up the executor
@@ -775,38 +868,91 @@ public class UnitManager implements Serializable, Temporal {
 	}
 
 	/**
-	 * Prepares the Settlement task for setting up its own thread.
+	 * Keeps a moving average of the elapsed time of a pulse phase and of the time its
+	 * settlement jobs kept a thread busy.
+	 */
+	private static class PhaseTiming {
+		private volatile double elapsed = 0;
+		private volatile double busy = 0;
+
+		void record(long elapsedNanos, long busyNanos) {
+			elapsed = average(elapsed, elapsedNanos);
+			busy = average(busy, busyNanos);
+		}
+
+		private static double average(double current, long sample) {
+			return (current == 0 ? sample : 0.9 * current + 0.1 * sample);
+		}
+
+		double getElapsed() {
+			return elapsed;
+		}
+
+		double getSpeedup() {
+			return ((elapsed > 0) && (busy > 0) ? busy / elapsed : 0D);
+		}
+	}
+
+	/**
+	 * Prepares the Settlement task for running one phase of the pulse.
 	 */
 	class SettlementTask implements Callable<String> {
 		private Settlement settlement;
 		private ClockPulse currentPulse;
+		private PulsePhase currentPhase;
+		private volatile long busyTime;
 
 		protected Settlement getSettlement() {
 			return settlement;
 		}
 
-		public void setCurrentPulse(ClockPulse pulse) {
+		public void setCurrentPulse(ClockPulse pulse, PulsePhase phase) {
 			this.currentPulse = pulse;
+			this.currentPhase = phase;
 		}
 
 		private SettlementTask(Settlement settlement) {
 			this.settlement = settlement;
 		}
 
+		/**
+		 * Gets the time the last phase kept its thread busy. This is the CPU time of
+		 * the thread where the JVM measures it, otherwise the elapsed time.
+		 * 
+		 * @return Time in nanoseconds
+		 */
+		long getBusyTime() {
+			return busyTime;
+		}
+
+		private static long getThreadTime() {
+			return (THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime()
+						: System.nanoTime());
+		}
+
+		/**
+		 * Applies the current phase to the settlement.
+		 */
 		@Override
-		public String call() throws Exception {
+		public String call() {
+			long start = getThreadTime();
+			var previousStream = RandomUtil.setActiveStream(settlement.getRandomStream());
+			Settlement previous = setActiveSettlement(settlement);
 			try {
-				activeSettlement.set(settlement);
-				settlement.timePassing(currentPulse);
-				activeSettlement.remove();
+				settlement.timePassing(currentPulse, currentPhase);
 			}
 			catch (RuntimeException rte) {
 				String msg = "Problem with pulse on " + settlement.getName()
-        					  + ": " + rte.getMessage();
+        					  + " during " + currentPhase + ": " + rte.getMessage();
 	            logger.severe(msg, rte);
 	            return msg;
 			}
-			return settlement.getName() + " completed pulse #" + currentPulse.getId();
+			finally {
+				setActiveSettlement(previous);
+				RandomUtil.setActiveStream(previousStream);
+				busyTime = getThreadTime() - start;
+			}
+			return settlement.getName() + " completed " + currentPhase + " of pulse #" + currentPulse.getId();
 		}
 	}
 }
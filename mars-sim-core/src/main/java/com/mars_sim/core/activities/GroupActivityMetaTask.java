@@ -13,6 +13,7 @@ import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.social.Relation;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -51,7 +52,7 @@ public class GroupActivityMetaTask extends MetaTask implements SettlementMetaTas
     private static final RatingScore INSTIGATOR_SCORE = new RatingScore(9000D);
 
     public GroupActivityMetaTask() {
-		super(NAME, WorkerType.PERSON, TaskScope.ANY_HOUR);
+		super(NAME, WorkerType.PERSON, TaskScope.ANY_HOUR, ScoreDependency.ACTIVITIES, ScoreDependency.PERIOD);
     }
 
     /**
@@ -0,0 +1,208 @@
+/*
+ * Mars Simulation Project
+ * CapacityTree.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.computing;
+
+import java.io.Serializable;
+
+/**
+ * The computing load booked on each millisol of a sol. The sol is a cycle, so a range
+ * running past the last millisol carries on from the first one.
+ * The loads are kept in a segment tree so that booking a range, or finding the highest
+ * or total load over it, takes a few steps per level of the tree rather than one step
+ * per millisol.
+ */
+public class CapacityTree implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Number of millisols in the cycle. */
+	public static final int MSOLS = 1000;
+
+	// Node 1 covers the whole sol and node n has the children 2n and 2n + 1
+	private final double[] max = new double[4 * MSOLS];
+	private final double[] sum = new double[4 * MSOLS];
+	// Load added to the whole range of a node but not yet passed to its children
+	private final double[] pending = new double[4 * MSOLS];
+
+	/**
+	 * Adds a load to each millisol of a range.
+	 *
+	 * @param start First millisol
+	 * @param length Number of millisols
+	 * @param load Load added to each millisol
+	 */
+	public void add(int start, int length, double load) {
+		if (length <= 0) {
+			return;
+		}
+		int first = Math.floorMod(start, MSOLS);
+		int last = getLast(first, length);
+		if (last >= first) {
+			add(1, 0, MSOLS - 1, first, last, load);
+		}
+		else {
+			add(1, 0, MSOLS - 1, first, MSOLS - 1, load);
+			add(1, 0, MSOLS - 1, 0, last, load);
+		}
+	}
+
+	/**
+	 * Gets the highest load on any millisol of a range.
+	 *
+	 * @param start First millisol
+	 * @param length Number of millisols
+	 * @return Highest load, or zero for an empty range
+	 */
+	public double getMax(int start, int length) {
+		if (length <= 0) {
+			return 0D;
+		}
+		int first = Math.floorMod(start, MSOLS);
+		int last = getLast(first, length);
+		if (last >= first) {
+			return getMax(1, 0, MSOLS - 1, first, last);
+		}
+		return Math.max(getMax(1, 0, MSOLS - 1, first, MSOLS - 1),
+						getMax(1, 0, MSOLS - 1, 0, last));
+	}
+
+	/**
+	 * Gets the total load over the millisols of a range.
+	 *
+	 * @param start First millisol
+	 * @param length Number of millisols
+	 * @return
+	 */
+	public double getSum(int start, int length) {
+		if (length <= 0) {
+			return 0D;
+		}
+		int first = Math.floorMod(start, MSOLS);
+		int last = getLast(first, length);
+		if (last >= first) {
+			return getSum(1, 0, MSOLS - 1, first, last);
+		}
+		return getSum(1, 0, MSOLS - 1, first, MSOLS - 1)
+						+ getSum(1, 0, MSOLS - 1, 0, last);
+	}
+
+	/**
+	 * Gets the load on a millisol.
+	 *
+	 * @param msol
+	 * @return
+	 */
+	public double get(int msol) {
+		return getMax(msol, 1);
+	}
+
+	/**
+	 * Removes the load from each millisol of a range.
+	 *
+	 * @param start First millisol
+	 * @param length Number of millisols
+	 */
+	public void clear(int start, int length) {
+		int count = Math.min(length, MSOLS);
+		for (int i = 0; i < count; i++) {
+			clear(1, 0, MSOLS - 1, Math.floorMod(start + i, MSOLS));
+		}
+	}
+
+	/**
+	 * Gets the last millisol of a range that covers at most the whole sol.
+	 */
+	private static int getLast(int first, int length) {
+		return (first + Math.min(length, MSOLS) - 1) % MSOLS;
+	}
+
+	private void add(int node, int lo, int hi, int first, int last, double load) {
+		if ((last < lo) || (hi < first)) {
+			return;
+		}
+		if ((first <= lo) && (hi <= last)) {
+			apply(node, lo, hi, load);
+			return;
+		}
+		int mid = (lo + hi) / 2;
+		push(node, lo, mid, hi);
+		add(2 * node, lo, mid, first, last, load);
+		add(2 * node + 1, mid + 1, hi, first, last, load);
+		pull(node);
+	}
+
+	private double getMax(int node, int lo, int hi, int first, int last) {
+		if ((last < lo) || (hi < first)) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		if ((first <= lo) && (hi <= last)) {
+			return max[node];
+		}
+		int mid = (lo + hi) / 2;
+		push(node, lo, mid, hi);
+		return Math.max(getMax(2 * node, lo, mid, first, last),
+						getMax(2 * node + 1, mid + 1, hi, first, last));
+	}
+
+	private double getSum(int node, int lo, int hi, int first, int last) {
+		if ((last < lo) || (hi < first)) {
+			return 0D;
+		}
+		if ((first <= lo) && (hi <= last)) {
+			return sum[node];
+		}
+		int mid = (lo + hi) / 2;
+		push(node, lo, mid, hi);
+		return getSum(2 * node, lo, mid, first, last)
+						+ getSum(2 * node + 1, mid + 1, hi, first, last);
+	}
+
+	private void clear(int node, int lo, int hi, int msol) {
+		if (lo == hi) {
+			max[node] = 0D;
+			sum[node] = 0D;
+			return;
+		}
+		int mid = (lo + hi) / 2;
+		push(node, lo, mid, hi);
+		if (msol <= mid) {
+			clear(2 * node, lo, mid, msol);
+		}
+		else {
+			clear(2 * node + 1, mid + 1, hi, msol);
+		}
+		pull(node);
+	}
+
+	/**
+	 * Adds a load to every millisol under a node.
+	 */
+	private void apply(int node, int lo, int hi, double load) {
+		max[node] += load;
+		sum[node] += load * (hi - lo + 1);
+		pending[node] += load;
+	}
+
+	/**
+	 * Passes the pending load of a node down to its children.
+	 */
+	private void push(int node, int lo, int mid, int hi) {
+		double load = pending[node];
+		if (load != 0D) {
+			apply(2 * node, lo, mid, load);
+			apply(2 * node + 1, mid + 1, hi, load);
+			pending[node] = 0D;
+		}
+	}
+
+	/**
+	 * Works out a node again from its children.
+	 */
+	private void pull(int node) {
+		max[node] = Math.max(max[2 * node], max[2 * node + 1]);
+		sum[node] = sum[2 * node] + sum[2 * node + 1];
+	}
+}
@@ -7,7 +7,6 @@
 package com.mars_sim.core.computing;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,9 +16,7 @@ import java.util.logging.Level;
 import com.mars_sim.core.Unit;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.structure.Settlement;
-import com.mars_sim.core.structure.building.Building;
 import com.mars_sim.core.structure.building.function.Computation;
-import com.mars_sim.core.structure.building.function.FunctionType;
 import com.mars_sim.core.tool.RandomUtil;
 
 /**
@@ -138,32 +135,30 @@ public class ComputingJob implements Serializable {
      * 
      * @param timeCompleted
      * @param now the msol at this moment
-     * @return
+     * @return true if the whole demand has been scheduled
      */
     public boolean pickMultipleNodes(double timeCompleted, int now) {
-    	boolean canWork = false;
-    	
-		List<Building> nodes = new ArrayList<>(host.getBuildingManager().getBuildingSet(FunctionType.COMPUTATION));
-
-		double remainingDemand = initDemand;
-		
         int startMSol = now + 1;
         int endMSol = (int) (startMSol + duration - timeCompleted);
-        
-		// Perform the first round of spreading the load
-		boolean complete = spreadLoad(nodes, remainingDemand, startMSol, endMSol);
-		
-		if (!complete) {
-			// Perform the second round of spreading the load
-			complete = spreadLoad(nodes, remainingDemand, startMSol, endMSol);
-		}
-		
-		if (!complete) {
-			// Perform the third round of spreading the load
-			complete = spreadLoad(nodes, remainingDemand, startMSol, endMSol);
+
+		List<Computation> nodes = host.getBuildingManager().getLeastLoadedComputingNodes(startMSol, endMSol);
+
+		// Spread the load evenly but start with the busiest node, so whatever it
+		// can not take is passed on to the nodes with more room
+		double remainingDemand = initDemand;
+		int numNodes = nodes.size();
+		for (int i = numNodes - 1; i >= 0; i--) {
+			Computation node = nodes.get(i);
+			double portionToHandle = Math.min(remainingDemand / (i + 1),
+									node.getSpareCU(startMSol, endMSol));
+			if ((portionToHandle > 0) && node.scheduleTask(portionToHandle, startMSol, endMSol)) {
+				remainingDemand -= portionToHandle;
+				this.nodeLoads.merge(node, portionToHandle, Double::sum);
+			}
 		}
-		
-	    if (!canWork || !complete) {
+
+		boolean canWork = remainingDemand <= initDemand * 1E-9;
+	    if (!canWork) {
 		    logger.info(host, 30_000, "Servers unable to handle the computational request for " 
 		    	+ purpose + ".");
         }
@@ -173,36 +168,6 @@ public class ComputingJob implements Serializable {
         return canWork;
     }
     
-    /**
-     * Spreads the server loads.
-     * 
-     * @param nodes
-     * @param remainingDemand
-     * @param startMSol
-     * @param endMSol
-     * @return
-     */
-    private boolean spreadLoad(List<Building> nodes, double remainingDemand, int startMSol, int endMSol) {
-    	boolean complete = false;
-    	int numNodes = nodes.size();
-    	for (int i = 0; i < numNodes; i++) {
-			Building b = nodes.get(i);
-			Computation node = b.getComputation();
-			double portionToHandle = remainingDemand / numNodes;
-			complete = node.scheduleTask(portionToHandle, startMSol, endMSol);
-			
-			if (complete) {
-				remainingDemand -= portionToHandle;
-				this.nodeLoads.put(node, portionToHandle);
-			}
-			
-			if (remainingDemand == 0)
-				break;
-		}
-    	
-    	return complete;
-    }
-    
     /**
      * Processes the request.
      * 
@@ -43,6 +43,8 @@ public class TerrainElevation implements Serializable {
 	private static final SimLogger logger = SimLogger.getLogger(TerrainElevation.class.getName());
 	
 	private static final double STEP_KM = 2;
+	/** Distance ahead where the steepness is sampled. */
+	private static final double SAMPLE_KM = 1.5;
 	private static final double DEG_TO_RAD = Math.PI/180;
 	private static final double RATE = 1;
 	
@@ -62,15 +64,24 @@ public class TerrainElevation implements Serializable {
 	}
 
 	/**
-	 * Returns terrain steepness angle (in radians) from location by sampling a step distance in given
-	 * direction.
+	 * Returns terrain steepness angle (in radians) from location in given direction. The slope
+	 * comes from the elevations interpolated around the location at the detail of a step.
 	 *
 	 * @param currentLocation  the coordinates of the current location
 	 * @param currentDirection the current direction (in radians)
 	 * @return terrain steepness angle (in radians)
 	 */
 	public static double determineTerrainSteepness(Coordinates currentLocation, Direction currentDirection) {
-		return determineTerrainSteepness(currentLocation, getMEGDRElevation(currentLocation), currentDirection);
+		var pyramid = MEGDRFactory.getPyramid();
+		if (pyramid == null) {
+			// Still being built so sample the elevation a step ahead
+			return determineTerrainSteepness(currentLocation, getMEGDRElevation(currentLocation), currentDirection);
+		}
+		var sample = pyramid.sample(currentLocation.getPhi(), currentLocation.getTheta(), SAMPLE_KM);
+		double slope = sample.getSlope(currentDirection.getSinDirection(), currentDirection.getCosDirection());
+
+		// Rise over a step ahead, as it was sampled before
+		return Math.atan(slope * SAMPLE_KM / STEP_KM);
 	}
 
 	/**
@@ -83,14 +94,20 @@ public class TerrainElevation implements Serializable {
 	 * @return
 	 */
 	public static double determineTerrainSteepness(Coordinates currentLocation, double elevation, Direction currentDirection) {
-		double newY = - 1.5 * currentDirection.getCosDirection();
-		double newX = 1.5 * currentDirection.getSinDirection();
-		Coordinates sampleLocation = currentLocation.convertRectToSpherical(newX, newY);
-		double elevationChange = getAverageElevation(sampleLocation) - elevation;
+		double elevationChange = getAverageElevation(getSampleLocation(currentLocation, currentDirection)) - elevation;
 		// Compute steepness
 		return Math.atan(elevationChange / STEP_KM);
 	}
 
+	/**
+	 * Gets the location a step away in a direction where the steepness is sampled.
+	 */
+	private static Coordinates getSampleLocation(Coordinates currentLocation, Direction currentDirection) {
+		double newY = - SAMPLE_KM * currentDirection.getCosDirection();
+		double newX = SAMPLE_KM * currentDirection.getSinDirection();
+		return currentLocation.convertRectToSpherical(newX, newY);
+	}
+
 	/**
 	 * Determines the terrain steepness angle (in radians) from location by sampling a random coordinate set and a step distance in given
 	 * direction and elevation.
@@ -121,9 +138,15 @@ public class TerrainElevation implements Serializable {
 
 			double steepness = 0;
 			double elevation = getAverageElevation(currentLocation);
+
+			// Look up the elevation all round in one go
+			Coordinates[] samples = new Coordinates[361];
 			for (int i=0 ; i <= 360 ; i++) {
 				double rad = i * DEG_TO_RAD;
-				steepness += Math.abs(determineTerrainSteepness(currentLocation, elevation, new Direction(rad)));
+				samples[i] = getSampleLocation(currentLocation, new Direction(rad));
+			}
+			for (double e : getMEGDRElevations(samples)) {
+				steepness += Math.abs(Math.atan((e - elevation) / STEP_KM));
 			}
 	
 			double[] terrain = {elevation, steepness};
@@ -298,6 +321,71 @@ public class TerrainElevation implements Serializable {
 		return MOLAHeight;
 	}
 
+	/**
+	 * Returns the elevations in km at a number of locations, such as the points along a path,
+	 * based on MEGDR's dataset.
+	 *
+	 * @param locations the locations in question
+	 * @return the elevation at each location (in km)
+	 */
+	public static double[] getMEGDRElevations(Coordinates[] locations) {
+		if (unitManager == null)
+			unitManager = Simulation.instance().getUnitManager();
+
+		double[] phi = new double[locations.length];
+		double[] theta = new double[locations.length];
+		for (int i = 0; i < locations.length; i++) {
+			phi[i] = locations[i].getPhi();
+			theta[i] = locations[i].getTheta();
+		}
+		short[] heights = MEGDRFactory.getElevations(phi, theta);
+
+		double[] result = new double[locations.length];
+		for (int i = 0; i < locations.length; i++) {
+			// A settlement has its own elevation
+			Settlement s = unitManager.findSettlement(locations[i]);
+			result[i] = (s != null ? s.getElevation() : heights[i]/1000.0);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the elevations in km at even steps along the way between two locations,
+	 * including both ends. Each elevation is smoothed to the length of a step.
+	 *
+	 * @param from the start of the way
+	 * @param to the end of the way
+	 * @param stepKm the longest step between the elevations
+	 * @return the elevation at each step (in km)
+	 */
+	public static double[] getElevationProfile(Coordinates from, Coordinates to, double stepKm) {
+		double distance = from.getDistance(to);
+		int steps = Math.max(1, (int) Math.ceil(distance / stepKm));
+		double step = distance / steps;
+		var pyramid = MEGDRFactory.getPyramid();
+		int level = (pyramid != null ? pyramid.getLevel(step) : 0);
+
+		double[] result = new double[steps + 1];
+		Coordinates location = from;
+		for (int i = 0; i <= steps; i++) {
+			if (i == steps) {
+				location = to;
+			}
+			else if (i > 0) {
+				// Aim again each step so the way follows the great circle
+				location = location.getNewLocation(location.getDirectionToPoint(to), step);
+			}
+			if (pyramid != null) {
+				result[i] = pyramid.sample(location.getPhi(), location.getTheta(), level).elevation();
+			}
+			else {
+				// Still being built so use the point elevation
+				result[i] = getMOLAElevation(location.getPhi(), location.getTheta());
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Returns the elevation in km at the given location, based on MOLA's MEDGR dataset.
 	 *
@@ -0,0 +1,117 @@
+/*
+ * Mars Simulation Project
+ * ContainerTotals.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.equipment;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import com.mars_sim.core.resource.ResourceUtil;
+
+/**
+ * Running totals of what the equipment held by an inventory contains. Equipment
+ * reports every change to its contents whilst it is held, so the totals never need
+ * to walk the equipment. The amounts are indexed by resource id.
+ */
+class ContainerTotals implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private double[] amounts = new double[0];
+	private double baseMass = 0D;
+	private double storedMass = 0D;
+
+	/**
+	 * Adds a piece of equipment and its current contents.
+	 *
+	 * @param e
+	 */
+	void add(Equipment e) {
+		addContents(e, 1D);
+	}
+
+	/**
+	 * Removes a piece of equipment and its current contents.
+	 *
+	 * @param e
+	 */
+	void remove(Equipment e) {
+		addContents(e, -1D);
+	}
+
+	private void addContents(Equipment e, double sign) {
+		baseMass += sign * e.getBaseMass();
+		storedMass += sign * e.getStoredMass();
+		if (e instanceof ResourceHolder rh) {
+			for (int resource : rh.getAmountResourceIDs()) {
+				addAmount(resource, sign * rh.getAmountResourceStored(resource));
+			}
+		}
+	}
+
+	/**
+	 * Records a change in the amount of a resource held by a piece of equipment.
+	 *
+	 * @param resource
+	 * @param change Amount added; negative if taken
+	 */
+	void changeAmount(int resource, double change) {
+		addAmount(resource, change);
+		storedMass += change;
+	}
+
+	/**
+	 * Records a change in the mass of items held by a piece of equipment.
+	 *
+	 * @param change
+	 */
+	void changeItemMass(double change) {
+		storedMass += change;
+	}
+
+	private void addAmount(int resource, double change) {
+		int index = resource - ResourceUtil.FIRST_AMOUNT_RESOURCE_ID;
+		if (index < 0) {
+			return;
+		}
+		if (index >= amounts.length) {
+			amounts = Arrays.copyOf(amounts, index + 1);
+		}
+		amounts[index] += change;
+	}
+
+	/**
+	 * Gets the amount of a resource in all the equipment.
+	 *
+	 * @param resource
+	 * @return
+	 */
+	double getAmount(int resource) {
+		int index = resource - ResourceUtil.FIRST_AMOUNT_RESOURCE_ID;
+		if ((index < 0) || (index >= amounts.length)) {
+			return 0D;
+		}
+		// Rounding may leave a tiny negative once emptied
+		return Math.max(0D, amounts[index]);
+	}
+
+	/**
+	 * Gets the mass of all the equipment including the contents.
+	 *
+	 * @return
+	 */
+	double getMass() {
+		return Math.max(0D, baseMass + storedMass);
+	}
+
+	/**
+	 * Resets the totals once no equipment is held. This drops any rounding left over.
+	 */
+	void clear() {
+		Arrays.fill(amounts, 0D);
+		baseMass = 0D;
+		storedMass = 0D;
+	}
+}
@@ -242,6 +242,13 @@ public class EVASuit extends Equipment
 		return microInventory.isResourceSupported(resource);
 	}
 
+	@Override
+	void setHeldBy(ContainerTotals totals) {
+		super.setHeldBy(totals);
+		// The micro inventory reports the changes to the contents
+		microInventory.setHeldBy(totals);
+	}
+
 	/**
 	 * Stores the resource.
 	 *
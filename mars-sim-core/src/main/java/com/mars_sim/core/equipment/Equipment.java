@@ -55,6 +55,8 @@ public abstract class Equipment extends AbstractMobileUnit implements Indoor, Sa
 	private final EquipmentType equipmentType;
 	/** The SalvageInfo instance. */
 	private SalvageInfo salvageInfo;
+	/** Totals of the inventory holding this equipment, if any. */
+	private ContainerTotals heldBy;
 
 	/**
 	 * Constructs an Equipment object.
@@ -101,6 +103,48 @@ public abstract class Equipment extends AbstractMobileUnit implements Indoor, Sa
 	 */
 	public abstract double getStoredMass();
 
+	/**
+	 * Moves this equipment into the totals of the inventory now holding it. Its
+	 * contents are taken out of the totals of any previous holder.
+	 *
+	 * @param totals Totals of the new holder; null if not held
+	 */
+	void setHeldBy(ContainerTotals totals) {
+		if (heldBy == totals) {
+			return;
+		}
+		if (heldBy != null) {
+			heldBy.remove(this);
+		}
+		heldBy = totals;
+		if (totals != null) {
+			totals.add(this);
+		}
+	}
+
+	/**
+	 * Takes this equipment out of the totals of an inventory, if it is still held by it.
+	 *
+	 * @param totals
+	 */
+	void releaseFrom(ContainerTotals totals) {
+		if (heldBy == totals) {
+			setHeldBy(null);
+		}
+	}
+
+	/**
+	 * Reports a change in the contents to the inventory holding this equipment.
+	 *
+	 * @param resource
+	 * @param change Amount added; negative if taken
+	 */
+	protected void reportAmountChange(int resource, double change) {
+		if ((heldBy != null) && (change != 0D)) {
+			heldBy.changeAmount(resource, change);
+		}
+	}
+
 	/**
      * Gets the total capacity of resource that this container can hold.
      *
@@ -49,6 +49,9 @@ public class EquipmentInventory
 	/** The MicroInventory instance. */
 	private MicroInventory microInventory;
 
+	/** Running totals of the suits and containers and what they hold. */
+	private ContainerTotals containerTotals = new ContainerTotals();
+
 	/**
 	 * Constructor.
 	 * 
@@ -97,14 +100,7 @@ public class EquipmentInventory
 	 */
 	@Override
 	public double getStoredMass() {
-		double result = 0;
-		for (Equipment e: suitSet) {
-			result += e.getMass();
-		}
-		for (Equipment e: containerSet) {
-			result += e.getMass();
-		}
-		return result + microInventory.getStoredMass();
+		return containerTotals.getMass() + microInventory.getStoredMass();
 	}
 	
 	/**
@@ -211,36 +207,38 @@ public class EquipmentInventory
 	private boolean addToSet(Set<Equipment> set, Equipment equipment) {
 		boolean contained = set.contains(equipment);
 		if (!contained) {
-			
-			double suitMass = 0;
-			for (Equipment e: suitSet) {
-				suitMass += e.getMass();
-			}
-			
-			double containerMass = 0;
-			String containerName = "";
-			
-			for (Equipment e: containerSet) {
-				Container c = (Container)e;
-				Set<Integer> ids = c.getAmountResourceIDs();
-				String arNames = "";
-				for (int i: ids) {
-					arNames += ResourceUtil.findAmountResourceName(i) 
-							+ " (" + Math.round(c.getAmountResourceStored(i) * 100.0)/100.0 + ")";
-				}
-				containerName += e.getName() + " [" + arNames + "]";
-				containerMass += e.getMass();
-			}
-
 			double microInvMass = microInventory.getStoredMass();
 			
-			double totalStored = suitMass + containerMass + microInvMass;
+			double totalStored = containerTotals.getMass() + microInvMass;
 			
 			double newCapacity = cargoCapacity - totalStored - equipment.getMass();
 			if (newCapacity >= 0D) {
-				return set.add(equipment);
+				set.add(equipment);
+				equipment.setHeldBy(containerTotals);
+				return true;
 			}
 			else {
+				// Only break down the load when it is reported
+				double suitMass = 0;
+				for (Equipment e: suitSet) {
+					suitMass += e.getMass();
+				}
+				
+				double containerMass = 0;
+				String containerName = "";
+				
+				for (Equipment e: containerSet) {
+					Container c = (Container)e;
+					Set<Integer> ids = c.getAmountResourceIDs();
+					String arNames = "";
+					for (int i: ids) {
+						arNames += ResourceUtil.findAmountResourceName(i) 
+								+ " (" + Math.round(c.getAmountResourceStored(i) * 100.0)/100.0 + ")";
+					}
+					containerName += e.getName() + " [" + arNames + "]";
+					containerMass += e.getMass();
+				}
+
 				logger.warning(owner, 60_000L, "No capacity to hold " + equipment.getName()
 								+ ": cargoCapacity = " + cargoCapacity 
 								+ ", container name = " + containerName
@@ -264,10 +262,21 @@ public class EquipmentInventory
 	 */
 	@Override
 	public boolean removeEquipment(Equipment equipment) {
+		boolean removed;
 		if (equipment.getEquipmentType() == EquipmentType.EVA_SUIT) {
-			return suitSet.remove(equipment);
+			removed = suitSet.remove(equipment);
+		}
+		else {
+			removed = containerSet.remove(equipment);
 		}
-		return containerSet.remove(equipment);
+
+		if (removed) {
+			equipment.releaseFrom(containerTotals);
+			if (suitSet.isEmpty() && containerSet.isEmpty()) {
+				containerTotals.clear();
+			}
+		}
+		return removed;
 	}
 
 
@@ -439,16 +448,7 @@ public class EquipmentInventory
 	 */
 	@Override
 	public double getAllAmountResourceStored(int resource) {
-		double result = 0;
-		// Do not consume resources from container Equipment. THis is an expensive
-		// and can generate concurrency issues
-		for (Equipment e: suitSet) {
-		 	result += e.getAmountResourceStored(resource);
-		 }
-		for (Equipment e: containerSet) {
-		 	result += e.getAmountResourceStored(resource);
-		 }
-		return result + getAmountResourceStored(resource);
+		return containerTotals.getAmount(resource) + getAmountResourceStored(resource);
 	}
 	
 	/**
@@ -739,7 +739,7 @@ public class EquipmentInventory
 	 */
 	@Override
 	public boolean hasItemResource(int resource) {
-		return getItemResourceIDs().contains(resource);
+		return microInventory.hasItemResource(resource);
 	}
 
 	/**
@@ -934,6 +934,8 @@ public class EquipmentInventory
 	}	
 
 	public void destroy() {
+		containerSet.forEach(e -> e.releaseFrom(containerTotals));
+		suitSet.forEach(e -> e.releaseFrom(containerTotals));
 		containerSet.clear();
 		containerSet = null;
 		suitSet.clear();
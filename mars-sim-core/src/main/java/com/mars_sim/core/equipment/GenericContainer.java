@@ -136,11 +136,13 @@ class GenericContainer extends Equipment implements Container {
 		if (resourceHeld == resource) {
 			if (quantity < amountStored) {
 				amountStored -= quantity;
+				reportAmountChange(resource, -quantity);
 				return 0;
 			}
 			else {
 				// Now empty
 				double shortfall = quantity - amountStored;
+				reportAmountChange(resource, -amountStored);
 				amountStored = 0D;
 				if (reusable) {
 					resourceHeld = -1;
@@ -205,10 +207,12 @@ class GenericContainer extends Equipment implements Container {
 		double remainingCap = totalCapacity - amountStored;
 		if (remainingCap < quantity) {
 			amountStored = totalCapacity;
+			reportAmountChange(resource, remainingCap);
 			return quantity - remainingCap;
 		}
 		else {
 			amountStored += quantity;
+			reportAmountChange(resource, quantity);
 			return 0D;
 		}
 	}
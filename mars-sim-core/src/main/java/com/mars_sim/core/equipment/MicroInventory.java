@@ -7,65 +7,24 @@
 package com.mars_sim.core.equipment;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.mars_sim.core.Unit;
 import com.mars_sim.core.UnitEventType;
 import com.mars_sim.core.logging.SimLogger;
-import com.mars_sim.core.resource.ItemResource;
 import com.mars_sim.core.resource.ItemResourceUtil;
 import com.mars_sim.core.resource.ResourceUtil;
 
 /**
  * The MicroInventory class represents a simple resource storage solution.
+ * Resource ids are dense so the amounts and items are held in arrays indexed by
+ * the id, and the total masses are kept up to date as resources are stored and
+ * retrieved.
  */
 public class MicroInventory implements Serializable {
 
-	static final class AmountStored implements Serializable {
-
-		/** default serial id. */
-		private static final long serialVersionUID = 1L;
-
-		double capacity = 0;
-		double storedAmount = 0;
-
-		AmountStored(double capacity) {
-			super();
-			this.capacity = capacity;
-		}
-
-		@Override
-		public String toString() {
-			return "AmountStored [capacity=" + capacity
-					+ ", storedAmount=" + storedAmount
-					+ "]";
-		}
-	}
-
-	static final class ItemStored implements Serializable {
-
-		/** default serial id. */
-		private static final long serialVersionUID = 1L;
-
-		int quantity = 0;
-		double massPerItem = 0;
-		double totalMass = 0;
-
-		ItemStored() {
-			super();
-		}
-
-		@Override
-		public String toString() {
-			return "ItemStored quantity=" + quantity + " massPerItem=" + massPerItem
-					+ " totalMass=" + totalMass
-					+ "]";
-		}
-	}
-
 	/** default serial id. */
 	private static final long serialVersionUID = 1L;
 
@@ -76,17 +35,31 @@ public class MicroInventory implements Serializable {
 
 	/** The owner of this micro inventory. */
 	private Unit owner;
-	/** A map of amount resources. */
-	private Map<Integer, AmountStored> amountStorage = new HashMap<>();
-	/** A map of item resources. */
-	private Map<Integer, ItemStored> itemStorage = new HashMap<>();
+
+	// Amount resources indexed from FIRST_AMOUNT_RESOURCE_ID
+	/** Has a capacity been set for the amount resource. */
+	private boolean[] amountSupported = new boolean[0];
+	private double[] amountCapacity = new double[0];
+	private double[] amountStored = new double[0];
+	/** Number of amount resources with something stored. */
+	private int amountsHeld = 0;
+
+	// Item resources indexed from FIRST_ITEM_RESOURCE_ID
+	/** Has the item ever been stored. */
+	private boolean[] itemSupported = new boolean[0];
+	private int[] itemQuantity = new int[0];
+	private double[] itemMass = new double[0];
+	/** Number of item resources with something stored. */
+	private int itemsHeld = 0;
 
 	private double amountTotalMass = 0D;
 	private double itemTotalMass = 0D;
-//	private double generalTotalMass = 0D;
 
 	private double sharedCapacity = 0D;
 
+	/** Totals of the inventory holding the owner, if any. */
+	private ContainerTotals heldBy;
+
 	public MicroInventory(Unit owner) {
 		this.owner = owner;
 	}
@@ -96,6 +69,57 @@ public class MicroInventory implements Serializable {
 		this.sharedCapacity = sharedCapacity;
 	}
 
+	/**
+	 * Sets the totals to report changes to whilst the owner is held by an inventory.
+	 *
+	 * @param totals
+	 */
+	void setHeldBy(ContainerTotals totals) {
+		heldBy = totals;
+	}
+
+	/**
+	 * Gets the array index of an amount resource.
+	 *
+	 * @param resource
+	 * @return -1 if nothing has been recorded for the resource
+	 */
+	private int amountIndex(int resource) {
+		int index = resource - ResourceUtil.FIRST_AMOUNT_RESOURCE_ID;
+		return ((index >= 0) && (index < amountStored.length)) ? index : -1;
+	}
+
+	/**
+	 * Gets the array index of an amount resource, growing the arrays to fit it.
+	 *
+	 * @param resource
+	 * @return
+	 */
+	private int allocateAmount(int resource) {
+		int index = resource - ResourceUtil.FIRST_AMOUNT_RESOURCE_ID;
+		if (index < 0) {
+			throw new IllegalArgumentException("Not an amount resource " + resource);
+		}
+		if (index >= amountStored.length) {
+			int size = index + 1;
+			amountSupported = Arrays.copyOf(amountSupported, size);
+			amountCapacity = Arrays.copyOf(amountCapacity, size);
+			amountStored = Arrays.copyOf(amountStored, size);
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the array index of an item resource.
+	 *
+	 * @param resource
+	 * @return -1 if nothing has been recorded for the resource
+	 */
+	private int itemIndex(int resource) {
+		int index = resource - ResourceUtil.FIRST_ITEM_RESOURCE_ID;
+		return ((index >= 0) && (index < itemQuantity.length)) ? index : -1;
+	}
+
 	/**
 	 * Gets the shared/general/stock capacity.
 	 *
@@ -120,9 +144,9 @@ public class MicroInventory implements Serializable {
      * @return capacity (kg).
      */
     public double getCapacity(int resource) {
-		AmountStored s = amountStorage.get(resource);
-		if (s != null) {
-			return s.capacity;
+		int index = amountIndex(resource);
+		if ((index >= 0) && amountSupported[index]) {
+			return amountCapacity[index];
 		}
 		return sharedCapacity;
     }
@@ -134,13 +158,9 @@ public class MicroInventory implements Serializable {
 	 * @param capacity
 	 */
 	public void setCapacity(int resource, double capacity) {
-		AmountStored s = amountStorage.get(resource);
-		if (s != null) {
-			s.capacity = capacity;
-		}
-		else {
-			amountStorage.put(resource, new AmountStored(capacity));
-		}
+		int index = allocateAmount(resource);
+		amountSupported[index] = true;
+		amountCapacity[index] = capacity;
 	}
 
 	/**
@@ -150,12 +170,13 @@ public class MicroInventory implements Serializable {
 	 * @param capacity
 	 */
 	public void addCapacity(int resource, double capacity) {
-		AmountStored s = amountStorage.get(resource);
-		if (s != null) {
-			s.capacity += capacity;
+		int index = allocateAmount(resource);
+		if (amountSupported[index]) {
+			amountCapacity[index] += capacity;
 		}
 		else {
-			amountStorage.put(resource, new AmountStored(capacity));
+			amountSupported[index] = true;
+			amountCapacity[index] = capacity;
 		}
 	}
 
@@ -166,12 +187,11 @@ public class MicroInventory implements Serializable {
 	 * @param capacity
 	 */
 	public void removeCapacity(int resource, double capacity) {
-		AmountStored s = amountStorage.get(resource);
-
-		if (s != null) {
-			s.capacity -= capacity;
-			if (s.capacity < 0D) {
-				s.capacity = 0D;
+		int index = amountIndex(resource);
+		if ((index >= 0) && amountSupported[index]) {
+			amountCapacity[index] -= capacity;
+			if (amountCapacity[index] < 0D) {
+				amountCapacity[index] = 0D;
 			}
 		}
 	}
@@ -201,8 +221,8 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public boolean isEmpty(int resource) {
-		AmountStored s = amountStorage.get(resource);
-		return (s == null) || (s.storedAmount == 0D);
+		int index = amountIndex(resource);
+		return (index < 0) || (amountStored[index] == 0D);
 	}
 
 	/**
@@ -213,16 +233,16 @@ public class MicroInventory implements Serializable {
 	 * @return excess quantity that cannot be stored
 	 */
 	public double storeAmountResource(int resource, double quantity) {
-		AmountStored s = amountStorage.get(resource);
-		if (s == null) {
+		int index = amountIndex(resource);
+		if ((index < 0) || !amountSupported[index]) {
 			return quantity;
 		}
-			
-		double remaining =  + s.capacity - s.storedAmount;
+
+		double remaining = amountCapacity[index] - amountStored[index];
 		double excess = 0D;
 		if (remaining < quantity) {
 			excess = quantity - remaining;
-			
+
 			// TODO: May make use of sharedCapacity to restore excess amount resource
 
 			quantity = remaining;
@@ -233,12 +253,11 @@ public class MicroInventory implements Serializable {
 			}
 		}
 
-		s.storedAmount += quantity;
+		// Update the stored amount and the total mass
+		setAmountStored(index, amountStored[index] + quantity);
 
-		// Update the amount total mass
-		updateAmountResourceTotalMass();
 		// Fire the unit event type
-		owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource); //ResourceUtil.findAmountResource(resource));
+		owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource);
 		return excess;
 	}
 
@@ -250,40 +269,39 @@ public class MicroInventory implements Serializable {
 	 * @return excess quantity that cannot be stored
 	 */
 	public int storeItemResource(int resource, int quantity) {
-		ItemStored s = itemStorage.get(resource);
-		if (s == null) {
-			s = new ItemStored();
-			s.massPerItem = ItemResourceUtil.findItemResource(resource).getMassPerItem();
-			s.totalMass = 0;
-
-			// Save the item resource
-			itemStorage.put(resource, s);
+		int index = resource - ResourceUtil.FIRST_ITEM_RESOURCE_ID;
+		if (index < 0) {
+			throw new IllegalArgumentException("Not an item resource " + resource);
+		}
+		if (index >= itemQuantity.length) {
+			itemSupported = Arrays.copyOf(itemSupported, index + 1);
+			itemQuantity = Arrays.copyOf(itemQuantity, index + 1);
+			itemMass = Arrays.copyOf(itemMass, index + 1);
+		}
+		if (!itemSupported[index]) {
+			itemSupported[index] = true;
+			itemMass[index] = ItemResourceUtil.findItemResource(resource).getMassPerItem();
 		}
 
-		double massPerItem = s.massPerItem;
-		double totalMass = s.totalMass;
+		double massPerItem = itemMass[index];
+		double totalMass = itemQuantity[index] * massPerItem;
 
 		double rCap = sharedCapacity - totalMass;
 		int itemCap = (int)Math.floor(rCap / massPerItem);
 		int missing = 0;
 
 		if (itemCap > 0) {
+			int stored = quantity;
 			if (quantity > itemCap) {
-				s.quantity += itemCap;
+				stored = itemCap;
 				missing = quantity - itemCap;
 				logger.warning(owner, "Storing " + itemCap + "x "
 						+ ItemResourceUtil.findItemResource(resource).getName()
 						+ ", returning the surplus " + missing + ".");
 			}
-			else {
-				s.quantity += quantity;
-				missing = 0;
-			}
-
-			s.totalMass = s.quantity * s.massPerItem;
 
-			// Update the item total mass
-			updateItemResourceTotalMass();
+			// Update the quantity and the item total mass
+			setItemQuantity(index, itemQuantity[index] + stored);
 
 			// Fire the unit event type
 			owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource);
@@ -298,28 +316,51 @@ public class MicroInventory implements Serializable {
 	}
 
 	/**
-	 * Recalculates the amount resource total mass.
+	 * Sets the stored amount of a resource and updates the amount total mass.
+	 *
+	 * @param index
+	 * @param amount
 	 */
-	private void updateAmountResourceTotalMass() {
-		// Note: to avoid ConcurrentModificationException, use new ArrayList
-		amountTotalMass = amountStorage.values().stream().mapToDouble(r -> r.storedAmount).sum();
+	private void setAmountStored(int index, double amount) {
+		double previous = amountStored[index];
+		amountStored[index] = amount;
+
+		if ((previous == 0D) && (amount != 0D)) {
+			amountsHeld++;
+		}
+		else if ((previous != 0D) && (amount == 0D)) {
+			amountsHeld--;
+		}
+		// Once nothing is held drop any rounding left in the total
+		amountTotalMass = (amountsHeld == 0) ? 0D : amountTotalMass + (amount - previous);
+
+		if (heldBy != null) {
+			heldBy.changeAmount(index + ResourceUtil.FIRST_AMOUNT_RESOURCE_ID, amount - previous);
+		}
 	}
 
 	/**
-	 * Recalculates the item resource total mass.
+	 * Sets the quantity of an item and updates the item total mass.
+	 *
+	 * @param index
+	 * @param quantity
 	 */
-	private void updateItemResourceTotalMass() {
-		double result = 0;
-		for (int resource: itemStorage.keySet()) {
-			int q = itemStorage.get(resource).quantity;
-			if (q > 0) {
-				ItemResource ir = ItemResourceUtil.findItemResource(resource);
-				if (ir != null)
-					result += ir.getMassPerItem() * q;
-			}
+	private void setItemQuantity(int index, int quantity) {
+		int previous = itemQuantity[index];
+		itemQuantity[index] = quantity;
+
+		if ((previous == 0) && (quantity != 0)) {
+			itemsHeld++;
+		}
+		else if ((previous != 0) && (quantity == 0)) {
+			itemsHeld--;
 		}
+		double change = (quantity - previous) * itemMass[index];
+		itemTotalMass = (itemsHeld == 0) ? 0D : itemTotalMass + change;
 
-		itemTotalMass = result;
+		if (heldBy != null) {
+			heldBy.changeItemMass(change);
+		}
 	}
 
 	/**
@@ -330,13 +371,13 @@ public class MicroInventory implements Serializable {
 	 * @return shortfall quantity that cannot be retrieved
 	 */
 	public double retrieveAmountResource(int resource, double quantity) {
-		AmountStored s = amountStorage.get(resource);
-		if (s == null) {
+		int index = amountIndex(resource);
+		if ((index < 0) || !amountSupported[index]) {
 			return quantity;
 		}
 
 		double shortfall = 0D;
-		double remaining = s.storedAmount - quantity;
+		double remaining = amountStored[index] - quantity;
 
 		if (remaining < 0) {
 			shortfall = -remaining;
@@ -349,16 +390,8 @@ public class MicroInventory implements Serializable {
 			remaining = 0;
 		}
 
-		// Update the stored amount
-		s.storedAmount = remaining;
-
-		// Remove this 'general' resource since its capacity is not set
-//		if (s.storedAmount == 0 && s.capacity == 0) {
-//			storageMap.remove(resource);
-//		}
-
-		// Update the total mass
-		updateAmountResourceTotalMass();
+		// Update the stored amount and the total mass
+		setAmountStored(index, remaining);
 
 		// Fire the unit event type
 		owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource);
@@ -373,13 +406,13 @@ public class MicroInventory implements Serializable {
 	 * @return quantity that cannot be retrieved
 	 */
 	public int retrieveItemResource(int resource, int quantity) {
-		ItemStored s = itemStorage.get(resource);
-		if (s == null) {
+		int index = itemIndex(resource);
+		if ((index < 0) || !itemSupported[index]) {
 			return quantity;
 		}
 
 		int shortfall = 0;
-		int remaining = s.quantity - quantity;
+		int remaining = itemQuantity[index] - quantity;
 
 		if (remaining < 0) {
 			shortfall = -remaining;
@@ -391,16 +424,8 @@ public class MicroInventory implements Serializable {
 			remaining = 0;
 		}
 
-		// Update the quantity
-		s.quantity = remaining;
-
-		// Remove this 'general' resource since its capacity is not set
-//		if (s.quantity == 0 && s.capacity == 0) {
-//			storageMap.remove(resource);
-//		}
-
-		// Update the total mass
-		updateItemResourceTotalMass();
+		// Update the quantity and the total mass
+		setItemQuantity(index, remaining);
 
 		// Fire the unit event type
 		owner.fireUnitUpdate(UnitEventType.INVENTORY_RESOURCE_EVENT, resource);
@@ -413,10 +438,13 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public Set<Integer> getResourcesStored() {
-		return amountStorage.keySet()
-				.stream()
-				.filter(i -> (amountStorage.get(i).storedAmount > 0))
-				.collect(Collectors.toSet());
+		Set<Integer> result = new HashSet<>();
+		for (int i = 0; i < amountStored.length; i++) {
+			if (amountStored[i] > 0) {
+				result.add(i + ResourceUtil.FIRST_AMOUNT_RESOURCE_ID);
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -425,10 +453,24 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public Set<Integer> getItemsStored() {
-		return itemStorage.keySet()
-				.stream()
-				.filter(i -> (itemStorage.get(i).quantity > 0))
-				.collect(Collectors.toSet());
+		Set<Integer> result = new HashSet<>();
+		for (int i = 0; i < itemQuantity.length; i++) {
+			if (itemQuantity[i] > 0) {
+				result.add(i + ResourceUtil.FIRST_ITEM_RESOURCE_ID);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Does it hold any of this item resource ?
+	 *
+	 * @param resource
+	 * @return
+	 */
+	public boolean hasItemResource(int resource) {
+		int index = itemIndex(resource);
+		return (index >= 0) && (itemQuantity[index] > 0);
 	}
 
 	/**
@@ -438,28 +480,28 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public double getAmountResourceRemainingCapacity(int resource) {
-		AmountStored s = amountStorage.get(resource);
-		if (s != null) {
-			return s.capacity - s.storedAmount;
+		int index = amountIndex(resource);
+		if ((index >= 0) && amountSupported[index]) {
+			return amountCapacity[index] - amountStored[index];
 		}
 		return 0;
 	}
 
 	/**
 	 * Does it have unused space or capacity for a particular resource ?
-	 * 
+	 *
 	 * @param resource
 	 * @return
 	 */
 	public boolean hasAmountResourceRemainingCapacity(int resource) {
-		AmountStored s = amountStorage.get(resource);
-		if (s != null) {
-			return s.capacity > s.storedAmount;
+		int index = amountIndex(resource);
+		if ((index >= 0) && amountSupported[index]) {
+			return amountCapacity[index] > amountStored[index];
 		}
-		
+
 		return false;
 	}
-	
+
 	/**
 	 * Obtains the remaining storage quantity of a particular item resource.
 	 *
@@ -467,12 +509,10 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public int getItemResourceRemainingQuantity(int resource) {
-		ItemStored s = itemStorage.get(resource);
-		if (s != null) {
-//			double massPerItem = ItemResourceUtil.findItemResource(resource).getMassPerItem();
-//			double totalMass = s.quantity * massPerItem;
-			double rCap = sharedCapacity - s.totalMass;
-			return (int)Math.floor(rCap / s.massPerItem);
+		int index = itemIndex(resource);
+		if ((index >= 0) && itemSupported[index]) {
+			double rCap = sharedCapacity - (itemQuantity[index] * itemMass[index]);
+			return (int)Math.floor(rCap / itemMass[index]);
 		}
 		return 0;
 	}
@@ -484,9 +524,9 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public double getAmountResourceStored(int resource) {
-		AmountStored s = amountStorage.get(resource);
-		if (s != null) {
-			return s.storedAmount;
+		int index = amountIndex(resource);
+		if (index >= 0) {
+			return amountStored[index];
 		}
 		return 0;
 	}
@@ -498,9 +538,9 @@ public class MicroInventory implements Serializable {
 	 * @return quantity
 	 */
 	public int getItemResourceStored(int resource) {
-		ItemStored s = itemStorage.get(resource);
-		if (s != null) {
-			return s.quantity;
+		int index = itemIndex(resource);
+		if (index >= 0) {
+			return itemQuantity[index];
 		}
 		return 0;
 	}
@@ -512,7 +552,8 @@ public class MicroInventory implements Serializable {
 	 * @return
 	 */
 	public boolean isResourceSupported(int resource) {
-		return amountStorage.containsKey(resource);
+		int index = amountIndex(resource);
+		return (index >= 0) && amountSupported[index];
 	}
 
 
@@ -520,7 +561,21 @@ public class MicroInventory implements Serializable {
 	 * Cleans this container for future use.
 	 */
 	public void clean() {
-		amountStorage.clear();
-		itemStorage.clear();
+		if (heldBy != null) {
+			for (int i = 0; i < amountStored.length; i++) {
+				heldBy.changeAmount(i + ResourceUtil.FIRST_AMOUNT_RESOURCE_ID, -amountStored[i]);
+			}
+			heldBy.changeItemMass(-itemTotalMass);
+		}
+		amountSupported = new boolean[0];
+		amountCapacity = new double[0];
+		amountStored = new double[0];
+		itemSupported = new boolean[0];
+		itemQuantity = new int[0];
+		itemMass = new double[0];
+		amountsHeld = 0;
+		itemsHeld = 0;
+		amountTotalMass = 0D;
+		itemTotalMass = 0D;
 	}
 }
@@ -153,7 +153,8 @@ public class GoodsManager implements Serializable {
 
 	private static Map<Integer, ResourceLimits> resLimits;
 	
-	private static Map<Good, MarketData> marketMap = new HashMap<>();
+	/** The market shared by all settlements. */
+	private static final MarketData market = new MarketData();
 	/** A standard list of resources to be excluded in buying negotiation. */
 	private static Set<Good> unsellableGoods = null;
 
@@ -177,6 +178,10 @@ public class GoodsManager implements Serializable {
 	private Map<Integer, Double> supplyCache = new HashMap<>();
 
 	private Map<Integer, Integer> deflationIndexMap = new HashMap<>();
+
+	/** Local cost and price of each good; only worked out again when the good is re-valued. */
+	private transient Map<Integer, Double> costCache;
+	private transient Map<Integer, Double> priceCache;
 	
 	/** A standard list of buying resources in buying negotiation. */
 	private Map<Good, ShoppingItem> buyList =  Collections.emptyMap();
@@ -184,6 +189,9 @@ public class GoodsManager implements Serializable {
 
 	private Set<Integer> reviewedEssentials = new HashSet<>();
 
+	/** Picks the goods that need re-valuing each cycle. */
+	private GoodsValuation valuation = new GoodsValuation();
+
 	private Settlement settlement;
 
 
@@ -262,7 +270,7 @@ public class GoodsManager implements Serializable {
 			deflationIndexMap.put(id, 0);
 			demandCache.put(id, good.getDefaultDemandValue());
 			supplyCache.put(id, good.getDefaultSupplyValue());
-			marketMap.put(good, new MarketData(good));
+			market.reset(id);
 		}
 	}
 
@@ -292,36 +300,51 @@ public class GoodsManager implements Serializable {
 	}
 
 	/**
-	 * Updates the good values for all good.
+	 * Updates the good values. Only the goods whose inputs have changed are re-valued
+	 * but every good still feeds its last value into the shared market.
 	 */
 	public void updateGoodValues() {
+		if (costCache == null) {
+			costCache = new HashMap<>();
+			priceCache = new HashMap<>();
+		}
+
+		for (Good g: valuation.selectGoods(settlement)) {
+			int id = g.getID();
+			double oldValue = goodsValues.get(id);
+			double localValue = determineGoodValue(g);
+			valuation.recordValue(g, oldValue, localValue);
+
+			costCache.put(id, g.computeAdjustedCost());
+			priceCache.put(id, g.calculatePrice(settlement, goodsValues.get(id)));
+		}
 
  		// Update the goods value gradually with the use of buffers
 		for (Good g: GoodsUtil.getGoodsList()) {
-			
-			double localValue = determineGoodValue(g);
-			double marketValue = getMarketData(1, g); 
+			double localValue = goodsValues.get(g.getID());
+			MarketData.Snapshot current = getMarketSnapshot(g);
+			double marketValue = current.value(); 
 			
 			double localDemand = demandCache.get(g.getID());
-			double marketDemand = getMarketData(0, g); 
+			double marketDemand = current.demand(); 
 	
-			double localCost = g.computeAdjustedCost();
-			double marketCost = getMarketData(2, g); 
+			double localCost = costCache.computeIfAbsent(g.getID(), k -> g.computeAdjustedCost());
+			double marketCost = current.cost(); 
 			
-			double localPrice = g.calculatePrice(settlement, localValue);
-			double marketPrice = getMarketData(3, g); 
+			double localPrice = priceCache.computeIfAbsent(g.getID(), k -> g.calculatePrice(settlement, localValue));
+			double marketPrice = current.price(); 
 			
 			if (initialized || marketDemand == -1 || marketValue == -1 || marketCost == -1 || marketPrice == -1) {
-				setMarketData(0, g, localDemand);	
-				setMarketData(1, g, localValue);	
-				setMarketData(2, g, localCost);
-				setMarketData(3, g, localPrice);
+				setMarketData(MarketData.DEMAND, g, localDemand);	
+				setMarketData(MarketData.VALUE, g, localValue);	
+				setMarketData(MarketData.COST, g, localCost);
+				setMarketData(MarketData.PRICE, g, localPrice);
 			}
 			else {			
-				setMarketData(0, g, 0.95 * marketDemand + 0.05 * localDemand);
-				setMarketData(1, g, 0.95 * marketValue + 0.05 * localValue);
-				setMarketData(2, g, 0.95 * marketCost + 0.05 * localCost);
-				setMarketData(3, g, 0.95 * marketPrice + 0.05 * localPrice);
+				setMarketData(MarketData.DEMAND, g, 0.95 * marketDemand + 0.05 * localDemand);
+				setMarketData(MarketData.VALUE, g, 0.95 * marketValue + 0.05 * localValue);
+				setMarketData(MarketData.COST, g, 0.95 * marketCost + 0.05 * localCost);
+				setMarketData(MarketData.PRICE, g, 0.95 * marketPrice + 0.05 * localPrice);
 			}
 			
 			settlement.fireUnitUpdate(UnitEventType.MARKET_VALUE_EVENT, g);				
@@ -333,6 +356,35 @@ public class GoodsManager implements Serializable {
 		initialized = true;
 	}
 
+	/**
+	 * Sets whether every good is re-valued in each update rather than only those whose
+	 * inputs have changed. This is for checking the incremental values.
+	 * 
+	 * @param full
+	 */
+	void setFullRecompute(boolean full) {
+		valuation.setFullRecompute(full);
+	}
+
+	/**
+	 * Gets the number of goods re-valued in the last update.
+	 * 
+	 * @return
+	 */
+	int getNumGoodsValued() {
+		return valuation.getLastValued();
+	}
+
+	/**
+	 * Gets the local price of a good from the last update.
+	 * 
+	 * @param id
+	 * @return
+	 */
+	double getLocalPrice(int id) {
+		return priceCache.get(id);
+	}
+
 	
 	/**
 	 * Determines the value of a good. This recalculates the supply & demand.
@@ -408,7 +460,7 @@ public class GoodsManager implements Serializable {
 	 */
 	private double adjustMarketDemand(Good good, double demand) {
 		// Gets the market demand among the settlements
-		double currentMarket = getMarketData(0, good);
+		double currentMarket = getMarketData(MarketData.DEMAND, good);
 		double futureMarket = 0;
 
 		if (currentMarket == -1) {
@@ -420,7 +472,7 @@ public class GoodsManager implements Serializable {
 			else if (futureMarket < MIN_DEMAND)
 				futureMarket = MIN_DEMAND;
 			
-			setMarketData(0, good, futureMarket);	
+			setMarketData(MarketData.DEMAND, good, futureMarket);	
 			settlement.fireUnitUpdate(UnitEventType.MARKET_DEMAND_EVENT, good);
 			return 0;
 		}
@@ -434,7 +486,7 @@ public class GoodsManager implements Serializable {
 			else if (futureMarket < MIN_DEMAND)
 				futureMarket = MIN_DEMAND;
 			
-			setMarketData(0, good, futureMarket);
+			setMarketData(MarketData.DEMAND, good, futureMarket);
 			settlement.fireUnitUpdate(UnitEventType.MARKET_VALUE_EVENT, good);				
 			return futureMarket - currentMarket;
 		}
@@ -449,7 +501,7 @@ public class GoodsManager implements Serializable {
 	 */
 	private double adjustMarketValue(Good good, double value) {
 		// Gets the market value among the settlements
-		double currentMarket = getMarketData(1, good);
+		double currentMarket = getMarketData(MarketData.VALUE, good);
 		double futureMarket = 0;
 
 		if (currentMarket == -1) {
@@ -461,7 +513,7 @@ public class GoodsManager implements Serializable {
 			else if (futureMarket < MIN_VP)
 				futureMarket = MIN_VP;
 			
-			setMarketData(1, good, futureMarket);
+			setMarketData(MarketData.VALUE, good, futureMarket);
 			
 			return 0;
 		}
@@ -476,7 +528,7 @@ public class GoodsManager implements Serializable {
 			else if (futureMarket < MIN_VP)
 				futureMarket = MIN_VP;
 			
-			setMarketData(1, good, futureMarket);
+			setMarketData(MarketData.VALUE, good, futureMarket);
 			
 			return futureMarket - currentMarket;
 		}
@@ -567,6 +619,7 @@ public class GoodsManager implements Serializable {
 		// apply any weighting
 		value *= FACTOR_WEIGHTS.getOrDefault(type, 1D);
 		factors.put(type, value);
+		valuation.invalidate();
 	}
 
 	public double getCommerceFactor(CommerceType type) {
@@ -578,6 +631,7 @@ public class GoodsManager implements Serializable {
 	 */
 	public void resetCommerceFactors() {
 		factors.clear();
+		valuation.invalidate();
 	}
 
 	/**
@@ -653,14 +707,17 @@ public class GoodsManager implements Serializable {
 
 	public void setRepairPriority(int level) {
 		repairMod = computeModifier(BASE_REPAIR_PART, level);
+		valuation.invalidate();
 	}
 
 	public void setMaintenancePriority(int level) {
 		maintenanceMod = computeModifier(BASE_MAINT_PART, level);
+		valuation.invalidate();
 	}
 
 	public void setEVASuitPriority(int level) {
 		eVASuitMod = computeModifier(BASE_EVA_SUIT, level);
+		valuation.invalidate();
 	}
 
 	private static double computeModifier(int baseValue, int level) {
@@ -943,110 +1000,42 @@ public class GoodsManager implements Serializable {
 	 */
 	public void injectResourceDemand(int resourceID, double newDemand) {
 		// Inject a sudden change of demand
-		setDemandValue(GoodsUtil.getGood(resourceID), newDemand);
+		Good good = GoodsUtil.getGood(resourceID);
+		setDemandValue(good, newDemand);
+		valuation.markDirty(good);
 	}
 
 	/**
 	 * Gets a specific piece of market data of this good.
 	 * 
-	 * @return
+	 * @param index One of MarketData.DEMAND, VALUE, COST or PRICE
+	 * @param good
+	 * @return The value or -1 if it is not known
 	 */
 	public double getMarketData(int index, Good good) {
-
-		if (index == 0) {
-			if (marketMap.containsKey(good)) {
-				return marketMap.get(good).getDemand();
-			}
-		}
-		else if (index == 1) {
-			if (marketMap.containsKey(good)) {
-				return marketMap.get(good).getValue();
-			}		
-		}
-		else if (index == 2) {
-			if (marketMap.containsKey(good)) {
-				return marketMap.get(good).getCost();
-			}		
-		}
-		else if (index == 3) {
-			if (marketMap.containsKey(good)) {
-				return marketMap.get(good).getPrice();
-			}
-		}
-		
-		return -1;
+		return market.get(index, good.getID());
 	}
 
+	/**
+	 * Gets all the market data of a good in one consistent read.
+	 * 
+	 * @param good
+	 * @return
+	 */
+	public MarketData.Snapshot getMarketSnapshot(Good good) {
+		return market.getSnapshot(good.getID());
+	}
 	
 	/**
-	 * Updates a piece of market data.
+	 * Updates a piece of market data. The new data is blended into the current market.
+	 * This is safe to call from any settlement thread.
 	 * 
-	 * @param index
+	 * @param index One of MarketData.DEMAND, VALUE, COST or PRICE
 	 * @param good
 	 * @param data
 	 */
 	public static void setMarketData(int index, Good good, double data) {
-
-		if (index == 0) {
-			if (marketMap.containsKey(good)) {
-				MarketData mData = marketMap.get(good);
-				
-				synchronized (mData) {
-					double old = mData.getDemand();
-					if (old == -1) {
-						mData.setDemand(data);
-					}
-					else {
-						mData.setDemand(0.95 * old + 0.05 * data);
-					}				
-				}
-			}
-		}
-		else if (index == 1) {
-			if (marketMap.containsKey(good)) {
-				MarketData mData = marketMap.get(good);
-				
-				synchronized (mData) {
-					double old = mData.getValue();
-					if (old == -1) {
-						mData.setValue(data);
-					}
-					else {
-						mData.setValue(0.95 * old + 0.05 * data);
-					}
-				}
-			}		
-		}
-		else if (index == 2) {
-			if (marketMap.containsKey(good)) {
-				MarketData mData = marketMap.get(good);
-				
-				synchronized (mData) {
-					double old = mData.getCost();
-					if (old == -1) {
-						mData.setCost(data);
-					}
-					else {
-						mData.setCost(0.95 * old + 0.05 * data);
-					}
-				}
-			}		
-		}
-		else if (index == 3) {
-			if (marketMap.containsKey(good)) {
-				MarketData mData = marketMap.get(good);
-				
-				synchronized (mData) {
-					double old = mData.getPrice();
-					if (old == -1) {
-						mData.setPrice(data);
-					}
-					else {
-						mData.setPrice(0.95 * old + 0.05 * data);
-					}
-				}
-			}
-		}
+		market.update(index, good.getID(), data);
 	}
 
 	/**
@@ -1161,6 +1150,9 @@ public class GoodsManager implements Serializable {
 		deals = new EnumMap<>(MissionType.class);
 		buyList = Collections.emptyMap();
 		sellList = Collections.emptyMap();
+		if (valuation == null) {
+			valuation = new GoodsValuation();
+		}
 	}
 	
 	/**
@@ -1186,6 +1178,8 @@ public class GoodsManager implements Serializable {
 		goodsValues = null;
 		demandCache = null;
 		tradeCache = null;
+		costCache = null;
+		priceCache = null;
 
 		deflationIndexMap = null;
 
@@ -0,0 +1,261 @@
+/*
+ * Mars Simulation Project
+ * GoodsValuation.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.goods;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.mars_sim.core.food.FoodProductionUtil;
+import com.mars_sim.core.manufacture.ManufactureUtil;
+import com.mars_sim.core.person.ai.mission.Mission;
+import com.mars_sim.core.process.ProcessInfo;
+import com.mars_sim.core.process.ProcessItem;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.structure.building.Building;
+import com.mars_sim.core.structure.building.function.FunctionType;
+import com.mars_sim.core.structure.building.function.ResourceProcess;
+import com.mars_sim.core.structure.construction.ConstructionSite;
+import com.mars_sim.core.structure.construction.ConstructionStage;
+
+/**
+ * Decides which goods a settlement re-values in a cycle. A good is re-valued when the
+ * amount stored at the settlement changes, when its value is still settling, or when the
+ * value of a good made from it moves, since the demand for a process input is worked
+ * out from the value of the outputs.
+ * A part is also re-valued when the number of it needed for maintenance changes.
+ * Every good is re-valued when the settlement gains people, buildings, vehicles or robots,
+ * when its missions or construction sites change, and once a sol to pick up anything
+ * not tracked, such as the shared market and the demand at other settlements.
+ */
+class GoodsValuation implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Cycles between full re-valuations; a sol at 20 cycles a sol. */
+	private static final int FULL_PERIOD = 20;
+	/** Relative change in value that counts as still moving. */
+	private static final double SETTLED = 0.0005D;
+
+	/** Goods made into each good by manufacturing and food production. */
+	private static Map<Integer, Set<Integer>> processDependants;
+
+	/** Goods made into each good by the resource processes at the settlement. */
+	private transient Map<Integer, Set<Integer>> localDependants;
+
+	private HashMap<Integer, Double> lastStock = new HashMap<>();
+	private HashMap<Integer, Integer> lastParts = new HashMap<>();
+	private HashSet<Integer> dirty = new HashSet<>();
+	private int context = 0;
+	private int cycle = 0;
+	private int lastValued = 0;
+	private boolean fullRecompute = false;
+
+	/**
+	 * Selects the goods to re-value in this cycle.
+	 *
+	 * @param settlement
+	 * @return
+	 */
+	List<Good> selectGoods(Settlement settlement) {
+		List<Good> all = GoodsUtil.getGoodsList();
+
+		int newContext = getContext(settlement);
+		boolean full = fullRecompute || (cycle % FULL_PERIOD == 0) || (newContext != context);
+		if (newContext != context) {
+			context = newContext;
+			localDependants = null;
+		}
+		if (localDependants == null) {
+			localDependants = buildLocalDependants(settlement);
+		}
+		cycle++;
+		checkParts(settlement);
+
+		List<Good> selected = (full ? all : new ArrayList<>());
+		for (Good g : all) {
+			int id = g.getID();
+			double stock = getStock(settlement, g);
+			Double previous = lastStock.put(id, stock);
+			if (!full && (Double.isNaN(stock) || (previous == null)
+					|| (previous.doubleValue() != stock) || dirty.contains(id))) {
+				selected.add(g);
+			}
+		}
+		dirty.clear();
+
+		lastValued = selected.size();
+		return selected;
+	}
+
+	/**
+	 * Records the new value of a good. If it has moved, the good and those
+	 * made into it are re-valued next cycle.
+	 *
+	 * @param good
+	 * @param oldValue
+	 * @param newValue
+	 */
+	void recordValue(Good good, double oldValue, double newValue) {
+		double scale = Math.max(Math.abs(oldValue), Math.abs(newValue));
+		if (Math.abs(newValue - oldValue) > scale * SETTLED) {
+			int id = good.getID();
+			dirty.add(id);
+			dirty.addAll(getDependants(id));
+		}
+	}
+
+	/**
+	 * Marks a good to be re-valued next cycle.
+	 *
+	 * @param good
+	 */
+	void markDirty(Good good) {
+		dirty.add(good.getID());
+	}
+
+	/**
+	 * Forces every good to be re-valued next cycle.
+	 */
+	void invalidate() {
+		context = 0;
+	}
+
+	/**
+	 * Re-values every good in each cycle. Used to check the incremental values.
+	 *
+	 * @param full
+	 */
+	void setFullRecompute(boolean full) {
+		fullRecompute = full;
+	}
+
+	/**
+	 * Gets how many goods were selected in the last cycle.
+	 */
+	int getLastValued() {
+		return lastValued;
+	}
+
+	/**
+	 * Gets the goods whose demand depends on the value of a good because they are made into it.
+	 *
+	 * @param id Good id
+	 * @return
+	 */
+	Set<Integer> getDependants(int id) {
+		Set<Integer> global = getProcessDependants().getOrDefault(id, Collections.emptySet());
+		Set<Integer> local = (localDependants != null ? localDependants.get(id) : null);
+		if (local == null) {
+			return global;
+		}
+		Set<Integer> result = new HashSet<>(global);
+		result.addAll(local);
+		return result;
+	}
+
+	/**
+	 * Gets the amount of a good held at the settlement. Only resources are tracked; other
+	 * goods are few and are always re-valued.
+	 */
+	private static double getStock(Settlement settlement, Good good) {
+		return switch (good.getCategory()) {
+			case AMOUNT_RESOURCE -> settlement.getAmountResourceStored(good.getID());
+			case ITEM_RESOURCE -> settlement.getItemResourceStored(good.getID());
+			default -> Double.NaN;
+		};
+	}
+
+	/**
+	 * Marks the parts whose number needed for maintenance has changed.
+	 */
+	private void checkParts(Settlement settlement) {
+		Map<Integer, Integer> parts = settlement.getBuildingManager().getMaintenancePartsDemand();
+		if (parts.equals(lastParts)) {
+			return;
+		}
+		for (Map.Entry<Integer, Integer> e : parts.entrySet()) {
+			if (!e.getValue().equals(lastParts.get(e.getKey()))) {
+				dirty.add(e.getKey());
+			}
+		}
+		for (Integer id : lastParts.keySet()) {
+			if (!parts.containsKey(id)) {
+				dirty.add(id);
+			}
+		}
+		lastParts = new HashMap<>(parts);
+	}
+
+	/**
+	 * Gets a fingerprint of the shape of the settlement and of the work going on at it.
+	 */
+	private static int getContext(Settlement settlement) {
+		List<Mission> missions = (Good.missionManager != null
+				? Good.missionManager.getMissionsForSettlement(settlement) : Collections.emptyList());
+		List<ConstructionStage> stages = new ArrayList<>();
+		for (ConstructionSite site : settlement.getConstructionManager().getConstructionSites()) {
+			stages.add(site.getCurrentConstructionStage());
+		}
+		return Objects.hash(settlement.getNumCitizens(),
+				settlement.getBuildingManager().getNumBuildings(),
+				settlement.getAllAssociatedVehicles().size(),
+				settlement.getNumBots(),
+				missions, stages);
+	}
+
+	/**
+	 * Builds the links from the outputs of the manufacturing and food production processes
+	 * to their inputs.
+	 */
+	private static synchronized Map<Integer, Set<Integer>> getProcessDependants() {
+		if (processDependants == null) {
+			Map<Integer, Set<Integer>> links = new HashMap<>();
+			List<ProcessInfo> processes = new ArrayList<>(ManufactureUtil.getAllManufactureProcesses());
+			processes.addAll(FoodProductionUtil.getAllFoodProductionProcesses());
+			for (ProcessInfo p : processes) {
+				for (ProcessItem out : p.getOutputList()) {
+					Good output = FoodProductionUtil.getGood(out);
+					if (output != null) {
+						for (ProcessItem in : p.getInputList()) {
+							Good input = FoodProductionUtil.getGood(in);
+							if ((input != null) && (input != output)) {
+								links.computeIfAbsent(output.getID(), k -> new HashSet<>()).add(input.getID());
+							}
+						}
+					}
+				}
+			}
+			processDependants = links;
+		}
+		return processDependants;
+	}
+
+	/**
+	 * Builds the links from the outputs of the resource processes at a settlement to their inputs.
+	 */
+	private static Map<Integer, Set<Integer>> buildLocalDependants(Settlement settlement) {
+		Map<Integer, Set<Integer>> links = new HashMap<>();
+		for (Building b : settlement.getBuildingManager().getBuildingSet(FunctionType.RESOURCE_PROCESSING)) {
+			for (ResourceProcess p : b.getResourceProcessing().getProcesses()) {
+				for (int out : p.getOutputResources()) {
+					for (int in : p.getInputResources()) {
+						if (in != out) {
+							links.computeIfAbsent(out, k -> new HashSet<>()).add(in);
+						}
+					}
+				}
+			}
+		}
+		return links;
+	}
+}
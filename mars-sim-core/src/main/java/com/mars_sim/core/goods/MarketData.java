@@ -1,62 +1,180 @@
 /*
  * Mars Simulation Project
  * MarketData.java
- * @date 2024-09-21
+ * @date 2026-10-17
  * @author Manny Kung
  */
 
 package com.mars_sim.core.goods;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * The market data for all goods, shared by every settlement. The demand, value, cost and price
+ * of each good are held as primitive doubles in pages indexed by good id, so settlements
+ * updating the market from different threads never lock. Each update is a compare-and-set
+ * on the single entry it changes. A page is added with a compare-and-set the first time a good
+ * in its range is updated, so goods registered late are held like any other.
+ */
 public class MarketData implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
-    
-	/** Default logger. */
-	// May add back private static final SimLogger logger = SimLogger.getLogger(MarketData.class.getName());
 
-	private Good good;
-	
-	private double value = -1;
-	private double price = -1;
-	private double cost = -1;
-	private double demand = -1;
-	
-	
-	public MarketData(Good good) {
-		this.good = good;
-	}
+	/**
+	 * A consistent copy of the market data of one good.
+	 */
+	public record Snapshot(double demand, double value, double cost, double price) {}
 
-	public void setValue(double data) {
-		this.value = data;
-	}
+	public static final int DEMAND = 0;
+	public static final int VALUE = 1;
+	public static final int COST = 2;
+	public static final int PRICE = 3;
+
+	private static final int NUM_ITEMS = 4;
 
-	public void setPrice(double data) {
-		this.price = data;
+	/** Marks an entry that has not been set yet. */
+	static final double UNSET = -1;
+	/** The weight given to a new sample when it is blended into the market. */
+	static final double SAMPLE_WEIGHT = 0.05;
+
+	private static final long UNSET_BITS = Double.doubleToRawLongBits(UNSET);
+
+	/** Number of goods on a page. */
+	private static final int PAGE_GOODS = 256;
+	/** Number of pages, which bounds the highest good id. */
+	private static final int NUM_PAGES = 256;
+
+	/** The four items of a good sit next to each other on its page. */
+	private final AtomicReferenceArray<AtomicLongArray> pages = new AtomicReferenceArray<>(NUM_PAGES);
+
+	/**
+	 * Can this market hold a good ?
+	 * 
+	 * @param id
+	 * @return
+	 */
+	static boolean contains(int id) {
+		return (id >= 0) && (id < PAGE_GOODS * NUM_PAGES);
 	}
 
-	public void setDemand(double data) {
-		this.demand = data;
+	/**
+	 * Gets the page holding a good.
+	 * 
+	 * @param id
+	 * @param create Add the page if it does not exist yet
+	 * @return The page or null if it does not exist
+	 */
+	private AtomicLongArray getPage(int id, boolean create) {
+		int p = id / PAGE_GOODS;
+		AtomicLongArray page = pages.get(p);
+		if ((page == null) && create) {
+			AtomicLongArray newPage = new AtomicLongArray(PAGE_GOODS * NUM_ITEMS);
+			for (int i = 0; i < newPage.length(); i++) {
+				newPage.set(i, UNSET_BITS);
+			}
+			// Another thread may have added the page first; keep theirs so no update is lost
+			if (pages.compareAndSet(p, null, newPage)) {
+				page = newPage;
+			}
+			else {
+				page = pages.get(p);
+			}
+		}
+		return page;
 	}
 
-	public void setCost(double data) {
-		this.cost = data;
+	/**
+	 * Gets the position of an item of a good on its page.
+	 */
+	private static int getSlot(int id, int index) {
+		return (id % PAGE_GOODS) * NUM_ITEMS + index;
 	}
-	
-	public double getValue() {
-		return value;
+
+	/**
+	 * Gets an item of market data for a good.
+	 * 
+	 * @param index One of DEMAND, VALUE, COST or PRICE
+	 * @param id Good id
+	 * @return The value or -1 if it has not been set
+	 */
+	public double get(int index, int id) {
+		if (!contains(id) || index < 0 || index >= NUM_ITEMS) {
+			return UNSET;
+		}
+		AtomicLongArray page = getPage(id, false);
+		if (page == null) {
+			return UNSET;
+		}
+		return Double.longBitsToDouble(page.get(getSlot(id, index)));
 	}
 
-	public double getPrice() {
-		return price;
+	/**
+	 * Blends a new sample into an item of market data. The first sample is taken as it is.
+	 * 
+	 * @param index One of DEMAND, VALUE, COST or PRICE
+	 * @param id Good id
+	 * @param sample
+	 */
+	public void update(int index, int id, double sample) {
+		if (!contains(id) || index < 0 || index >= NUM_ITEMS) {
+			return;
+		}
+		AtomicLongArray page = getPage(id, true);
+		int slot = getSlot(id, index);
+		long oldBits;
+		long newBits;
+		do {
+			oldBits = page.get(slot);
+			double old = Double.longBitsToDouble(oldBits);
+			double blended = (old == UNSET ? sample : (1 - SAMPLE_WEIGHT) * old + SAMPLE_WEIGHT * sample);
+			newBits = Double.doubleToRawLongBits(blended);
+		}
+		while (!page.compareAndSet(slot, oldBits, newBits));
 	}
 
-	public double getDemand() {
-		return demand;
+	/**
+	 * Clears the market data of a good.
+	 * 
+	 * @param id
+	 */
+	void reset(int id) {
+		AtomicLongArray page = (contains(id) ? getPage(id, false) : null);
+		if (page != null) {
+			for (int i = 0; i < NUM_ITEMS; i++) {
+				page.set(getSlot(id, i), UNSET_BITS);
+			}
+		}
 	}
 
-	public double getCost() {
-		return cost;
+	/**
+	 * Gets a copy of the market data of a good. The items are read again if any of them
+	 * changes during the read.
+	 * 
+	 * @param id
+	 * @return
+	 */
+	public Snapshot getSnapshot(int id) {
+		AtomicLongArray page = (contains(id) ? getPage(id, false) : null);
+		if (page == null) {
+			return new Snapshot(UNSET, UNSET, UNSET, UNSET);
+		}
+		int base = getSlot(id, 0);
+		long[] bits = new long[NUM_ITEMS];
+		boolean stable;
+		do {
+			for (int i = 0; i < NUM_ITEMS; i++) {
+				bits[i] = page.get(base + i);
+			}
+			stable = true;
+			for (int i = 0; i < NUM_ITEMS && stable; i++) {
+				stable = (bits[i] == page.get(base + i));
+			}
+		}
+		while (!stable);
+
+		return new Snapshot(Double.longBitsToDouble(bits[DEMAND]), Double.longBitsToDouble(bits[VALUE]),
+							Double.longBitsToDouble(bits[COST]), Double.longBitsToDouble(bits[PRICE]));
 	}
 }
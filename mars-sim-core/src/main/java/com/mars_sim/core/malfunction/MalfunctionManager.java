@@ -48,6 +48,7 @@ import com.mars_sim.core.time.ClockPulse;
 import com.mars_sim.core.time.MarsTime;
 import com.mars_sim.core.time.MasterClock;
 import com.mars_sim.core.time.Temporal;
+import com.mars_sim.core.tool.HazardClock;
 import com.mars_sim.core.tool.RandomUtil;
 
 /**
@@ -179,6 +180,9 @@ public class MalfunctionManager implements Serializable, Temporal {
 	private Map<Integer, Integer> partsNeededForMaintenance;
 
 	private boolean supportInsideRepair = true;
+	/** Counts down to the next malfunction and the next need for maintenance parts. */
+	private HazardClock malfunctionClock = new HazardClock();
+	private HazardClock maintenanceClock = new HazardClock();
 
 	private static boolean noFailures = false;
 	private static MasterClock masterClock;
@@ -689,7 +693,7 @@ public class MalfunctionManager implements Serializable, Temporal {
 				
 			boolean hasMal = false;
 			// Check for malfunction due to lack of maintenance and wear condition.
-			if (time > 0 && RandomUtil.lessThanRandPercent(malfunctionProbability)) {
+			if (time > 0 && malfunctionClock.accrue(HazardClock.toHazard(malfunctionProbability / 100D))) {
 				// Reset delay back to MAX_DELAY. 
 				delay = MAX_DELAY;
 	
@@ -721,7 +725,7 @@ public class MalfunctionManager implements Serializable, Temporal {
 //			logger.info(entity, "maintenanceChance log10: " + Math.round(maintenanceChance * 100_000.0)/100_000.0 + " %");
 			
 			// Check for repair items needed due to lack of maintenance and wear condition.
-			if (time > 0 && RandomUtil.lessThanRandPercent(maintenanceProbability)) {
+			if (time > 0 && maintenanceClock.accrue(HazardClock.toHazard(maintenanceProbability / 100D))) {
 				// Reset delay back to MAX_DELAY. 
 				delay = MAX_DELAY;
 
@@ -79,6 +79,10 @@ import com.mars_sim.core.map.location.Coordinates;
 	private MapMetaData meta;
  	/* The OpenCL kernel instance. */
 	private CLKernel kernel;
+	/* The CPU projection of the color pixels. */
+	private MapProjection projection;
+	/* The reusable buffer for the projected colors. */
+	private int[] mapArray = new int[0];
 	
 	private BufferedImage bImageCache;
 
@@ -113,6 +117,19 @@ import com.mars_sim.core.map.location.Coordinates;
 			setKernel();
 		}
  	}
+
+	/**
+	 * Constructor for a map file that is already on disk. No OpenCL kernel is set up.
+	 *
+	 * @param mapMetaData Meta data describing this map stack
+	 * @param res The Resolution level in the map stack
+	 * @param dataFile Holds the source data
+	 */
+	IntegerMapData(MapMetaData mapMetaData, int res, File dataFile) {
+		this.meta = mapMetaData;
+		this.resolution = res;
+		loadMapData(dataFile);
+	}
  	
  	/**
  	 * Sets up the JOCL kernel program.
@@ -214,6 +231,8 @@ import com.mars_sim.core.map.location.Coordinates;
 				}
 	 		}
 
+			projection = new MapProjection(colorPixels);
+
 			// Update as ready
 	 		loaded = MapState.LOADED;
 			meta.setLocallyAvailable(resolution);
@@ -347,7 +366,7 @@ import com.mars_sim.core.map.location.Coordinates;
 	 * @param newRho The map rho
  	 */
  	@Override
- 	public Image createMapImage(Coordinates center, int mapBoxWidth, int mapBoxHeight, double newRho) {
+ 	public synchronized Image createMapImage(Coordinates center, int mapBoxWidth, int mapBoxHeight, double newRho) {
 		 
  		if (bImageCache != null && newRho == rhoCache
 				&& centerCache.equals(center))
@@ -367,8 +386,10 @@ import com.mars_sim.core.map.location.Coordinates;
  				
  		// Note: it turns out TYPE_INT_RGB works the best for gray map
  		
- 		// Create an array of int RGB color values to create the map image from.
- 		int[] mapArray = new int[mapBoxWidth * mapBoxHeight];
+ 		// Reuse the array of int RGB color values to create the map image from.
+ 		if (mapArray.length != mapBoxWidth * mapBoxHeight) {
+ 			mapArray = new int[mapBoxWidth * mapBoxHeight];
+ 		}
 		var rendered = hardwareAccel;
 		if (hardwareAccel) {
 			try {
@@ -380,11 +401,11 @@ import com.mars_sim.core.map.location.Coordinates;
 			}
 		}
 		if (!rendered) {
-			cpu0(centerPhi, centerTheta, mapBoxWidth, mapBoxHeight, newRho, mapArray);
+			cpu(centerPhi, centerTheta, mapBoxWidth, mapBoxHeight, newRho, mapArray);
 		}
 
 	 	// Gets the color pixels ready for the new projected map image in Mars Navigator.
-	 	setRGB(bImage, 0, 0, mapBoxWidth, mapBoxHeight, mapArray, 0, mapBoxHeight);
+	 	setRGB(bImage, 0, 0, mapBoxWidth, mapBoxHeight, mapArray);
 	
 	 	bImageCache = bImage;
 	 	
@@ -400,10 +421,8 @@ import com.mars_sim.core.map.location.Coordinates;
  	 * @param w
  	 * @param h
  	 * @param rgbArray
- 	 * @param offset
- 	 * @param scansize
  	 */
-    private void setRGB(BufferedImage bImage, int startX, int startY, int w, int h, int[] rgbArray, int offset, int scansize) {
+    private void setRGB(BufferedImage bImage, int startX, int startY, int w, int h, int[] rgbArray) {
 
     	// Note: Reference https://stackoverflow.com/questions/61130264/how-can-i-process-bufferedimage-faster
     	//       when attempting to speed up the processing
@@ -437,17 +456,9 @@ import com.mars_sim.core.map.location.Coordinates;
 		}
 			
 		else {
-			int yoff  = offset;
-			int off;
-			Object pixel = null;
-				
-			for (int y = startY; y < startY + h; y++, yoff += scansize) {
-				off = yoff;
-				for (int x = startX; x < startX + w; x++) {
-				    pixel = bImage.getColorModel().getDataElements(rgbArray[off++], pixel);
-				    bImage.getRaster().setDataElements(x, y, pixel);
-				}
-			}
+			// TYPE_INT_RGB stores the colors as they are, so copy the whole block in one call.
+			// The alpha byte is ignored by the color model.
+			bImage.getRaster().setDataElements(startX, startY, w, h, rgbArray);
 		}
 	}
  	
@@ -514,7 +525,22 @@ import com.mars_sim.core.map.location.Coordinates;
 	 }
 
 	/**
- 	 * Constructs a map array for display with CPU.
+	 * Constructs a map array for display with the parallel CPU projection.
+	 *
+	 * @param centerPhi
+	 * @param centerTheta
+	 * @param mapBoxWidth
+	 * @param mapBoxHeight
+	 * @param rho
+	 * @param mapArray
+	 */
+	void cpu(double centerPhi, double centerTheta, int mapBoxWidth, int mapBoxHeight, double rho, int[] mapArray) {
+		projection.project(centerPhi, centerTheta, mapBoxWidth, mapBoxHeight, rho, mapArray);
+	}
+
+	/**
+ 	 * Constructs a map array for display with CPU one pixel at a time.
+ 	 * Kept as the reference for {@link #cpu(double, double, int, int, double, int[])}.
  	 * 
  	 * @param centerPhi
  	 * @param centerTheta
@@ -523,7 +549,7 @@ import com.mars_sim.core.map.location.Coordinates;
  	 * @param mapArray
  	 * @param scale
  	 */
-	 private void cpu0(double centerPhi, double centerTheta, int mapBoxWidth, int mapBoxHeight, double rho, int[] mapArray) {
+	 void cpu0(double centerPhi, double centerTheta, int mapBoxWidth, int mapBoxHeight, double rho, int[] mapArray) {
 		 int halfWidth = mapBoxWidth / 2;
 		 int halfHeight = mapBoxHeight / 2;
 
@@ -823,6 +849,7 @@ import com.mars_sim.core.map.location.Coordinates;
 	 */
 	public void destroy() {
 	 	colorPixels = null;
+	 	projection = null;
 	 	meta = null;
 		kernel = null;
 	}
@@ -0,0 +1,169 @@
+/*
+ * Mars Simulation Project
+ * MapProjection.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.map;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Projects a cylindrical color map onto a globe on the CPU. This is the fallback when
+ * OpenCL is not available. The rows of the output are shared out over the common
+ * fork-join pool. The trig of the center is worked out once per call and the
+ * per-column terms once per column, so each pixel only needs a square root, an
+ * acos and an atan2, and nothing is allocated per pixel.
+ * The result matches {@link IntegerMapData#convertRectIntToSpherical(int, int, double, double, double)}
+ * followed by {@link IntegerMapData#getRGBColorInt(double, double)}.
+ */
+class MapProjection {
+
+	private static final double TWO_PI = Math.PI * 2;
+
+	/** Rows below which a band is not split any further. */
+	private static final int MIN_ROWS = 16;
+
+	private int[][] colorPixels;
+	private double rowScale;
+	private double columnScale;
+
+	// Per-column terms, kept between calls
+	private double[] xCosTheta = new double[0];
+	private double[] xSinTheta = new double[0];
+	private double[] xSquared = new double[0];
+
+	/**
+	 * Creates a projection of a color map.
+	 *
+	 * @param colorPixels The map colors by row and column
+	 */
+	MapProjection(int[][] colorPixels) {
+		this.colorPixels = colorPixels;
+		this.rowScale = colorPixels.length / Math.PI;
+		this.columnScale = colorPixels[0].length / TWO_PI;
+	}
+
+	/**
+	 * Projects the map around a center point.
+	 *
+	 * @param centerPhi
+	 * @param centerTheta
+	 * @param mapBoxWidth
+	 * @param mapBoxHeight
+	 * @param rho The map rho
+	 * @param mapArray Output colors, one row after another
+	 */
+	synchronized void project(double centerPhi, double centerTheta, int mapBoxWidth, int mapBoxHeight,
+			double rho, int[] mapArray) {
+		if (xSquared.length != mapBoxWidth) {
+			xCosTheta = new double[mapBoxWidth];
+			xSinTheta = new double[mapBoxWidth];
+			xSquared = new double[mapBoxWidth];
+		}
+
+		double cosTheta = Math.cos(centerTheta);
+		double sinTheta = Math.sin(centerTheta);
+		int halfWidth = mapBoxWidth / 2;
+		for (int col = 0; col < mapBoxWidth; col++) {
+			int x = col - halfWidth;
+			xCosTheta[col] = x * cosTheta;
+			xSinTheta[col] = x * sinTheta;
+			xSquared[col] = (double) x * x;
+		}
+
+		var rows = new RowBand(centerPhi, cosTheta, sinTheta, mapBoxWidth, mapBoxHeight, rho, mapArray,
+								0, mapBoxHeight);
+		ForkJoinPool.commonPool().invoke(rows);
+	}
+
+	/**
+	 * A band of rows in the output that splits in half until it is small.
+	 */
+	@SuppressWarnings("serial")
+	private class RowBand extends RecursiveAction {
+		private double centerPhi;
+		private double cosTheta;
+		private double sinTheta;
+		private int width;
+		private int height;
+		private double rho;
+		private int[] mapArray;
+		private int firstRow;
+		private int lastRow;
+
+		RowBand(double centerPhi, double cosTheta, double sinTheta, int width, int height, double rho,
+				int[] mapArray, int firstRow, int lastRow) {
+			this.centerPhi = centerPhi;
+			this.cosTheta = cosTheta;
+			this.sinTheta = sinTheta;
+			this.width = width;
+			this.height = height;
+			this.rho = rho;
+			this.mapArray = mapArray;
+			this.firstRow = firstRow;
+			this.lastRow = lastRow;
+		}
+
+		@Override
+		protected void compute() {
+			if (lastRow - firstRow <= MIN_ROWS) {
+				projectRows();
+			}
+			else {
+				int middle = (firstRow + lastRow) >>> 1;
+				invokeAll(new RowBand(centerPhi, cosTheta, sinTheta, width, height, rho, mapArray,
+										firstRow, middle),
+						new RowBand(centerPhi, cosTheta, sinTheta, width, height, rho, mapArray,
+										middle, lastRow));
+			}
+		}
+
+		private void projectRows() {
+			double cosPhi = Math.cos(centerPhi);
+			double sinPhi = Math.sin(centerPhi);
+			double rhoSquared = rho * rho;
+			int halfHeight = height / 2;
+			int maxRow = colorPixels.length - 1;
+			int maxColumn = colorPixels[0].length - 1;
+
+			for (int row = firstRow; row < lastRow; row++) {
+				int y = row - halfHeight;
+				double yCosPhi = y * cosPhi;
+				double ySinPhi = y * sinPhi;
+				double remaining = rhoSquared - ((double) y * y);
+				int index = row * width;
+
+				for (int col = 0; col < width; col++, index++) {
+					double zSquared = remaining - xSquared[col];
+					if (zSquared < 0D) {
+						// Off the globe
+						mapArray[index] = 0;
+						continue;
+					}
+					double z = Math.sqrt(zSquared);
+
+					double y2 = yCosPhi + (z * sinPhi);
+					double z2 = (z * cosPhi) - ySinPhi;
+					double x3 = xCosTheta[col] + (y2 * sinTheta);
+					double y3 = (y2 * cosTheta) - xSinTheta[col];
+
+					double phi = Math.acos(Math.max(-1D, Math.min(1D, z2 / rho)));
+					double theta = Math.atan2(x3, y3);
+					if (theta < 0D) {
+						theta += TWO_PI;
+					}
+
+					int mapRow = (int) Math.round(phi * rowScale);
+					if (mapRow > maxRow)
+						mapRow = maxRow;
+					int mapColumn = (int) Math.round(theta * columnScale);
+					if (mapColumn > maxColumn)
+						mapColumn = maxColumn;
+
+					mapArray[index] = colorPixels[mapRow][mapColumn];
+				}
+			}
+		}
+	}
+}
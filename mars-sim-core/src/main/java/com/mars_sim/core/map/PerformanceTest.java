@@ -14,7 +14,9 @@ import java.awt.image.ImageObserver;
 import java.awt.image.PixelGrabber;
 import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.List;
 
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
@@ -30,7 +32,7 @@ public class PerformanceTest {
 	
 	private static BufferedImage hugeImage;
 	
-	public static void main(String[] args) throws IOException {
+	public static void main(String[] args) throws IOException, URISyntaxException {
 		hugeImage = ImageIO.read(imageMapURL);
 		
 		// Note: TYPE_4BYTE_ABGR : 6  , // TYPE_3BYTE_BGR : 5
@@ -41,6 +43,9 @@ public class PerformanceTest {
 		
 		// Test the execution speed of each method
 		test();
+
+		// Compare the CPU map projections
+		testProjection();
 		
 		// Output an jpg image with or without alpha channel : reproduceImage(hugeImage);
 	}
@@ -105,6 +110,50 @@ public class PerformanceTest {
 		}
 	}
 
+	/**
+	 * Times the per-pixel CPU map projection against the parallel one and counts
+	 * the pixels where they differ. Both a whole globe and a zoomed view are used.
+	 */
+	public static void testProjection() throws URISyntaxException {
+		var meta = new MapMetaData(MAP, MAP, true, List.of(MAP));
+		var mapData = new IntegerMapData(meta, 0, new File(imageMapURL.toURI()));
+		int size = 600;
+		int[] expected = new int[size * size];
+		int[] actual = new int[size * size];
+
+		for (double rho : new double[] {size / Math.PI, mapData.getRhoDefault() * 2}) {
+			System.out.println("");
+			System.out.println(String.format("Testing projection with rho %.1f:", rho));
+			long serial = 0;
+			long parallel = 0;
+			int differ = 0;
+			for (int i = 0; i < 20; i++) {
+				double phi = 0.3 + (i * 0.12);
+				double theta = i * 0.31;
+
+				long startTime = System.nanoTime();
+				mapData.cpu0(phi, theta, size, size, rho, expected);
+				long midTime = System.nanoTime();
+				mapData.cpu(phi, theta, size, size, rho, actual);
+				long endTime = System.nanoTime();
+
+				// Skip the warm up
+				if (i >= 5) {
+					serial += midTime - startTime;
+					parallel += endTime - midTime;
+				}
+				for (int p = 0; p < expected.length; p++) {
+					if (expected[p] != actual[p]) {
+						differ++;
+					}
+				}
+			}
+			System.out.println("cpu0 : " + toString(serial / 15));
+			System.out.println("cpu  : " + toString(parallel / 15));
+			System.out.println(String.format("Pixels differ : %d of %d", differ, 20 * expected.length));
+		}
+	}
+
 	public static void printGrabberArray() {
 		
 		ImageIcon mapIcon = new ImageIcon(imageMapURL);
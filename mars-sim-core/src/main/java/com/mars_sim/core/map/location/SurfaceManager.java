@@ -1,53 +1,101 @@
 /*
  * Mars Simulation Project
  * SurfaceManager.java
- * @date 2024-10-02
+ * @date 2026-10-17
  * @author Barry Evans
  */
 package com.mars_sim.core.map.location;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * This class manages a collection of SurfaceFeatures on the surface of Mars.
- * These are held in a tiled internal structure based on the Coordinates
- * giving it optimised lookup on Coordinate.
+ * These are held in a quad-tree over the sphere. The top level has 2 cells covering
+ * the two halves of longitude; each level splits a cell into 4 by halving the latitude
+ * and longitude ranges. Features are held in the cells of the lowest level, and every
+ * level keeps a count of the features under each cell.
+ * A lookup on a Coordinate goes straight to its cell. A range search only visits the cells
+ * whose bounds can reach the search area and skips any that are empty.
  */
 public class SurfaceManager<T extends SurfacePOI> implements Serializable {
 
-    private static final int LATITUDE_SLICES = 6;
-    private static final double LATITUDE_RANGE = Math.PI/LATITUDE_SLICES;
+    private static final long serialVersionUID = 1L;
 
-    @SuppressWarnings("unchecked")
-    private List<T>[] slices = new List[LATITUDE_SLICES];
+    /** The lowest level of the tree; the cells are just under 3 degrees across. */
+    private static final int LEAF_LEVEL = 6;
+    /** Number of latitude bands reported by getStats. */
+    private static final int STATS_LEVEL = 3;
+    /** Allows for rounding when testing cell bounds. */
+    private static final double MARGIN = 1E-9;
+
+    private static final double TWO_PI = Math.PI * 2;
+
+    /** Counts of the features under each cell, by level. */
+    private int[][] counts = new int[LEAF_LEVEL + 1][];
 
+    private List<T>[] leaves;
+
+    @SuppressWarnings("unchecked")
     public SurfaceManager() {
-        Arrays.setAll(slices, element -> new ArrayList<>());
+        for(int level = 0; level <= LEAF_LEVEL; level++) {
+            counts[level] = new int[getRows(level) * getColumns(level)];
+        }
+        leaves = new List[counts[LEAF_LEVEL].length];
     }
 
-    public void addFeature(T newFeature) {
-        // select the best collection 
-        int subId = getSlice(newFeature.getCoordinates().getPhi());
-        slices[subId].add(newFeature);
+    private static int getRows(int level) {
+        return 1 << level;
+    }
+
+    private static int getColumns(int level) {
+        return 2 << level;
     }
 
     /**
-     * Select the best slicer based on the Coordinate. This is based on the Latitude (phi)
-     * @param phi Lantitude phi vlaue
+     * Gets the row of a latitude (phi) at a level.
+     * 
+     * @param phi Latitude phi value
+     * @param level
      * @return
      */
-    private int getSlice(double phi) {
-        int idx = (int)(phi/LATITUDE_RANGE);
-        if (idx < 0) {
-            return 0;
+    private static int getRow(double phi, int level) {
+        int rows = getRows(level);
+        int idx = (int)(phi * rows / Math.PI);
+        return Math.max(0, Math.min(rows - 1, idx));
+    }
+
+    /**
+     * Gets the column of a longitude (theta) at a level.
+     * 
+     * @param theta Longitude theta value
+     * @param level
+     * @return
+     */
+    private static int getColumn(double theta, int level) {
+        int cols = getColumns(level);
+        int idx = (int)(theta * cols / TWO_PI);
+        return Math.max(0, Math.min(cols - 1, idx));
+    }
+
+    private static int getLeaf(Coordinates location) {
+        return getRow(location.getPhi(), LEAF_LEVEL) * getColumns(LEAF_LEVEL)
+                    + getColumn(location.getTheta(), LEAF_LEVEL);
+    }
+
+    public void addFeature(T newFeature) {
+        var location = newFeature.getCoordinates();
+        int leaf = getLeaf(location);
+        if (leaves[leaf] == null) {
+            leaves[leaf] = new ArrayList<>(2);
         }
-        else if (idx >= slices.length) {
-            return slices.length-1;
+        leaves[leaf].add(newFeature);
+
+        for(int level = 0; level <= LEAF_LEVEL; level++) {
+            counts[level][getRow(location.getPhi(), level) * getColumns(level)
+                            + getColumn(location.getTheta(), level)]++;
         }
-        return idx;
     }
 
     /**
@@ -56,10 +104,15 @@ public class SurfaceManager<T extends SurfacePOI> implements Serializable {
      * @return
      */
     public T getFeature(Coordinates newLocation) {
-        var top = getSlice(newLocation.getPhi());
-        return slices[top].stream()
-                .filter(c -> c.getCoordinates().equals(newLocation))
-                .findFirst().orElse(null);
+        var leaf = leaves[getLeaf(newLocation)];
+        if (leaf != null) {
+            for(T c : leaf) {
+                if (c.getCoordinates().equals(newLocation)) {
+                    return c;
+                }
+            }
+        }
+        return null;
     }
 
     /**
@@ -69,30 +122,80 @@ public class SurfaceManager<T extends SurfacePOI> implements Serializable {
      * @return
      */
     public List<T> getFeatures(Coordinates center, double arcAngle) {
-        // Find the source the sublists based on the 4 points
-        var top = getSlice(center.getPhi() + arcAngle);
-        var bottom = getSlice(center.getPhi() - arcAngle);
-
         List<T> result = new ArrayList<>();
-        for(int i = bottom; i <= top; i++) {
-            result.addAll(
-                slices[i].stream()
-                    .filter(c -> center.getAngle(c.getCoordinates()) <= arcAngle)
-                    .toList()
-            );
+
+        // Widest longitude difference that can be in range. Covers everything if
+        // the range reaches a pole.
+        double phi = center.getPhi();
+        double thetaRange = Math.PI;
+        if ((phi - arcAngle > 0) && (phi + arcAngle < Math.PI)) {
+            thetaRange = Math.asin(Math.min(1D, Math.sin(arcAngle) / Math.sin(phi))) + MARGIN;
         }
 
+        for(int col = 0; col < getColumns(0); col++) {
+            search(0, 0, col, center, arcAngle, thetaRange, result);
+        }
         return result;
     }
 
     /**
-     * Get the distribution of details per slice. 
-     * @return Array of the number of items in each slice
+     * Searches a cell and the cells below it.
+     */
+    private void search(int level, int row, int col, Coordinates center, double arcAngle,
+                            double thetaRange, List<T> result) {
+        int cols = getColumns(level);
+        if (counts[level][row * cols + col] == 0) {
+            return;
+        }
+
+        // Latitude bounds
+        double phiSize = Math.PI / getRows(level);
+        double phiMin = row * phiSize;
+        double phi = center.getPhi();
+        if ((phi < phiMin - arcAngle - MARGIN) || (phi > phiMin + phiSize + arcAngle + MARGIN)) {
+            return;
+        }
+
+        // Longitude bounds
+        if (thetaRange < Math.PI) {
+            double thetaSize = TWO_PI / cols;
+            double diff = Math.abs((col + 0.5) * thetaSize - center.getTheta()) % TWO_PI;
+            if (diff > Math.PI) {
+                diff = TWO_PI - diff;
+            }
+            if (diff > thetaSize/2 + thetaRange) {
+                return;
+            }
+        }
+
+        if (level == LEAF_LEVEL) {
+            for(T c : leaves[row * cols + col]) {
+                if (center.getAngle(c.getCoordinates()) <= arcAngle) {
+                    result.add(c);
+                }
+            }
+            return;
+        }
+
+        for(int r = row * 2; r <= row * 2 + 1; r++) {
+            for(int c = col * 2; c <= col * 2 + 1; c++) {
+                search(level + 1, r, c, center, arcAngle, thetaRange, result);
+            }
+        }
+    }
+
+    /**
+     * Get the distribution of details per latitude band. 
+     * @return Array of the number of items in each band
      */
     public int[] getStats() {
-        int[] result = new int[slices.length];
-        for(int i = 0; i < slices.length; i++) {
-            result[i] = slices[i].size();
+        int rows = getRows(STATS_LEVEL);
+        int cols = getColumns(STATS_LEVEL);
+        int[] result = new int[rows];
+        for(int i = 0; i < rows; i++) {
+            for(int j = 0; j < cols; j++) {
+                result[i] += counts[STATS_LEVEL][i * cols + j];
+            }
         }
         return result;
     }
@@ -0,0 +1,323 @@
+/*
+ * Mars Simulation Project
+ * ElevationPyramid.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.map.megdr;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import com.mars_sim.core.map.location.Coordinates;
+
+/**
+ * A pyramid of the MEGDR elevations at falling resolutions. Level 0 is the MEGDR data and
+ * each level above averages 2 by 2 points of the one below. Elevations are interpolated
+ * bilinearly between the four points around a location, and the slope comes from the same
+ * four points, so a query at any level of detail is one cell lookup.
+ * The coarser levels are built once from the MEGDR data and kept in a file beside it that
+ * is memory mapped on later runs. The file holds a checksum of the MEGDR data it was built
+ * from, so it is built again if the data is replaced by another of the same size.
+ */
+public class ElevationPyramid {
+
+	private static final Logger logger = Logger.getLogger(ElevationPyramid.class.getName());
+
+	/** Marks a pyramid file. */
+	private static final int MAGIC = 0x4D4C4F44;
+	private static final int HEADER_BYTES = 24;
+	/** The coarsest level has at least this many rows. */
+	private static final int MIN_ROWS = 45;
+	/** Stops the width of a column vanishing at the poles. */
+	private static final double MIN_COLUMN_KM = 0.01;
+
+	/**
+	 * The elevation at a location and its slopes.
+	 *
+	 * @param elevation Elevation in km
+	 * @param northSlope Rise in km per km travelled north
+	 * @param eastSlope Rise in km per km travelled east
+	 */
+	public record Sample(double elevation, double northSlope, double eastSlope) {
+
+		/**
+		 * Gets the slope in a direction.
+		 *
+		 * @param sinDirection Sine of the direction where 0 is north
+		 * @param cosDirection Cosine of the direction
+		 * @return Rise in km per km travelled
+		 */
+		public double getSlope(double sinDirection, double cosDirection) {
+			return eastSlope * sinDirection + northSlope * cosDirection;
+		}
+	}
+
+	private MEGDRMapReader source;
+	private int[] widths;
+	private int[] heights;
+	/** Start of each level above 0 in the buffer. */
+	private int[] offsets;
+	private ShortBuffer levels;
+	private double kmPerRow;
+	/** Checksum of the MEGDR data the levels are built from. */
+	private long checksum;
+
+	/**
+	 * Creates a pyramid over a MEGDR reader.
+	 *
+	 * @param source The MEGDR data
+	 * @param cacheFile File holding the coarser levels; may be null to hold them in memory
+	 */
+	public ElevationPyramid(MEGDRMapReader source, File cacheFile) {
+		this.source = source;
+		this.kmPerRow = Math.PI * Coordinates.MARS_RADIUS_KM / source.getHeight();
+
+		int numLevels = 1;
+		for (int h = source.getHeight(); ((h + 1) / 2) >= MIN_ROWS; h = (h + 1) / 2) {
+			numLevels++;
+		}
+		widths = new int[numLevels];
+		heights = new int[numLevels];
+		offsets = new int[numLevels];
+		widths[0] = source.getWidth();
+		heights[0] = source.getHeight();
+		int total = 0;
+		for (int l = 1; l < numLevels; l++) {
+			widths[l] = (widths[l - 1] + 1) / 2;
+			heights[l] = (heights[l - 1] + 1) / 2;
+			offsets[l] = total;
+			total += widths[l] * heights[l];
+		}
+
+		if (cacheFile != null) {
+			checksum = computeChecksum();
+		}
+		levels = load(cacheFile, total);
+		if (levels == null) {
+			short[] data = build(total);
+			levels = save(cacheFile, data);
+		}
+	}
+
+	/**
+	 * Gets the number of levels including the MEGDR data.
+	 */
+	public int getNumLevels() {
+		return heights.length;
+	}
+
+	/**
+	 * Gets the level whose points are about a distance apart.
+	 *
+	 * @param scaleKm Distance between points that matters
+	 * @return
+	 */
+	public int getLevel(double scaleKm) {
+		int level = 0;
+		double spacing = kmPerRow * 2;
+		while ((spacing <= scaleKm) && (level < heights.length - 1)) {
+			level++;
+			spacing *= 2;
+		}
+		return level;
+	}
+
+	/**
+	 * Samples the elevation and slope at a location at the level of detail for a scale.
+	 *
+	 * @param phi
+	 * @param theta
+	 * @param scaleKm Distance between points that matters
+	 * @return
+	 */
+	public Sample sample(double phi, double theta, double scaleKm) {
+		return sample(phi, theta, getLevel(scaleKm));
+	}
+
+	/**
+	 * Samples the elevation and slope at a location at a level.
+	 *
+	 * @param phi
+	 * @param theta
+	 * @param level
+	 * @return
+	 */
+	public Sample sample(double phi, double theta, int level) {
+		int h = heights[level];
+		int w = widths[level];
+		int factor = 1 << level;
+
+		// Position in points of this level; point centres of level 0 are at whole numbers
+		double r = (phi * heights[0] / Math.PI - (factor - 1) / 2D) / factor;
+		double c = (theta * widths[0] / (2 * Math.PI) - (factor - 1) / 2D) / factor;
+		r = Math.max(0, Math.min(h - 1, r));
+
+		int r0 = (int) r;
+		int r1 = Math.min(r0 + 1, h - 1);
+		double fr = r - r0;
+		double cFloor = Math.floor(c);
+		int c0 = Math.floorMod((int) cFloor, w);
+		int c1 = (c0 + 1) % w;
+		double fc = c - cFloor;
+
+		double z00 = getValue(level, r0, c0);
+		double z01 = getValue(level, r0, c1);
+		double z10 = getValue(level, r1, c0);
+		double z11 = getValue(level, r1, c1);
+
+		double elevation = (1 - fr) * ((1 - fc) * z00 + fc * z01) + fr * ((1 - fc) * z10 + fc * z11);
+		double perRow = (1 - fc) * (z10 - z00) + fc * (z11 - z01);
+		double perColumn = (1 - fr) * (z01 - z00) + fr * (z11 - z10);
+
+		// Rows run south and the columns east
+		double rowKm = kmPerRow * factor;
+		double columnKm = Math.max(MIN_COLUMN_KM,
+						2 * Math.PI * Coordinates.MARS_RADIUS_KM * Math.sin(phi) * factor / widths[0]);
+
+		// Elevations are in metres
+		return new Sample(elevation / 1000D, -perRow / 1000D / rowKm, perColumn / 1000D / columnKm);
+	}
+
+	private double getValue(int level, int row, int column) {
+		if (level == 0) {
+			return source.getElevation(row * widths[0] + column);
+		}
+		return levels.get(offsets[level] + row * widths[level] + column);
+	}
+
+	/**
+	 * Builds the levels above 0 by averaging the level below.
+	 */
+	private short[] build(int total) {
+		logger.info("Building elevation levels from " + widths[0] + " by " + heights[0] + ".");
+		short[] data = new short[total];
+		for (int l = 1; l < heights.length; l++) {
+			int below = l - 1;
+			for (int row = 0; row < heights[l]; row++) {
+				int ra = 2 * row;
+				int rb = Math.min(ra + 1, heights[below] - 1);
+				for (int col = 0; col < widths[l]; col++) {
+					int ca = 2 * col;
+					int cb = Math.min(ca + 1, widths[below] - 1);
+					double sum = getBuilt(data, below, ra, ca) + getBuilt(data, below, ra, cb)
+								+ getBuilt(data, below, rb, ca) + getBuilt(data, below, rb, cb);
+					data[offsets[l] + row * widths[l] + col] = (short) Math.round(sum / 4);
+				}
+			}
+		}
+		return data;
+	}
+
+	private double getBuilt(short[] data, int level, int row, int column) {
+		if (level == 0) {
+			return source.getElevation(row * widths[0] + column);
+		}
+		return data[offsets[level] + row * widths[level] + column];
+	}
+
+	/**
+	 * Works out a checksum of the MEGDR data a row at a time.
+	 */
+	private long computeChecksum() {
+		CRC32C crc = new CRC32C();
+		ByteBuffer row = ByteBuffer.allocate(2 * widths[0]);
+		for (int r = 0; r < heights[0]; r++) {
+			row.clear();
+			for (int c = 0; c < widths[0]; c++) {
+				row.putShort(source.getElevation(r * widths[0] + c));
+			}
+			row.flip();
+			crc.update(row);
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * Maps the levels from a file built before, if it matches the source.
+	 */
+	private ShortBuffer load(File cacheFile, int total) {
+		if ((cacheFile == null) || (cacheFile.length() != HEADER_BYTES + 2L * total)) {
+			return null;
+		}
+
+		try (RandomAccessFile file = new RandomAccessFile(cacheFile, "r")) {
+			if ((file.readInt() != MAGIC) || (file.readInt() != widths[0])
+					|| (file.readInt() != heights[0]) || (file.readInt() != heights.length)
+					|| (file.readLong() != checksum)) {
+				return null;
+			}
+			// The mapping stays valid once the file is closed
+			return file.getChannel().map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, 2L * total)
+								.asShortBuffer();
+		}
+		catch (IOException ioe) {
+			logger.warning("Problem reading elevation levels " + ioe.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Saves the levels to a file and maps it. If it can not be saved the levels stay in memory.
+	 * The levels are written to a temporary file that is then renamed, so a crash part way
+	 * through never leaves a cut short file in place.
+	 */
+	private ShortBuffer save(File cacheFile, short[] data) {
+		if (cacheFile != null) {
+			Path target = cacheFile.toPath();
+			Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+			try {
+				ByteBuffer bytes = ByteBuffer.allocate(HEADER_BYTES + 2 * data.length);
+				bytes.putInt(MAGIC).putInt(widths[0]).putInt(heights[0]).putInt(heights.length)
+						.putLong(checksum);
+				bytes.asShortBuffer().put(data);
+				bytes.rewind();
+				try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+									StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+					while (bytes.hasRemaining()) {
+						channel.write(bytes);
+					}
+					channel.force(true);
+				}
+				moveInto(temp, target);
+
+				ShortBuffer mapped = load(cacheFile, data.length);
+				if (mapped != null) {
+					return mapped;
+				}
+			}
+			catch (IOException ioe) {
+				logger.warning("Problem saving elevation levels " + ioe.getMessage());
+				try {
+					Files.deleteIfExists(temp);
+				}
+				catch (IOException e) {
+					// Left for the next save to overwrite
+				}
+			}
+		}
+		return ShortBuffer.wrap(data);
+	}
+
+	/**
+	 * Renames a file over another, atomically where the file system allows it.
+	 */
+	private static void moveInto(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -6,29 +6,44 @@
  */
 package com.mars_sim.core.map.megdr;
 
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Logger;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-
 /**
- * This is a reader where the selected elevation values are cached for later reuse.
+ * This is a reader where the elevation values are loaded in tiles and cached for later reuse.
+ * A tile is a run of neighbouring points along a row of the map. The cache is a fixed table
+ * of tiles where each tile can only sit in one slot, so a lookup is a single array read and
+ * the elevations are held as primitives. Tiles never change once loaded, so readers on
+ * different threads need no locking; two threads missing on the same tile both load it.
  */
 public abstract class MEGDRCachedReader extends MEGDRMapReader {
 
     private static final Logger logger = Logger.getLogger(MEGDRCachedReader.class.getName());
-    	
-	private Cache<Integer, Integer> cache;
-	private int requests = 0;
-	private int hits = 0;
 
-    protected MEGDRCachedReader(int maximumEntries, int maxIdleMinutes) {
-		
-		cache = CacheBuilder.newBuilder()
-								.maximumSize(maximumEntries)
-								.expireAfterAccess(maxIdleMinutes, TimeUnit.MINUTES)
-								.build();
+	/** Points held in a tile. */
+	static final int TILE_SIZE = 128;
+	private static final int TILE_BITS = Integer.numberOfTrailingZeros(TILE_SIZE);
+
+	/**
+	 * A tile of elevations starting at the index key * TILE_SIZE.
+	 */
+	private record Tile(int key, short[] data) {}
+
+	private AtomicReferenceArray<Tile> tiles;
+	private int slotMask;
+
+	private AtomicInteger loads = new AtomicInteger();
+
+	/**
+	 * Creates a reader.
+	 * 
+	 * @param maximumTiles Number of tiles held; rounded up to a power of 2
+	 */
+    protected MEGDRCachedReader(int maximumTiles) {
+		int slots = Integer.highestOneBit(Math.max(1, maximumTiles - 1)) << 1;
+		tiles = new AtomicReferenceArray<>(slots);
+		slotMask = slots - 1;
 	}
 
 	/**
@@ -36,31 +51,56 @@ public abstract class MEGDRCachedReader extends MEGDRMapReader {
 	 * 
 	 * @param index Index to the data.
 	 */
+	@Override
     protected short getElevation(int index) {
-		short result = 0;
-		requests++;
-		Integer value = cache.getIfPresent(index);
-		if (value != null) {
-			result = value.shortValue();
-			hits++;
+		return getTile(index >>> TILE_BITS).data[index & (TILE_SIZE - 1)];
+	}
+
+	/**
+	 * Gets the elevations at a number of locations. Neighbouring locations often share a tile
+	 * so the last tile is checked first.
+	 */
+	@Override
+	public void getElevations(double[] phi, double[] theta, short[] result) {
+		Tile last = null;
+		for (int i = 0; i < result.length; i++) {
+			int index = getIndex(phi[i], theta[i]);
+			int key = index >>> TILE_BITS;
+			if ((last == null) || (last.key != key)) {
+				last = getTile(key);
+			}
+			result[i] = last.data[index & (TILE_SIZE - 1)];
 		}
-		else {
-			result = loadElevation(index);
-			cache.put(index, Integer.valueOf(result));
+	}
+
+	private Tile getTile(int key) {
+		int slot = key & slotMask;
+		Tile t = tiles.get(slot);
+		if ((t == null) || (t.key != key)) {
+			t = loadTile(key);
+			tiles.set(slot, t);
 		}
+		return t;
+	}
+
+	private Tile loadTile(int key) {
+		int start = key << TILE_BITS;
+		short[] data = new short[TILE_SIZE];
+		loadElevations(start, data, Math.min(TILE_SIZE, getNumPoints() - start));
 
-		if (requests % 10000 == 0) {
-			logger.fine("MEGDR Cache hit rate " + ((100 * hits)/requests)  + "%, requests="
-						+ requests + ", size=" + cache.size());
+		int count = loads.incrementAndGet();
+		if (count % 10000 == 0) {
+			logger.fine("MEGDR tiles loaded " + count + ", slots=" + tiles.length());
 		}
-		return result;
+		return new Tile(key, data);
 	}
 
 	/**
-	 * Loads a short value from the mapdata.
+	 * Loads a run of short values from the mapdata.
 	 * 
-	 * @param index
-	 * @return
+	 * @param index First index to load
+	 * @param result Where to put the values
+	 * @param count Number of values to load
 	 */
-    protected abstract short loadElevation(int index);
+    protected abstract void loadElevations(int index, short[] result, int count);
 }
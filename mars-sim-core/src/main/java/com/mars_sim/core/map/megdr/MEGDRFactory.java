@@ -6,13 +6,15 @@
  */
 package com.mars_sim.core.map.megdr;
 
+import java.io.File;
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.time.Duration;
 import java.time.Instant;
-
-import java.io.IOException;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.mars_sim.core.map.common.FileLocator;
 import com.mars_sim.core.tool.RandomUtil;
 
 /**
@@ -27,10 +29,13 @@ public class MEGDRFactory {
 	static final String MEMORY_READER = "memory";
 
     private static final String ELEVATION_FOLDER = "/elevation/";
+	private static final String PYRAMID_SUFFIX = ".lod";
 	
     private static Logger logger = Logger.getLogger(MEGDRFactory.class.getName());
 
-	private static MEGDRMapReader reader;
+	private static volatile MEGDRMapReader reader;
+	private static volatile ElevationPyramid pyramid;
+	private static Thread pyramidBuilder;
     private static String defaultSpec = MEMORY_READER + SEPARATOR + MEGDRMapReader.DEFAULT_MEGDR_FILE;
 
     private MEGDRFactory() {
@@ -45,10 +50,78 @@ public class MEGDRFactory {
 	 * @return the elevation as an integer.
 	 */
     public static short getElevation(double phi, double theta) {
-        if (reader == null) {
-            reader = createReader(defaultSpec);
-        }
-        return reader.getElevation(phi, theta);
+        return getReader().getElevation(phi, theta);
+	}
+
+	/**
+	 * Gets the shared reader, creating it on first use.
+	 */
+	private static MEGDRMapReader getReader() {
+		MEGDRMapReader r = reader;
+		if (r == null) {
+			synchronized (MEGDRFactory.class) {
+				if (reader == null) {
+					reader = createReader(defaultSpec);
+				}
+				r = reader;
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Starts building the pyramid of elevations in the background unless it is built
+	 * or being built already. The first build reads all the MEGDR data, so this
+	 * is called as the simulation starts rather than waiting for the first use.
+	 */
+	public static synchronized void preparePyramid() {
+		if ((pyramid == null) && (pyramidBuilder == null)) {
+			pyramidBuilder = new Thread(MEGDRFactory::buildPyramid, "elevation-pyramid");
+			pyramidBuilder.setDaemon(true);
+			pyramidBuilder.start();
+		}
+	}
+
+	/**
+	 * Builds the pyramid and keeps it in a file beside the MEGDR data.
+	 */
+	private static void buildPyramid() {
+		try {
+			String imageName = ELEVATION_FOLDER + defaultSpec.split(SEPARATOR)[1].trim();
+			File source = FileLocator.locateFile(imageName);
+			File cache = (source != null ? new File(source.getPath() + PYRAMID_SUFFIX) : null);
+			pyramid = new ElevationPyramid(getReader(), cache);
+		}
+		catch (RuntimeException e) {
+			logger.log(Level.SEVERE, "Problem building the elevation pyramid", e);
+		}
+	}
+
+	/**
+	 * Gets the pyramid of elevations at falling resolutions. This never waits for
+	 * the pyramid to be built; callers use the MEGDR data directly until it is ready.
+	 * 
+	 * @return The pyramid or null if it is still being built
+	 */
+	public static ElevationPyramid getPyramid() {
+		ElevationPyramid p = pyramid;
+		if (p == null) {
+			preparePyramid();
+		}
+		return p;
+	}
+
+	/**
+	 * Gets the elevations at a number of locations in one call.
+	 * 
+	 * @param phi   the phi of each location.
+	 * @param theta the theta of each location.
+	 * @return the elevation of each location.
+	 */
+	public static short[] getElevations(double[] phi, double[] theta) {
+		short[] result = new short[phi.length];
+		getReader().getElevations(phi, theta, result);
+		return result;
 	}
 
 	/**
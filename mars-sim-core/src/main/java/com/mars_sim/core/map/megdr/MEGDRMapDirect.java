@@ -25,32 +25,31 @@ public class MEGDRMapDirect extends MEGDRCachedReader
 	private RandomAccessFile mapData;
 
     public MEGDRMapDirect(String imageName) throws IOException {
-		super(1000, 5);
+		super(4096);
 		prepareDirectFile(FileLocator.locateFile(imageName));
 	}
 
 	/**
-	 * Loads a short value from the directly access file.
-	 * 
-	 * @param index
-	 * @return
+	 * Loads short values from the directly access file.
 	 */
-    protected synchronized short loadElevation(int index) {
-		byte []data = new byte[2];
+	@Override
+    protected synchronized void loadElevations(int index, short[] result, int count) {
+		byte []data = new byte[count * 2];
 
 		try {
 			mapData.seek(index * 2L);
-			mapData.read(data, 0, 2);
+			mapData.readFully(data);
 			
-			return (short)( // NOTE: type cast not necessary for int
-					(data[0]) << 8  |
-					(0xff & data[1])
-					);
+			for (int i = 0; i < count; i++) {
+				result[i] = (short)(
+						(data[2 * i]) << 8  |
+						(0xff & data[2 * i + 1])
+						);
+			}
 		}
 		catch (IOException ioe) {
 			logger.severe("Problem reading map source " + ioe.getMessage());
 		}
-		return 0;
 	}
 
 	/**
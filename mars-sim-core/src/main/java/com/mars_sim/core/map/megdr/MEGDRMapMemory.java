@@ -29,21 +29,22 @@ public class MEGDRMapMemory extends MEGDRCachedReader
 	private RandomAccessFile mapData;
 
     public MEGDRMapMemory(String imgName) throws IOException {
-		super(1000, 5);
+		super(4096);
 
 		prepareMemoryFile(FileLocator.locateFile(imgName));
 	}
 
 	
-    protected synchronized short loadElevation(int index) {
-		byte []data = new byte[2];
-
-		memoryBuffer.get(index * 2, data, 0, 2);
-		
-		return (short)( // NOTE: type cast not necessary for int
-				(data[0]) << 8  |
-				(0xff & data[1])
-				);
+	/**
+	 * Loads short values from the memory mapped file. The reads are absolute so
+	 * do not change the buffer and need no lock.
+	 */
+	@Override
+    protected void loadElevations(int index, short[] result, int count) {
+		// The data is big endian like the buffer
+		for (int i = 0; i < count; i++) {
+			result[i] = memoryBuffer.getShort((index + i) * 2);
+		}
 	}
 
 
@@ -83,6 +83,30 @@ public abstract class MEGDRMapReader {
 	 * @return the elevation as an integer.
 	 */
 	public short getElevation(double phi, double theta) {
+		return getElevation(getIndex(phi, theta));
+	}
+
+	/**
+	 * Gets the elevations at a number of locations in one call, such as the points along a path.
+	 * 
+	 * @param phi   the phi of each location.
+	 * @param theta the theta of each location.
+	 * @param result the elevation of each location is put here.
+	 */
+	public void getElevations(double[] phi, double[] theta, short[] result) {
+		for (int i = 0; i < result.length; i++) {
+			result[i] = getElevation(getIndex(phi[i], theta[i]));
+		}
+	}
+
+	/**
+	 * Gets the index into the map data of the point nearest a location.
+	 * 
+	 * @param phi
+	 * @param theta
+	 * @return
+	 */
+	protected int getIndex(double phi, double theta) {
 		// Note that row 0 and column 0 are at top left 
 		int row = (int)Math.round(phi * mapHeight / Math.PI);
 		
@@ -99,7 +123,22 @@ public abstract class MEGDRMapReader {
 		if (index > mapHeight * mapWidth - 1)
 			index = mapHeight * mapWidth - 1;
 		
-		return getElevation(index);
+		return index;
+	}
+
+	protected int getWidth() {
+		return mapWidth;
+	}
+
+	protected int getHeight() {
+		return mapHeight;
+	}
+
+	/**
+	 * Gets the number of points in the map data.
+	 */
+	protected int getNumPoints() {
+		return mapHeight * mapWidth;
 	}
 
 	/**
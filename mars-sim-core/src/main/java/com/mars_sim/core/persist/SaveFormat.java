@@ -0,0 +1,194 @@
+/*
+ * Mars Simulation Project
+ * SaveFormat.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.persist;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * The layout of a chunked save file. The file starts with a header and is followed by
+ * a run of frames. Each frame holds one chunk of the serialized stream compressed on its own,
+ * so chunks can be compressed and decompressed in parallel.
+ * <pre>
+ * header : magic(int) version(int) chunkSize(int)
+ * frame  : rawLength(int) compressedLength(int) crc32(int) data
+ * end    : rawLength of -1
+ * footer : sectionCount(int) then per section name(UTF) rawBytes(long) compressedBytes(long)
+ * </pre>
+ * Sections are named runs of frames. They always start on a new chunk and are used to
+ * report the size of each part of the simulation.
+ */
+public final class SaveFormat {
+
+	/** The bytes "MSIM". */
+	static final int MAGIC = 0x4D53494D;
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 12;
+	static final int FRAME_HEADER_SIZE = 12;
+	static final int END_OF_FRAMES = -1;
+	/** Size of the uncompressed chunks. */
+	static final int CHUNK_SIZE = 1 << 20;
+
+	private static final int LEVEL = Deflater.BEST_SPEED;
+
+	/**
+	 * The size of a named section of the save file.
+	 */
+	public record Section(String name, long rawBytes, long compressedBytes) {}
+
+	/**
+	 * A compressed chunk of a section.
+	 */
+	record Frame(int section, int rawLength, byte[] data, int length, int crc) {}
+
+	private SaveFormat() {
+		// Static helper class
+	}
+
+	/**
+	 * Is this file in the chunked save format ? Older saves are one GZIP stream.
+	 * 
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static boolean isChunked(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer magic = ByteBuffer.allocate(4);
+			while (magic.hasRemaining()) {
+				if (channel.read(magic) < 0) {
+					return false;
+				}
+			}
+			return magic.flip().getInt() == MAGIC;
+		}
+	}
+
+	/**
+	 * Gets the number of threads to use for compression.
+	 * 
+	 * @return
+	 */
+	static int getThreads() {
+		return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	}
+
+	/**
+	 * Compresses a chunk.
+	 * 
+	 * @param section Index of the section holding the chunk
+	 * @param raw
+	 * @param length Bytes used in raw
+	 * @return
+	 */
+	static Frame compress(int section, byte[] raw, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(raw, 0, length);
+
+		Deflater deflater = new Deflater(LEVEL);
+		try {
+			deflater.setInput(raw, 0, length);
+			deflater.finish();
+			byte[] out = new byte[length + (length >> 3) + 64];
+			int size = 0;
+			while (!deflater.finished()) {
+				if (size == out.length) {
+					out = Arrays.copyOf(out, out.length * 2);
+				}
+				size += deflater.deflate(out, size, out.length - size);
+			}
+			return new Frame(section, length, out, size, (int) crc.getValue());
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Writes the file header.
+	 * 
+	 * @param channel
+	 * @throws IOException
+	 */
+	static void writeHeader(FileChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC).putInt(VERSION).putInt(CHUNK_SIZE).flip();
+		writeFully(channel, header);
+	}
+
+	/**
+	 * Writes a compressed chunk.
+	 * 
+	 * @param channel
+	 * @param frame
+	 * @throws IOException
+	 */
+	static void writeFrame(FileChannel channel, Frame frame) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+		header.putInt(frame.rawLength()).putInt(frame.length()).putInt(frame.crc()).flip();
+		writeFully(channel, header);
+		writeFully(channel, ByteBuffer.wrap(frame.data(), 0, frame.length()));
+	}
+
+	/**
+	 * Writes the end of the frames and the footer.
+	 * 
+	 * @param channel
+	 * @param sections
+	 * @throws IOException
+	 */
+	static void writeFooter(FileChannel channel, List<Section> sections) throws IOException {
+		ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+		try (DataOutputStream footer = new DataOutputStream(footerBytes)) {
+			footer.writeInt(END_OF_FRAMES);
+			footer.writeInt(sections.size());
+			for (var s : sections) {
+				footer.writeUTF(s.name());
+				footer.writeLong(s.rawBytes());
+				footer.writeLong(s.compressedBytes());
+			}
+		}
+		writeFully(channel, ByteBuffer.wrap(footerBytes.toByteArray()));
+	}
+
+	/**
+	 * Fills a buffer from a channel.
+	 * 
+	 * @param channel
+	 * @param buffer
+	 * @throws IOException if the end of file is reached first
+	 */
+	static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new IOException("Save file is truncated");
+			}
+		}
+		buffer.flip();
+	}
+
+	/**
+	 * Writes all of a buffer to a channel.
+	 * 
+	 * @param channel
+	 * @param buffer
+	 * @throws IOException
+	 */
+	static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Mars Simulation Project
+ * SaveInputStream.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.persist;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Reads the stream back from a chunked save file. The frames ahead of the reader are
+ * decompressed in parallel, so the object stream reading from this only waits on the
+ * file when it gets ahead of the decompression.
+ * @see SaveFormat
+ */
+public class SaveInputStream extends InputStream {
+
+	/** Largest chunk a save file may declare; far above what is ever written. */
+	private static final int MAX_CHUNK_SIZE = 64 << 20;
+
+	private FileChannel channel;
+	private ExecutorService executor;
+	private Deque<Future<byte[]>> ahead = new ArrayDeque<>();
+	private int maxAhead;
+	private int chunkSize;
+
+	private byte[] current = new byte[0];
+	private int pos = 0;
+	private boolean endOfFrames = false;
+
+	private List<SaveFormat.Section> sections = Collections.emptyList();
+
+	/**
+	 * Opens a save file.
+	 * 
+	 * @param file
+	 * @throws IOException if the file is not a chunked save file
+	 */
+	public SaveInputStream(Path file) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = ByteBuffer.allocate(SaveFormat.HEADER_SIZE);
+			SaveFormat.readFully(channel, header);
+			if (header.getInt() != SaveFormat.MAGIC) {
+				throw new IOException(file + " is not a chunked save file");
+			}
+			int version = header.getInt();
+			if (version != SaveFormat.VERSION) {
+				throw new IOException("Unsupported save file version " + version);
+			}
+			chunkSize = header.getInt();
+			if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+				throw new IOException("Unsupported save file chunk size " + chunkSize);
+			}
+		}
+		catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+
+		int threads = SaveFormat.getThreads();
+		executor = Executors.newFixedThreadPool(threads,
+					new ThreadFactoryBuilder().setNameFormat("save-reader-%d").setDaemon(true).build());
+		maxAhead = threads * 2;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return current[pos++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int size = Math.min(len, current.length - pos);
+		System.arraycopy(current, pos, b, off, size);
+		pos += size;
+		return size;
+	}
+
+	@Override
+	public int available() {
+		return current.length - pos;
+	}
+
+	/**
+	 * Makes sure there is data in the current chunk.
+	 * 
+	 * @return false if the end of the stream has been reached
+	 */
+	private boolean fill() throws IOException {
+		while (pos == current.length) {
+			while (!endOfFrames && ahead.size() < maxAhead) {
+				readFrame();
+			}
+			if (ahead.isEmpty()) {
+				return false;
+			}
+
+			try {
+				current = ahead.poll().get();
+				pos = 0;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted reading save file");
+			}
+			catch (ExecutionException e) {
+				throw new IOException("Problem decompressing save file", e.getCause());
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the next frame and queues it to be decompressed.
+	 */
+	private void readFrame() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(4);
+		SaveFormat.readFully(channel, header);
+		int rawLength = header.getInt();
+		if (rawLength == SaveFormat.END_OF_FRAMES) {
+			endOfFrames = true;
+			readFooter();
+			return;
+		}
+		if (rawLength < 0 || rawLength > chunkSize) {
+			throw new IOException("Corrupt save file frame of " + rawLength + " bytes");
+		}
+
+		header = ByteBuffer.allocate(SaveFormat.FRAME_HEADER_SIZE - 4);
+		SaveFormat.readFully(channel, header);
+		int length = header.getInt();
+		int crc = header.getInt();
+		// Deflate never grows a chunk by more than a few bytes per block
+		if (length < 0 || length > chunkSize + (chunkSize >> 3) + 64
+				|| length > channel.size() - channel.position()) {
+			throw new IOException("Corrupt save file frame of " + length + " compressed bytes");
+		}
+
+		ByteBuffer data = ByteBuffer.allocate(length);
+		SaveFormat.readFully(channel, data);
+		ahead.add(executor.submit(() -> decompress(data.array(), rawLength, crc)));
+	}
+
+	private static byte[] decompress(byte[] data, int rawLength, int crc)
+			throws DataFormatException, IOException {
+		byte[] raw = new byte[rawLength];
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data);
+			int size = 0;
+			while (size < rawLength && !inflater.finished()) {
+				int n = inflater.inflate(raw, size, rawLength - size);
+				if (n == 0 && inflater.needsInput()) {
+					break;
+				}
+				size += n;
+			}
+			if (size != rawLength) {
+				throw new IOException("Save file chunk is short");
+			}
+		}
+		finally {
+			inflater.end();
+		}
+
+		CRC32 check = new CRC32();
+		check.update(raw);
+		if ((int) check.getValue() != crc) {
+			throw new IOException("Save file chunk fails its checksum");
+		}
+		return raw;
+	}
+
+	private void readFooter() throws IOException {
+		DataInputStream footer = new DataInputStream(Channels.newInputStream(channel));
+		int count = footer.readInt();
+		if (count < 0) {
+			throw new IOException("Corrupt save file footer");
+		}
+		List<SaveFormat.Section> result = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			result.add(new SaveFormat.Section(footer.readUTF(), footer.readLong(), footer.readLong()));
+		}
+		sections = result;
+	}
+
+	/**
+	 * Gets the sections of the file. This is only known once the whole stream has been read.
+	 * 
+	 * @return
+	 */
+	public List<SaveFormat.Section> getSections() {
+		return sections;
+	}
+
+	@Override
+	public void close() throws IOException {
+		ahead.forEach(f -> f.cancel(false));
+		executor.shutdownNow();
+		channel.close();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Mars Simulation Project
+ * SaveOutputStream.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.persist;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Writes a stream to a chunked save file. The stream is cut into fixed size chunks that are
+ * compressed in parallel and then written in order through a file channel. Only a few chunks
+ * are held in memory at any time, so a large simulation does not need a copy of the whole
+ * serialized form.
+ * @see SaveFormat
+ */
+public final class SaveOutputStream extends SectionOutputStream {
+
+	private FileChannel channel;
+	private ExecutorService executor;
+	private Deque<Future<SaveFormat.Frame>> pending = new ArrayDeque<>();
+	private int maxPending;
+
+	private boolean closed = false;
+
+	/**
+	 * Creates a new save file.
+	 * 
+	 * @param file
+	 * @throws IOException
+	 */
+	public SaveOutputStream(Path file) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+									StandardOpenOption.TRUNCATE_EXISTING);
+		int threads = SaveFormat.getThreads();
+		executor = Executors.newFixedThreadPool(threads,
+					new ThreadFactoryBuilder().setNameFormat("save-writer-%d").setDaemon(true).build());
+		maxPending = threads * 2;
+
+		SaveFormat.writeHeader(channel);
+	}
+
+	@Override
+	void checkOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Save file is closed");
+		}
+	}
+
+	/**
+	 * Hands a chunk to be compressed. Waits for the oldest chunk to be written
+	 * if too many are in progress.
+	 */
+	@Override
+	void submitChunk(int section, byte[] raw, int length) throws IOException {
+		pending.add(executor.submit(() -> SaveFormat.compress(section, raw, length)));
+
+		while (pending.size() > maxPending) {
+			writeFrame(pending.poll());
+		}
+	}
+
+	/**
+	 * Waits for a chunk to be compressed and writes it out.
+	 * 
+	 * @param future
+	 * @throws IOException
+	 */
+	private void writeFrame(Future<SaveFormat.Frame> future) throws IOException {
+		SaveFormat.Frame frame;
+		try {
+			frame = future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted writing save file");
+		}
+		catch (ExecutionException e) {
+			throw new IOException("Problem compressing save file", e.getCause());
+		}
+
+		SaveFormat.writeFrame(channel, frame);
+		addFrame(frame);
+	}
+
+	/**
+	 * Writes out the remaining chunks and the footer.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+
+		try {
+			closeChunk();
+			closed = true;
+			dropBuffer();
+			while (!pending.isEmpty()) {
+				writeFrame(pending.poll());
+			}
+
+			SaveFormat.writeFooter(channel, getSections());
+		}
+		finally {
+			closed = true;
+			pending.forEach(f -> f.cancel(false));
+			executor.shutdownNow();
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Mars Simulation Project
+ * SaveSnapshot.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.persist;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Holds the serialized form of a simulation in memory. Capturing into this is much quicker
+ * than writing a save file as there is no file access. Each chunk is compressed in the
+ * background as soon as it is full, so only the compressed form and a few raw chunks are
+ * held on the heap. The snapshot can then be written out later on another thread while
+ * the simulation carries on.
+ */
+public class SaveSnapshot extends SectionOutputStream {
+
+	private static final int THREADS = SaveFormat.getThreads();
+
+	/** Shared by all snapshots as only one is captured at a time. */
+	private static final ExecutorService COMPRESSOR = Executors.newFixedThreadPool(THREADS,
+					new ThreadFactoryBuilder().setNameFormat("save-snapshot-%d").setDaemon(true).build());
+
+	private List<Future<SaveFormat.Frame>> pending = new ArrayList<>();
+	/** Number of pending chunks known to be compressed. */
+	private int done = 0;
+	private List<SaveFormat.Frame> frames = null;
+
+	@Override
+	void checkOpen() throws IOException {
+		if (frames != null) {
+			throw new IOException("Snapshot is finished");
+		}
+	}
+
+	/**
+	 * Hands a chunk to be compressed. Waits for the older chunks if too many
+	 * raw chunks are held.
+	 */
+	@Override
+	void submitChunk(int section, byte[] raw, int length) throws IOException {
+		pending.add(COMPRESSOR.submit(() -> trim(SaveFormat.compress(section, raw, length))));
+
+		while (pending.size() - done > THREADS * 2) {
+			waitFor(pending.get(done++));
+		}
+	}
+
+	/**
+	 * Drops the unused end of the compressed data so it does not stay on the heap.
+	 */
+	private static SaveFormat.Frame trim(SaveFormat.Frame frame) {
+		return new SaveFormat.Frame(frame.section(), frame.rawLength(),
+						Arrays.copyOf(frame.data(), frame.length()), frame.length(), frame.crc());
+	}
+
+	private static SaveFormat.Frame waitFor(Future<SaveFormat.Frame> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted compressing snapshot");
+		}
+		catch (ExecutionException e) {
+			throw new IOException("Problem compressing snapshot", e.getCause());
+		}
+	}
+
+	/**
+	 * Waits for all the chunks to be compressed. Nothing more can be written after this.
+	 */
+	private List<SaveFormat.Frame> finish() throws IOException {
+		if (frames == null) {
+			closeChunk();
+			List<SaveFormat.Frame> result = new ArrayList<>(pending.size());
+			for (var f : pending) {
+				var frame = waitFor(f);
+				addFrame(frame);
+				result.add(frame);
+			}
+			frames = result;
+			pending = null;
+			dropBuffer();
+		}
+		return frames;
+	}
+
+	/**
+	 * Gets the number of bytes held once compressed.
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	public long getCompressedSize() throws IOException {
+		return finish().stream().mapToLong(SaveFormat.Frame::length).sum();
+	}
+
+	/**
+	 * Writes the snapshot to a save file. This can be called from any thread once
+	 * the capture is finished.
+	 *
+	 * @param file
+	 * @return The sections written
+	 * @throws IOException
+	 */
+	public List<SaveFormat.Section> writeTo(Path file) throws IOException {
+		List<SaveFormat.Frame> all = finish();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+									StandardOpenOption.TRUNCATE_EXISTING)) {
+			SaveFormat.writeHeader(channel);
+			for (var f : all) {
+				SaveFormat.writeFrame(channel, f);
+			}
+
+			List<SaveFormat.Section> sections = getSections();
+			SaveFormat.writeFooter(channel, sections);
+			return sections;
+		}
+	}
+}
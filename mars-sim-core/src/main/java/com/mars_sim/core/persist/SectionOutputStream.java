@@ -0,0 +1,151 @@
+/*
+ * Mars Simulation Project
+ * SectionOutputStream.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.persist;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An output stream that is split into named sections. The data is cut into fixed size
+ * chunks of the save format; subclasses decide what happens to each chunk and report
+ * the frames made from them so the size of every section is known.
+ * @see SaveFormat
+ */
+public abstract class SectionOutputStream extends OutputStream {
+
+	private byte[] buffer = new byte[SaveFormat.CHUNK_SIZE];
+	private int count = 0;
+	private long size = 0;
+
+	private List<String> sectionNames = new ArrayList<>(List.of("Header"));
+	private List<long[]> sectionSizes = new ArrayList<>(List.of(new long[2]));
+	/** Bytes written into the current section. */
+	private long sectionBytes = 0;
+
+	/**
+	 * Starts a new named section. If the data comes through an ObjectOutputStream
+	 * it must be flushed first so the buffered data stays in the previous section.
+	 * A previous section that is still empty is renamed rather than kept.
+	 * 
+	 * @param name
+	 * @throws IOException
+	 */
+	public void startSection(String name) throws IOException {
+		closeChunk();
+		if (sectionBytes == 0) {
+			sectionNames.set(sectionNames.size() - 1, name);
+		}
+		else {
+			sectionNames.add(name);
+			sectionSizes.add(new long[2]);
+		}
+		sectionBytes = 0;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (count == buffer.length) {
+			closeChunk();
+		}
+		buffer[count++] = (byte) b;
+		size++;
+		sectionBytes++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		size += len;
+		sectionBytes += len;
+		while (len > 0) {
+			if (count == buffer.length) {
+				closeChunk();
+			}
+			int n = Math.min(len, buffer.length - count);
+			System.arraycopy(b, off, buffer, count, n);
+			count += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	/**
+	 * Hands the current chunk on to be compressed and starts a new one.
+	 * 
+	 * @throws IOException
+	 */
+	void closeChunk() throws IOException {
+		checkOpen();
+		if (count == 0) {
+			return;
+		}
+
+		byte[] raw = buffer;
+		int length = count;
+		buffer = new byte[SaveFormat.CHUNK_SIZE];
+		count = 0;
+		submitChunk(sectionNames.size() - 1, raw, length);
+	}
+
+	/**
+	 * Checks that more data can still be written.
+	 * 
+	 * @throws IOException If the stream is finished
+	 */
+	abstract void checkOpen() throws IOException;
+
+	/**
+	 * Takes a full chunk of a section.
+	 * 
+	 * @param section Index of the section
+	 * @param raw Data of the chunk; not reused by this stream
+	 * @param length Bytes used in the data
+	 * @throws IOException
+	 */
+	abstract void submitChunk(int section, byte[] raw, int length) throws IOException;
+
+	/**
+	 * Counts a frame made from a chunk in the size of its section.
+	 * 
+	 * @param frame
+	 */
+	void addFrame(SaveFormat.Frame frame) {
+		long[] sizes = sectionSizes.get(frame.section());
+		sizes[0] += frame.rawLength();
+		sizes[1] += frame.length() + SaveFormat.FRAME_HEADER_SIZE;
+	}
+
+	/**
+	 * Frees the chunk being filled once nothing more is written.
+	 */
+	void dropBuffer() {
+		buffer = null;
+	}
+
+	/**
+	 * Gets the number of bytes written.
+	 * 
+	 * @return
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Gets the sizes of the sections of the frames counted so far.
+	 * 
+	 * @return
+	 */
+	public List<SaveFormat.Section> getSections() {
+		List<SaveFormat.Section> result = new ArrayList<>();
+		for (int i = 0; i < sectionNames.size(); i++) {
+			long[] sizes = sectionSizes.get(i);
+			result.add(new SaveFormat.Section(sectionNames.get(i), sizes[0], sizes[1]));
+		}
+		return result;
+	}
+}
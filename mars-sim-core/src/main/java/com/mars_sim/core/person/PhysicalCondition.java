@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +46,7 @@ import com.mars_sim.core.person.health.RadioProtectiveAgent;
 import com.mars_sim.core.resource.ResourceUtil;
 import com.mars_sim.core.time.ClockPulse;
 import com.mars_sim.core.time.MasterClock;
+import com.mars_sim.core.tool.HazardClock;
 import com.mars_sim.core.tool.MathUtils;
 import com.mars_sim.core.tool.Msg;
 import com.mars_sim.core.tool.RandomUtil;
@@ -130,6 +132,7 @@ public class PhysicalCondition implements Serializable {
 	private static double minTemperature;
 	private static double maxTemperature;
 	private static double foodConsumption;
+	private static double lowO2Consumption;
 
 
 	/** True if person is starving. */
@@ -155,18 +158,14 @@ public class PhysicalCondition implements Serializable {
 	 */
 	private double musclePainTolerance;
 	private double muscleHealth;
-	private double muscleSoreness;
+
+	/**
+	 * Thirst, fatigue, hunger, stress, performance and muscle soreness are held in
+	 * the settlement's physiology engine at this slot.
+	 */
+	private PhysiologyEngine physiology;
+	private int slot;
 	
-	/** Person's thirst level. [in millisols]. */
-	private double thirst;
-	/** Person's fatigue level from 0 to infinity. */
-	private double fatigue;
-	/** Person's hunger level [in millisols]. */
-	private double hunger;
-	/** Person's stress level (0.0 % - 100.0 %). */
-	private double stress;
-	/** Performance factor 0.0 to 1.0. */
-	private double performance;
 	/** Person's energy level [in kJ] */
 	private double kJoules;
 	/** Person's food appetite (0.0 to 1.0) */
@@ -206,6 +205,8 @@ public class PhysicalCondition implements Serializable {
 
 	/** Record of Illness frequency. */
 	private Map<ComplaintType, Integer> healthLog;
+	/** Counts down to the next random ailment. */
+	private HazardClock ailmentClock = new HazardClock();
 
 	/** Health Risk probability. */
 	private Map<HealthRiskType, Double> healthRisks;
@@ -244,6 +245,9 @@ public class PhysicalCondition implements Serializable {
 	public PhysicalCondition(Person newPerson) {
 		person = newPerson;
 
+		physiology = person.getAssociatedSettlement().getPhysiology();
+		slot = physiology.register(person);
+
 		circadian = person.getCircadianClock();
 		naturalAttributeManager = person.getNaturalAttributeManager();
 
@@ -268,7 +272,7 @@ public class PhysicalCondition implements Serializable {
 		// T-score and Z-score (see https://en.wikipedia.org/wiki/Bone_density)
 		musclePainTolerance = RandomUtil.getRandomInt(-10, 10) + compositeScore; // pain tolerance
 		muscleHealth = 50D; // muscle health index; 50 being the average
-		muscleSoreness = RandomUtil.getRandomRegressionInteger(20); // muscle soreness
+		physiology.soreness[slot] = RandomUtil.getRandomRegressionInteger(20); // muscle soreness
 
 		personalMaxDailyEnergy = MAX_DAILY_ENERGY_INTAKE;
 
@@ -289,6 +293,9 @@ public class PhysicalCondition implements Serializable {
 		// waterConsumedPerServing is ~ 0.19 kg
 		waterConsumedPerServing = waterConsumedPerSol / 10; 
 
+		// Hunger and thirst build up with body mass
+		physiology.setAppetiteDrift(slot, bodyMassDeviation * .75);
+
 		double sTime = personConfig.getStarvationStartTime();
 		starvationStartTime = 1000D * RandomUtil.computeGaussianWithLimit(sTime, 0.3, bodyMassDeviation / 5);
 		
@@ -299,7 +306,7 @@ public class PhysicalCondition implements Serializable {
 		isStressedOut = false;
 		isDehydrated = false;
 		// Initially set performance to 1.0 (=100%) to avoid issues at startup
-		performance = 1.0D;
+		physiology.performance[slot] = 1.0D;
 
 		// Initialize the food consumption logger
 		consumption = new SolMetricDataLogger<>(MAX_NUM_SOLS);
@@ -316,16 +323,16 @@ public class PhysicalCondition implements Serializable {
 
 	private void initializeHealthIndices() {
 		// Set up random physical health index
-		thirst = RandomUtil.getRandomRegressionInteger(50);
-		fatigue = RandomUtil.getRandomRegressionInteger(50);
-		stress = RandomUtil.getRandomRegressionInteger(10);
-		hunger = RandomUtil.getRandomRegressionInteger(50);
+		physiology.thirst[slot] = RandomUtil.getRandomRegressionInteger(50);
+		physiology.fatigue[slot] = RandomUtil.getRandomRegressionInteger(50);
+		physiology.stress[slot] = RandomUtil.getRandomRegressionInteger(10);
+		physiology.hunger[slot] = RandomUtil.getRandomRegressionInteger(50);
 		// kJoules somewhat co-relates with hunger
-		kJoules = 10000 + (50 - hunger) * 100;
-		performance = 1.0D - (50 - fatigue) * .002 
-				- (20 - stress) * .002 
-				- (50 - hunger) * .002
-				- (50 - thirst) * .002;
+		kJoules = 10000 + (50 - physiology.hunger[slot]) * 100;
+		physiology.performance[slot] = 1.0D - (50 - physiology.fatigue[slot]) * .002 
+				- (20 - physiology.stress[slot]) * .002 
+				- (50 - physiology.hunger[slot]) * .002
+				- (50 - physiology.thirst[slot]) * .002;
 	}
 
 	
@@ -420,16 +427,9 @@ public class PhysicalCondition implements Serializable {
 			
 			// Check once per msol (millisol integer)
 			if (pulse.isNewIntMillisol()) {
-				// reduce the muscle soreness
-				recoverFromSoreness(1);
-				// Update thirst
-				increaseThirst(bodyMassDeviation * .75);
-				// Update fatigue
-				increaseFatigue(1);
-				// Update hunger
-				increaseHunger(bodyMassDeviation * .75);
-				// Reduce stress
-				reduceStress(time/10);
+				// Muscle soreness, thirst, fatigue, hunger and stress drift for the
+				// whole settlement at once. This catches up if that did not happen.
+				physiology.timePassing(slot, pulse);
 				
 				// Calculate performance and most mostSeriousProblem illness.
 				recalculatePerformance();
@@ -449,7 +449,7 @@ public class PhysicalCondition implements Serializable {
 					}
 				}				
 				
-				if (stress < STRESS_THRESHOLD) {
+				if (physiology.stress[slot] < STRESS_THRESHOLD) {
 					isStressedOut = false;
 				}
 				
@@ -457,9 +457,9 @@ public class PhysicalCondition implements Serializable {
 				if (msol % 7 == 0) {
 
 					// Update starvation
-					checkStarvation(hunger);
+					checkStarvation();
 					// Update dehydration
-					checkDehydration(thirst);					
+					checkDehydration();					
 					// Check if person is stressed out
 					checkStressOut();
 					
@@ -474,9 +474,9 @@ public class PhysicalCondition implements Serializable {
 
             double currentO2Consumption;
 			if (person.isRestingTask())
-				currentO2Consumption = personConfig.getLowO2ConsumptionRate();
+				currentO2Consumption = lowO2Consumption;
 			else
-				currentO2Consumption = personConfig.getNominalO2ConsumptionRate();
+				currentO2Consumption = o2Consumption;
 
 			// Check life support system
 			checkLifeSupport(time, currentO2Consumption, support);
@@ -499,8 +499,8 @@ public class PhysicalCondition implements Serializable {
 		if (!problems.isEmpty()) {
 			// Throw illness event if any problems already exist.
 			illnessEvent = true;
-			// A list of complaints (Type of illnesses)
-			List<Complaint> newComplaints = new CopyOnWriteArrayList<>();
+			// A list of complaints (Type of illnesses); only created when needed
+			List<Complaint> newComplaints = null;
 
 			Iterator<HealthProblem> hp = problems.iterator();
 			while (hp.hasNext()) {
@@ -552,21 +552,25 @@ public class PhysicalCondition implements Serializable {
 
 				// If a new problem, check it doesn't exist already
 				if (nextComplaintPhase != null) {
+					if (newComplaints == null) {
+						newComplaints = new ArrayList<>();
+					}
 					newComplaints.add(nextComplaintPhase);
 				}
 			}
 
 			// Add the new problems
-			for (Complaint c : newComplaints) {
-				addMedicalComplaint(c);
-				illnessEvent = true;
+			if (newComplaints != null) {
+				for (Complaint c : newComplaints) {
+					addMedicalComplaint(c);
+					illnessEvent = true;
+				}
 			}
 		}
 
 		// Generates any random illnesses.
 		if (!restingTask) {
-			List<Complaint> randomAilments = checkForRandomAilments(pulse);
-			illnessEvent = !randomAilments.isEmpty();
+			illnessEvent = checkForRandomAilments(pulse);
 		}
 
 		if (illnessEvent) {
@@ -608,11 +612,11 @@ public class PhysicalCondition implements Serializable {
 	 * @return the value from 0 to infinity.
 	 */
 	public double getFatigue() {
-		return fatigue;
+		return physiology.fatigue[slot];
 	}
 
 	public double getThirst() {
-		return thirst;
+		return physiology.thirst[slot];
 	}
 
 	/**
@@ -679,7 +683,7 @@ public class PhysicalCondition implements Serializable {
 		// Note: FOOD_COMPOSITION_ENERGY_RATIO = 16290
 		double xdelta = foodAmount * FOOD_COMPOSITION_ENERGY_RATIO / appetite / ENERGY_FACTOR;
 
-		if (hunger <= 0)
+		if (physiology.hunger[slot] <= 0)
 			kJoules = personalMaxDailyEnergy;
 		else if (kJoules > 19_000) {
 			kJoules += xdelta * .035;
@@ -727,7 +731,7 @@ public class PhysicalCondition implements Serializable {
 	 * @return The value is between 0 -> 1.
 	 */
 	public double getPerformanceFactor() {
-		return performance;
+		return physiology.performance[slot];
 	}
 
 	/**
@@ -741,8 +745,8 @@ public class PhysicalCondition implements Serializable {
 			pp = 1D;
 		else if (pp < 0)
 			pp = 0;
-		if (performance != pp) {
-			performance = pp;
+		if (physiology.performance[slot] != pp) {
+			physiology.performance[slot] = pp;
 			person.fireUnitUpdate(UnitEventType.PERFORMANCE_EVENT);
 		}
 	}
@@ -759,7 +763,7 @@ public class PhysicalCondition implements Serializable {
 		else if (ff < -100)
 			ff = -100;
 
-		fatigue = ff;
+		physiology.fatigue[slot] = ff;
 		person.fireUnitUpdate(UnitEventType.FATIGUE_EVENT);
 	}
 	
@@ -769,11 +773,11 @@ public class PhysicalCondition implements Serializable {
 	 * @param delta
 	 */
 	public void increaseFatigue(double delta) {
-		double f = fatigue + delta;
+		double f = physiology.fatigue[slot] + delta;
 		if (f > MAX_FATIGUE)
 			f = MAX_FATIGUE;
 
-		fatigue = f;	
+		physiology.fatigue[slot] = f;	
 		person.fireUnitUpdate(UnitEventType.FATIGUE_EVENT);
 	}
 	
@@ -783,11 +787,11 @@ public class PhysicalCondition implements Serializable {
 	 * @param delta
 	 */
 	public void reduceFatigue(double delta) {
-		double f = fatigue - delta;
+		double f = physiology.fatigue[slot] - delta;
 		if (f < -100) 
 			f = -100;
 		
-		fatigue = f;
+		physiology.fatigue[slot] = f;
 		person.fireUnitUpdate(UnitEventType.FATIGUE_EVENT);
 	}
 	
@@ -803,7 +807,7 @@ public class PhysicalCondition implements Serializable {
 		else if (tt < -50)
 			tt = -50;
 
-		thirst = tt;
+		physiology.thirst[slot] = tt;
 		person.fireUnitUpdate(UnitEventType.THIRST_EVENT);
 	}
 
@@ -813,13 +817,13 @@ public class PhysicalCondition implements Serializable {
 	 * @param thirstRelieved
 	 */
 	public void reduceThirst(double delta) {
-		double t = thirst - delta;
+		double t = physiology.thirst[slot] - delta;
 		if (t < -50)
 			t = -50;
 		else if (t > THIRST_CEILING_UPON_DRINKING)
 			t = THIRST_CEILING_UPON_DRINKING;
 		
-		thirst = t;
+		physiology.thirst[slot] = t;
 		person.fireUnitUpdate(UnitEventType.THIRST_EVENT);
 	}
 	
@@ -829,11 +833,11 @@ public class PhysicalCondition implements Serializable {
 	 * @param delta
 	 */
 	public void increaseThirst(double delta) {
-		double t = thirst + delta;
+		double t = physiology.thirst[slot] + delta;
 		if (t > MAX_THIRST)
 			t = MAX_THIRST;
 		
-		thirst = t;
+		physiology.thirst[slot] = t;
 		person.fireUnitUpdate(UnitEventType.THIRST_EVENT);
 	}
 
@@ -849,7 +853,7 @@ public class PhysicalCondition implements Serializable {
 		else if (h < -100)
 			h = -100;
 
-		hunger = h;
+		physiology.hunger[slot] = h;
 		person.fireUnitUpdate(UnitEventType.HUNGER_EVENT);
 	}
 
@@ -859,13 +863,13 @@ public class PhysicalCondition implements Serializable {
 	 * @param hungerRelieved
 	 */
 	public void reduceHunger(double hungerRelieved) {
-		double h = hunger - hungerRelieved;
+		double h = physiology.hunger[slot] - hungerRelieved;
 		if (h < -100)
 			h = -100;
 		else if (h > HUNGER_CEILING_UPON_EATING)
 			h = HUNGER_CEILING_UPON_EATING;
 		
-		hunger = h;
+		physiology.hunger[slot] = h;
 		person.fireUnitUpdate(UnitEventType.HUNGER_EVENT);
 	}
 	
@@ -875,11 +879,11 @@ public class PhysicalCondition implements Serializable {
 	 * @param hungerAdded
 	 */
 	public void increaseHunger(double hungerAdded) {
-		double h = hunger + hungerAdded;
+		double h = physiology.hunger[slot] + hungerAdded;
 		if (h > MAX_HUNGER)
 			h = MAX_HUNGER;
 
-		hunger = h;
+		physiology.hunger[slot] = h;
 		person.fireUnitUpdate(UnitEventType.HUNGER_EVENT);
 	}
 	
@@ -889,7 +893,7 @@ public class PhysicalCondition implements Serializable {
 	 * @return person's hunger
 	 */
 	public double getHunger() {
-		return hunger;
+		return physiology.hunger[slot];
 	}
 
 	/**
@@ -902,10 +906,10 @@ public class PhysicalCondition implements Serializable {
 		if (ss > 100)
 			ss = 100;
 		else if (ss < 0
-				|| Double.isNaN(stress))
+				|| Double.isNaN(physiology.stress[slot]))
 			ss = 0D;
 		
-		stress = ss;
+		physiology.stress[slot] = ss;
 		person.fireUnitUpdate(UnitEventType.STRESS_EVENT);
 	}
 	
@@ -915,18 +919,18 @@ public class PhysicalCondition implements Serializable {
 	 * @param d
 	 */
 	public void addStress(double d) {
-		if (stress > 95) {
-			logger.warning(person, 30_000, "stress: " + Math.round(stress * 1000.0)/1000.0 + "  d: " + Math.round(d * 1000.0)/1000.0);
+		if (physiology.stress[slot] > 95) {
+			logger.warning(person, 30_000, "stress: " + Math.round(physiology.stress[slot] * 1000.0)/1000.0 + "  d: " + Math.round(d * 1000.0)/1000.0);
 		}
 		
-		double ss = stress + d;
+		double ss = physiology.stress[slot] + d;
 		if (ss > 100)
 			ss = 100;
 		else if (ss < 0
 			|| Double.isNaN(ss))
 			ss = 0;
 		
-		stress = ss;
+		physiology.stress[slot] = ss;
 		person.fireUnitUpdate(UnitEventType.STRESS_EVENT);
 	}
 
@@ -936,14 +940,14 @@ public class PhysicalCondition implements Serializable {
 	 * @param d
 	 */
 	public void reduceStress(double d) {
-		double ss = stress - d;
+		double ss = physiology.stress[slot] - d;
 		if (ss > 100)
 			ss = 100;
 		else if (ss < 0
 			|| Double.isNaN(ss))
 			ss = 0;
 		
-		stress = ss;
+		physiology.stress[slot] = ss;
 		person.fireUnitUpdate(UnitEventType.STRESS_EVENT);
 	}
 	
@@ -953,14 +957,14 @@ public class PhysicalCondition implements Serializable {
 	 * @return stress (0.0 to 100.0)
 	 */
 	public double getStress() {
-		return stress;
+		return physiology.stress[slot];
 	}
 	
 	/**
 	 * Checks if a person suffers from stress related health problem.
 	 */
 	private void checkStressOut() {
-		if (stress >= STRESS_THRESHOLD && !isStressedOut()) {
+		if (physiology.stress[slot] >= STRESS_THRESHOLD && !isStressedOut()) {
 			isStressedOut = true;
 		}
 		
@@ -968,16 +972,16 @@ public class PhysicalCondition implements Serializable {
 			HealthProblem panic = getProblemByType(ComplaintType.PANIC_ATTACK);
 	
 			if (panic == null || !problems.contains(panic)) {
-				if (stress >= 100.0) {
+				if (physiology.stress[slot] >= 100.0) {
 					addMedicalComplaint(medicalManager.getPanicAttack());
 					person.fireUnitUpdate(UnitEventType.ILLNESS_EVENT);
 				}
-				else if (stress >= STRESS_THRESHOLD) {
+				else if (physiology.stress[slot] >= STRESS_THRESHOLD) {
 					// Anything to do here ?
 				}
 			}
 			
-			else if (panic != null && stress < STRESS_THRESHOLD) {
+			else if (panic != null && physiology.stress[slot] < STRESS_THRESHOLD) {
 				
 				panic.setCured();
 				
@@ -993,11 +997,11 @@ public class PhysicalCondition implements Serializable {
 	 *
 	 * @param hunger
 	 */
-	private void checkStarvation(double hunger) {
+	private void checkStarvation() {
 
 		starved = getProblemByType(ComplaintType.STARVATION);
 		
-		if (!isStarving && hunger > starvationStartTime) {
+		if (!isStarving && physiology.hunger[slot] > starvationStartTime) {
 
 			// if problems doesn't have starvation, execute the following
 			if (starved == null || !problems.contains(starved)) {
@@ -1013,7 +1017,7 @@ public class PhysicalCondition implements Serializable {
 
 		else if (starved != null && isStarving) {
 
-			if (hunger < HUNGER_THRESHOLD || kJoules > ENERGY_THRESHOLD) {
+			if (physiology.hunger[slot] < HUNGER_THRESHOLD || kJoules > ENERGY_THRESHOLD) {
 
 				starved.setCured();
 				// Set isStarving to false
@@ -1023,20 +1027,20 @@ public class PhysicalCondition implements Serializable {
 			}
 
 			// If this person's hunger has reached the buffer zone
-			else if (hunger < HUNGER_THRESHOLD * 2 || kJoules > ENERGY_THRESHOLD * 2) {
+			else if (physiology.hunger[slot] < HUNGER_THRESHOLD * 2 || kJoules > ENERGY_THRESHOLD * 2) {
 
 				starved.startRecovery();
 				// Set to not starving
 				isStarving = false;
 
 				logger.log(person, Level.INFO, 20_000, "Recovering from hunger. "
-						 + "  Hunger: " + (int)hunger
+						 + "  Hunger: " + (int)physiology.hunger[slot]
 						 + ";  kJ: " + Math.round(kJoules*10.0)/10.0
 						 + ";  isStarving: " + isStarving
 						 + ";  Status: " + starved.getState());
 			}
 			
-			else if (hunger >= MAX_HUNGER) {
+			else if (physiology.hunger[slot] >= MAX_HUNGER) {
 				starved.setState(HealthProblemState.DEAD);
 				recordDead(starved, false, STANDARD_QUOTE_1);
 			}
@@ -1049,12 +1053,12 @@ public class PhysicalCondition implements Serializable {
 	 *
 	 * @param hunger
 	 */
-	private void checkDehydration(double thirst) {
+	private void checkDehydration() {
 
 		dehydrated = getProblemByType(ComplaintType.DEHYDRATION);
 		
 		// If the person's thirst is greater than dehydrationStartTime
-		if (!isDehydrated && thirst > dehydrationStartTime) {
+		if (!isDehydrated && physiology.thirst[slot] > dehydrationStartTime) {
 
 			if (dehydrated == null || !problems.contains(dehydrated)) {
 				addMedicalComplaint(medicalManager.getDehydration());
@@ -1065,7 +1069,7 @@ public class PhysicalCondition implements Serializable {
 
 		else if (dehydrated != null && isDehydrated) {
 
-			if (thirst < THIRST_THRESHOLD / 2) {
+			if (physiology.thirst[slot] < THIRST_THRESHOLD / 2) {
 				dehydrated.setCured();
 				// Set dehydrated to false
 				isDehydrated = false;
@@ -1074,18 +1078,18 @@ public class PhysicalCondition implements Serializable {
 			}
 
 			// If this person's thirst has reached the buffer zone
-			else if (thirst < THIRST_THRESHOLD * 2) {
+			else if (physiology.thirst[slot] < THIRST_THRESHOLD * 2) {
 
 				dehydrated.startRecovery();
 				// Set dehydrated to false
 				isDehydrated = false;
 
 				logger.log(person, Level.INFO, 20_000, "Recovering from dehydration. "
-						 + "  Thirst: " + (int)thirst
+						 + "  Thirst: " + (int)physiology.thirst[slot]
 						 + ";  isDehydrated: " + isDehydrated
 						 + ";  Status: " + dehydrated.getState());
 			}
-			else if (thirst >= MAX_THIRST) {
+			else if (physiology.thirst[slot] >= MAX_THIRST) {
 				dehydrated.setState(HealthProblemState.DEAD);
 				recordDead(dehydrated, false, STANDARD_QUOTE_0);
 			}
@@ -1179,90 +1183,111 @@ public class PhysicalCondition implements Serializable {
 
 	/**
 	 * Checks for any random ailments that a person comes down with over a period of
-	 * time.
+	 * time. The ailments compete so their hazards are added up and counted down by
+	 * one clock; when it runs out the ailment is picked in proportion to its hazard.
 	 *
-	 * @param time the time period (millisols).
-	 * @return list of ailments occurring. May be empty.
+	 * @param pulse
+	 * @return true if any ailment occurred
 	 */
-	private List<Complaint> checkForRandomAilments(ClockPulse pulse) {
+	private boolean checkForRandomAilments(ClockPulse pulse) {
 		double time  = pulse.getElapsed();
-
+		int msol = pulse.getMarsTime().getMissionSol();
 		Task activeTask = person.getTaskManager().getTask();
-
-		PhysicalEffort taskEffort = (activeTask != null ? activeTask.getEffortRequired() : null);
-		List<Complaint> result = new ArrayList<>();
 		Collection<Complaint> list = medicalManager.getAllMedicalComplaints();
+
+		double hazard = 0D;
+		for (Complaint complaint : list) {
+			hazard += getAilmentHazard(complaint, activeTask, msol, time);
+		}
+		if (!ailmentClock.accrue(hazard)) {
+			return false;
+		}
+
+		// Ordered so the pick only depends on the random stream
+		Map<Complaint, Double> hazards = new LinkedHashMap<>();
 		for (Complaint complaint : list) {
-			// Check each possible medical complaint.
-			ComplaintType ct = complaint.getType();
-			boolean noGo = hasComplaint(complaint);
-
-			if (!noGo) {
-				var t = person.getTaskManager().getTask();
-				// If the Complaint effort influence is more than the effort of the Task then 
-				// this complaint can not occur
-				noGo  = (t != null) && ExperienceImpact.isEffortHigher(complaint.getEffortInfluence(),
-													t.getEffortRequired());
+			double h = getAilmentHazard(complaint, activeTask, msol, time);
+			if (h > 0D) {
+				hazards.put(complaint, h);
 			}
+		}
+		Complaint picked = RandomUtil.getWeightedRandomObject(hazards);
+		if (picked == null) {
+			return false;
+		}
+		addMedicalComplaint(picked);
+		return true;
+	}
 
-			// Can this complaint happen?
-			if (!noGo) {
-				double probability = complaint.getProbability();
-				// Check that medical complaint has a probability > zero
-				// since some complaints are secondary complaints and cannot be started
-				// by itself
-				if (probability > 0D) {
-					double taskModifier = 1;
-					double tendency = 1;
-
-					int msol = pulse.getMarsTime().getMissionSol();
-
-					if (healthLog.get(ct) != null && msol > 3)
-						tendency = 0.5 + 1.0 * healthLog.get(ct) / msol;
-					else
-						tendency = 1.0;
-					double immunity = 1.0 * endurance + strength;
-
-					if (immunity > 100)
-						tendency = .75 * tendency - .25 * immunity / 100.0;
-					else
-						tendency = .75 * tendency + .25 * (100 - immunity) / 100.0;
-
-					if ((taskEffort == PhysicalEffort.HIGH) &&
-							(PhysicalEffort.NONE != complaint.getEffortInfluence())) {
-						// High effort is based on agility.
-						taskModifier = 1.2;
-
-						if (agility > 50)
-							taskModifier = .75 * taskModifier - .25 * agility / 100.0;
-						else
-							taskModifier = .75 * taskModifier + .25 * (50 - agility) / 50.0;
-					}
-					else if ((taskEffort == complaint.getEffortInfluence()) 
-									&& (taskEffort == PhysicalEffort.LOW)) {
-						if (agility > 50)
-							taskModifier = .75 * taskModifier - .25 * agility / 100.0;
-						else
-							taskModifier = .75 * taskModifier + .25 * (50 - agility) / 50.0;
-					}
-					else if (person.getTaskManager().getTask() instanceof EVAOperation)
-						// match the uppercase EVA
-						taskModifier = 1.3;
+	/**
+	 * Gets the hazard of a person coming down with an ailment over a period of time.
+	 *
+	 * @param complaint
+	 * @param activeTask Current task of the person
+	 * @param msol Mission sol
+	 * @param time the time period (millisols)
+	 * @return
+	 */
+	private double getAilmentHazard(Complaint complaint, Task activeTask, int msol, double time) {
+		// Check that medical complaint has a probability > zero
+		// since some complaints are secondary complaints and cannot be started
+		// by itself
+		double probability = complaint.getProbability();
+		if ((probability <= 0D) || hasComplaint(complaint)) {
+			return 0D;
+		}
 
-					tendency = MathUtils.between(tendency, 0.0001, 2D);
+		PhysicalEffort taskEffort = (activeTask != null ? activeTask.getEffortRequired() : null);
 
-					// Randomly determine if person suffers from ailment.
-					double rand = RandomUtil.getRandomDouble(100D);
-					double timeModifier = time / RANDOM_AILMENT_PROBABILITY_TIME;
+		// If the Complaint effort influence is more than the effort of the Task then 
+		// this complaint can not occur
+		if ((activeTask != null) && ExperienceImpact.isEffortHigher(complaint.getEffortInfluence(),
+											taskEffort)) {
+			return 0D;
+		}
 
-					if (rand <= probability * taskModifier * tendency * timeModifier) {
-						addMedicalComplaint(complaint);
-						result.add(complaint);
-					}
-				}
-			}
+		ComplaintType ct = complaint.getType();
+		double taskModifier = 1;
+		double tendency = 1;
+
+		if (healthLog.get(ct) != null && msol > 3)
+			tendency = 0.5 + 1.0 * healthLog.get(ct) / msol;
+		else
+			tendency = 1.0;
+		double immunity = 1.0 * endurance + strength;
+
+		if (immunity > 100)
+			tendency = .75 * tendency - .25 * immunity / 100.0;
+		else
+			tendency = .75 * tendency + .25 * (100 - immunity) / 100.0;
+
+		if ((taskEffort == PhysicalEffort.HIGH) &&
+				(PhysicalEffort.NONE != complaint.getEffortInfluence())) {
+			// High effort is based on agility.
+			taskModifier = 1.2;
+
+			if (agility > 50)
+				taskModifier = .75 * taskModifier - .25 * agility / 100.0;
+			else
+				taskModifier = .75 * taskModifier + .25 * (50 - agility) / 50.0;
 		}
-		return result;
+		else if ((taskEffort == complaint.getEffortInfluence()) 
+						&& (taskEffort == PhysicalEffort.LOW)) {
+			if (agility > 50)
+				taskModifier = .75 * taskModifier - .25 * agility / 100.0;
+			else
+				taskModifier = .75 * taskModifier + .25 * (50 - agility) / 50.0;
+		}
+		else if (activeTask instanceof EVAOperation)
+			// match the uppercase EVA
+			taskModifier = 1.3;
+
+		tendency = MathUtils.between(tendency, 0.0001, 2D);
+
+		double timeModifier = time / RANDOM_AILMENT_PROBABILITY_TIME;
+
+		// Chance as a percentage over the period
+		return HazardClock.toHazard(probability * taskModifier * tendency * timeModifier / 100D);
 	}
 
 	/**
@@ -1446,6 +1471,7 @@ public class PhysicalCondition implements Serializable {
 	 */
 	public void reviveToLife() {
 		alive = true;
+		physiology.setActive(slot, true);
 		
 		HealthProblem problem = deathDetails.getProblem();
 		
@@ -1487,6 +1513,7 @@ public class PhysicalCondition implements Serializable {
 	 */
 	public void recordDead(HealthProblem problem, boolean triggeredByPlayer, String lastWord) {
 		alive = false;
+		physiology.setActive(slot, false);
 		String reason = TBD;
 		if (triggeredByPlayer) {
 			reason = TRIGGERED_DEATH;
@@ -1587,31 +1614,31 @@ public class PhysicalCondition implements Serializable {
 		double tempPerformance = maxPerformance;
 
 		// High thirst reduces performance.
-		if (thirst > 800D) {
-			tempPerformance -= (thirst - 800D) * THIRST_PERFORMANCE_MODIFIER / 2;
-		} else if (thirst > 400D) {
-			tempPerformance -= (thirst - 400D) * THIRST_PERFORMANCE_MODIFIER / 4;
+		if (physiology.thirst[slot] > 800D) {
+			tempPerformance -= (physiology.thirst[slot] - 800D) * THIRST_PERFORMANCE_MODIFIER / 2;
+		} else if (physiology.thirst[slot] > 400D) {
+			tempPerformance -= (physiology.thirst[slot] - 400D) * THIRST_PERFORMANCE_MODIFIER / 4;
 		}
 
 		// High hunger reduces performance.
-		if (hunger > 1600D) {
-			tempPerformance -= (hunger - 1600D) * HUNGER_PERFORMANCE_MODIFIER / 2;
-		} else if (hunger > 800D) {
-			tempPerformance -= (hunger - 800D) * HUNGER_PERFORMANCE_MODIFIER / 4;
+		if (physiology.hunger[slot] > 1600D) {
+			tempPerformance -= (physiology.hunger[slot] - 1600D) * HUNGER_PERFORMANCE_MODIFIER / 2;
+		} else if (physiology.hunger[slot] > 800D) {
+			tempPerformance -= (physiology.hunger[slot] - 800D) * HUNGER_PERFORMANCE_MODIFIER / 4;
 		}
 
 		// High fatigue reduces performance.
-		if (fatigue > 1500D) {
-			tempPerformance -= (fatigue - 1500D) * FATIGUE_PERFORMANCE_MODIFIER / 2;
-		} else if (fatigue > 700D) {
-			tempPerformance -= (fatigue - 700D) * FATIGUE_PERFORMANCE_MODIFIER / 4;
+		if (physiology.fatigue[slot] > 1500D) {
+			tempPerformance -= (physiology.fatigue[slot] - 1500D) * FATIGUE_PERFORMANCE_MODIFIER / 2;
+		} else if (physiology.fatigue[slot] > 700D) {
+			tempPerformance -= (physiology.fatigue[slot] - 700D) * FATIGUE_PERFORMANCE_MODIFIER / 4;
 		}
 
 		// High stress reduces performance.
-		if (stress > 75D) {
-			tempPerformance -= (stress - 75D) * STRESS_PERFORMANCE_MODIFIER / 2;
-		} else if (stress > 50D) {
-			tempPerformance -= (stress - 50D) * STRESS_PERFORMANCE_MODIFIER / 4;
+		if (physiology.stress[slot] > 75D) {
+			tempPerformance -= (physiology.stress[slot] - 75D) * STRESS_PERFORMANCE_MODIFIER / 2;
+		} else if (physiology.stress[slot] > 50D) {
+			tempPerformance -= (physiology.stress[slot] - 50D) * STRESS_PERFORMANCE_MODIFIER / 4;
 		}
 
 		// High kJoules improves performance and low kJoules hurts performance.
@@ -1687,8 +1714,8 @@ public class PhysicalCondition implements Serializable {
 	 * @return
 	 */
 	public boolean isUnfitByLevel(int fatMax, int stressMax, int hunMax, int thirstMax) {
-        return (fatigue > fatMax || stress > stressMax
-        		|| hunger > hunMax || thirst > thirstMax
+        return (physiology.fatigue[slot] > fatMax || physiology.stress[slot] > stressMax
+        		|| physiology.hunger[slot] > hunMax || physiology.thirst[slot] > thirstMax
         		|| hasSeriousMedicalProblems());
 	}
 	
@@ -1698,11 +1725,11 @@ public class PhysicalCondition implements Serializable {
 	 * @return
 	 */
 	public double computeHealthScore() {
-		return (Math.max(100 - fatigue/10, 0) 
-				+ Math.max(100 - stress, 0) 
-				+ Math.max(100 - hunger/10, 0) 
-				+ Math.max(100 - thirst/10, 0) 
-				+ Math.max(100 - performance * 100, 0))
+		return (Math.max(100 - physiology.fatigue[slot]/10, 0) 
+				+ Math.max(100 - physiology.stress[slot], 0) 
+				+ Math.max(100 - physiology.hunger[slot]/10, 0) 
+				+ Math.max(100 - physiology.thirst[slot]/10, 0) 
+				+ Math.max(100 - physiology.performance[slot] * 100, 0))
 				/ 5.0;
 	}
 	
@@ -1717,17 +1744,17 @@ public class PhysicalCondition implements Serializable {
 			return 0;
 		}
 
-		if (fatigue < 100 && stress < 10 && hunger < 100 && thirst < 50 && kJoules > 12000)
+		if (physiology.fatigue[slot] < 100 && physiology.stress[slot] < 10 && physiology.hunger[slot] < 100 && physiology.thirst[slot] < 50 && kJoules > 12000)
         	level = 5;
-		else if (fatigue < 250 && stress < 25 && hunger < 250 && thirst < 125 && kJoules > 10000)
+		else if (physiology.fatigue[slot] < 250 && physiology.stress[slot] < 25 && physiology.hunger[slot] < 250 && physiology.thirst[slot] < 125 && kJoules > 10000)
         	level = 4;
-        else if (fatigue < 500 && stress < 50 && hunger < 500 && thirst < 250 && kJoules > 8000)
+        else if (physiology.fatigue[slot] < 500 && physiology.stress[slot] < 50 && physiology.hunger[slot] < 500 && physiology.thirst[slot] < 250 && kJoules > 8000)
         	level = 3;
-        else if (fatigue < 800 && stress < 65 && hunger < 800 && thirst < 400 && kJoules > 6000)
+        else if (physiology.fatigue[slot] < 800 && physiology.stress[slot] < 65 && physiology.hunger[slot] < 800 && physiology.thirst[slot] < 400 && kJoules > 6000)
         	level = 2;
-        else if (fatigue < 1200 && stress < 80 && hunger < 1200 && thirst < 600 && kJoules > 4000)
+        else if (physiology.fatigue[slot] < 1200 && physiology.stress[slot] < 80 && physiology.hunger[slot] < 1200 && physiology.thirst[slot] < 600 && kJoules > 4000)
         	level = 1;
-        else if (fatigue < 1800 && stress < 95 && hunger < 1800 && thirst < 900 && kJoules > 2000)
+        else if (physiology.fatigue[slot] < 1800 && physiology.stress[slot] < 95 && physiology.hunger[slot] < 1800 && physiology.thirst[slot] < 900 && kJoules > 2000)
         	level = 0;
 
         return level;
@@ -1852,9 +1879,9 @@ public class PhysicalCondition implements Serializable {
 		muscleHealth -= .01 * duration; // musculoskeletal health
 		if (muscleHealth < 0)
 			muscleHealth = 0;
-		muscleSoreness += .005 * duration; // musculoskeletal soreness
-		if (muscleSoreness > 100)
-			muscleSoreness = 100;
+		physiology.soreness[slot] += .005 * duration; // musculoskeletal soreness
+		if (physiology.soreness[slot] > 100)
+			physiology.soreness[slot] = 100;
 	}
 	
 	/**
@@ -1865,13 +1892,13 @@ public class PhysicalCondition implements Serializable {
 	public void exerciseMuscle(double duration) {
 		musclePainTolerance += .001 * duration; // musculoskeletal pain tolerance
 		muscleHealth += .01 * duration; // musculoskeletal health
-		muscleSoreness -= .001 * duration; // musculoskeletal soreness
+		physiology.soreness[slot] -= .001 * duration; // musculoskeletal soreness
 		if (musclePainTolerance > 100)
 			musclePainTolerance = 100;
 		if (muscleHealth > 100)
 			muscleHealth = 100;
-		if (muscleSoreness < 0)
-			muscleSoreness = 0;
+		if (physiology.soreness[slot] < 0)
+			physiology.soreness[slot] = 0;
 		// Increase thirst
 		increaseThirst(-duration/4.5); 
 	}
@@ -1883,11 +1910,11 @@ public class PhysicalCondition implements Serializable {
 	 */
 	public void relaxMuscle(double time) {
 		muscleHealth += .01 * time; // musculoskeletal health
-		muscleSoreness -= .01 * time; // musculoskeletal soreness
+		physiology.soreness[slot] -= .01 * time; // musculoskeletal soreness
 		if (muscleHealth > 100)
 			muscleHealth = 100;
-		if (muscleSoreness < 0)
-			muscleSoreness = 0;
+		if (physiology.soreness[slot] < 0)
+			physiology.soreness[slot] = 0;
 	}
 	
 	/**
@@ -1896,9 +1923,9 @@ public class PhysicalCondition implements Serializable {
 	public void entropy(double time) {
 		musclePainTolerance -= .001 * time; // muscle health
 		muscleHealth -= .001 * time; // muscle health
-		muscleSoreness += .001 * time; // muscle health
-		if (muscleSoreness > 100)
-			muscleSoreness = 100;
+		physiology.soreness[slot] += .001 * time; // muscle health
+		if (physiology.soreness[slot] > 100)
+			physiology.soreness[slot] = 100;
 		if (muscleHealth < 0)
 			muscleHealth = 0;
 		if (musclePainTolerance < 0)
@@ -1913,13 +1940,13 @@ public class PhysicalCondition implements Serializable {
 	 */
 	public void recoverFromSoreness(double value) {
 		// Reduce the muscle soreness by 1 point at the end of the day
-		double soreness = muscleSoreness;
+		double soreness = physiology.soreness[slot];
 		soreness = soreness - value;
 		if (soreness < 0)
 			soreness = 0;
 		else if (soreness > 100)
 			soreness = 100;
-		muscleSoreness = soreness;
+		physiology.soreness[slot] = soreness;
 	}
 
 	/**
@@ -1928,7 +1955,7 @@ public class PhysicalCondition implements Serializable {
 	 * @return
 	 */
 	public boolean isDoubleHungry() {
-		return hunger > HUNGER_THRESHOLD * 2 || kJoules < ENERGY_THRESHOLD * 2;
+		return physiology.hunger[slot] > HUNGER_THRESHOLD * 2 || kJoules < ENERGY_THRESHOLD * 2;
 	}
 	
 
@@ -1938,7 +1965,7 @@ public class PhysicalCondition implements Serializable {
 	 * @return
 	 */
 	public boolean isHungry() {
-		return hunger > HUNGER_THRESHOLD || kJoules < ENERGY_THRESHOLD;
+		return physiology.hunger[slot] > HUNGER_THRESHOLD || kJoules < ENERGY_THRESHOLD;
 	}
 
 	/**
@@ -1947,7 +1974,7 @@ public class PhysicalCondition implements Serializable {
 	 * @return
 	 */
 	public boolean isDoubleThirsty() {
-		return thirst > THIRST_THRESHOLD * 2;
+		return physiology.thirst[slot] > THIRST_THRESHOLD * 2;
 	}
 	
 	/**
@@ -1956,7 +1983,7 @@ public class PhysicalCondition implements Serializable {
 	 * @return
 	 */
 	public boolean isThirsty() {
-		return thirst > THIRST_THRESHOLD;
+		return physiology.thirst[slot] > THIRST_THRESHOLD;
 	}
 
 	/**
@@ -1965,7 +1992,7 @@ public class PhysicalCondition implements Serializable {
 	 * @return
 	 */
 	public boolean isSleepy() {
-		return fatigue > FATIGUE_THRESHOLD;
+		return physiology.fatigue[slot] > FATIGUE_THRESHOLD;
 	}
 
 	/**
@@ -1974,7 +2001,7 @@ public class PhysicalCondition implements Serializable {
 	 * @return
 	 */
 	public boolean isStressed() {
-		return stress > STRESS_THRESHOLD;
+		return physiology.stress[slot] > STRESS_THRESHOLD;
 	}
 
 	public double getStrengthMod() {
@@ -2027,7 +2054,7 @@ public class PhysicalCondition implements Serializable {
 		if (d != null)
 			dessertEaten = d.doubleValue();
 		return (foodEaten + mealEaten + dessertEaten >= foodConsumption * 1.5
-				&& hunger < HUNGER_THRESHOLD);
+				&& physiology.hunger[slot] < HUNGER_THRESHOLD);
 	}
 	
 	/**
@@ -2038,7 +2065,7 @@ public class PhysicalCondition implements Serializable {
 	public boolean drinkEnoughWater() {
 		Double w = consumption.getDataPoint(3);
 		return ((w != null) && (w.doubleValue() >= h20Consumption * 1.5
-					&& thirst < THIRST_THRESHOLD));
+					&& physiology.thirst[slot] < THIRST_THRESHOLD));
 	}
 	
 	/**
@@ -2089,7 +2116,7 @@ public class PhysicalCondition implements Serializable {
 	
 
 	public double getMuscleSoreness() {
-		return muscleSoreness;
+		return physiology.soreness[slot];
 	}
 
     public double getMusclePainTolerance() {
@@ -2126,6 +2153,7 @@ public class PhysicalCondition implements Serializable {
 
 		h20Consumption = personConfig.getWaterConsumptionRate(); // 3 kg per sol
 		o2Consumption = personConfig.getNominalO2ConsumptionRate();
+		lowO2Consumption = personConfig.getLowO2ConsumptionRate();
 
 		minAirPressure = personConfig.getMinAirPressure();
 		minTemperature = personConfig.getMinTemperature();
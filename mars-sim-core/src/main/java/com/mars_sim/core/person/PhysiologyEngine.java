@@ -0,0 +1,165 @@
+/*
+ * Mars Simulation Project
+ * PhysiologyEngine.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.person;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import com.mars_sim.core.UnitEventType;
+import com.mars_sim.core.time.ClockPulse;
+
+/**
+ * Holds the vital signs of the citizens of a settlement in parallel arrays, one slot
+ * per citizen. The steady drift of the vitals each millisol is applied to every
+ * citizen in one pass over the arrays when the settlement starts its pulse, rather
+ * than person by person. {@link PhysicalCondition} reads and writes its own slot.
+ * Slots are never reused; a dead citizen's slot is simply no longer advanced.
+ */
+public class PhysiologyEngine implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int INITIAL_SLOTS = 8;
+
+	// The vitals; package-private so PhysicalCondition works on its slot directly
+	double[] thirst = new double[INITIAL_SLOTS];
+	double[] fatigue = new double[INITIAL_SLOTS];
+	double[] hunger = new double[INITIAL_SLOTS];
+	double[] stress = new double[INITIAL_SLOTS];
+	double[] performance = new double[INITIAL_SLOTS];
+	double[] soreness = new double[INITIAL_SLOTS];
+
+	/** Hunger and thirst gained per millisol. */
+	private double[] appetiteDrift = new double[INITIAL_SLOTS];
+	private boolean[] active = new boolean[INITIAL_SLOTS];
+	/** The last pulse applied to each slot. */
+	private long[] lastPulse = new long[INITIAL_SLOTS];
+	private Person[] persons = new Person[INITIAL_SLOTS];
+	private int size = 0;
+
+	/**
+	 * Allocates a slot to a person.
+	 *
+	 * @param person
+	 * @return The slot
+	 */
+	synchronized int register(Person person) {
+		if (size == persons.length) {
+			int newSize = size * 2;
+			thirst = Arrays.copyOf(thirst, newSize);
+			fatigue = Arrays.copyOf(fatigue, newSize);
+			hunger = Arrays.copyOf(hunger, newSize);
+			stress = Arrays.copyOf(stress, newSize);
+			performance = Arrays.copyOf(performance, newSize);
+			soreness = Arrays.copyOf(soreness, newSize);
+			appetiteDrift = Arrays.copyOf(appetiteDrift, newSize);
+			active = Arrays.copyOf(active, newSize);
+			lastPulse = Arrays.copyOf(lastPulse, newSize);
+			persons = Arrays.copyOf(persons, newSize);
+		}
+
+		int slot = size++;
+		persons[slot] = person;
+		active[slot] = true;
+		lastPulse[slot] = -1;
+		return slot;
+	}
+
+	/**
+	 * Sets how much hunger and thirst a person gains each millisol.
+	 *
+	 * @param slot
+	 * @param drift
+	 */
+	void setAppetiteDrift(int slot, double drift) {
+		appetiteDrift[slot] = drift;
+	}
+
+	/**
+	 * Starts or stops advancing a slot, as the person dies or is revived.
+	 *
+	 * @param slot
+	 * @param alive
+	 */
+	synchronized void setActive(int slot, boolean alive) {
+		active[slot] = alive;
+	}
+
+	/**
+	 * Gets the number of slots allocated.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Applies the drift in the vitals of every living citizen for a pulse.
+	 *
+	 * @param pulse
+	 */
+	public synchronized void timePassing(ClockPulse pulse) {
+		if (!pulse.isNewIntMillisol()) {
+			return;
+		}
+
+		double stressRelief = pulse.getElapsed() / 10;
+		long id = pulse.getId();
+		for (int i = 0; i < size; i++) {
+			if (active[i] && (lastPulse[i] != id)) {
+				advance(i, stressRelief);
+				lastPulse[i] = id;
+			}
+		}
+
+		// Events go after the arrays are done so the loop above stays tight
+		for (int i = 0; i < size; i++) {
+			if (active[i] && (lastPulse[i] == id)) {
+				fireEvents(persons[i]);
+			}
+		}
+	}
+
+	/**
+	 * Applies the drift to one person unless it has already been applied for this pulse.
+	 * This covers a person updated outside the settlement's pulse.
+	 *
+	 * @param slot
+	 * @param pulse
+	 */
+	synchronized void timePassing(int slot, ClockPulse pulse) {
+		if (pulse.isNewIntMillisol() && active[slot] && (lastPulse[slot] != pulse.getId())) {
+			advance(slot, pulse.getElapsed() / 10);
+			lastPulse[slot] = pulse.getId();
+			fireEvents(persons[slot]);
+		}
+	}
+
+	/**
+	 * Advances one slot by a millisol.
+	 */
+	private void advance(int i, double stressRelief) {
+		soreness[i] = Math.min(100D, Math.max(0D, soreness[i] - 1D));
+		thirst[i] = Math.min(PhysicalCondition.MAX_THIRST, thirst[i] + appetiteDrift[i]);
+		fatigue[i] = Math.min(PhysicalCondition.MAX_FATIGUE, fatigue[i] + 1D);
+		hunger[i] = Math.min(PhysicalCondition.MAX_HUNGER, hunger[i] + appetiteDrift[i]);
+
+		double s = stress[i] - stressRelief;
+		if (s > 100D) {
+			s = 100D;
+		}
+		else if ((s < 0D) || Double.isNaN(s)) {
+			s = 0D;
+		}
+		stress[i] = s;
+	}
+
+	private static void fireEvents(Person p) {
+		p.fireUnitUpdate(UnitEventType.THIRST_EVENT);
+		p.fireUnitUpdate(UnitEventType.FATIGUE_EVENT);
+		p.fireUnitUpdate(UnitEventType.HUNGER_EVENT);
+		p.fireUnitUpdate(UnitEventType.STRESS_EVENT);
+	}
+}
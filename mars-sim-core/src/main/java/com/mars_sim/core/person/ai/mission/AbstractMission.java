@@ -1582,5 +1582,6 @@ public abstract class AbstractMission implements Mission, Temporal {
 		MissionLog.initialise(clock);
 		MissionUtil.initializeInstances(u, m);
 		AbstractMetaMission.initializeInstances(clock);
+		RoutePlanner.clearCache();
 	}
 }
@@ -175,8 +175,8 @@ public abstract class CollectResourcesMission extends EVAMission
 			}
 		}
 
-		// Reorder sites for shortest distance and load
-		List<Coordinates> orderSites = getMinimalPath(startingLocation, unorderedSites);
+		// Reorder sites for the cheapest route
+		List<Coordinates> orderSites = planRoute(startingLocation, unorderedSites);
 		addNavpoints(orderSites, (i -> PROPSPECTING_SITE + (i+1)));
 
 		double containerCap = ContainerUtil.getContainerCapacity(containerID);
@@ -474,4 +474,16 @@ abstract class EVAMission extends RoverMission {
 
 		return orderedSites;
 	}
+
+	/**
+	 * Orders the sites of the mission starting from a point to minimise
+	 * the cost of driving the mission vehicle round them and back.
+	 * 
+	 * @param startingLocation
+	 * @param sites
+	 * @return
+	 */
+	protected List<Coordinates> planRoute(Coordinates startingLocation, List<Coordinates> sites) {
+		return RoutePlanner.planRoute(getStartingSettlement(), getVehicle(), startingLocation, sites);
+	}
 }
@@ -11,7 +11,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -449,26 +448,8 @@ public class Exploration extends EVAMission
 			remainingRange -= distance;
 		}
 
-		List<Coordinates> sites = null;
-
-		if (unorderedSites.size() > 1) {
-			double unorderedSitesTotalDistance = getTotalDistance(startingLocation, unorderedSites);
-
-			// Try to reorder sites for shortest distance.
-			List<Coordinates> orderedSites = getMinimalPath(startingLocation, unorderedSites);
-
-			double orderedSitesTotalDistance = getTotalDistance(startingLocation, orderedSites);
-
-			if (orderedSitesTotalDistance < unorderedSitesTotalDistance) {
-				sites = orderedSites;
-			} else {
-				sites = unorderedSites;
-			}
-		} else {
-			sites = unorderedSites;
-		}
-
-		return sites;
+		// Reorder sites for the cheapest route; never worse than the order picked
+		return planRoute(startingLocation, unorderedSites);
 	}
 
 	/**
@@ -483,6 +464,7 @@ public class Exploration extends EVAMission
 	
 	/**
 	 * Gets a list of candidate site coordinates for a settlement. Filter for those that needs estimation improvement.
+	 * They are ordered nearest first from the starting location.
 	 * 
 	 * @return
 	 */
@@ -508,29 +490,6 @@ public class Exploration extends EVAMission
 		return Collections.emptyList();
 	}
 
-	/**
-	 * Gets the total distances of going to all sites.
-	 * 
-	 * @param startingLoc
-	 * @param sites
-	 * @return
-	 */
-	private static double getTotalDistance(Coordinates startingLoc, List<Coordinates> sites) {
-		double result = 0D;
-
-		Coordinates currentLoc = startingLoc;
-		Iterator<Coordinates> i = sites.iterator();
-		while (i.hasNext()) {
-			Coordinates site = i.next();
-			result += currentLoc.getDistance(site);
-			currentLoc = site;
-		}
-
-		// Add return trip to starting loc.
-		result += currentLoc.getDistance(startingLoc);
-
-		return result;
-	}
 	
 
 	/**
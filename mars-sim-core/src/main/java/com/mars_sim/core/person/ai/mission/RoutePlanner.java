@@ -0,0 +1,410 @@
+/*
+ * Mars Simulation Project
+ * RoutePlanner.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.person.ai.mission;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mars_sim.core.environment.TerrainElevation;
+import com.mars_sim.core.map.location.Coordinates;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.vehicle.Vehicle;
+import com.mars_sim.core.vehicle.VehicleController;
+
+/**
+ * Plans the order a vehicle visits a number of sites before returning home. The cost of
+ * a leg is its distance plus the distance the fuel burnt climbing over the terrain on the
+ * way would have driven on the flat, so a route around a ridge can beat one over it.
+ * Small routes are solved exactly; longer ones are improved from the best simple ordering
+ * with 2-opt and Or-opt moves.
+ * The terrain of each leg never changes so the legs are cached per settlement, since
+ * missions from a settlement keep returning to the same sites. The cache is cleared when
+ * a simulation is started or loaded.
+ */
+public final class RoutePlanner {
+
+	/**
+	 * The terrain between two locations.
+	 *
+	 * @param distance Distance in km
+	 * @param ascent Total climb in km going from the first to the second
+	 * @param descent Total drop in km going from the first to the second
+	 */
+	record Leg(double distance, double ascent, double descent) {
+
+		Leg reverse() {
+			return new Leg(distance, descent, ascent);
+		}
+	}
+
+	private record LegKey(Coordinates from, Coordinates to) {}
+
+	/** Largest number of sites solved exactly. */
+	static final int MAX_EXACT = 8;
+	/** Distance between the elevations sampled along a leg. */
+	private static final double PROFILE_STEP_KM = 5D;
+	/** Legs cached for each settlement. */
+	private static final int MAX_LEGS = 2048;
+	/** Climb that costs a km on the flat when the vehicle is not known. */
+	private static final double DEFAULT_CLIMB_COST = 1D;
+	/** Stops the improvement of a long route running on. */
+	private static final int MAX_PASSES = 50;
+	/** Smallest saving worth a move, so rounding cannot make moves go round in circles. */
+	private static final double MIN_SAVING = 1E-9;
+	private static final double WH_PER_JOULE = 1D / 3600D;
+
+	private static Map<Integer, Map<LegKey, Leg>> legCache = new ConcurrentHashMap<>();
+
+	private RoutePlanner() {
+		// Static helper class
+	}
+
+	/**
+	 * Drops the legs cached for the settlements of an earlier simulation.
+	 */
+	static void clearCache() {
+		legCache.clear();
+	}
+
+	/**
+	 * Orders sites so a vehicle leaving a location visits them all and comes back at the
+	 * least cost.
+	 *
+	 * @param home Settlement whose legs are cached; may be null
+	 * @param vehicle Vehicle driving the route; may be null
+	 * @param start Location the route starts and ends at
+	 * @param sites Sites to visit
+	 * @return The sites in the order to visit them
+	 */
+	public static List<Coordinates> planRoute(Settlement home, Vehicle vehicle, Coordinates start,
+								List<Coordinates> sites) {
+		if (sites.size() < 2) {
+			return new ArrayList<>(sites);
+		}
+
+		int n = sites.size() + 1;
+		Coordinates[] points = new Coordinates[n];
+		points[0] = start;
+		for (int i = 1; i < n; i++) {
+			points[i] = sites.get(i - 1);
+		}
+
+		double climbCost = getClimbCost(vehicle);
+		Map<LegKey, Leg> legs = getLegs(home);
+		double[][] cost = new double[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				Leg leg = getLeg(legs, points[i], points[j]);
+				cost[i][j] = leg.distance() + climbCost * leg.ascent();
+				cost[j][i] = leg.distance() + climbCost * leg.descent();
+			}
+		}
+
+		int[] order = solve(cost);
+		List<Coordinates> result = new ArrayList<>(order.length);
+		for (int i : order) {
+			result.add(points[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the km on the flat that a km of climb costs a vehicle in fuel.
+	 */
+	private static double getClimbCost(Vehicle vehicle) {
+		if (vehicle == null) {
+			return DEFAULT_CLIMB_COST;
+		}
+		double whPerKm = vehicle.getEstimatedFuelConsumption();
+		if (whPerKm <= 0D) {
+			return DEFAULT_CLIMB_COST;
+		}
+		// Energy to lift the vehicle a km against the energy to drive a km
+		return vehicle.getBeginningMass() * VehicleController.GRAVITY * 1000D * WH_PER_JOULE / whPerKm;
+	}
+
+	private static Map<LegKey, Leg> getLegs(Settlement home) {
+		int id = (home != null ? home.getIdentifier() : -1);
+		return legCache.computeIfAbsent(id, k -> Collections.synchronizedMap(
+				new LinkedHashMap<>(64, 0.75F, true) {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<LegKey, Leg> eldest) {
+						return size() > MAX_LEGS;
+					}
+				}));
+	}
+
+	private static Leg getLeg(Map<LegKey, Leg> legs, Coordinates from, Coordinates to) {
+		Leg leg = legs.get(new LegKey(from, to));
+		if (leg != null) {
+			return leg;
+		}
+		leg = legs.get(new LegKey(to, from));
+		if (leg != null) {
+			return leg.reverse();
+		}
+
+		leg = measureLeg(from, to);
+		legs.put(new LegKey(from, to), leg);
+		return leg;
+	}
+
+	/**
+	 * Measures the distance and the climb and drop along the way between two locations.
+	 */
+	private static Leg measureLeg(Coordinates from, Coordinates to) {
+		double[] profile = TerrainElevation.getElevationProfile(from, to, PROFILE_STEP_KM);
+		double ascent = 0D;
+		double descent = 0D;
+		for (int i = 1; i < profile.length; i++) {
+			double change = profile[i] - profile[i - 1];
+			if (change > 0D) {
+				ascent += change;
+			}
+			else {
+				descent -= change;
+			}
+		}
+		return new Leg(from.getDistance(to), ascent, descent);
+	}
+
+	/**
+	 * Finds the cheapest round trip from point 0 through every other point.
+	 *
+	 * @param cost Cost of going from one point to another; need not be symmetric
+	 * @return The points other than 0 in the order to visit them
+	 */
+	static int[] solve(double[][] cost) {
+		int sites = cost.length - 1;
+		if (sites <= MAX_EXACT) {
+			return solveExact(cost);
+		}
+
+		int[] tour = new int[sites];
+		for (int i = 0; i < sites; i++) {
+			tour[i] = i + 1;
+		}
+		int[] nearest = getNearestNeighbour(cost);
+		if (getRouteCost(cost, nearest) < getRouteCost(cost, tour)) {
+			tour = nearest;
+		}
+
+		boolean improved = true;
+		for (int pass = 0; improved && (pass < MAX_PASSES); pass++) {
+			improved = twoOpt(cost, tour) | orOpt(cost, tour);
+		}
+		return tour;
+	}
+
+	/**
+	 * Gets the cost of a round trip from point 0 through the sites in order.
+	 *
+	 * @param cost
+	 * @param tour
+	 * @return
+	 */
+	static double getRouteCost(double[][] cost, int[] tour) {
+		double total = 0D;
+		int last = 0;
+		for (int i : tour) {
+			total += cost[last][i];
+			last = i;
+		}
+		return total + cost[last][0];
+	}
+
+	/**
+	 * Solves by dynamic programming over the subsets of sites visited.
+	 */
+	private static int[] solveExact(double[][] cost) {
+		int sites = cost.length - 1;
+		int subsets = 1 << sites;
+		// best[s][j] is the cheapest way from 0 through set s ending at site j + 1
+		double[][] best = new double[subsets][sites];
+		int[][] previous = new int[subsets][sites];
+		for (double[] row : best) {
+			Arrays.fill(row, Double.MAX_VALUE);
+		}
+		for (int j = 0; j < sites; j++) {
+			best[1 << j][j] = cost[0][j + 1];
+			previous[1 << j][j] = -1;
+		}
+
+		for (int s = 1; s < subsets; s++) {
+			for (int j = 0; j < sites; j++) {
+				if (((s & (1 << j)) == 0) || (best[s][j] == Double.MAX_VALUE)) {
+					continue;
+				}
+				for (int k = 0; k < sites; k++) {
+					if ((s & (1 << k)) == 0) {
+						int next = s | (1 << k);
+						double c = best[s][j] + cost[j + 1][k + 1];
+						if (c < best[next][k]) {
+							best[next][k] = c;
+							previous[next][k] = j;
+						}
+					}
+				}
+			}
+		}
+
+		int all = subsets - 1;
+		int last = 0;
+		double lowest = Double.MAX_VALUE;
+		for (int j = 0; j < sites; j++) {
+			double c = best[all][j] + cost[j + 1][0];
+			if (c < lowest) {
+				lowest = c;
+				last = j;
+			}
+		}
+
+		int[] tour = new int[sites];
+		int s = all;
+		for (int i = sites - 1; i >= 0; i--) {
+			tour[i] = last + 1;
+			int before = previous[s][last];
+			s &= ~(1 << last);
+			last = before;
+		}
+		return tour;
+	}
+
+	private static int[] getNearestNeighbour(double[][] cost) {
+		int sites = cost.length - 1;
+		boolean[] visited = new boolean[sites + 1];
+		int[] tour = new int[sites];
+		int current = 0;
+		for (int i = 0; i < sites; i++) {
+			int nearest = -1;
+			for (int j = 1; j <= sites; j++) {
+				if (!visited[j] && ((nearest < 0) || (cost[current][j] < cost[current][nearest]))) {
+					nearest = j;
+				}
+			}
+			visited[nearest] = true;
+			tour[i] = nearest;
+			current = nearest;
+		}
+		return tour;
+	}
+
+	/**
+	 * Reverses the stretch of the route that saves the most. The legs need not cost the
+	 * same both ways, so the legs inside the stretch are summed each way along the route
+	 * once and each reversal is then costed from its ends.
+	 */
+	private static boolean twoOpt(double[][] cost, int[] tour) {
+		// forward[k] and backward[k] are the cost of the legs between tour[0] and tour[k]
+		double[] forward = new double[tour.length];
+		double[] backward = new double[tour.length];
+		for (int k = 1; k < tour.length; k++) {
+			forward[k] = forward[k - 1] + cost[tour[k - 1]][tour[k]];
+			backward[k] = backward[k - 1] + cost[tour[k]][tour[k - 1]];
+		}
+
+		double bestSaving = MIN_SAVING;
+		int bestI = -1;
+		int bestJ = -1;
+		for (int i = 0; i < tour.length - 1; i++) {
+			int before = (i == 0 ? 0 : tour[i - 1]);
+			for (int j = i + 1; j < tour.length; j++) {
+				int after = (j == tour.length - 1 ? 0 : tour[j + 1]);
+				double old = cost[before][tour[i]] + (forward[j] - forward[i]) + cost[tour[j]][after];
+				double reversed = cost[before][tour[j]] + (backward[j] - backward[i]) + cost[tour[i]][after];
+				if (old - reversed > bestSaving) {
+					bestSaving = old - reversed;
+					bestI = i;
+					bestJ = j;
+				}
+			}
+		}
+		if (bestI < 0) {
+			return false;
+		}
+		reverse(tour, bestI, bestJ);
+		return true;
+	}
+
+	/**
+	 * Moves a run of up to 3 sites to the place in the route that saves the most. Each move
+	 * is costed from the legs it breaks and makes.
+	 */
+	private static boolean orOpt(double[][] cost, int[] tour) {
+		double bestSaving = MIN_SAVING;
+		int bestFrom = -1;
+		int bestLength = 0;
+		int bestTo = -1;
+		for (int length = 1; length <= 3; length++) {
+			for (int from = 0; from + length <= tour.length; from++) {
+				int first = tour[from];
+				int last = tour[from + length - 1];
+				int before = (from == 0 ? 0 : tour[from - 1]);
+				int after = (from + length == tour.length ? 0 : tour[from + length]);
+				double removed = cost[before][first] + cost[last][after] - cost[before][after];
+
+				// Positions are in the route with the run taken out
+				int rest = tour.length - length;
+				for (int to = 0; to <= rest; to++) {
+					if (to != from) {
+						int x = (to == 0 ? 0 : restAt(tour, from, length, to - 1));
+						int y = (to == rest ? 0 : restAt(tour, from, length, to));
+						double added = cost[x][first] + cost[last][y] - cost[x][y];
+						if (removed - added > bestSaving) {
+							bestSaving = removed - added;
+							bestFrom = from;
+							bestLength = length;
+							bestTo = to;
+						}
+					}
+				}
+			}
+		}
+		if (bestFrom < 0) {
+			return false;
+		}
+		int[] moved = move(tour, bestFrom, bestLength, bestTo);
+		System.arraycopy(moved, 0, tour, 0, tour.length);
+		return true;
+	}
+
+	/**
+	 * Gets a site of the route with a run taken out.
+	 */
+	private static int restAt(int[] tour, int from, int length, int index) {
+		return tour[index < from ? index : index + length];
+	}
+
+	private static void reverse(int[] tour, int i, int j) {
+		while (i < j) {
+			int t = tour[i];
+			tour[i++] = tour[j];
+			tour[j--] = t;
+		}
+	}
+
+	/**
+	 * Takes a run out of the route and puts it back so it starts at a new position.
+	 */
+	private static int[] move(int[] tour, int from, int length, int to) {
+		int[] rest = new int[tour.length - length];
+		System.arraycopy(tour, 0, rest, 0, from);
+		System.arraycopy(tour, from + length, rest, from, tour.length - from - length);
+
+		int[] result = new int[tour.length];
+		System.arraycopy(rest, 0, result, 0, to);
+		System.arraycopy(tour, from, result, to, length);
+		System.arraycopy(rest, to, result, to + length, rest.length - to);
+		return result;
+	}
+}
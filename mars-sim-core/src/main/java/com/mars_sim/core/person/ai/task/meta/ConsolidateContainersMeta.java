@@ -18,6 +18,7 @@ import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.task.ConsolidateContainers;
 import com.mars_sim.core.person.ai.task.util.FactoryMetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -66,6 +67,8 @@ public class ConsolidateContainersMeta extends FactoryMetaTask implements Settle
 		setTrait(TaskTrait.STRENGTH, TaskTrait.ORGANIZATION, TaskTrait.DISCIPLINE);
 		addPreferredRobot(RobotType.MEDICBOT);
         addPreferredRobot(RobotType.DELIVERYBOT);
+		setScoreDependencies(ScoreDependency.LOCATION, ScoreDependency.RESOURCES,
+						ScoreDependency.PERIOD);
 	}
 
 		
@@ -13,6 +13,7 @@ import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.PhysicalCondition;
 import com.mars_sim.core.person.ai.task.ListenToMusic;
 import com.mars_sim.core.person.ai.task.util.FactoryMetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.Task;
 import com.mars_sim.core.person.ai.task.util.TaskJob;
 import com.mars_sim.core.person.ai.task.util.TaskTrait;
@@ -34,6 +35,8 @@ public class ListenToMusicMeta extends FactoryMetaTask {
     public ListenToMusicMeta() {
 		super(NAME, WorkerType.PERSON, TaskScope.ANY_HOUR);
 		setTrait(TaskTrait.RELAXATION);
+		setScoreDependencies(ScoreDependency.LOCATION, ScoreDependency.BUILDING,
+							ScoreDependency.SHIFT, ScoreDependency.CONDITION);
 
 	}
 
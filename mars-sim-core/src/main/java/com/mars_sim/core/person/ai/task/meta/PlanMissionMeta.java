@@ -15,6 +15,7 @@ import com.mars_sim.core.person.PhysicalCondition;
 import com.mars_sim.core.person.ai.mission.MissionLimitParameters;
 import com.mars_sim.core.person.ai.task.PlanMission;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -57,7 +58,7 @@ public class PlanMissionMeta extends MetaTask implements SettlementMetaTask {
   
 
     public PlanMissionMeta() {
-		super(NAME, WorkerType.PERSON, TaskScope.WORK_HOUR);
+		super(NAME, WorkerType.PERSON, TaskScope.WORK_HOUR, ScoreDependency.PERIOD);
 	}
 
     /**
@@ -15,6 +15,7 @@ import com.mars_sim.core.person.PhysicalCondition;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.task.PlayHoloGame;
 import com.mars_sim.core.person.ai.task.util.FactoryMetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.Task;
 import com.mars_sim.core.person.ai.task.util.TaskJob;
 import com.mars_sim.core.person.ai.task.util.TaskTrait;
@@ -39,6 +40,8 @@ public class PlayHoloGameMeta extends FactoryMetaTask {
 		
 		setFavorite(FavoriteType.GAMING);
 		setTrait(TaskTrait.AGILITY, TaskTrait.RELAXATION);
+		setScoreDependencies(ScoreDependency.LOCATION, ScoreDependency.BUILDING,
+							ScoreDependency.SHIFT, ScoreDependency.CONDITION);
 	}
     
     @Override
@@ -14,6 +14,7 @@ import com.mars_sim.core.person.PhysicalCondition;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.task.Read;
 import com.mars_sim.core.person.ai.task.util.FactoryMetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.Task;
 import com.mars_sim.core.person.ai.task.util.TaskJob;
 import com.mars_sim.core.person.ai.task.util.TaskTrait;
@@ -34,6 +35,7 @@ public class ReadMeta extends FactoryMetaTask {
 		super(NAME, WorkerType.PERSON, TaskScope.NONWORK_HOUR);
 		
 		setTrait(TaskTrait.TEACHING);
+		setScoreDependencies(ScoreDependency.LOCATION, ScoreDependency.CONDITION);
 	}
     
     @Override
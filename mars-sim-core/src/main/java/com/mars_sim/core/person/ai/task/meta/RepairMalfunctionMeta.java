@@ -25,6 +25,7 @@ import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.task.RepairEVAMalfunction;
 import com.mars_sim.core.person.ai.task.RepairInsideMalfunction;
 import com.mars_sim.core.person.ai.task.util.FactoryMetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -116,6 +117,8 @@ public class RepairMalfunctionMeta extends FactoryMetaTask implements Settlement
 		setPreferredJob(JobType.MECHANICS);
 
 		addPreferredRobot(RobotType.REPAIRBOT);
+		setScoreDependencies(ScoreDependency.LOCATION, ScoreDependency.BUILDING,
+						ScoreDependency.MALFUNCTION, ScoreDependency.PERIOD);
 	}
 
 	/**
@@ -18,6 +18,7 @@ import com.mars_sim.core.person.ai.mission.PlanType;
 import com.mars_sim.core.person.ai.role.RoleType;
 import com.mars_sim.core.person.ai.task.ReviewMissionPlan;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -66,6 +67,7 @@ public class ReviewMissionPlanMeta extends MetaTask implements SettlementMetaTas
 		setTrait(TaskTrait.LEADERSHIP);
 		addPreferredRole(RoleType.MISSION_SPECIALIST, 1.5D);
 		addPreferredRole(RoleType.CHIEF_OF_MISSION_PLANNING, 3);
+		setScoreDependencies(ScoreDependency.PERIOD);
 	}
 
 	/**
@@ -17,6 +17,7 @@ import com.mars_sim.core.person.ai.mission.SalvageMission;
 import com.mars_sim.core.person.ai.task.EVAOperation;
 import com.mars_sim.core.person.ai.task.SalvageBuilding;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -56,6 +57,7 @@ public class SalvageBuildingMeta extends MetaTask implements SettlementMetaTask
 		setFavorite(FavoriteType.OPERATION, FavoriteType.TINKERING);
 		setTrait(TaskTrait.STRENGTH);
 		setPreferredJob(JobType.ARCHITECT);
+		setScoreDependencies(ScoreDependency.BUILDING, ScoreDependency.PERIOD);
 	}
 
     /**
@@ -14,6 +14,7 @@ import com.mars_sim.core.person.PhysicalCondition;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.task.Workout;
 import com.mars_sim.core.person.ai.task.util.FactoryMetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.Task;
 import com.mars_sim.core.person.ai.task.util.TaskJob;
 import com.mars_sim.core.person.ai.task.util.TaskTrait;
@@ -37,6 +38,8 @@ public class WorkoutMeta extends FactoryMetaTask {
 		super(NAME, WorkerType.PERSON, TaskScope.NONWORK_HOUR);
 		setFavorite(FavoriteType.SPORT);
 		setTrait(TaskTrait.AGILITY, TaskTrait.RELAXATION);
+		setScoreDependencies(ScoreDependency.LOCATION, ScoreDependency.BUILDING,
+							ScoreDependency.CONDITION);
 
 	}
     
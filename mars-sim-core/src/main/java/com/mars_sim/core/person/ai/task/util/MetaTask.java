@@ -8,6 +8,7 @@ package com.mars_sim.core.person.ai.task.util;
 
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +48,33 @@ public abstract class MetaTask {
 	public enum TaskScope {
 		ANY_HOUR, WORK_HOUR, NONWORK_HOUR
 	}
+
+	/**
+	 *  Defines the state of a Worker or Settlement that a score depends on. A cached
+	 *  score is reused until one of these changes.
+	 */
+	public enum ScoreDependency {
+		/** Whether in a settlement, vehicle or outside and whether the vehicle is moving. */
+		LOCATION,
+		/** The building the Worker is in. */
+		BUILDING,
+		/** The shift status of the Worker. */
+		SHIFT,
+		/** The hunger, thirst, fatigue, stress and energy of the Worker. */
+		CONDITION,
+		/** The resources stored at the Settlement. */
+		RESOURCES,
+		/** The malfunctions of the buildings and vehicles at the Settlement. */
+		MALFUNCTION,
+		/** The vehicles parked at the Settlement and whether they are loading, unloading or in maintenance. */
+		VEHICLES,
+		/** The group activities open to join at the Settlement. */
+		ACTIVITIES,
+		/** A short period of the sol; for scores that drift slowly with time. */
+		PERIOD,
+		/** Anything else; the score is worked out every time. */
+		TIME
+	}
 	
 	// Common modifier names for RatingScore
 	private static final String EVA_MODIFIER = "eva";
@@ -100,6 +128,8 @@ public abstract class MetaTask {
 	private Map<JobType, Double> preferredJobs = new EnumMap<>(JobType.class);
 	private Set<RobotType> preferredRobots = new HashSet<>();
 	private Map<RoleType, Double> preferredRoles = new EnumMap<>(RoleType.class);
+	private Set<ScoreDependency> scoreDependencies = EnumSet.allOf(ScoreDependency.class);
+	private ScoringStats scoringStats = new ScoringStats();
 	
 	
 	/**
@@ -117,6 +147,20 @@ public abstract class MetaTask {
 		this.id = this.getClass().getSimpleName().replace(META, "").toUpperCase();
 	}
 
+	/**
+	 * Constructor for a Task whose score is reused until the given state changes.
+	 * 
+	 * @param name
+	 * @param workerType
+	 * @param scope
+	 * @param dependencies State the score depends on
+	 */
+	protected MetaTask(String name, WorkerType workerType, TaskScope scope, ScoreDependency... dependencies) {
+		this(name, workerType, scope);
+		scoreDependencies = EnumSet.noneOf(ScoreDependency.class);
+		Collections.addAll(scoreDependencies, dependencies);
+	}
+
 	/**
 	 * Defines the Person favourites for this Task. This will overwrite any
 	 * previous favourites.
@@ -145,6 +189,17 @@ public abstract class MetaTask {
 		}
 	}
 	
+	/**
+	 * Defines the state that the score of this Task depends on. The score is reused
+	 * until that state changes. By default the Task is scored every time.
+	 * 
+	 * @param dependencies
+	 */
+	protected final void setScoreDependencies(ScoreDependency... dependencies) {
+		scoreDependencies = EnumSet.noneOf(ScoreDependency.class);
+		Collections.addAll(scoreDependencies, dependencies);
+	}
+
 	/**
 	 * Sets the preferred jobs for this Task. This overwrites any previous values.
 	 * 
@@ -243,6 +298,24 @@ public abstract class MetaTask {
 		return workerType;
 	}
 	
+	/**
+	 * Gets the state that the score of this Task depends on.
+	 * 
+	 * @return
+	 */
+	public Set<ScoreDependency> getScoreDependencies() {
+		return scoreDependencies;
+	}
+
+	/**
+	 * Gets the counts of how often this Task has been scored.
+	 * 
+	 * @return
+	 */
+	public ScoringStats getScoringStats() {
+		return scoringStats;
+	}
+
 	/**
 	 * Gets the traits of this Task.
 	 * 
@@ -6,19 +6,26 @@
  */
 package com.mars_sim.core.person.ai.task.util;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.mission.util.MissionRating;
 import com.mars_sim.core.person.Person;
+import com.mars_sim.core.person.PhysicalCondition;
 import com.mars_sim.core.person.ai.CacheCreator;
 import com.mars_sim.core.person.ai.Mind;
 import com.mars_sim.core.person.ai.shift.ShiftSlot.WorkStatus;
 import com.mars_sim.core.person.ai.task.EatDrink;
 import com.mars_sim.core.person.ai.task.Sleep;
 import com.mars_sim.core.person.ai.task.Walk;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
+import com.mars_sim.core.structure.building.Building;
 import com.mars_sim.core.time.MarsTime;
+import com.mars_sim.core.vehicle.Vehicle;
 
 /**
  * The PersonTaskManager class keeps track of a person's current task and can randomly
@@ -42,12 +49,27 @@ public class PersonTaskManager extends TaskManager {
 	private static final String EAT = "Eat";
 
 	private static final String DIAGS_MODULE = "taskperson";
+
+	/** A Person's fit for the shared Settlement Tasks depends on these. */
+	private static final Set<ScoreDependency> SETTLEMENT_DEPENDENCIES = EnumSet.of(ScoreDependency.LOCATION,
+					ScoreDependency.BUILDING, ScoreDependency.SHIFT, ScoreDependency.CONDITION);
+	/** Changes in hunger, thirst and fatigue smaller than this do not count. */
+	private static final double NEED_STEP = 25D;
+	private static final double STRESS_STEP = 5D;
+	private static final double ENERGY_STEP = 500D;
+	private static final double PERFORMANCE_STEP = 0.05D;
+
+	private static ScoringStats settlementStats = new ScoringStats();
 	
 	// Data members
 	
 	private transient List<MissionRating> missionProbCache;
 	
 	private transient MissionRating selectedMissionRating;
+
+	private transient TaskScoreCache<TaskJob> scoreCache;
+	private transient SettlementTaskManager lastPool;
+	private transient int lastPoolVersion;
 	
 	/** The mind of the person the task manager is responsible for. */
 	private Mind mind;
@@ -110,9 +132,13 @@ public class PersonTaskManager extends TaskManager {
 		// Create new taskProbCache
 		CacheCreator<TaskJob> newCache = new CacheCreator<>(shiftDesc, now);
 
-		// Determine probabilities.
+		// Determine probabilities; only those whose state has changed are scored again
+		if (scoreCache == null) {
+			scoreCache = new TaskScoreCache<>();
+		}
+		stampState(workStatus, now);
 		for (FactoryMetaTask mt : mtList) {
-			List<TaskJob> job = mt.getTaskJobs(person);
+			List<TaskJob> job = scoreCache.getJobs(mt, () -> mt.getTaskJobs(person));
 			if (job != null) {
 				newCache.add(job);
 			}
@@ -121,7 +147,14 @@ public class PersonTaskManager extends TaskManager {
 		// Add in any Settlement Tasks
 		if ((workStatus == WorkStatus.ON_DUTY) && person.isInSettlement()) {
 			SettlementTaskManager stm = person.getAssociatedSettlement().getTaskManager();
-			newCache.add(stm.getTasks(person));
+			int poolVersion = stm.getVersion();
+			if ((stm != lastPool) || (poolVersion != lastPoolVersion)) {
+				scoreCache.invalidate(stm);
+				lastPool = stm;
+				lastPoolVersion = poolVersion;
+			}
+			newCache.add(scoreCache.getJobs(stm, SETTLEMENT_DEPENDENCIES, settlementStats,
+											() -> stm.getTasks(person)));
 		}
 
 		// Check if the map cache is empty
@@ -138,6 +171,39 @@ public class PersonTaskManager extends TaskManager {
 		return newCache;
 	}
 
+	/**
+	 * Records the state of the Person that the MetaTasks depend on. The malfunctions and
+	 * vehicles of the Settlement are not stamped here, so the Metas that depend on them
+	 * also depend on the period.
+	 * 
+	 * @param workStatus
+	 * @param now
+	 */
+	private void stampState(WorkStatus workStatus, MarsTime now) {
+		scoreCache.setStamp(ScoreDependency.SHIFT, workStatus.ordinal());
+		scoreCache.setStamp(ScoreDependency.LOCATION, Objects.hash(person.getLocationStateType(),
+									person.getContainerID(), Vehicle.inMovingRover(person)));
+		Building b = person.getBuildingLocation();
+		scoreCache.setStamp(ScoreDependency.BUILDING, (b != null ? b.getIdentifier() : -1));
+
+		PhysicalCondition pc = person.getPhysicalCondition();
+		scoreCache.setStamp(ScoreDependency.CONDITION, Objects.hash((int)(pc.getHunger() / NEED_STEP),
+									(int)(pc.getThirst() / NEED_STEP), (int)(pc.getFatigue() / NEED_STEP),
+									(int)(pc.getStress() / STRESS_STEP), (int)(pc.getEnergy() / ENERGY_STEP),
+									(int)(pc.getPerformanceFactor() / PERFORMANCE_STEP)));
+		scoreCache.setStamp(ScoreDependency.RESOURCES, TaskScoreCache.getResourceStamp(person.getAssociatedSettlement()));
+		scoreCache.setStamp(ScoreDependency.PERIOD, TaskScoreCache.getPeriodStamp(now));
+	}
+
+	/**
+	 * Gets the counts of how often People are scored for the shared Settlement Tasks.
+	 * 
+	 * @return
+	 */
+	public static ScoringStats getSettlementScoringStats() {
+		return settlementStats;
+	}
+
 	/**
 	 * Shared cache for person who are Inside. Contains the basic Task
 	 * that can always be done.
@@ -0,0 +1,89 @@
+/*
+ * Mars Simulation Project
+ * ScoringStats.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.person.ai.task.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often a MetaTask is scored, how often a cached score is reused instead,
+ * and the time spent scoring. Workers are scored on many threads so the counts are adders.
+ */
+public class ScoringStats {
+
+	private LongAdder scored = new LongAdder();
+	private LongAdder reused = new LongAdder();
+	private LongAdder nanos = new LongAdder();
+
+	/**
+	 * Records a score being worked out.
+	 *
+	 * @param elapsed Time taken in nanoseconds
+	 */
+	void recordScored(long elapsed) {
+		scored.increment();
+		nanos.add(elapsed);
+	}
+
+	/**
+	 * Records a cached score being reused.
+	 */
+	void recordReused() {
+		reused.increment();
+	}
+
+	/**
+	 * Gets the number of times the score was worked out.
+	 */
+	public long getScored() {
+		return scored.sum();
+	}
+
+	/**
+	 * Gets the number of times a cached score was reused.
+	 */
+	public long getReused() {
+		return reused.sum();
+	}
+
+	/**
+	 * Gets the share of requests that reused a cached score.
+	 *
+	 * @return 0 to 1
+	 */
+	public double getHitRate() {
+		long hits = reused.sum();
+		long total = hits + scored.sum();
+		return (total == 0 ? 0D : (double) hits / total);
+	}
+
+	/**
+	 * Gets the total time spent working out scores.
+	 *
+	 * @return Milliseconds
+	 */
+	public double getTotalTime() {
+		return nanos.sum() / 1_000_000D;
+	}
+
+	/**
+	 * Gets the average time to work out a score.
+	 *
+	 * @return Microseconds
+	 */
+	public double getAverageTime() {
+		long count = scored.sum();
+		return (count == 0 ? 0D : nanos.sum() / 1000D / count);
+	}
+
+	/**
+	 * Clears the counts.
+	 */
+	public void reset() {
+		scored.reset();
+		reused.reset();
+		nanos.reset();
+	}
+}
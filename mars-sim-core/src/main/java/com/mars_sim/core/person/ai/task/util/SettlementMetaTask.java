@@ -11,6 +11,7 @@ import java.util.Set;
 
 import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.person.Person;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.robot.Robot;
 import com.mars_sim.core.robot.RobotType;
 import com.mars_sim.core.structure.Settlement;
@@ -47,6 +48,21 @@ public interface SettlementMetaTask {
      */
     RatingScore assessPersonSuitability(SettlementTask t, Person p);
 
+    /**
+     * Gets the state of the Settlement that the tasks depend on.
+     * 
+     * @return
+     * @see MetaTask#getScoreDependencies()
+     */
+    Set<ScoreDependency> getScoreDependencies();
+
+    /**
+     * Gets the counts of how often the tasks have been created.
+     * 
+     * @return
+     */
+    ScoringStats getScoringStats();
+
     /**
      * Assess a Robot for a specific SettlementTask of this type.
      * Default implementation return Robot is not suitable.
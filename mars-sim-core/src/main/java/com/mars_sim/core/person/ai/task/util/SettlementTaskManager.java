@@ -14,9 +14,11 @@ import java.util.Set;
 import com.mars_sim.core.UnitEventType;
 import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.person.Person;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.MetaTask.TaskScope;
 import com.mars_sim.core.robot.Robot;
 import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.time.MarsTime;
 
 /**
  * This class is responsible for maintaining a list of sharable SettlementTasks that can be
@@ -49,10 +51,7 @@ public class SettlementTaskManager implements Serializable {
          * A Worker has selected this to be work on so reduce the demand.
          */
         private void reduceDemand() {
-            // One demand taken, if none left remove from shared pool
-            if (source.reduceDemand()) {
-                manager.removeTask(source);
-            }
+            manager.reduceDemand(source);
         }
 
         @Override
@@ -69,8 +68,11 @@ public class SettlementTaskManager implements Serializable {
     }
 
     private Settlement owner;
-    private transient List<SettlementTask> tasks;
+    private transient volatile List<SettlementTask> tasks;
+    private transient TaskScoreCache<SettlementTask> scoreCache;
     private boolean refreshTasks = true;
+    private int version = 0;
+    private transient long period = -1L;
 
     private int callCount;
     private int buildCount = 0;
@@ -81,14 +83,30 @@ public class SettlementTaskManager implements Serializable {
     }
     
     /**
-     * Removes a shared SettlementTask from the pool.
+     * A Worker has taken a shared SettlementTask. One demand is taken and if none
+     * is left the task is removed from the pool.
+     * 
+     * @param source Task taken
+     */
+    private synchronized void reduceDemand(SettlementTask source) {
+        if (source.reduceDemand()) {
+            removeTask(source);
+        }
+    }
+
+    /**
+     * Removes a shared SettlementTask from the pool. The pool is copied so Workers
+     * still reading the previous one are not disturbed.
      * 
      * @param source Item to remove.
      */
-    void removeTask(SettlementTask source) {
+    private synchronized void removeTask(SettlementTask source) {
         executedCount++;
+        version++;
         if (tasks != null) {
-            tasks.remove(source);
+            List<SettlementTask> newTasks = new ArrayList<>(tasks);
+            newTasks.remove(source);
+            tasks = newTasks;
         }
     }
 
@@ -104,22 +122,52 @@ public class SettlementTaskManager implements Serializable {
 
     /**
      * Gets the current cached Settlement Tasks. 
-     * If there is no cache or marked as refresh then a list is created.
+     * If there is no cache or marked as refresh then a list is created. Only the
+     * MetaTasks whose Settlement state has changed create their tasks again; the
+     * others keep the tasks that still have demand.
      */
-    private List<SettlementTask> getTasks() {
+    private synchronized List<SettlementTask> getTasks() {
+        refresh();
+        callCount++;
+        return tasks;
+    }
+
+    private void refresh() {
         if (refreshTasks || (tasks == null)) {
-            tasks = new ArrayList<>();
+            if (scoreCache == null) {
+                scoreCache = new TaskScoreCache<>();
+            }
+            scoreCache.setStamp(ScoreDependency.RESOURCES, TaskScoreCache.getResourceStamp(owner));
+            scoreCache.setStamp(ScoreDependency.BUILDING, owner.getBuildingManager().getNumBuildings());
+            scoreCache.setStamp(ScoreDependency.MALFUNCTION, TaskScoreCache.getMalfunctionStamp(owner));
+            scoreCache.setStamp(ScoreDependency.VEHICLES, TaskScoreCache.getVehicleStamp(owner));
+            scoreCache.setStamp(ScoreDependency.ACTIVITIES, TaskScoreCache.getActivityStamp(owner));
+            scoreCache.setStamp(ScoreDependency.PERIOD, period);
+
+            List<SettlementTask> previous = tasks;
+            List<SettlementTask> current = new ArrayList<>();
             for (SettlementMetaTask mt : getMetaTasks()) {
-                tasks.addAll(mt.getSettlementTasks(owner));
+                for (SettlementTask st : scoreCache.getJobs(mt, mt.getScoreDependencies(), mt.getScoringStats(),
+                                        () -> mt.getSettlementTasks(owner))) {
+                    if (st.getDemand() > 0) {
+                        current.add(st);
+                    }
+                }
             }
             refreshTasks = false;
             buildCount++;
+            if (isSame(previous, current)) {
+                // Keep the tasks the Workers already hold
+                tasks = previous;
+            }
+            else {
+                tasks = current;
+                version++;
 
-            // Inform listeners
-            owner.fireUnitUpdate(UnitEventType.BACKLOG_EVENT);
+                // Inform listeners
+                owner.fireUnitUpdate(UnitEventType.BACKLOG_EVENT);
+            }
         }
-        callCount++;
-        return tasks;
     }
 
     /**
@@ -183,6 +231,34 @@ public class SettlementTaskManager implements Serializable {
         return result;
     }
 
+    /**
+     * Checks whether two pools hold the same tasks with the same demand and score. Tasks
+     * created again for the same work are equal, so a rebuild that finds nothing new
+     * leaves the pool as it was.
+     */
+    private static boolean isSame(List<SettlementTask> previous, List<SettlementTask> current) {
+        if ((previous == null) || (previous.size() != current.size())) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            SettlementTask p = previous.get(i);
+            SettlementTask c = current.get(i);
+            if ((p != c) && (!p.equals(c) || (p.getDemand() != c.getDemand())
+                    || (p.getScore().getScore() != c.getScore().getScore()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets a count that changes whenever the shared pool changes.
+     */
+    synchronized int getVersion() {
+        refresh();
+        return version;
+    }
+
     /**
      * How many tasks have been executed out of the shared pool?
      */
@@ -199,8 +275,11 @@ public class SettlementTaskManager implements Serializable {
 
     /**
      * Time has progressed so mark the tasks to be refresh on the next demand.
+     * 
+     * @param now Current time
      */
-    public void timePassing() {
+    public synchronized void timePassing(MarsTime now) {
         refreshTasks = true;
+        period = TaskScoreCache.getPeriodStamp(now);
     }
 }
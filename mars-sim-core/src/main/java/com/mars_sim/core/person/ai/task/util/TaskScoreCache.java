@@ -0,0 +1,205 @@
+/*
+ * Mars Simulation Project
+ * TaskScoreCache.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.person.ai.task.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.mars_sim.core.activities.GroupActivity;
+import com.mars_sim.core.malfunction.Malfunction;
+import com.mars_sim.core.malfunction.MalfunctionManager;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.structure.building.Building;
+import com.mars_sim.core.time.MarsTime;
+import com.mars_sim.core.vehicle.StatusType;
+import com.mars_sim.core.vehicle.Vehicle;
+
+/**
+ * Keeps the last scores of each MetaTask for one worker or settlement. The owner stamps
+ * the state each dependency covers before scoring; a MetaTask is only scored again when
+ * the stamp of a state it depends on has changed since its last score.
+ *
+ * @param <T> The type of job scored
+ */
+class TaskScoreCache<T> {
+
+	private record Entry<T>(long[] stamps, List<T> jobs) {}
+
+	private static final ScoreDependency[] DEPENDENCIES = ScoreDependency.values();
+	/** Length of the period stamp [millisols]. */
+	static final int PERIOD_MSOLS = 10;
+	private static final StatusType[] VEHICLE_STATUS = {StatusType.LOADING, StatusType.UNLOADING,
+								StatusType.MAINTENANCE, StatusType.GARAGED};
+
+	private long[] stamps = new long[DEPENDENCIES.length];
+	private Map<Object, Entry<T>> entries = new HashMap<>();
+
+	/**
+	 * Records the current state for a dependency.
+	 *
+	 * @param dependency
+	 * @param stamp Changes whenever the state changes
+	 */
+	void setStamp(ScoreDependency dependency, long stamp) {
+		stamps[dependency.ordinal()] = stamp;
+	}
+
+	/**
+	 * Gets the jobs for a key, scoring them again only if a state they depend on has changed.
+	 *
+	 * @param key What is scored, normally the MetaTask
+	 * @param dependencies The states the score depends on
+	 * @param stats Where the scoring is counted
+	 * @param scorer Works out the jobs
+	 * @return
+	 */
+	List<T> getJobs(Object key, Set<ScoreDependency> dependencies, ScoringStats stats,
+						Supplier<List<T>> scorer) {
+		Entry<T> entry = entries.get(key);
+		if ((entry != null) && isCurrent(entry, dependencies)) {
+			stats.recordReused();
+			return entry.jobs();
+		}
+
+		long start = System.nanoTime();
+		List<T> jobs = scorer.get();
+		stats.recordScored(System.nanoTime() - start);
+		entries.put(key, new Entry<>(stamps.clone(), jobs));
+		return jobs;
+	}
+
+	/**
+	 * Gets the jobs for a MetaTask, scoring them again only if a state it depends on has changed.
+	 *
+	 * @param mt
+	 * @param scorer
+	 * @return
+	 */
+	List<T> getJobs(MetaTask mt, Supplier<List<T>> scorer) {
+		return getJobs(mt, mt.getScoreDependencies(), mt.getScoringStats(), scorer);
+	}
+
+	/**
+	 * Forgets the jobs for a key so they are scored next time.
+	 *
+	 * @param key
+	 */
+	void invalidate(Object key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Forgets all the jobs.
+	 */
+	void clear() {
+		entries.clear();
+		Arrays.fill(stamps, 0L);
+	}
+
+	private boolean isCurrent(Entry<T> entry, Set<ScoreDependency> dependencies) {
+		if (dependencies.contains(ScoreDependency.TIME)) {
+			return false;
+		}
+		for (ScoreDependency d : dependencies) {
+			if (entry.stamps()[d.ordinal()] != stamps[d.ordinal()]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets a stamp for the resources stored at a settlement. It changes when the stored
+	 * mass moves by about 1%, so the steady use of life support does not count.
+	 *
+	 * @param settlement
+	 * @return
+	 */
+	static long getResourceStamp(Settlement settlement) {
+		if (settlement == null) {
+			return -1L;
+		}
+		return (long) Math.floor(Math.log1p(settlement.getStoredMass()) * 100D);
+	}
+
+	/**
+	 * Gets a stamp that changes every few millisols.
+	 *
+	 * @param now
+	 * @return
+	 */
+	static long getPeriodStamp(MarsTime now) {
+		if (now == null) {
+			return -1L;
+		}
+		return (now.getMissionSol() * 1000L + now.getMillisolInt()) / PERIOD_MSOLS;
+	}
+
+	/**
+	 * Gets a stamp for the malfunctions of the buildings and parked vehicles at a settlement.
+	 *
+	 * @param settlement
+	 * @return
+	 */
+	static long getMalfunctionStamp(Settlement settlement) {
+		long stamp = 1L;
+		for (Building b : settlement.getBuildingManager().getBuildingSet()) {
+			stamp = addMalfunctions(stamp, b.getIdentifier(), b.getMalfunctionManager());
+		}
+		for (Vehicle v : settlement.getParkedGaragedVehicles()) {
+			stamp = addMalfunctions(stamp, v.getIdentifier(), v.getMalfunctionManager());
+		}
+		return stamp;
+	}
+
+	private static long addMalfunctions(long stamp, int id, MalfunctionManager manager) {
+		if (!manager.hasMalfunction()) {
+			return stamp;
+		}
+		long result = stamp;
+		for (Malfunction m : manager.getMalfunctions()) {
+			result = (result * 31L) + id + (m.isFixed() ? 1 : 0);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets a stamp for the vehicles parked at a settlement and their status.
+	 *
+	 * @param settlement
+	 * @return
+	 */
+	static long getVehicleStamp(Settlement settlement) {
+		long stamp = 1L;
+		for (Vehicle v : settlement.getParkedGaragedVehicles()) {
+			stamp = (stamp * 31L) + v.getIdentifier();
+			for (StatusType s : VEHICLE_STATUS) {
+				stamp = (stamp * 2L) + (v.haveStatusType(s) ? 1 : 0);
+			}
+		}
+		return stamp;
+	}
+
+	/**
+	 * Gets a stamp for the group activities open to join at a settlement. It changes as
+	 * soon as an activity opens or closes.
+	 *
+	 * @param settlement
+	 * @return
+	 */
+	static long getActivityStamp(Settlement settlement) {
+		long stamp = 1L;
+		for (GroupActivity a : settlement.getGroupActivities(true)) {
+			stamp = (stamp * 31L) + System.identityHashCode(a);
+		}
+		return stamp;
+	}
+}
@@ -14,6 +14,7 @@ import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.SkillType;
 import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -67,6 +68,7 @@ public class ExamineBodyMeta  extends MetaTask implements SettlementMetaTask {
 		setTrait(TaskTrait.MEDICAL);
 		setPreferredJob(JobType.MEDICS);
 		addPreferredRobot(RobotType.MEDICBOT);
+		setScoreDependencies(ScoreDependency.PERIOD);
 	}
 
 	/**
@@ -0,0 +1,22 @@
+/*
+ * Mars Simulation Project
+ * PulsePhase.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.structure;
+
+/**
+ * The phases a Settlement goes through when applying a clock pulse. All settlements
+ * complete one phase before any settlement starts the next, so the order of
+ * updates inside a settlement is always the same.
+ */
+public enum PulsePhase {
+	/** Scheduled events and first sol initialisation. */
+	ENVIRONMENT,
+	/** Power grid, thermal system and building functions. */
+	UTILITIES,
+	/** Citizens, vehicles and robots. */
+	WORKERS,
+	/** Daily tasks and sampling of resources. */
+	BOOKKEEPING
+}
@@ -63,6 +63,7 @@ import com.mars_sim.core.person.Commander;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.PersonConfig;
 import com.mars_sim.core.person.PhysicalCondition;
+import com.mars_sim.core.person.PhysiologyEngine;
 import com.mars_sim.core.person.ai.job.util.JobUtil;
 import com.mars_sim.core.person.ai.mission.Exploration;
 import com.mars_sim.core.person.ai.mission.MissionLimitParameters;
@@ -327,6 +328,8 @@ public class Settlement extends Unit implements Temporal,
 	private Set<Integer> depressurizedAirlocks = new HashSet<>();
 	/** The settlement's list of citizens. */
 	private Set<Person> citizens;
+	/** The vital signs of the citizens. */
+	private PhysiologyEngine physiology = new PhysiologyEngine();
 	/** The settlement's list of owned robots. */
 	private Set<Robot> ownedRobots;
 	/** The settlement's list of owned vehicles. */
@@ -392,6 +395,8 @@ public class Settlement extends Unit implements Temporal,
 		ShiftPattern shifts = settlementConfig.getShiftByPopulation(10);
 		shiftManager = new ShiftManager(this, shifts,
 										masterClock.getMarsTime().getMillisolInt());
+		// Create settlement task manager
+		taskManager = new SettlementTaskManager(this);
 
 		// Initialize scientific achievement.
 		scientificAchievement = new EnumMap<>(ScienceType.class);
@@ -871,10 +876,58 @@ public class Settlement extends Unit implements Temporal,
 	 */
 	@Override
 	public boolean timePassing(ClockPulse pulse) {
+		for (PulsePhase phase : PulsePhase.values()) {
+			if (!timePassing(pulse, phase)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Performs a single phase of the time-related processes. The phases must be
+	 * applied in the order of {@link PulsePhase} for each pulse.
+	 * 
+	 * @param pulse
+	 * @param phase
+	 * @return false if the pulse was rejected
+	 */
+	public boolean timePassing(ClockPulse pulse, PulsePhase phase) {
 		if (!isValid(pulse)) {
 			return false;
 		}
-		
+
+		switch (phase) {
+			case ENVIRONMENT -> timePassingEnvironment(pulse);
+			case UTILITIES -> {
+				powerGrid.timePassing(pulse);
+				thermalSystem.timePassing(pulse);
+				buildingManager.timePassing(pulse);
+			}
+			case WORKERS -> {
+				taskManager.timePassing(pulse.getMarsTime());
+
+				// Update citizens
+				timePassingCitizens(pulse);
+
+				// Update vehicles
+				timePassing(pulse, ownedVehicles);
+				
+				// Update robots
+				timePassing(pulse, ownedRobots);
+			}
+			case BOOKKEEPING -> timePassingBookkeeping(pulse);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Runs the first sol initialisation and the scheduled events.
+	 * 
+	 * @param pulse
+	 */
+	private void timePassingEnvironment(ClockPulse pulse) {
 		int sol = pulse.getMarsTime().getMissionSol();
 
 		// Run at the start of the sim once only
@@ -890,29 +943,22 @@ public class Settlement extends Unit implements Temporal,
 			goodsManager.updateGoodValues();
 		}
 		
-		
-		// Calls other time passings
 		futureEvents.timePassing(pulse);
-		powerGrid.timePassing(pulse);
-		thermalSystem.timePassing(pulse);
-		buildingManager.timePassing(pulse);
-		taskManager.timePassing();
+	}
 
-		// Update citizens
-		timePassingCitizens(pulse);
+	/**
+	 * Runs the end of pulse tasks once all the units have been updated.
+	 * 
+	 * @param pulse
+	 */
+	private void timePassingBookkeeping(ClockPulse pulse) {
+		int sol = pulse.getMarsTime().getMissionSol();
 
-		// Update vehicles
-		timePassing(pulse, ownedVehicles);
-		
-		// Update robots
-		timePassing(pulse, ownedRobots);
-	
 		if (pulse.isNewHalfSol()) {
 			// Reset the flag for water ratio review
 			setReviewWaterRatio(false);
 		}
 
-	
 		if (sol > 1 && pulse.isNewSol()) {
 
 			// Perform the end of day tasks
@@ -921,8 +967,6 @@ public class Settlement extends Unit implements Temporal,
 
 		// Keeps track of things based on msol
 		trackByMSol(pulse);
-
-		return true;
 	}
 	
 	/**
@@ -993,15 +1037,33 @@ public class Settlement extends Unit implements Temporal,
 	}
 
 	/**
-	 * Applies a clock pulse to a list of Temporal objects. This traps exceptions
-	 * to avoid the impact spreading to other units.
+	 * Applies a clock pulse to a list of Temporal objects. The units of one settlement
+	 * share its buildings and stores so they are updated one after another; only
+	 * different settlements run at the same time.
 	 * 
 	 * @param pulse
 	 * @param ownedUnits
 	 */
-	private void timePassing(ClockPulse pulse, Collection<? extends Temporal> ownedUnits) {
-		for (Temporal t : ownedUnits) {
-			t.timePassing(pulse);
+	private <T extends Unit & Temporal> void timePassing(ClockPulse pulse, Collection<T> ownedUnits) {
+		for (T t : ownedUnits) {
+			timePassing(pulse, t);
+		}
+	}
+
+	/**
+	 * Passes a pulse to a unit whilst it draws from its own random stream. This keeps
+	 * the random numbers of one unit apart from those of the others.
+	 *
+	 * @param pulse
+	 * @param unit
+	 */
+	private static <T extends Unit & Temporal> void timePassing(ClockPulse pulse, T unit) {
+		var previous = RandomUtil.setActiveStream(unit.getRandomStream());
+		try {
+			unit.timePassing(pulse);
+		}
+		finally {
+			RandomUtil.setActiveStream(previous);
 		}
 	}
 
@@ -1011,7 +1073,11 @@ public class Settlement extends Unit implements Temporal,
 	 * @param pulse
 	 */
 	private void timePassingCitizens(ClockPulse pulse) {
+		// Vitals of all the citizens drift together first
+		physiology.timePassing(pulse);
+
 		List<Person> remove = null;
+		List<Person> alive = new ArrayList<>(citizens.size());
 		for (Person p : citizens) {
 			if (p.isDeclaredDead()) {
 				// If also buried then remove it at the end of loop
@@ -1023,9 +1089,10 @@ public class Settlement extends Unit implements Temporal,
 				}
 			}
 			else {
-				p.timePassing(pulse);
+				alive.add(p);
 			}
 		}
+		timePassing(pulse, alive);
 
 		if (remove != null) {
 			for (Person r : remove) {
@@ -2264,6 +2331,13 @@ public class Settlement extends Unit implements Temporal,
 		return shiftManager;
 	}
 
+	/**
+	 * Gets the engine holding the vital signs of the citizens.
+	 */
+	public PhysiologyEngine getPhysiology() {
+		return physiology;
+	}
+
 	/**
 	 * Gets the radiation status.
 	 * 
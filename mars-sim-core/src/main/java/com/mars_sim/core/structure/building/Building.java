@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 
+import com.mars_sim.core.LocalAreaUtil;
 import com.mars_sim.core.Simulation;
 import com.mars_sim.core.SimulationConfig;
 import com.mars_sim.core.UnitEventType;
@@ -733,7 +734,10 @@ public class Building extends FixedUnit implements Malfunctionable,
 	}
 
 	public void setInTransport(boolean value) {
-		inTransportMode = value;
+		if (inTransportMode != value) {
+			inTransportMode = value;
+			LocalAreaUtil.invalidate(getCoordinates());
+		}
 	}
 
 	/**
@@ -1217,7 +1221,7 @@ public class Building extends FixedUnit implements Malfunctionable,
 			checkForMeteoriteImpact(pulse);
 		}
 
-		inTransportMode = false;
+		setInTransport(false);
 		return true;
 	}
 
@@ -8,6 +8,7 @@ package com.mars_sim.core.structure.building;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -227,6 +228,7 @@ public class BuildingManager implements Serializable {
 			oldBuilding.removeFunctionsFromSettlement();
 
 			buildings.remove(oldBuilding);
+			LocalAreaUtil.invalidate(settlement.getCoordinates());
 
 			// use this only after buildingFunctionsMap has been created
 			for (var f : oldBuilding.getFunctions()) {
@@ -326,6 +328,7 @@ public class BuildingManager implements Serializable {
 			unitManager.addUnit(newBuilding);
 
 			buildings.add(newBuilding);
+			LocalAreaUtil.invalidate(settlement.getCoordinates());
 			
 			// Insert this new building into buildingFunctionsMap
 			refreshFunctionMapForBuilding(newBuilding);
@@ -349,6 +352,7 @@ public class BuildingManager implements Serializable {
 	public void addMockBuilding(Building newBuilding) {
 		if (!buildings.contains(newBuilding)) {
 			buildings.add(newBuilding);
+			LocalAreaUtil.invalidate(settlement.getCoordinates());
 		}
 	}
 
@@ -1912,6 +1916,22 @@ public class BuildingManager implements Serializable {
 		// Note: Use probability selection	
 		return RandomUtil.getWeightedRandomObject(scores);
 	}
+
+	/**
+	 * Gets the computing nodes that can still take on work over a period of time,
+	 * the least loaded first.
+	 * 
+	 * @param startTime
+	 * @param endTime
+	 * @return
+	 */
+	public List<Computation> getLeastLoadedComputingNodes(int startTime, int endTime) {
+		return getBuildingSet(FunctionType.COMPUTATION).stream()
+				.map(Building::getComputation)
+				.filter(c -> c.getSpareCU(startTime, endTime) > 0)
+				.sorted(Comparator.comparingDouble((Computation c) -> c.getSpareCU(startTime, endTime)).reversed())
+				.toList();
+	}
 	
 	/**
 	 * Gets total entropy of all computing nodes in a settlement.
@@ -2283,7 +2303,7 @@ public class BuildingManager implements Serializable {
 	 *
 	 * @return map of parts and their number.
 	 */
-	private Map<Integer, Integer> getMaintenancePartsDemand() {
+	public Map<Integer, Integer> getMaintenancePartsDemand() {
 		if (partsMaint.isEmpty())
 			return new HashMap<>();
 		Map<Integer, Integer> partsList = new HashMap<>();
@@ -61,6 +61,9 @@ public class BuildingConnectorManager implements Serializable {
 	private Settlement settlement;
 	
 	private Set<BuildingConnector> buildingConnections;
+	
+	/** Routing graph of the connections; rebuilt when the connections change. */
+	private transient volatile ConnectorGraph graph;
 		
 	/**
 	 * Constructor
@@ -88,6 +91,7 @@ public class BuildingConnectorManager implements Serializable {
 	public void initialize(Settlement settlement, List<BuildingTemplate> buildingTemplates) {
 		
 		buildingConnections = new HashSet<>();
+		graph = null;
 
 		BuildingManager buildingManager = settlement.getBuildingManager();
 
@@ -373,6 +377,7 @@ public class BuildingConnectorManager implements Serializable {
 
 		if (!buildingConnections.contains(buildingConnector)) {
 			buildingConnections.add(buildingConnector);
+			graph = null;
 		} else {
 			throw new IllegalArgumentException("BuildingConnector already exists.");
 		}
@@ -387,6 +392,7 @@ public class BuildingConnectorManager implements Serializable {
 
 		if (buildingConnections.contains(buildingConnector)) {
 			buildingConnections.remove(buildingConnector);
+			graph = null;
 		} else {
 			throw new IllegalArgumentException("BuildingConnector does not exists.");
 		}
@@ -486,10 +492,7 @@ public class BuildingConnectorManager implements Serializable {
 			throw new IllegalArgumentException("Building arguments cannot be null");
 		}
 
-		InsideBuildingPath validPath = determineShortestPath(building1, building1.getPosition(),
-															building2, building2.getPosition());
-
-		if (validPath != null) {
+		if (building1.equals(building2) || getGraph().hasPath(building1, building2)) {
 			result = true;
 		}
 		else if (logger.isLoggable(Level.FINEST)) {
@@ -514,15 +517,13 @@ public class BuildingConnectorManager implements Serializable {
 		BuildingLocation start = new BuildingLocation(startBuilding, startPosition);
 		BuildingLocation end = new BuildingLocation(endBuilding, endPosition);
 
-		InsideBuildingPath startingPath = new InsideBuildingPath();
-		startingPath.addPathLocation(start);
-
 		InsideBuildingPath finalPath = null;
 		if (!startBuilding.equals(endBuilding)) {
 			// Check shortest path to target building from this building.
-			finalPath = determineShortestPath(startingPath, startBuilding, endBuilding, end);
+			finalPath = getGraph().findPath(start, end);
 		} else {
-			finalPath = startingPath;
+			finalPath = new InsideBuildingPath();
+			finalPath.addPathLocation(start);
 			finalPath.addPathLocation(end);
 		}
 
@@ -535,85 +536,16 @@ public class BuildingConnectorManager implements Serializable {
 	}
 
 	/**
-	 * Recursive method to determine the shortest path between two buildings.
+	 * Gets the routing graph for the current connections.
 	 * 
-	 * @param existingPath    the current path.
-	 * @param currentBuilding the current building.
-	 * @param targetBuilding  the target building.
-	 * @param endingLocation  the end building location.
-	 * @return shortest path or null if none found.
+	 * @return
 	 */
-	private InsideBuildingPath determineShortestPath(InsideBuildingPath existingPath, Building currentBuilding,
-			Building targetBuilding, BuildingLocation endingLocation) {
-
-		InsideBuildingPath result = null;
-
-		// Try each building connection from current building.
-		Iterator<BuildingConnector> i = getConnectionsToBuilding(currentBuilding).iterator();
-		while (i.hasNext()) {
-			BuildingConnector connector = i.next();
-
-			Building connectionBuilding = null;
-			Hatch nearHatch = null;
-			Hatch farHatch = null;
-			if (connector.getBuilding1().equals(currentBuilding)) {
-				connectionBuilding = connector.getBuilding2();
-				nearHatch = connector.getHatch1();
-				farHatch = connector.getHatch2();
-			} else {
-				connectionBuilding = connector.getBuilding1();
-				nearHatch = connector.getHatch2();
-				farHatch = connector.getHatch1();
-			}
-
-			// Make sure building or connection is not already in existing path.
-			boolean inExistingPath = existingPath.containsPathLocation(connectionBuilding);
-            if (existingPath.containsPathLocation(connector)) {
-				inExistingPath = true;
-			}
-			if (existingPath.containsPathLocation(nearHatch)) {
-				inExistingPath = true;
-			}
-			if (existingPath.containsPathLocation(farHatch)) {
-				inExistingPath = true;
-			}
-			if (inExistingPath) {
-				continue;
-			}
-
-			// Copy existing path to create new path.
-			InsideBuildingPath newPath = new InsideBuildingPath(existingPath);
-
-			// Add building connector to new path.
-			if (connector.isSplitConnection()) {
-				newPath.addPathLocation(nearHatch);
-				newPath.addPathLocation(connector);
-				newPath.addPathLocation(farHatch);
-			} else {
-				newPath.addPathLocation(connector);
-			}
-
-			InsideBuildingPath bestPath = null;
-			if (connectionBuilding.equals(targetBuilding)) {
-				// Add ending location within connection building.
-				newPath.addPathLocation(endingLocation);
-				bestPath = newPath;
-			} else {
-				// Add connection building to new path.
-				newPath.addPathLocation(connectionBuilding);
-
-				// Recursively call this method with new path and connection building.
-				// Note: how to avoid StackOverflow ?
-				bestPath = determineShortestPath(newPath, connectionBuilding, targetBuilding, endingLocation);
-			}
-
-			if (bestPath != null) {
-				if ((result == null) || (bestPath.getPathLength() < result.getPathLength())) {
-					result = bestPath;
-				}
-			}
+	private ConnectorGraph getGraph() {
+		ConnectorGraph result = graph;
+		if (result == null) {
+			result = new ConnectorGraph(buildingConnections);
+			graph = result;
 		}
-
 		return result;
 	}
 
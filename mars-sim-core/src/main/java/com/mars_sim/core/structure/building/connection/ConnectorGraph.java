@@ -0,0 +1,319 @@
+/*
+ * Mars Simulation Project
+ * ConnectorGraph.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.structure.building.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mars_sim.core.map.location.LocalPosition;
+import com.mars_sim.core.structure.building.Building;
+
+/**
+ * A routing graph over the building connectors of a settlement. Each connector gives
+ * two links, one for each direction of travel. The shortest routes from a link to every
+ * other link are found with Dijkstra on first use and kept, so a path query only has
+ * to join the start and end positions onto the cached routes.
+ * The graph is never changed; a new one is built when the connections change.
+ */
+class ConnectorGraph {
+
+	/**
+	 * One direction of travel through a building connector.
+	 */
+	private static class Link {
+		private BuildingConnector connector;
+		private Building from;
+		private Building to;
+		private Hatch nearHatch;
+		private Hatch farHatch;
+		/** Length of walking through the connector itself. */
+		private double length;
+
+		private Link(BuildingConnector connector, boolean forward) {
+			this.connector = connector;
+			if (forward) {
+				from = connector.getBuilding1();
+				to = connector.getBuilding2();
+				nearHatch = connector.getHatch1();
+				farHatch = connector.getHatch2();
+			}
+			else {
+				from = connector.getBuilding2();
+				to = connector.getBuilding1();
+				nearHatch = connector.getHatch2();
+				farHatch = connector.getHatch1();
+			}
+
+			if (connector.isSplitConnection()) {
+				LocalPosition middle = connector.getPosition();
+				length = nearHatch.getPosition().getDistanceTo(middle)
+							+ middle.getDistanceTo(farHatch.getPosition());
+			}
+		}
+
+		private LocalPosition getEntry() {
+			return (connector.isSplitConnection() ? nearHatch.getPosition() : connector.getPosition());
+		}
+
+		private LocalPosition getExit() {
+			return (connector.isSplitConnection() ? farHatch.getPosition() : connector.getPosition());
+		}
+	}
+
+	/**
+	 * The shortest routes from one link to all the others.
+	 */
+	private static class Routes {
+		/** Distance from the exit of the source link to the exit of each link. */
+		private double[] distance;
+		/** The previous link on the route; -1 for none. */
+		private int[] previous;
+	}
+
+	private record Step(int link, double distance) {}
+
+	private record Pair(Building from, Building to) {}
+
+	private List<Link> links = new ArrayList<>();
+	private Map<Building, List<Integer>> outbound = new HashMap<>();
+	private Map<Building, List<Integer>> inbound = new HashMap<>();
+	private Map<Building, Integer> components = new HashMap<>();
+	private Map<Integer, Routes> routeCache = new ConcurrentHashMap<>();
+	private Map<Pair, Boolean> pathCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds the graph for a set of connectors.
+	 *
+	 * @param connectors
+	 */
+	ConnectorGraph(Collection<BuildingConnector> connectors) {
+		for (BuildingConnector c : connectors) {
+			addLink(new Link(c, true));
+			addLink(new Link(c, false));
+		}
+
+		// Label the groups of connected buildings
+		int nextComponent = 0;
+		for (Building b : outbound.keySet()) {
+			if (!components.containsKey(b)) {
+				labelComponent(b, nextComponent++);
+			}
+		}
+	}
+
+	private void addLink(Link link) {
+		int id = links.size();
+		links.add(link);
+		outbound.computeIfAbsent(link.from, k -> new ArrayList<>()).add(id);
+		inbound.computeIfAbsent(link.to, k -> new ArrayList<>()).add(id);
+	}
+
+	private void labelComponent(Building start, int component) {
+		List<Building> open = new ArrayList<>();
+		open.add(start);
+		components.put(start, component);
+		while (!open.isEmpty()) {
+			Building b = open.remove(open.size() - 1);
+			for (int id : outbound.getOrDefault(b, Collections.emptyList())) {
+				Building next = links.get(id).to;
+				if (!components.containsKey(next)) {
+					components.put(next, component);
+					open.add(next);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Are two different buildings joined by an interior path ?
+	 *
+	 * @param building1
+	 * @param building2
+	 * @return
+	 */
+	boolean isConnected(Building building1, Building building2) {
+		Integer c1 = components.get(building1);
+		return (c1 != null) && c1.equals(components.get(building2));
+	}
+
+	/**
+	 * Is there a path between two different buildings ? This gives the same answer as
+	 * {@link #findPath(BuildingLocation, BuildingLocation)} for any locations in the two
+	 * buildings, as the positions only pick between the routes and never rule one out.
+	 *
+	 * @param building1
+	 * @param building2
+	 * @return
+	 */
+	boolean hasPath(Building building1, Building building2) {
+		if (!isConnected(building1, building2)) {
+			return false;
+		}
+		return pathCache.computeIfAbsent(new Pair(building1, building2),
+						k -> findPath(new BuildingLocation(building1, building1.getPosition()),
+									new BuildingLocation(building2, building2.getPosition())) != null);
+	}
+
+	/**
+	 * Finds the shortest path between locations in two different buildings.
+	 *
+	 * @param start
+	 * @param end
+	 * @return Shortest path or null if there is none
+	 */
+	InsideBuildingPath findPath(BuildingLocation start, BuildingLocation end) {
+		if (!isConnected(start.getBuilding(), end.getBuilding())) {
+			return null;
+		}
+
+		List<Integer> lastLinks = inbound.get(end.getBuilding());
+		InsideBuildingPath result = null;
+		double best = Double.MAX_VALUE;
+
+		for (int first : outbound.get(start.getBuilding())) {
+			Link firstLink = links.get(first);
+			double startCost = start.getPosition().getDistanceTo(firstLink.getEntry()) + firstLink.length;
+			Routes routes = getRoutes(first);
+
+			for (int last : lastLinks) {
+				if (routes.distance[last] == Double.MAX_VALUE) {
+					continue;
+				}
+				double total = startCost + routes.distance[last]
+								+ links.get(last).getExit().getDistanceTo(end.getPosition());
+				if (total < best) {
+					InsideBuildingPath candidate = buildPath(start, end, routes, first, last);
+					if (candidate != null) {
+						best = total;
+						result = candidate;
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Gets the cached shortest routes from a link, computing them if needed.
+	 *
+	 * @param source
+	 * @return
+	 */
+	private Routes getRoutes(int source) {
+		return routeCache.computeIfAbsent(source, this::computeRoutes);
+	}
+
+	/**
+	 * Runs Dijkstra from the exit of a link. Routes pass through the centre of each
+	 * intermediate building.
+	 *
+	 * @param source
+	 * @return
+	 */
+	private Routes computeRoutes(int source) {
+		int size = links.size();
+		Routes routes = new Routes();
+		routes.distance = new double[size];
+		routes.previous = new int[size];
+		Arrays.fill(routes.distance, Double.MAX_VALUE);
+		Arrays.fill(routes.previous, -1);
+		routes.distance[source] = 0D;
+
+		PriorityQueue<Step> queue = new PriorityQueue<>((s1, s2) -> Double.compare(s1.distance, s2.distance));
+		queue.add(new Step(source, 0D));
+		while (!queue.isEmpty()) {
+			Step step = queue.poll();
+			if (step.distance > routes.distance[step.link]) {
+				// Already reached by a shorter route
+				continue;
+			}
+
+			Link arrived = links.get(step.link);
+			LocalPosition centre = arrived.to.getPosition();
+			double toCentre = step.distance + arrived.getExit().getDistanceTo(centre);
+			for (int id : outbound.getOrDefault(arrived.to, Collections.emptyList())) {
+				Link next = links.get(id);
+				if (next.connector == arrived.connector) {
+					continue;
+				}
+				double d = toCentre + centre.getDistanceTo(next.getEntry()) + next.length;
+				if (d < routes.distance[id]) {
+					routes.distance[id] = d;
+					routes.previous[id] = step.link;
+					queue.add(new Step(id, d));
+				}
+			}
+		}
+
+		return routes;
+	}
+
+	/**
+	 * Builds the path for a route between two links.
+	 *
+	 * @return The path or null if the route visits a location twice
+	 */
+	private InsideBuildingPath buildPath(BuildingLocation start, BuildingLocation end,
+							Routes routes, int first, int last) {
+		List<Link> route = new ArrayList<>();
+		int id = last;
+		while (id != first) {
+			if (id < 0) {
+				return null;
+			}
+			route.add(links.get(id));
+			id = routes.previous[id];
+		}
+		route.add(links.get(first));
+		Collections.reverse(route);
+
+		InsideBuildingPath path = new InsideBuildingPath();
+		path.addPathLocation(start);
+		Set<Building> visited = new HashSet<>();
+		visited.add(start.getBuilding());
+		for (int i = 0; i < route.size(); i++) {
+			Link l = route.get(i);
+			boolean lastLink = (i == route.size() - 1);
+
+			if (!lastLink && !visited.add(l.to)) {
+				return null;
+			}
+			if ((!lastLink && l.to.equals(end.getBuilding()))
+					|| path.containsPathLocation(l.connector)) {
+				return null;
+			}
+
+			if (l.connector.isSplitConnection()) {
+				if (path.containsPathLocation(l.nearHatch) || path.containsPathLocation(l.farHatch)) {
+					return null;
+				}
+				path.addPathLocation(l.nearHatch);
+				path.addPathLocation(l.connector);
+				path.addPathLocation(l.farHatch);
+			}
+			else {
+				path.addPathLocation(l.connector);
+			}
+
+			if (!lastLink) {
+				path.addPathLocation(l.to);
+			}
+		}
+		path.addPathLocation(end);
+
+		return path;
+	}
+}
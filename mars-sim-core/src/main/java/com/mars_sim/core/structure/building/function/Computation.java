@@ -6,10 +6,8 @@
  */
 package com.mars_sim.core.structure.building.function;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import com.mars_sim.core.UnitEventType;
+import com.mars_sim.core.computing.CapacityTree;
 import com.mars_sim.core.logging.SimLogger;
 import com.mars_sim.core.structure.Settlement;
 import com.mars_sim.core.structure.building.Building;
@@ -51,6 +49,16 @@ public class Computation extends Function {
 	 * The fraction of cooling demand to be dissipated as heat [kW]. 
 	 */
 	private static final double WASTE_HEAT_FRACTION = .3;
+
+	/**
+	 * The fraction of the peak CUs that may be booked on any msol.
+	 */
+	private static final double OVERLOAD_FRACTION = 1.05;
+
+	/**
+	 * Rounding allowed when a booking fills a node up to the overload limit [in CUs].
+	 */
+	private static final double ROUNDING = 1E-9;
 	
 	private static final String COMPUTING_UNIT = "computing-unit";
 	private static final String POWER_DEMAND = "power-demand";
@@ -88,7 +96,7 @@ public class Computation extends Function {
 	private double nonLoadkW;
 	
 	/** The schedule demand [in CUs] for each integer msol. */
-	private Map<Integer, Double> msolDemand;
+	private CapacityTree msolDemand;
 
 	/**
 	 * Constructor.
@@ -119,7 +127,7 @@ public class Computation extends Function {
 		// Assume 15% of full load
 		nonLoadkW = NON_LOAD_POWER_USAGE * combinedLoadkW;
 		
-		msolDemand = new HashMap<>();
+		msolDemand = new CapacityTree();
 	}
 
 	/**
@@ -241,142 +249,106 @@ public class Computation extends Function {
 //	}
 	
 	/**
-	 * Schedules for a computing task.
+	 * Gets the number of msols from the start msol up to the end msol.
 	 * 
-	 * @param needed the CUs needed per msol
 	 * @param beginningMSol the start msol
 	 * @param endMSol the end msol
 	 * @return
 	 */
-	public boolean scheduleTask(double needed, int beginningMSol, int endMSol) {
-		double existing = 0;
-		
+	private static int getDuration(int beginningMSol, int endMSol) {
 		int duration = endMSol - beginningMSol;
 		if (duration < 0)
-			duration = endMSol + 1000 - beginningMSol;
-
-		// Test to see if the assigned duration has enough resources on each integer msol
-		for (int i = 0; i < duration; i++) {
-			int msolInt = i + beginningMSol;
-			if (msolInt > 999) {
-				msolInt = msolInt - 1000;
-			}
-			if (msolDemand.containsKey(msolInt)) {
-				existing = msolDemand.get(msolInt);
-			}
-			
-			double peak105Percent = 1.05 * peakCU;
-			// Need to make sure each msol has enough resources
-			double newLoad = existing + needed / duration;
-			
-			double over105 = peak105Percent - newLoad;
-			
-			double overZero = peakCU - newLoad;
-			
-			// May allow the load to go above 100%
-			if (over105 < 0) {
-				/*
-				 *  Do NOT delete. For debugging.
-				 */  
-				 	logger.info(getBuilding(), 30_000, "2. Over 105%, peakCU: " + Math.round(peakCU * 100.0)/100.0
-				 			+ "  exist: " + Math.round(existing * 1000.0)/1000.0
-				 			+ "  need: " + Math.round(needed * 1000.0)/1000.0
-				 			+ "  delta: " + Math.round(over105 * 1000.0)/1000.0);
-				 
-				
-				return false;
-			} 
-			
-			else if (overZero < 0) {	
-				/*
-				 *  Do NOT delete. For debugging.
-				 */ 
-				 	logger.info(getBuilding(), 30_000, "2. Over 100%, peakCU: " + Math.round(peakCU * 100.0)/100.0
-				 			+ "  exist: " + Math.round(existing * 1000.0)/1000.0
-				 			+ "  need: " + Math.round(needed * 1000.0)/1000.0
-				 			+ "  delta: " + Math.round(overZero * 1000.0)/1000.0);
-				 
-				// It is allowed to go beyond within 5%
-			}
-		}
-
-		// Now the actual scheduling
-		for (int i = 0; i < duration; i++) {
-			int msolInt = i + beginningMSol;
-			if (msolInt > 999) {
-				msolInt = msolInt - 1000;
-			}
-			if (msolDemand.containsKey(msolInt)) {
-				existing = msolDemand.get(msolInt);
-			}
-			msolDemand.put(msolInt, existing + needed / duration);
-		}
-
-		return true;
+			duration = endMSol + CapacityTree.MSOLS - beginningMSol;
+		return duration;
 	}
-	
+
 	/**
-	 * Returns the evaluation score if scheduling for a computing task for a prescribed period of time. 
+	 * Checks if the load on the busiest msol of a period leaves room for a computing task.
 	 * 
-	 * @param needed CU(s) per millisol
-	 * @param beginningMSol
-	 * @param endMSol
+	 * @param existing the highest CUs already scheduled on an msol of the period
+	 * @param needed the CUs needed
+	 * @param duration the number of msols
+	 * @param step label of the caller for debugging
 	 * @return
 	 */
-	public double evaluateScheduleTask(double needed, int beginningMSol, int endMSol) {
-		double score = 0;
-		double existing = 0;
+	private boolean hasRoom(double existing, double needed, int duration, String step) {
+		double peak105Percent = OVERLOAD_FRACTION * peakCU;
+		// Need to make sure each msol has enough resources
+		double newLoad = existing + needed / duration;
 		
-		int duration = endMSol - beginningMSol;
-		if (duration < 0)
-			duration = endMSol + 1000 - beginningMSol;
+		double over105 = peak105Percent - newLoad;
 		
-		// Test to see if the assigned duration has enough resources on each integer msol
-		for (int i = 0; i < duration; i++) {
-			int msolInt = i + beginningMSol;
-			if (msolInt > 999) {
-				msolInt = msolInt - 1000;
-			}
-			if (msolDemand.containsKey(msolInt)) {
-				existing = msolDemand.get(msolInt);
-			}
-			
-			double peak105Percent = 1.05 * peakCU;
-			// Need to make sure each msol has enough resources
-			double newLoad = existing + needed / duration;
-			
-			double over105 = peak105Percent - newLoad;
-			
-			double overZero = peakCU - newLoad;
-			
-			// May allow the load to go above 100%
-			if (over105 < 0) {
-
+		double overZero = peakCU - newLoad;
+		
+		// May allow the load to go above 100%
+		if (over105 < -ROUNDING) {
 			/*
 			 *  Do NOT delete. For debugging.
 			 */  
-			 	logger.info(getBuilding(), 30_000, "1. Over 105%, peakCU: " + Math.round(peakCU * 100.0)/100.0
+			 	logger.info(getBuilding(), 30_000, step + ". Over 105%, peakCU: " + Math.round(peakCU * 100.0)/100.0
 			 			+ "  exist: " + Math.round(existing * 1000.0)/1000.0
 			 			+ "  need: " + Math.round(needed * 1000.0)/1000.0
 			 			+ "  delta: " + Math.round(over105 * 1000.0)/1000.0);
 			 
-				return 0;
-			} 
-			
-			else if (overZero < 0) {
+			return false;
+		} 
+		
+		else if (overZero < 0) {	
 			/*
 			 *  Do NOT delete. For debugging.
 			 */ 
-			 	logger.info(getBuilding(), 30_000, "1. Over 100%, peakCU: " + Math.round(peakCU * 100.0)/100.0
+			 	logger.info(getBuilding(), 30_000, step + ". Over 100%, peakCU: " + Math.round(peakCU * 100.0)/100.0
 			 			+ "  exist: " + Math.round(existing * 1000.0)/1000.0
-						+ "  need: " + Math.round(needed * 1000.0)/1000.0
+			 			+ "  need: " + Math.round(needed * 1000.0)/1000.0
 			 			+ "  delta: " + Math.round(overZero * 1000.0)/1000.0);
 			 
-				// It is allowed to go beyond within 5%
-			}
-				
-			score += overZero;
+			// It is allowed to go beyond within 5%
 		}
+		return true;
+	}
+	
+	/**
+	 * Schedules for a computing task.
+	 * 
+	 * @param needed the CUs needed over the whole period
+	 * @param beginningMSol the start msol
+	 * @param endMSol the end msol
+	 * @return
+	 */
+	public boolean scheduleTask(double needed, int beginningMSol, int endMSol) {
+		int duration = getDuration(beginningMSol, endMSol);
+		if (duration == 0)
+			return true;
+
+		// Test to see if the busiest msol of the assigned duration has enough resources
+		if (!hasRoom(msolDemand.getMax(beginningMSol, duration), needed, duration, "2"))
+			return false;
+
+		// Now the actual scheduling
+		msolDemand.add(beginningMSol, duration, needed / duration);
+
+		return true;
+	}
+	
+	/**
+	 * Returns the evaluation score if scheduling for a computing task for a prescribed period of time. 
+	 * 
+	 * @param needed the CUs needed over the whole period
+	 * @param beginningMSol
+	 * @param endMSol
+	 * @return
+	 */
+	public double evaluateScheduleTask(double needed, int beginningMSol, int endMSol) {
+		int duration = getDuration(beginningMSol, endMSol);
+		if (duration == 0)
+			return 0;
+		
+		// Test to see if the busiest msol of the assigned duration has enough resources
+		if (!hasRoom(msolDemand.getMax(beginningMSol, duration), needed, duration, "1"))
+			return 0;
+
+		// The free CUs left on each msol after the task, added up
+		double score = duration * peakCU - msolDemand.getSum(beginningMSol, duration) - needed;
 		
 		score = score * getEntropyPenalty();
 		
@@ -385,6 +357,19 @@ public class Computation extends Function {
 		return score;
 	}
 	
+	/**
+	 * Gets the most CUs that can still be scheduled over a period of time.
+	 * 
+	 * @param beginningMSol the start msol
+	 * @param endMSol the end msol
+	 * @return the CUs over the whole period
+	 */
+	public double getSpareCU(int beginningMSol, int endMSol) {
+		int duration = getDuration(beginningMSol, endMSol);
+		double spare = OVERLOAD_FRACTION * peakCU - msolDemand.getMax(beginningMSol, duration);
+		return Math.max(0, spare * duration);
+	}
+	
 	/**
 	 * Sets the computing units or resources to a new value and fires the unit event type alert.
 	 * 
@@ -407,12 +392,8 @@ public class Computation extends Function {
 		
 		// Future: give players the choice to keep the demand log or to clear it
 
-		for (int i = now - 1; i >= previous; i--) {
-			// Delete past demand on previous msol
-			if (msolDemand.containsKey(i)) {
-				msolDemand.remove(i);
-			}
-		}
+		// Delete past demand on previous msols, including those before the start of a new sol
+		msolDemand.clear(previous, getDuration(previous, now));
 	}
 	
 	/**
@@ -429,12 +410,9 @@ public class Computation extends Function {
 				
 				increaseEntropy(ENTROPY_FACTOR * (1 + pulse.getElapsed() * (peakCU - freeCU) / 50));
 	
-				double newDemand = 0;
 				int msol = pulse.getMarsTime().getMillisolInt();
 		
-				if (msolDemand.containsKey(msol)) {
-					newDemand = msolDemand.get(msol);
-				}
+				double newDemand = msolDemand.get(msol);
 				
 				// Clear the old load demand in this center
 				clearOldDemand(previousMSol, msol);
@@ -598,7 +576,6 @@ public class Computation extends Function {
 	
 	@Override
 	public void destroy() {
-		msolDemand.clear();
 		msolDemand = null;
 		super.destroy();
 	}
@@ -18,6 +18,7 @@ import com.mars_sim.core.person.ai.SkillType;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -90,6 +91,7 @@ public class ManufactureGoodMeta extends MetaTask
         addPreferredRobot(RobotType.REPAIRBOT);
         addPreferredRobot(RobotType.MEDICBOT);
         addPreferredRobot(RobotType.CONSTRUCTIONBOT);
+		setScoreDependencies(ScoreDependency.RESOURCES, ScoreDependency.PERIOD);
 	}
 
     /**
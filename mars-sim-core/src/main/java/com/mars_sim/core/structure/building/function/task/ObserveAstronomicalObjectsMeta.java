@@ -18,6 +18,7 @@ import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.role.RoleType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -68,6 +69,7 @@ public class ObserveAstronomicalObjectsMeta extends MetaTask implements Settleme
 		setPreferredJob(JobType.ASTRONOMER);
 		setPreferredRole(RoleType.CHIEF_OF_SCIENCE, RoleType.SCIENCE_SPECIALIST,
 				RoleType.CREW_SCIENTIST, RoleType.CREW_ENGINEER);
+		setScoreDependencies(ScoreDependency.PERIOD);
 	}
     
     /**
@@ -15,6 +15,7 @@ import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.role.RoleType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -72,6 +73,7 @@ public class TendAlgaePondMeta extends MetaTask implements SettlementMetaTask {
 				RoleType.CHIEF_OF_SUPPLY_N_RESOURCES);
 		setTrait(TaskTrait.ARTISTIC, TaskTrait.RELAXATION);
         addPreferredRobot(RobotType.GARDENBOT);
+		setScoreDependencies(ScoreDependency.PERIOD);
 	}
 
     
@@ -16,6 +16,7 @@ import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -99,6 +100,7 @@ public class ToggleResourceProcessMeta extends MetaTask implements SettlementMet
 
 		addPreferredRobot(RobotType.REPAIRBOT, RobotType.CONSTRUCTIONBOT, 
 				RobotType.MAKERBOT, RobotType.DELIVERYBOT);
+		setScoreDependencies(ScoreDependency.RESOURCES, ScoreDependency.PERIOD);
 	}
 
 	/**
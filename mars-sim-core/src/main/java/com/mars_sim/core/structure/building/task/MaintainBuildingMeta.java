@@ -16,6 +16,7 @@ import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -88,6 +89,7 @@ public class MaintainBuildingMeta extends MetaTask implements SettlementMetaTask
 		setPreferredJob(JobType.MECHANICS);
 
 		addPreferredRobot(RobotType.REPAIRBOT);
+		setScoreDependencies(ScoreDependency.MALFUNCTION, ScoreDependency.PERIOD);
     }
 
     /**
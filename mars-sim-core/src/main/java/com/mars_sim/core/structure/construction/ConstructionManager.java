@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import com.mars_sim.core.LocalAreaUtil;
 import com.mars_sim.core.Simulation;
 import com.mars_sim.core.UnitEventType;
 import com.mars_sim.core.UnitManager;
@@ -191,6 +192,7 @@ implements Serializable {
 		ConstructionSite site = new ConstructionSite(settlement);
 		sites.add(site);
     	unitManager.addUnit(site);
+    	LocalAreaUtil.invalidate(settlement.getCoordinates());
 
 		settlement.fireUnitUpdate(UnitEventType.START_CONSTRUCTION_SITE_EVENT, site);
 		logger.info(site, "Just created and registered in ConstructionManager.");
@@ -211,6 +213,7 @@ implements Serializable {
 	public void removeConstructionSite(ConstructionSite site) {
 		if (sites.contains(site)) {
 			sites.remove(site);
+			LocalAreaUtil.invalidate(settlement.getCoordinates());
 		}
 		else throw new IllegalStateException("Construction site doesn't exist.");
 	}
@@ -12,6 +12,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import com.mars_sim.core.LocalAreaUtil;
 import com.mars_sim.core.SimulationConfig;
 import com.mars_sim.core.UnitType;
 import com.mars_sim.core.logging.SimLogger;
@@ -157,6 +158,7 @@ public class ConstructionSite extends FixedUnit {
     
 	public void setPosition(LocalPosition position2) {
 		this.position = position2;
+		LocalAreaUtil.invalidate(getCoordinates());
 	}
 	
     @Override
@@ -171,6 +173,7 @@ public class ConstructionSite extends FixedUnit {
      */
     public void setFacing(double facing) {
         this.facing = facing;
+        LocalAreaUtil.invalidate(getCoordinates());
     }
 
     /**
@@ -13,6 +13,7 @@ import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.role.RoleType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -74,6 +75,7 @@ public class BudgetResourcesMeta extends MetaTask implements SettlementMetaTask
 		addPreferredRole(RoleType.CHIEF_OF_SUPPLY_N_RESOURCES, 2);
 		addPreferredRole(RoleType.SUB_COMMANDER, 3);
 		addPreferredRole(RoleType.COMMANDER, 4);
+		setScoreDependencies(ScoreDependency.RESOURCES, ScoreDependency.PERIOD);
 	}
 
 	/**
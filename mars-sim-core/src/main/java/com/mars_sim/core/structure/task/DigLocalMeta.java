@@ -19,6 +19,7 @@ import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.task.EVAOperation;
 import com.mars_sim.core.person.ai.task.Walk;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -74,6 +75,7 @@ public abstract class DigLocalMeta extends MetaTask
 		setTrait(TaskTrait.STRENGTH);
 
 		this.containerType = containerType;
+		setScoreDependencies(ScoreDependency.RESOURCES, ScoreDependency.PERIOD);
 	}
 
     /**
@@ -97,6 +97,12 @@ public class MasterClock implements Serializable {
 	private transient Collection<ClockListenerTask> clockListenerTasks;
 	/** The clock pulse. */
 	private transient ClockPulse currentPulse;
+	/** The fixed pulse width [in millisols] in fast-forward mode. Zero means real-time mode. */
+	private transient volatile double fixedPulseTime = 0;
+	/** The total millisols at which the fast-forward run ends. Zero means no end. */
+	private transient double fastForwardEnd = 0;
+	/** Has the fast-forward run reached its end ? */
+	private transient volatile boolean fastForwardComplete = false;
 	
 	// Data members
 	/** Is pausing millisol in use. */
@@ -578,6 +584,90 @@ public class MasterClock implements Serializable {
 		return acceptablePulse;
 	}
 
+	/**
+	 * Sets the clock to run in fast-forward mode. Each pulse covers a fixed number of
+	 * millisols and is fired straight after the previous one with no sleep and no
+	 * real-time feedback. The same start time and pulse width always produce
+	 * the same pulse sequence.
+	 * 
+	 * @param pulseTime The fixed pulse width [in millisols]
+	 * @param sols The number of sols to run before the clock stops; zero means no end
+	 */
+	public void setFastForward(double pulseTime, int sols) {
+		if (pulseTime <= 0) {
+			throw new IllegalArgumentException("Fast-forward pulse width must be positive");
+		}
+		if (sols < 0) {
+			throw new IllegalArgumentException("Fast-forward sols cannot be negative");
+		}
+		
+		fixedPulseTime = pulseTime;
+		nextPulseTime = pulseTime;
+		optMilliSolPerPulse = pulseTime;
+		fastForwardComplete = false;
+		fastForwardEnd = (sols > 0 ? marsTime.getTotalMillisols() + sols * 1000D : 0);
+		Task.setStandardPulseTime(Math.min(pulseTime, MAX_PULSE_WIDTH));
+		
+		logger.config("Fast-forward mode with a fixed pulse of " + pulseTime + " millisols"
+				+ (sols > 0 ? " for " + sols + " sols." : "."));
+	}
+
+	/**
+	 * Is the clock running in fast-forward mode ?
+	 * 
+	 * @return
+	 */
+	public boolean isFastForward() {
+		return fixedPulseTime > 0;
+	}
+
+	/**
+	 * Has the fast-forward run reached its last sol ?
+	 * 
+	 * @return
+	 */
+	public boolean isFastForwardComplete() {
+		return fastForwardComplete;
+	}
+
+	/**
+	 * Adds a fixed pulse to earth time and mars time in fast-forward mode.
+	 * There is no adjustment of the pulse width according to the real time elapsed.
+	 */
+	private void addFixedTime() {
+		if (isPaused) {
+			return;
+		}
+		
+		long tnow = System.currentTimeMillis();
+		long realElapsedMillisec = tnow - tLast;
+		
+		double pulseTime = fixedPulseTime;
+		long earthMillisec = (long) (pulseTime * MILLISECONDS_PER_MILLISOL);
+		
+		// Only for reporting; it has no influence on the pulse
+		if (realElapsedMillisec > 0)
+			actualTR = 0.9 * actualTR + 0.1 * earthMillisec / realElapsedMillisec;
+		
+		if (listenerExecutor.isTerminated() || listenerExecutor.isShutdown()) {
+			resetClockListeners();
+			return;
+		}
+		
+		uptimer.updateTime(realElapsedMillisec);
+		timestampPulseStart();
+		earthTime = earthTime.plus(earthMillisec, ChronoField.MILLI_OF_SECOND.getBaseUnit());
+		marsTime = marsTime.addTime(pulseTime);
+		fireClockPulse(pulseTime);
+		
+		if (fastForwardEnd > 0 && marsTime.getTotalMillisols() >= fastForwardEnd) {
+			logger.config("Fast-forward run completed at " + marsTime.getDateTimeStamp()
+					+ " after " + nextPulseId + " pulses.");
+			fastForwardComplete = true;
+			stop();
+		}
+	}
+
 	/**
 	 * Calculate the difference between the actualTR and the desiredTR.
 	 * 
@@ -1303,8 +1393,14 @@ public class MasterClock implements Serializable {
 				
 				long startTime = System.currentTimeMillis();
 
+				if (fixedPulseTime > 0) {
+					// Fast-forward mode: no sleep and no pulse width adjustment
+					addFixedTime();
+					executionTime = (int) (System.currentTimeMillis() - startTime);
+					sleepTime = 0;
+				}
 				// Call addTime() to increment time in EarthClock and MarsClock
-				if (addTime()) {
+				else if (addTime()) {
 					// Case 1: Normal Operation: acceptablePulse is true
 					// Gauge the total execution time
 					executionTime = (int) (System.currentTimeMillis() - startTime);
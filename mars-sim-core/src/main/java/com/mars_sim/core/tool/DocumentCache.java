@@ -0,0 +1,276 @@
+/*
+ * Mars Simulation Project
+ * DocumentCache.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.tool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.xml.XMLConstants;
+
+import org.jdom2.Attribute;
+import org.jdom2.Content;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.JDOMFactory;
+import org.jdom2.Namespace;
+import org.jdom2.Text;
+import org.jdom2.UncheckedJDOMFactory;
+import org.jdom2.input.SAXBuilder;
+
+/**
+ * This caches parsed XML documents in a compact binary form. Each cached file holds
+ * a SHA-256 hash of the XML source it came from and the version stamp of the cache,
+ * so an edited XML file or a new release is parsed again and the cache rewritten.
+ * External DTDs are never read, so the DTD that supplies the defaults is the internal
+ * subset held in the hashed source. A cache hit skips the SAX parse and DTD processing;
+ * default attribute values from the DTD are already present in the cached tree.
+ * Only elements, attributes and text are kept, which is all the configuration
+ * classes read; comments, processing instructions, CDATA markers and the DOCTYPE
+ * are dropped, so a document loaded from the cache has none of them.
+ * Documents using namespaces are parsed every time.
+ * This class is thread safe.
+ */
+public class DocumentCache {
+
+    private static final Logger logger = Logger.getLogger(DocumentCache.class.getName());
+
+    /** Header of a cached document: "MSXC". */
+    private static final int MAGIC = 0x4d535843;
+    private static final int VERSION = 1;
+    private static final String CACHE_EXTENSION = ".bin";
+
+    private static final byte ELEMENT_NODE = 0;
+    private static final byte TEXT_NODE = 1;
+
+    private File location;
+    private byte[] stamp;
+
+    /**
+     * Creates a cache that keeps its files in the given folder.
+     *
+     * @param location
+     * @param stamp Version of the configuration bundle; documents cached under another stamp are parsed again
+     */
+    public DocumentCache(File location, String stamp) {
+        this.location = location;
+        this.stamp = stamp.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Loads an XML file as a document. The cached copy is used if it was built from the same
+     * content; otherwise the file is parsed and the cache updated.
+     *
+     * @param xmlFile File to load
+     * @return
+     * @throws JDOMException
+     * @throws IOException
+     */
+    public Document load(File xmlFile) throws JDOMException, IOException {
+        byte[] source = Files.readAllBytes(xmlFile.toPath());
+        byte[] hash = hash(stamp, source);
+        File cacheFile = new File(location, xmlFile.getName() + CACHE_EXTENSION);
+
+        if (cacheFile.exists()) {
+            try {
+                Document cached = read(Files.readAllBytes(cacheFile.toPath()), hash);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "Ignoring bad document cache " + cacheFile.getName(), e);
+            }
+        }
+
+        SAXBuilder builder = new SAXBuilder();
+        builder.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        builder.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        Document doc = builder.build(new ByteArrayInputStream(source), xmlFile.toURI().toString());
+
+        if (isCacheable(doc.getRootElement())) {
+            try {
+                store(cacheFile, doc, hash);
+            }
+            catch (IOException e) {
+                logger.log(Level.WARNING, "Cannot write document cache " + cacheFile.getName(), e);
+            }
+        }
+        return doc;
+    }
+
+    private static byte[] hash(byte[] stamp, byte[] source) {
+        try {
+            var digest = MessageDigest.getInstance(Hash.SHA256.getName());
+            digest.update(stamp);
+            return digest.digest(source);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No SHA-256 support", e);
+        }
+    }
+
+    /**
+     * Can this element and its children be held in the cache ?
+     */
+    private static boolean isCacheable(Element e) {
+        if (e.getNamespace() != Namespace.NO_NAMESPACE || e.hasAdditionalNamespaces()) {
+            return false;
+        }
+        for (Attribute a : e.getAttributes()) {
+            if (a.getNamespace() != Namespace.NO_NAMESPACE) {
+                return false;
+            }
+        }
+        for (Element child : e.getChildren()) {
+            if (!isCacheable(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the document to a temporary file that is then moved into place, so a
+     * concurrent reader never sees a partial file.
+     */
+    private void store(File cacheFile, Document doc, byte[] hash) throws IOException {
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        ByteArrayOutputStream treeBytes = new ByteArrayOutputStream();
+        try (DataOutputStream tree = new DataOutputStream(treeBytes)) {
+            writeElement(tree, doc.getRootElement(), strings, table);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(treeBytes.size() * 2);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.write(hash);
+            out.writeInt(table.size());
+            for (String s : table) {
+                byte[] b = s.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(b.length);
+                out.write(b);
+            }
+            treeBytes.writeTo(out);
+        }
+
+        location.mkdirs();
+        Path temp = Files.createTempFile(location.toPath(), cacheFile.getName(), ".tmp");
+        try {
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeElement(DataOutputStream out, Element e, Map<String, Integer> strings,
+                                    List<String> table) throws IOException {
+        out.writeInt(index(e.getName(), strings, table));
+
+        List<Attribute> attrs = e.getAttributes();
+        out.writeInt(attrs.size());
+        for (Attribute a : attrs) {
+            out.writeInt(index(a.getName(), strings, table));
+            out.writeInt(index(a.getValue(), strings, table));
+        }
+
+        List<Content> kept = new ArrayList<>();
+        for (Content c : e.getContent()) {
+            if (c instanceof Element || c instanceof Text) {
+                kept.add(c);
+            }
+        }
+        out.writeInt(kept.size());
+        for (Content c : kept) {
+            if (c instanceof Element child) {
+                out.writeByte(ELEMENT_NODE);
+                writeElement(out, child, strings, table);
+            }
+            else {
+                out.writeByte(TEXT_NODE);
+                out.writeInt(index(((Text) c).getText(), strings, table));
+            }
+        }
+    }
+
+    private static int index(String s, Map<String, Integer> strings, List<String> table) {
+        return strings.computeIfAbsent(s, k -> {
+            table.add(k);
+            return table.size() - 1;
+        });
+    }
+
+    /**
+     * Reads a cached document.
+     *
+     * @return The document or null if it was built from a different source
+     */
+    private static Document read(byte[] bytes, byte[] hash) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return null;
+        }
+        byte[] cachedHash = new byte[hash.length];
+        in.readFully(cachedHash);
+        if (!Arrays.equals(hash, cachedHash)) {
+            return null;
+        }
+
+        String[] table = new String[in.readInt()];
+        for (int i = 0; i < table.length; i++) {
+            byte[] b = new byte[in.readInt()];
+            in.readFully(b);
+            table[i] = new String(b, StandardCharsets.UTF_8);
+        }
+
+        // The content was checked when it was first parsed
+        JDOMFactory factory = new UncheckedJDOMFactory();
+        return factory.document(readElement(in, table, factory));
+    }
+
+    private static Element readElement(DataInputStream in, String[] table, JDOMFactory factory)
+                                    throws IOException {
+        Element e = factory.element(table[in.readInt()]);
+        int attrs = in.readInt();
+        for (int i = 0; i < attrs; i++) {
+            String name = table[in.readInt()];
+            factory.setAttribute(e, factory.attribute(name, table[in.readInt()]));
+        }
+
+        int children = in.readInt();
+        for (int i = 0; i < children; i++) {
+            if (in.readByte() == ELEMENT_NODE) {
+                factory.addContent(e, readElement(in, table, factory));
+            }
+            else {
+                factory.addContent(e, factory.text(table[in.readInt()]));
+            }
+        }
+        return e;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Mars Simulation Project
+ * HazardClock.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.tool;
+
+import java.io.Serializable;
+
+/**
+ * Decides when a random event happens without rolling a random number at every check.
+ * Rather than a Bernoulli trial at each check, the clock samples how much hazard has
+ * to build up before the next occurrence and then counts it down as checks are made.
+ * The occurrences form the same Poisson process as the trials would, even when the
+ * rate changes from check to check, but a random number is only drawn once per event.
+ */
+public class HazardClock implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Hazard of a certain event; no sampled countdown is ever this long. */
+	public static final double CERTAIN = 50D;
+
+	/** Hazard left before the next event; negative until the first sample. */
+	private double remaining = -1D;
+
+	/**
+	 * Adds the hazard of one check.
+	 *
+	 * @param hazard Hazard accumulated since the last check
+	 * @return true if the event happens at this check
+	 */
+	public boolean accrue(double hazard) {
+		if (remaining < 0D) {
+			remaining = RandomUtil.getExponential();
+		}
+		if (hazard <= 0D) {
+			return false;
+		}
+
+		remaining -= hazard;
+		if (remaining <= 0D) {
+			// Sample the next occurrence
+			remaining = RandomUtil.getExponential();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the hazard still to build up before the next event.
+	 *
+	 * @return
+	 */
+	public double getRemaining() {
+		return Math.max(0D, remaining);
+	}
+
+	/**
+	 * Converts the chance of an event at a single check into the hazard for that check.
+	 * The event is certain for a probability of 1 or more.
+	 *
+	 * @param probability Chance from 0 to 1
+	 * @return
+	 */
+	public static double toHazard(double probability) {
+		if (probability <= 0D) {
+			return 0D;
+		}
+		if (probability >= 1D) {
+			return CERTAIN;
+		}
+		return -Math.log1p(-probability);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Mars Simulation Project
+ * RandomStream.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.tool;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * A seedable stream of random numbers using the SplitMix64 algorithm, the same one
+ * behind {@link java.util.SplittableRandom}. Unlike SplittableRandom it can be saved
+ * with the simulation and is safe to share between threads.
+ * Child streams are split off by a key rather than by drawing from this stream, so
+ * the child for a key is the same whatever order the children are created in.
+ */
+public class RandomStream implements RandomGenerator, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/** The seed the stream started from; used to split children. */
+	private final long origin;
+	private final long gamma;
+	private final AtomicLong state;
+
+	/**
+	 * Creates a stream from a seed.
+	 *
+	 * @param seed
+	 */
+	public RandomStream(long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	private RandomStream(long seed, long gamma) {
+		this.origin = seed;
+		this.gamma = gamma;
+		this.state = new AtomicLong(seed);
+	}
+
+	/**
+	 * Splits off an independent child stream. The same key always gives the same child.
+	 *
+	 * @param key Identifies the child
+	 * @return
+	 */
+	public RandomStream split(long key) {
+		long base = origin + (mix64(key) * GOLDEN_GAMMA);
+		return new RandomStream(mix64(base), mixGamma(base + GOLDEN_GAMMA));
+	}
+
+	@Override
+	public long nextLong() {
+		return mix64(state.addAndGet(gamma));
+	}
+
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Makes an odd gamma with enough bit transitions, as done by SplittableRandom.
+	 */
+	private static long mixGamma(long z) {
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		z = (z ^ (z >>> 33)) | 1L;
+		int n = Long.bitCount(z ^ (z >>> 1));
+		return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+	}
+}
@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 
 /**
@@ -37,7 +38,19 @@ public final class RandomUtil {
 	// See Mersenne Twister in JAVA 
 	// at http://www.math.sci.hiroshima-u.ac.jp/m-mat/MT/VERSIONS/JAVA/java.html
 	
-	private static final Random random = ThreadLocalRandom.current();
+	// Every draw goes to the stream active on the calling thread. A settlement update
+	// makes the settlement's own stream active, and each unit inside it its own, so the
+	// numbers a unit draws do not depend on which thread runs it or on the timing of
+	// other settlements. Other threads share the default stream.
+
+	/** The seed of the default stream and the root of the unit streams. */
+	private static long seed = ThreadLocalRandom.current().nextLong();
+	private static RandomStream defaultStream = new RandomStream(seed);
+
+	private static final ThreadLocal<RandomGenerator> activeStream = new ThreadLocal<>();
+
+	/** Random view of whichever stream is active when it is used. */
+	private static final Random random = Random.from(() -> current().nextLong());
 
 	private RandomUtil() {}
 
@@ -45,6 +58,60 @@ public final class RandomUtil {
 		return random;
 	}
 
+	/**
+	 * Seeds the default stream and the unit streams so a run can be repeated.
+	 *
+	 * @param newSeed
+	 */
+	public static synchronized void setSeed(long newSeed) {
+		seed = newSeed;
+		defaultStream = new RandomStream(newSeed);
+	}
+
+	/**
+	 * Gets the seed the streams are derived from.
+	 *
+	 * @return
+	 */
+	public static synchronized long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Creates the stream for a unit. The same seed and key always give the same stream.
+	 *
+	 * @param key Unique key of the unit
+	 * @return
+	 */
+	public static synchronized RandomStream createStream(long key) {
+		return new RandomStream(seed).split(key);
+	}
+
+	/**
+	 * Makes a stream active for the calling thread.
+	 *
+	 * @param stream The new stream; null returns to the default stream
+	 * @return The stream that was active before, so it can be restored
+	 */
+	public static RandomGenerator setActiveStream(RandomGenerator stream) {
+		RandomGenerator previous = activeStream.get();
+		if (stream == null) {
+			activeStream.remove();
+		}
+		else {
+			activeStream.set(stream);
+		}
+		return previous;
+	}
+
+	/**
+	 * Gets the stream to draw from on the calling thread.
+	 */
+	private static RandomGenerator current() {
+		RandomGenerator s = activeStream.get();
+		return (s != null ? s : defaultStream);
+	}
+
 
 	/**
 	 * Returns a random element from a set.
@@ -85,7 +152,7 @@ public final class RandomUtil {
 	 * @return true if random percent is less than percentage limit
 	 */
 	public static boolean lessThanRandPercent(int randomLimit) {
-		int rand = random.nextInt(100) + 1;
+		int rand = current().nextInt(100) + 1;
 		return rand < randomLimit;
 	}
 
@@ -96,7 +163,7 @@ public final class RandomUtil {
 	 * @return true if random percent is less than percentage limit
 	 */
 	public static boolean lessThanRandPercent(double randomLimit) {
-		double rand = random.nextDouble() * 100;
+		double rand = current().nextDouble() * 100;
 		return rand < randomLimit;
 	}
 
@@ -109,7 +176,7 @@ public final class RandomUtil {
 	public static int getRandomInt(int ceiling) {
 		if (ceiling < 0)
 			throw new IllegalArgumentException(Msg.getString("RandomUtil.log.ceilingMustBePositive") + ceiling); //$NON-NLS-1$
-		return random.nextInt(ceiling + 1);
+		return current().nextInt(ceiling + 1);
 	}
 
 	/**
@@ -123,7 +190,7 @@ public final class RandomUtil {
 	public static int getRandomInt(int base, int ceiling) {
 		if (ceiling < base)
 			throw new IllegalArgumentException(Msg.getString("RandomUtil.log.ceilingMustGreaterBase")); //$NON-NLS-1$
-		return random.nextInt(ceiling - base + 1) + base;
+		return current().nextInt(ceiling - base + 1) + base;
 	}
 
 	/**
@@ -133,7 +200,7 @@ public final class RandomUtil {
 	 * @return the random number
 	 */
 	public static double getRandomDouble(double ceiling) {
-		return random.nextDouble() * ceiling;
+		return current().nextDouble() * ceiling;
 	}
 
 	/**
@@ -146,7 +213,17 @@ public final class RandomUtil {
 		if (ceiling < base)
 			throw new IllegalArgumentException(Msg.getString("RandomUtil.log.ceilingMustGreaterBase")); //$NON-NLS-1$
 		// Note: switch from using ThreadLocalRandom.current().nextDouble(base, ceiling)
-		return (random.nextDouble() * (ceiling - base)) + base;
+		return (current().nextDouble() * (ceiling - base)) + base;
+	}
+
+	/**
+	 * Returns a random double number from an exponential distribution with a mean of 1.0.
+	 * This is the waiting time to the next event of a Poisson process with a rate of 1.
+	 *
+	 * @return the random number
+	 */
+	public static double getExponential() {
+		return -Math.log1p(-current().nextDouble());
 	}
 
 	/**
@@ -157,7 +234,7 @@ public final class RandomUtil {
 	 * @return the random number
 	 */
 	public static double getGaussianDouble() {
-		return random.nextGaussian();
+		return current().nextGaussian();
 	}
 
 	/**
@@ -396,6 +396,7 @@ public abstract class Vehicle extends AbstractMobileUnit
 		// Set new parked location for the vehicle.
 		setPosition(position);
 		this.facingParked = facing;
+		LocalAreaUtil.invalidate(getCoordinates());
 		
 		// Get current human crew positions relative to the vehicle.
 		Map<Person, LocalPosition> currentCrewPositions = getCurrentCrewPositions();
@@ -421,6 +422,23 @@ public abstract class Vehicle extends AbstractMobileUnit
 		// Set new parked location for the flyer.
 		setPosition(position);
 		this.facingParked = facing;
+		LocalAreaUtil.invalidate(getCoordinates());
+	}
+
+	/**
+	 * Sets the vehicle's location coordinates. The obstacles at the location it
+	 * leaves and the one it arrives at are found again.
+	 *
+	 * @param newLocation the new location of the vehicle
+	 */
+	@Override
+	public void setCoordinates(Coordinates newLocation) {
+		Coordinates oldLocation = getCoordinates();
+		super.setCoordinates(newLocation);
+		if (!newLocation.equals(oldLocation)) {
+			LocalAreaUtil.invalidate(oldLocation);
+			LocalAreaUtil.invalidate(newLocation);
+		}
 	}
 	
 	/**
@@ -2222,7 +2240,10 @@ public abstract class Vehicle extends AbstractMobileUnit
 			}
 			
 			// 3. Set containerID
+			Coordinates oldLocation = getCoordinates();
 			setContainer(newContainer, newState);
+			LocalAreaUtil.invalidate(oldLocation);
+			LocalAreaUtil.invalidate(getCoordinates());
 
 			// 4. Fire the container unit event
 			fireUnitUpdate(UnitEventType.CONTAINER_UNIT_EVENT, newContainer);
@@ -14,6 +14,7 @@ import com.mars_sim.core.data.RatingScore;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -75,6 +76,8 @@ public class MaintainVehicleMeta extends MetaTask implements SettlementMetaTask
 		setPreferredJob(JobType.MECHANICS);
 
 		addPreferredRobot(RobotType.REPAIRBOT);
+		setScoreDependencies(ScoreDependency.VEHICLES, ScoreDependency.MALFUNCTION,
+						ScoreDependency.PERIOD);
 	}
 
     /**
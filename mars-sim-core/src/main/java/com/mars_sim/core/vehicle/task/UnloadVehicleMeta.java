@@ -15,6 +15,7 @@ import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.fav.FavoriteType;
 import com.mars_sim.core.person.ai.job.util.JobType;
 import com.mars_sim.core.person.ai.task.util.MetaTask;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.SettlementMetaTask;
 import com.mars_sim.core.person.ai.task.util.SettlementTask;
 import com.mars_sim.core.person.ai.task.util.Task;
@@ -80,6 +81,8 @@ public class UnloadVehicleMeta extends MetaTask implements SettlementMetaTask {
 		setTrait(TaskTrait.STRENGTH);
 		setPreferredJob(JobType.LOADERS);
         addPreferredRobot(RobotType.DELIVERYBOT);
+		setScoreDependencies(ScoreDependency.VEHICLES, ScoreDependency.RESOURCES,
+						ScoreDependency.PERIOD);
 	}
 
     /**
@@ -0,0 +1,70 @@
+package com.mars_sim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.map.location.BoundedObject;
+import com.mars_sim.core.map.location.LocalBoundedObject;
+import com.mars_sim.core.map.location.LocalPosition;
+
+class LocalAreaGraphTest {
+
+	private static final LocalPosition START = new LocalPosition(-50D, 0D);
+	private static final LocalPosition END = new LocalPosition(50D, 0D);
+
+	@Test
+	void testAroundBlock() {
+		var index = new LocalAreaIndex(Set.of(new BoundedObject(0D, 0D, 20D, 20D, 0D)));
+		var path = index.getGraph().findPath(START, END);
+
+		assertNotNull(path, "Path found");
+		assertEquals(START, path.get(0), "Path starts at start");
+		assertEquals(END, path.get(path.size() - 1), "Path ends at end");
+		assertEquals(4, path.size(), "Turns at two corners");
+		assertClear(index, path);
+	}
+
+	/**
+	 * A long wall of buildings with a gap well away from the straight line.
+	 */
+	@Test
+	void testThroughGap() {
+		var index = new LocalAreaIndex(Set.of(
+						new BoundedObject(0D, 80D, 10D, 140D, 0D),
+						new BoundedObject(0D, -55D, 10D, 100D, 0D),
+						new BoundedObject(0D, -150D, 10D, 80D, 0D)));
+		var path = index.getGraph().findPath(START, END);
+
+		assertNotNull(path, "Path found");
+		assertClear(index, path);
+		for (LocalPosition p : path) {
+			assertTrue(p.getY() <= 15D, "Never goes round the top wall");
+		}
+	}
+
+	@Test
+	void testEnclosed() {
+		// A ring of buildings around the end
+		var index = new LocalAreaIndex(Set.<LocalBoundedObject>of(
+						new BoundedObject(50D, 15D, 40D, 10D, 0D),
+						new BoundedObject(50D, -15D, 40D, 10D, 0D),
+						new BoundedObject(35D, 0D, 10D, 40D, 0D),
+						new BoundedObject(65D, 0D, 10D, 40D, 0D)));
+		assertNull(index.getGraph().findPath(START, END), "No way in");
+	}
+
+	private static void assertClear(LocalAreaIndex index, List<LocalPosition> path) {
+		for (int i = 1; i < path.size(); i++) {
+			var a = path.get(i - 1);
+			var b = path.get(i);
+			assertTrue(index.isClear(a.getX(), a.getY(), b.getX(), b.getY()), "Leg " + i + " is clear");
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.mars_sim.core;
+
+import java.awt.geom.Line2D;
+
+import com.mars_sim.core.map.location.LocalPosition;
+
+/**
+ * Checks the obstacles at a settlement follow the buildings and vehicles there.
+ */
+public class LocalAreaIndexTest extends AbstractMarsSimUnitTest {
+
+	public void testBuildingAdded() {
+		var settlement = buildSettlement();
+		var locn = settlement.getCoordinates();
+		var inside = new LocalPosition(30D, 30D);
+
+		assertTrue("Empty ground", LocalAreaUtil.isPositionCollisionFree(inside, locn));
+
+		var building = buildBuilding(settlement.getBuildingManager(), inside, 45D, 0);
+		assertFalse("Inside new building", LocalAreaUtil.isPositionCollisionFree(inside, locn));
+		assertFalse("Path through building", LocalAreaUtil.isLinePathCollisionFree(
+						new Line2D.Double(0D, 0D, 60D, 60D), locn, true));
+		assertTrue("Building in objects", LocalAreaUtil.getAllLocalBoundedObjectsAtLocation(locn)
+						.contains(building));
+
+		settlement.getBuildingManager().removeBuilding(building);
+		assertTrue("Building removed", LocalAreaUtil.isPositionCollisionFree(inside, locn));
+	}
+
+	public void testVehicleMoved() {
+		var settlement = buildSettlement();
+		var locn = settlement.getCoordinates();
+		var first = new LocalPosition(-40D, 10D);
+		var second = new LocalPosition(40D, -10D);
+
+		var rover = buildRover(settlement, "Rover", first);
+		assertFalse("Rover at first spot", LocalAreaUtil.isPositionCollisionFree(first, locn));
+		assertTrue("Second spot free", LocalAreaUtil.isObjectCollisionFree(null, 5D, 5D,
+						second.getX(), second.getY(), 0D, locn));
+		assertTrue("Rover ignores itself", LocalAreaUtil.isObjectCollisionFree(rover, 5D, 5D,
+						first.getX(), first.getY(), 0D, locn));
+
+		rover.setParkedLocation(second, 90D);
+		assertTrue("First spot free", LocalAreaUtil.isPositionCollisionFree(first, locn));
+		assertFalse("Rover at second spot", LocalAreaUtil.isObjectCollisionFree(null, 5D, 5D,
+						second.getX(), second.getY(), 0D, locn));
+	}
+}
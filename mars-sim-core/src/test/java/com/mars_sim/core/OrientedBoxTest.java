@@ -0,0 +1,92 @@
+package com.mars_sim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OrientedBoxTest {
+
+	@Test
+	void testContains() {
+		var box = OrientedBox.of(10D, 0D, 4D, 10D, 0D);
+		assertTrue(box.contains(10D, 0D));
+		assertTrue(box.contains(11.9D, 4.9D));
+		assertFalse(box.contains(12.1D, 0D));
+		assertFalse(box.contains(10D, 5.1D));
+
+		// Turned on its side the long axis runs east to west
+		box = OrientedBox.of(10D, 0D, 4D, 10D, 90D);
+		assertTrue(box.contains(14.9D, 0D));
+		assertFalse(box.contains(10D, 2.1D));
+	}
+
+	@Test
+	void testSeparatingAxis() {
+		var square = OrientedBox.of(0D, 0D, 10D, 10D, 0D);
+		var diamond = OrientedBox.of(12D, 12D, 10D, 10D, 45D);
+
+		// Bounding rectangles overlap but a side of the square separates them
+		assertTrue(diamond.getMinX() < square.getMaxX());
+		assertTrue(diamond.getMinY() < square.getMaxY());
+		assertFalse(square.intersects(diamond));
+
+		assertTrue(square.intersects(OrientedBox.of(7D, 7D, 10D, 10D, 45D)));
+	}
+
+	@Test
+	void testTouchingWalls() {
+		var left = OrientedBox.of(0D, 0D, 10D, 10D, 0D);
+		var right = OrientedBox.of(10D, 0D, 10D, 10D, 0D);
+		assertFalse(left.intersects(right));
+		assertTrue(left.intersects(OrientedBox.of(9.9D, 0D, 10D, 10D, 0D)));
+	}
+
+	@Test
+	void testLine() {
+		var box = OrientedBox.of(0D, 0D, 10D, 10D, 0D);
+		assertTrue(box.intersects(OrientedBox.ofLine(-10D, -10D, 10D, 10D)));
+		assertTrue(box.intersects(OrientedBox.ofLine(0D, 0D, 0D, 0D)));
+		assertFalse(box.intersects(OrientedBox.ofLine(-10D, 6D, 10D, 6D)));
+		assertFalse(box.intersects(OrientedBox.ofLine(6D, 20D, 20D, 6D)));
+	}
+
+	/**
+	 * Compares random boxes against the shapes the collisions used to be worked out with.
+	 */
+	@Test
+	void testMatchesArea() {
+		var rand = new Random(17);
+		for (int i = 0; i < 500; i++) {
+			double[] a = randomBox(rand);
+			double[] b = randomBox(rand);
+			var areaA = toArea(a);
+			areaA.intersect(toArea(b));
+
+			boolean expected = !areaA.isEmpty();
+			assertEquals(expected, toBox(a).intersects(toBox(b)), "Boxes " + i);
+		}
+	}
+
+	private static double[] randomBox(Random rand) {
+		return new double[] {rand.nextDouble() * 40D, rand.nextDouble() * 40D,
+					1D + rand.nextDouble() * 15D, 1D + rand.nextDouble() * 15D, rand.nextDouble() * 360D};
+	}
+
+	private static OrientedBox toBox(double[] b) {
+		return OrientedBox.of(b[0], b[1], b[2], b[3], b[4]);
+	}
+
+	private static Area toArea(double[] b) {
+		var rect = new Rectangle2D.Double(b[0] - b[2] / 2D, b[1] - b[3] / 2D, b[2], b[3]);
+		var turn = AffineTransform.getRotateInstance(Math.toRadians(b[4]), b[0], b[1]);
+		return new Area(new Path2D.Double(rect, turn));
+	}
+}
@@ -0,0 +1,188 @@
+package com.mars_sim.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class UnitEventBusTest {
+
+    @SuppressWarnings("serial")
+    private static class TestUnit extends Unit {
+        TestUnit(String name, int id) {
+            super(name, id, MARS_SURFACE_UNIT_ID);
+        }
+
+        @Override
+        public UnitType getUnitType() {
+            return UnitType.SETTLEMENT;
+        }
+
+        @Override
+        public boolean isInSettlement() {
+            return false;
+        }
+
+        @Override
+        public String getContext() {
+            return null;
+        }
+    }
+
+    private static class Recorder implements UnitListener {
+        private List<UnitEvent> events = new CopyOnWriteArrayList<>();
+        private CountDownLatch expected;
+
+        Recorder(int count) {
+            expected = new CountDownLatch(count);
+        }
+
+        @Override
+        public void unitUpdate(UnitEvent event) {
+            events.add(event);
+            expected.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(expected.await(5, TimeUnit.SECONDS), "Events delivered");
+        }
+    }
+
+    @Test
+    void testMerge() throws InterruptedException {
+        var unit = new TestUnit("Alpha", 1);
+        var recorder = new Recorder(2);
+        unit.addUnitListener(recorder);
+
+        var bus = new UnitEventBus();
+        try {
+            bus.post(unit, UnitEventType.NAME_EVENT, "A");
+            bus.post(unit, UnitEventType.NAME_EVENT, "A");
+            bus.post(unit, UnitEventType.NAME_EVENT, "B");
+            bus.post(unit, UnitEventType.NAME_EVENT, "A");
+            bus.flush();
+            recorder.await();
+
+            assertEquals(2, recorder.events.size(), "Events received");
+            assertEquals("A", recorder.events.get(0).getTarget(), "First target");
+            assertEquals("B", recorder.events.get(1).getTarget(), "Second target");
+            assertEquals(2, bus.getPosted(), "Posted");
+            assertEquals(2, bus.getMerged(), "Merged");
+            assertEquals(0, bus.getDropped(), "Dropped");
+        }
+        finally {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    void testDropWhenFull() {
+        var unit = new TestUnit("Beta", 2);
+        var bus = new UnitEventBus();
+        try {
+            for (int i = 0; i <= UnitEventBus.MAX_PENDING; i++) {
+                bus.post(unit, UnitEventType.INVENTORY_STORING_UNIT_EVENT, i);
+            }
+            // Merging still works when full
+            bus.post(unit, UnitEventType.INVENTORY_STORING_UNIT_EVENT, 0);
+
+            assertEquals(UnitEventBus.MAX_PENDING, bus.getPosted(), "Posted");
+            assertEquals(1, bus.getDropped(), "Dropped");
+            assertEquals(1, bus.getMerged(), "Merged");
+        }
+        finally {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    void testConcurrentPosts() throws InterruptedException {
+        var unit = new TestUnit("Delta", 4);
+        int threads = 4;
+        int perThread = 500;
+        var recorder = new Recorder(threads * perThread);
+        unit.addUnitListener(recorder);
+
+        var bus = new UnitEventBus();
+        bus.start();
+        try {
+            List<Thread> posters = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                var poster = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        bus.post(unit, UnitEventType.INVENTORY_STORING_UNIT_EVENT, base + i);
+                        // Merged with the one just posted, or delivered on its own
+                        bus.post(unit, UnitEventType.INVENTORY_STORING_UNIT_EVENT, base + i);
+                        if (i % 50 == 0) {
+                            bus.flush();
+                        }
+                    }
+                });
+                posters.add(poster);
+                poster.start();
+            }
+            for (Thread poster : posters) {
+                poster.join();
+            }
+            recorder.await();
+
+            Set<Object> targets = new HashSet<>();
+            recorder.events.forEach(e -> targets.add(e.getTarget()));
+            assertEquals(threads * perThread, targets.size(), "Every target delivered");
+            assertEquals(0, bus.getDropped(), "Dropped");
+        }
+        finally {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    void testSlowListener() throws InterruptedException {
+        var unit = new TestUnit("Gamma", 3);
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(1);
+        unit.addUnitListener(e -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        var recorder = new Recorder(2);
+        unit.addUnitListener(recorder);
+
+        var bus = new UnitEventBus();
+        // The sweep hands over the merged event once the listener is free
+        bus.start();
+        try {
+            bus.post(unit, UnitEventType.NAME_EVENT, null);
+            bus.flush();
+            assertTrue(started.await(5, TimeUnit.SECONDS), "Delivery started");
+
+            // Listener is stuck so later events wait and merge
+            for (int i = 0; i < 100; i++) {
+                bus.post(unit, UnitEventType.DESCRIPTION_EVENT, null);
+                bus.flush();
+            }
+            assertEquals(99, bus.getMerged(), "Merged whilst delivering");
+
+            release.countDown();
+            recorder.await();
+            assertEquals(UnitEventType.DESCRIPTION_EVENT, recorder.events.get(1).getType(), "Later event");
+        }
+        finally {
+            bus.shutdown();
+        }
+    }
+}
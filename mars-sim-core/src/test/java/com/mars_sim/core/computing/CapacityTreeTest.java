@@ -0,0 +1,70 @@
+package com.mars_sim.core.computing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CapacityTreeTest {
+
+	private static final double DELTA = 1E-9;
+
+	@Test
+	void testWrapAround() {
+		var tree = new CapacityTree();
+		tree.add(990, 20, 2D);
+
+		assertEquals(2D, tree.get(999), "End of sol");
+		assertEquals(2D, tree.get(9), "Start of next sol");
+		assertEquals(0D, tree.get(10), "After range");
+		assertEquals(40D, tree.getSum(0, CapacityTree.MSOLS), DELTA, "Total load");
+
+		tree.clear(995, 10);
+		assertEquals(2D, tree.get(994), "Before cleared range");
+		assertEquals(0D, tree.get(999), "Cleared end of sol");
+		assertEquals(0D, tree.get(4), "Cleared start of sol");
+		assertEquals(2D, tree.get(5), "After cleared range");
+	}
+
+	/**
+	 * Compares random bookings against a plain array of loads.
+	 */
+	@Test
+	void testMatchesArray() {
+		var rand = new Random(25);
+		var tree = new CapacityTree();
+		double[] loads = new double[CapacityTree.MSOLS];
+
+		for (int i = 0; i < 2000; i++) {
+			int start = rand.nextInt(CapacityTree.MSOLS);
+			int length = 1 + rand.nextInt(150);
+			switch (rand.nextInt(4)) {
+				case 0, 1 -> {
+					double load = rand.nextDouble() * 5D;
+					tree.add(start, length, load);
+					for (int m = 0; m < length; m++) {
+						loads[(start + m) % CapacityTree.MSOLS] += load;
+					}
+				}
+				case 2 -> {
+					tree.clear(start, length);
+					for (int m = 0; m < length; m++) {
+						loads[(start + m) % CapacityTree.MSOLS] = 0D;
+					}
+				}
+				default -> {
+					double max = 0D;
+					double sum = 0D;
+					for (int m = 0; m < length; m++) {
+						double l = loads[(start + m) % CapacityTree.MSOLS];
+						max = (m == 0 ? l : Math.max(max, l));
+						sum += l;
+					}
+					assertEquals(max, tree.getMax(start, length), DELTA, "Max at step " + i);
+					assertEquals(sum, tree.getSum(start, length), DELTA * length, "Sum at step " + i);
+				}
+			}
+		}
+	}
+}
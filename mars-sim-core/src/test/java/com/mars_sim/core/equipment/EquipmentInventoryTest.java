@@ -122,6 +122,42 @@ public class EquipmentInventoryTest extends AbstractMarsSimUnitTest {
 
 	}
 
+	/*
+	 * Test the totals of the resources held in equipment follow the equipment.
+	 */
+	public void testContainerTotals() throws Exception {
+		EquipmentInventory inv = new EquipmentInventory(settlement, CAPACITY_AMOUNT);
+		int rock = ResourceUtil.rockSamplesID;
+		double rockMass = 20D;
+
+		Equipment bag = EquipmentFactory.createEquipment(EquipmentType.BAG, settlement);
+		bag.storeAmountResource(rock, rockMass);
+		assertTrue("Bag added", inv.addEquipment(bag));
+		assertEquals("Rock in held bag", rockMass, inv.getAllAmountResourceStored(rock), 0.000001D);
+		assertEquals("Mass with bag", rockMass + bag.getBaseMass(), inv.getStoredMass(), 0.000001D);
+
+		// Changes to the bag whilst it is held
+		bag.retrieveAmountResource(rock, rockMass/4);
+		bag.storeAmountResource(rock, rockMass/2);
+		double expected = rockMass * 1.25D;
+		assertEquals("Rock after bag changes", expected, inv.getAllAmountResourceStored(rock), 0.000001D);
+		assertEquals("Mass after bag changes", expected + bag.getBaseMass(), inv.getStoredMass(), 0.000001D);
+
+		// Another inventory takes the bag before it is removed
+		EquipmentInventory other = new EquipmentInventory(settlement, CAPACITY_AMOUNT);
+		assertTrue("Bag moved", other.addEquipment(bag));
+		bag.retrieveAmountResource(rock, rockMass/4);
+		assertEquals("Rock left after move", 0D, inv.getAllAmountResourceStored(rock));
+		assertEquals("Rock in new holder", rockMass, other.getAllAmountResourceStored(rock), 0.000001D);
+
+		inv.removeEquipment(bag);
+		assertEquals("Mass after remove", 0D, inv.getStoredMass());
+		assertEquals("Rock still in new holder", rockMass, other.getAllAmountResourceStored(rock), 0.000001D);
+
+		other.removeEquipment(bag);
+		assertEquals("Mass after last remove", 0D, other.getStoredMass());
+	}
+
 	/*
 	 * Test method loading amount resources.
 	 */
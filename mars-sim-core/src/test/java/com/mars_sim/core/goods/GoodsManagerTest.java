@@ -5,6 +5,7 @@ import static org.junit.Assert.assertNotEquals;
 
 import com.mars_sim.core.AbstractMarsSimUnitTest;
 import com.mars_sim.core.goods.GoodsManager.CommerceType;
+import com.mars_sim.core.resource.ResourceUtil;
 
 public class GoodsManagerTest extends AbstractMarsSimUnitTest {
 
@@ -49,4 +50,87 @@ public class GoodsManagerTest extends AbstractMarsSimUnitTest {
         	assertNotEquals("Demand has changed after budget review", initialDemand, newDemand);
         
     }
+
+    public void testIncrementalValuation() {
+        var s = buildSettlement();
+        buildPerson("P1", s);
+        var v = new GoodsValuation();
+
+        int all = GoodsUtil.getGoodsList().size();
+        assertEquals("First cycle values everything", all, v.selectGoods(s).size());
+
+        // Nothing has changed so no resources need valuing
+        var quiet = v.selectGoods(s);
+        assertTrue("Quiet cycle values fewer goods", quiet.size() < all);
+        assertTrue("No resources in quiet cycle", quiet.stream()
+                        .noneMatch(g -> g.getCategory() == GoodCategory.AMOUNT_RESOURCE));
+
+        // A change in stock makes the resource dirty
+        var water = GoodsUtil.getGood(ResourceUtil.waterID);
+        s.storeAmountResource(water.getID(), 10D);
+        assertTrue("Stored resource valued", v.selectGoods(s).contains(water));
+
+        // A moving value makes the good and its inputs dirty
+        var output = GoodsUtil.getGoodsList().stream()
+                        .filter(g -> g.getCategory() == GoodCategory.AMOUNT_RESOURCE)
+                        .filter(g -> !v.getDependants(g.getID()).isEmpty())
+                        .findFirst().orElseThrow();
+        v.recordValue(output, 1D, 2D);
+        var next = v.selectGoods(s);
+        assertTrue("Moving good valued", next.contains(output));
+        for (int id : v.getDependants(output.getID())) {
+            assertTrue("Input valued " + id, next.contains(GoodsUtil.getGood(id)));
+        }
+
+        // A settled value is left alone
+        v.recordValue(output, 2D, 2D);
+        assertFalse("Settled good not valued", v.selectGoods(s).contains(output));
+
+        v.setFullRecompute(true);
+        assertEquals("Full recompute values everything", all, v.selectGoods(s).size());
+    }
+
+    /**
+     * Runs an incremental and a full recompute manager side by side on the same
+     * settlement and checks they end up with the same values.
+     */
+    public void testIncrementalMatchesFull() {
+        var s = buildSettlement("Goods", true);
+        buildPerson("P1", s);
+        buildPerson("P2", s);
+
+        var incremental = s.getGoodsManager();
+        var full = new GoodsManager(s);
+        full.setFullRecompute(true);
+
+        int all = GoodsUtil.getGoodsList().size();
+        int fewer = 0;
+        int[] stored = {ResourceUtil.waterID, ResourceUtil.oxygenID, ResourceUtil.foodID};
+        for (int i = 0; i < 10; i++) {
+            s.storeAmountResource(stored[i % stored.length], 50D);
+            if (i == 4) {
+                incremental.injectResourceDemand(ResourceUtil.iceID, 500D);
+                full.injectResourceDemand(ResourceUtil.iceID, 500D);
+            }
+
+            incremental.updateGoodValues();
+            full.updateGoodValues();
+            assertEquals("Full recompute values everything", all, full.getNumGoodsValued());
+            if (incremental.getNumGoodsValued() < all) {
+                fewer++;
+            }
+        }
+        assertTrue("Incremental values fewer goods", fewer > 0);
+
+        for (Good g : GoodsUtil.getGoodsList()) {
+            double expected = full.getGoodValuePoint(g.getID());
+            double actual = incremental.getGoodValuePoint(g.getID());
+            assertEquals("Value of " + g.getName(), expected, actual, Math.abs(expected) * 0.01);
+
+            // The cached price follows the value of the good
+            expected = full.getLocalPrice(g.getID());
+            actual = incremental.getLocalPrice(g.getID());
+            assertEquals("Price of " + g.getName(), expected, actual, Math.abs(expected) * 0.01);
+        }
+    }
 }
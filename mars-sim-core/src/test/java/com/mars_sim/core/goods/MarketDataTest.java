@@ -0,0 +1,133 @@
+package com.mars_sim.core.goods;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Test;
+
+class MarketDataTest {
+
+    private static final int GOOD = 10;
+
+    @Test
+    void testFirstSampleTaken() {
+        var market = new MarketData();
+        assertEquals(MarketData.UNSET, market.get(MarketData.DEMAND, GOOD), "Unset demand");
+
+        market.update(MarketData.DEMAND, GOOD, 100D);
+        assertEquals(100D, market.get(MarketData.DEMAND, GOOD), "First demand");
+
+        market.update(MarketData.DEMAND, GOOD, 200D);
+        assertEquals(105D, market.get(MarketData.DEMAND, GOOD), 0.0001D, "Blended demand");
+        assertEquals(MarketData.UNSET, market.get(MarketData.VALUE, GOOD), "Other item untouched");
+
+        market.reset(GOOD);
+        assertEquals(MarketData.UNSET, market.get(MarketData.DEMAND, GOOD), "Reset demand");
+    }
+
+    @Test
+    void testOutOfRange() {
+        var market = new MarketData();
+        assertEquals(MarketData.UNSET, market.get(MarketData.PRICE, 21), "Unknown good");
+        assertEquals(MarketData.UNSET, market.getSnapshot(-1).price(), "Negative good");
+        market.update(MarketData.PRICE, -1, 5D);
+        assertEquals(MarketData.UNSET, market.get(MarketData.PRICE, -1), "Negative good not held");
+    }
+
+    @Test
+    void testLateGood() {
+        var market = new MarketData();
+        market.update(MarketData.PRICE, GOOD, 4D);
+
+        // A good far beyond the first ones is still held
+        int lateGood = 5000;
+        market.update(MarketData.PRICE, lateGood, 7D);
+        assertEquals(7D, market.get(MarketData.PRICE, lateGood), "Late good");
+        assertEquals(4D, market.get(MarketData.PRICE, GOOD), "Early good");
+    }
+
+    @Test
+    void testSnapshot() {
+        var market = new MarketData();
+        market.update(MarketData.DEMAND, GOOD, 1D);
+        market.update(MarketData.VALUE, GOOD, 2D);
+        market.update(MarketData.COST, GOOD, 3D);
+        market.update(MarketData.PRICE, GOOD, 4D);
+
+        var snapshot = market.getSnapshot(GOOD);
+        assertEquals(new MarketData.Snapshot(1D, 2D, 3D, 4D), snapshot, "Snapshot");
+    }
+
+    @Test
+    void testConcurrentUpdates() throws Exception {
+        var market = new MarketData();
+        int threads = 8;
+        int updates = 100;
+        int goods = 300;
+
+        // Every update pulls the price towards a zero sample by the same factor,
+        // so the end price tells exactly how many updates were applied
+        for (int id = 0; id < goods; id++) {
+            market.update(MarketData.PRICE, id, 1D);
+        }
+        runThreads(threads, t -> {
+            for (int i = 0; i < updates; i++) {
+                for (int id = 0; id < goods; id++) {
+                    market.update(MarketData.PRICE, id, 0D);
+                }
+            }
+        });
+
+        double expected = Math.pow(1 - MarketData.SAMPLE_WEIGHT, (double) threads * updates);
+        for (int id = 0; id < goods; id++) {
+            double price = market.get(MarketData.PRICE, id);
+            assertEquals(expected, price, expected * 1E-6, "Price of good " + id);
+        }
+    }
+
+    @Test
+    void testConcurrentGrowth() throws Exception {
+        var market = new MarketData();
+        int threads = 8;
+        int goods = 2000;
+
+        // The threads share the pages but each one gives its own goods its own value
+        runThreads(threads, t -> {
+            for (int id = t; id < goods; id += threads) {
+                market.update(MarketData.DEMAND, id, t + 1D);
+                market.update(MarketData.DEMAND, id, t + 1D);
+            }
+        });
+
+        for (int id = 0; id < goods; id++) {
+            assertEquals((id % threads) + 1D, market.get(MarketData.DEMAND, id), 1E-9, "Demand of good " + id);
+        }
+    }
+
+    private static void runThreads(int threads, IntConsumer job) throws Exception {
+        List<Callable<Void>> jobs = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            jobs.add(() -> {
+                job.accept(thread);
+                return null;
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (var f : pool.invokeAll(jobs)) {
+                f.get();
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.mars_sim.core.map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MapProjectionTest {
+
+    private static final String MAP = "Mars_Viking_MDIM21_ClrMosaic_1200.jpg";
+
+    @Test
+    void testMatchesPerPixel() throws URISyntaxException {
+        var source = new File(getClass().getResource("/maps/" + MAP).toURI());
+        var mapData = new IntegerMapData(new MapMetaData(MAP, MAP, true, List.of(MAP)), 0, source);
+
+        int width = 240;
+        int height = 180;
+        int[] expected = new int[width * height];
+        int[] actual = new int[width * height];
+        for (double rho : new double[] {height / Math.PI, mapData.getRhoDefault()}) {
+            for (int i = 0; i < 6; i++) {
+                double phi = 0.1 + (i * 0.55);
+                double theta = i * 1.1;
+                mapData.cpu0(phi, theta, width, height, rho, expected);
+                mapData.cpu(phi, theta, width, height, rho, actual);
+                assertArrayEquals(expected, actual, "Projection at phi " + phi + ", theta " + theta);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.mars_sim.core.map.location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the quad-tree SurfaceManager with the previous latitude slice scheme.
+ * This is run by hand and is not part of the unit tests.
+ */
+public class SurfaceManagerBenchmark {
+
+    private static final int QUERIES = 20_000;
+    private static final double ARC_ANGLE = 0.05;
+
+    private record Feature(Coordinates getCoordinates) implements SurfacePOI {}
+
+    /**
+     * The original implementation that splits the globe into 6 latitude slices.
+     */
+    private static class SliceManager {
+        private static final int LATITUDE_SLICES = 6;
+        private static final double LATITUDE_RANGE = Math.PI/LATITUDE_SLICES;
+
+        @SuppressWarnings("unchecked")
+        private List<Feature>[] slices = new List[LATITUDE_SLICES];
+
+        SliceManager() {
+            Arrays.setAll(slices, element -> new ArrayList<>());
+        }
+
+        void addFeature(Feature newFeature) {
+            slices[getSlice(newFeature.getCoordinates().getPhi())].add(newFeature);
+        }
+
+        private int getSlice(double phi) {
+            int idx = (int)(phi/LATITUDE_RANGE);
+            return Math.max(0, Math.min(slices.length - 1, idx));
+        }
+
+        Feature getFeature(Coordinates newLocation) {
+            return slices[getSlice(newLocation.getPhi())].stream()
+                    .filter(c -> c.getCoordinates().equals(newLocation))
+                    .findFirst().orElse(null);
+        }
+
+        List<Feature> getFeatures(Coordinates center, double arcAngle) {
+            List<Feature> result = new ArrayList<>();
+            for(int i = getSlice(center.getPhi() - arcAngle); i <= getSlice(center.getPhi() + arcAngle); i++) {
+                result.addAll(slices[i].stream()
+                        .filter(c -> center.getAngle(c.getCoordinates()) <= arcAngle)
+                        .toList());
+            }
+            return result;
+        }
+    }
+
+    public static void main(String[] args) {
+        for(int size : new int[] {1_000, 10_000, 100_000}) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        var rand = new Random(size);
+        var tree = new SurfaceManager<Feature>();
+        var slices = new SliceManager();
+        List<Coordinates> locations = new ArrayList<>();
+        for(int i = 0; i < size; i++) {
+            var f = new Feature(new Coordinates(rand.nextDouble() * Math.PI, rand.nextDouble() * Math.PI * 2));
+            locations.add(f.getCoordinates());
+            tree.addFeature(f);
+            slices.addFeature(f);
+        }
+
+        List<Coordinates> centers = new ArrayList<>();
+        for(int i = 0; i < QUERIES; i++) {
+            centers.add(i % 2 == 0 ? locations.get(rand.nextInt(size))
+                            : new Coordinates(rand.nextDouble() * Math.PI, rand.nextDouble() * Math.PI * 2));
+        }
+
+        // Run twice so the second pass is measured after warm up
+        for(int pass = 0; pass < 2; pass++) {
+            long found = 0;
+            long start = System.nanoTime();
+            for(var c : centers) {
+                found += (slices.getFeature(c) != null ? 1 : 0);
+            }
+            long sliceLookup = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for(var c : centers) {
+                found += (tree.getFeature(c) != null ? 1 : 0);
+            }
+            long treeLookup = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for(var c : centers) {
+                found += slices.getFeatures(c, ARC_ANGLE).size();
+            }
+            long sliceRange = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for(var c : centers) {
+                found += tree.getFeatures(c, ARC_ANGLE).size();
+            }
+            long treeRange = System.nanoTime() - start;
+
+            if (pass == 1) {
+                System.out.println(String.format(
+                        "%7d features: lookup %8.2f us -> %6.2f us, range %8.2f us -> %6.2f us (%d)",
+                        size, perQuery(sliceLookup), perQuery(treeLookup),
+                        perQuery(sliceRange), perQuery(treeRange), found));
+            }
+        }
+    }
+
+    private static double perQuery(long nanos) {
+        return nanos / 1000D / QUERIES;
+    }
+}
@@ -1,6 +1,13 @@
 package com.mars_sim.core.map.location;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -91,4 +98,52 @@ class SurfaceManagerTest {
             assertEquals("Slice #" + i, i+1, found.size());
         }
     }
+
+    @Test
+    void testGetFeature() {
+        var mgr = new SurfaceManager<TestFeature>();
+        var north = new TestFeature(new Coordinates(0.1, 1D));
+        var south = new TestFeature(new Coordinates(Math.PI - 0.1, 1D));
+        var edge = new TestFeature(new Coordinates(Math.PI/2, 0D));
+        mgr.addFeature(north);
+        mgr.addFeature(south);
+        mgr.addFeature(edge);
+
+        assertSame("North feature", north, mgr.getFeature(new Coordinates(0.1, 1D)));
+        assertSame("South feature", south, mgr.getFeature(new Coordinates(Math.PI - 0.1, 1D)));
+        assertSame("Edge feature", edge, mgr.getFeature(new Coordinates(Math.PI/2, 0D)));
+        assertNull("No feature", mgr.getFeature(new Coordinates(0.1, 1.0001D)));
+    }
+
+    @Test
+    void testGetFeaturesMatchesFullScan() {
+        var mgr = new SurfaceManager<TestFeature>();
+        var rand = new Random(42);
+        List<TestFeature> all = new ArrayList<>();
+        for(int i = 0; i < 2000; i++) {
+            var f = new TestFeature(new Coordinates(rand.nextDouble() * Math.PI,
+                                            rand.nextDouble() * Math.PI * 2));
+            all.add(f);
+            mgr.addFeature(f);
+        }
+
+        for(int i = 0; i < 200; i++) {
+            var center = new Coordinates(rand.nextDouble() * Math.PI, rand.nextDouble() * Math.PI * 2);
+            double arcAngle = rand.nextDouble() * (i < 100 ? 0.2 : 2D);
+
+            var expected = new HashSet<>(all.stream()
+                                .filter(f -> center.getAngle(f.getCoordinates()) <= arcAngle)
+                                .toList());
+            var found = mgr.getFeatures(center, arcAngle);
+
+            assertEquals("Search #" + i + " size", expected.size(), found.size());
+            assertEquals("Search #" + i, expected, new HashSet<>(found));
+        }
+
+        int total = 0;
+        for(int s : mgr.getStats()) {
+            total += s;
+        }
+        assertEquals("Total in stats", all.size(), total);
+    }
 }
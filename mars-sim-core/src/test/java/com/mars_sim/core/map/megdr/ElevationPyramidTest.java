@@ -0,0 +1,135 @@
+package com.mars_sim.core.map.megdr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.mars_sim.core.map.location.Coordinates;
+
+class ElevationPyramidTest {
+
+    private static final short WIDTH = 600;
+    private static final short HEIGHT = 300;
+    private static final double ROW_RISE = 3D;
+    private static final double COLUMN_RISE = 2D;
+    private static final double DELTA = 0.000001D;
+
+    /**
+     * Reader over a tilted plane so the interpolated values are known everywhere.
+     */
+    private static class PlaneReader extends MEGDRMapReader {
+        PlaneReader() {
+            setSize(WIDTH, HEIGHT);
+        }
+
+        @Override
+        protected short getElevation(int index) {
+            return (short) planeAt(index / WIDTH, index % WIDTH);
+        }
+    }
+
+    /**
+     * Reader over the same plane raised, so it has the same size but different data.
+     */
+    private static class RaisedReader extends PlaneReader {
+        @Override
+        protected short getElevation(int index) {
+            return (short) (super.getElevation(index) + 100);
+        }
+    }
+
+    private static double planeAt(double row, double column) {
+        return ROW_RISE * row + COLUMN_RISE * column;
+    }
+
+    private static double phiOf(double row) {
+        return row * Math.PI / HEIGHT;
+    }
+
+    private static double thetaOf(double column) {
+        return column * 2 * Math.PI / WIDTH;
+    }
+
+    @Test
+    void testBilinear() {
+        var pyramid = new ElevationPyramid(new PlaneReader(), null);
+
+        // On a point and between points
+        var onPoint = pyramid.sample(phiOf(100), thetaOf(200), 0);
+        assertEquals(planeAt(100, 200) / 1000D, onPoint.elevation(), DELTA, "Elevation on point");
+        var between = pyramid.sample(phiOf(100.25), thetaOf(200.5), 0);
+        assertEquals(planeAt(100.25, 200.5) / 1000D, between.elevation(), DELTA, "Elevation between points");
+    }
+
+    @Test
+    void testSlope() {
+        var pyramid = new ElevationPyramid(new PlaneReader(), null);
+        double phi = phiOf(100.5);
+        var sample = pyramid.sample(phi, thetaOf(200.5), 0);
+
+        double rowKm = Math.PI * Coordinates.MARS_RADIUS_KM / HEIGHT;
+        double columnKm = 2 * Math.PI * Coordinates.MARS_RADIUS_KM * Math.sin(phi) / WIDTH;
+
+        // Rows run south
+        assertEquals(-ROW_RISE / 1000D / rowKm, sample.northSlope(), DELTA, "North slope");
+        assertEquals(COLUMN_RISE / 1000D / columnKm, sample.eastSlope(), DELTA, "East slope");
+        assertEquals(-sample.northSlope(), sample.getSlope(0D, -1D), DELTA, "Slope heading south");
+    }
+
+    @Test
+    void testCoarseLevels() {
+        var pyramid = new ElevationPyramid(new PlaneReader(), null);
+        assertEquals(3, pyramid.getNumLevels(), "Levels");
+        assertEquals(0, pyramid.getLevel(1D), "Level for a short step");
+        assertEquals(2, pyramid.getLevel(10_000D), "Level for a long range");
+
+        // Averages of a plane are the plane, away from the edges
+        for (int level = 1; level < pyramid.getNumLevels(); level++) {
+            var sample = pyramid.sample(phiOf(120.3), thetaOf(250.7), level);
+            assertEquals(planeAt(120.3, 250.7) / 1000D, sample.elevation(), 0.001D, "Elevation at level " + level);
+        }
+    }
+
+    @Test
+    void testCacheFile(@TempDir Path dir) throws IOException {
+        File cache = dir.resolve("plane.lod").toFile();
+        var built = new ElevationPyramid(new PlaneReader(), cache);
+        assertTrue(cache.exists(), "Cache file written");
+        assertFalse(dir.resolve("plane.lod.tmp").toFile().exists(), "Temporary file renamed");
+        long modified = cache.lastModified();
+
+        var mapped = new ElevationPyramid(new PlaneReader(), cache);
+        assertEquals(modified, cache.lastModified(), "Cache file reused");
+        for (int level = 1; level < built.getNumLevels(); level++) {
+            assertEquals(built.sample(phiOf(80), thetaOf(90), level), mapped.sample(phiOf(80), thetaOf(90), level),
+                            "Level " + level);
+        }
+
+        // A file that does not match is rebuilt. Cutting the file short breaks the
+        // mappings above, so compare with levels held in memory
+        Files.write(cache.toPath(), new byte[] {1, 2, 3});
+        var rebuilt = new ElevationPyramid(new PlaneReader(), cache);
+        var memory = new ElevationPyramid(new PlaneReader(), null);
+        assertEquals(memory.sample(phiOf(80), thetaOf(90), 1), rebuilt.sample(phiOf(80), thetaOf(90), 1), "Rebuilt");
+    }
+
+    @Test
+    void testCacheFileOtherSource(@TempDir Path dir) {
+        File cache = dir.resolve("plane.lod").toFile();
+        new ElevationPyramid(new PlaneReader(), cache);
+
+        // Same size of data but different values so the file is built again
+        var raised = new ElevationPyramid(new RaisedReader(), cache);
+        var memory = new ElevationPyramid(new RaisedReader(), null);
+        assertEquals(memory.sample(phiOf(80), thetaOf(90), 1), raised.sample(phiOf(80), thetaOf(90), 1),
+                            "Built from new source");
+    }
+}
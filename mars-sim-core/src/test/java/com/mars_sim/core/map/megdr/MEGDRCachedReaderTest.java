@@ -0,0 +1,111 @@
+package com.mars_sim.core.map.megdr;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class MEGDRCachedReaderTest {
+
+    /**
+     * Reader over made up data where each point's elevation comes from its index.
+     */
+    private static class SyntheticReader extends MEGDRCachedReader {
+        private AtomicInteger loads = new AtomicInteger();
+
+        SyntheticReader(short width, short height, int tiles) {
+            super(tiles);
+            setSize(width, height);
+        }
+
+        static short valueAt(int index) {
+            return (short) (index * 7);
+        }
+
+        @Override
+        protected void loadElevations(int index, short[] result, int count) {
+            loads.incrementAndGet();
+            for (int i = 0; i < count; i++) {
+                result[i] = valueAt(index + i);
+            }
+        }
+    }
+
+    @Test
+    void testEveryPoint() {
+        // Map size is not a whole number of tiles
+        var reader = new SyntheticReader((short) 300, (short) 150, 16);
+        for (int i = 0; i < reader.getNumPoints(); i++) {
+            assertEquals(SyntheticReader.valueAt(i), reader.getElevation(i), "Elevation at " + i);
+        }
+    }
+
+    @Test
+    void testTileReused() {
+        var reader = new SyntheticReader((short) 300, (short) 150, 16);
+        for (int i = 0; i < MEGDRCachedReader.TILE_SIZE; i++) {
+            reader.getElevation(i);
+        }
+        assertEquals(1, reader.loads.get(), "Tiles loaded");
+    }
+
+    @Test
+    void testBatch() {
+        var reader = new SyntheticReader((short) 300, (short) 150, 16);
+        var rand = new Random(17);
+        int size = 1000;
+        double[] phi = new double[size];
+        double[] theta = new double[size];
+        short[] expected = new short[size];
+        for (int i = 0; i < size; i++) {
+            phi[i] = rand.nextDouble() * Math.PI;
+            theta[i] = rand.nextDouble() * Math.PI * 2;
+            expected[i] = reader.getElevation(phi[i], theta[i]);
+        }
+
+        short[] result = new short[size];
+        reader.getElevations(phi, theta, result);
+        assertArrayEquals(expected, result, "Batch elevations");
+    }
+
+    @Test
+    void testConcurrentReads() throws Exception {
+        // Few tiles so the threads keep replacing each other's
+        var reader = new SyntheticReader((short) 300, (short) 150, 4);
+        int points = reader.getNumPoints();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Integer>> jobs = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long seed = t;
+                jobs.add(() -> {
+                    var rand = new Random(seed);
+                    int wrong = 0;
+                    for (int i = 0; i < 50_000; i++) {
+                        int index = rand.nextInt(points);
+                        if (reader.getElevation(index) != SyntheticReader.valueAt(index)) {
+                            wrong++;
+                        }
+                    }
+                    return wrong;
+                });
+            }
+            for (Future<Integer> f : executor.invokeAll(jobs)) {
+                assertEquals(0, f.get().intValue(), "Wrong elevations");
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
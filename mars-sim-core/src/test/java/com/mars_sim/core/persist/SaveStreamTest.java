@@ -0,0 +1,148 @@
+package com.mars_sim.core.persist;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SaveStreamTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] buildData(int size) {
+        // Mix of repeating and random bytes so it compresses a little
+        var rand = new Random(size);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ((i % 7 == 0) ? rand.nextInt() : i % 31);
+        }
+        return data;
+    }
+
+    @Test
+    void testRoundTrip() throws IOException, ClassNotFoundException {
+        Path file = dir.resolve("test.sim");
+        byte[] big = buildData(SaveFormat.CHUNK_SIZE * 3 + 17);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            names.add("Name " + i);
+        }
+
+        var out = new SaveOutputStream(file);
+        try (var oos = new ObjectOutputStream(out)) {
+            oos.flush();
+            out.startSection("Big");
+            oos.writeObject(big);
+            oos.flush();
+            out.startSection("Names");
+            oos.writeObject(names);
+            oos.writeObject(names);
+        }
+
+        var sections = out.getSections();
+        assertEquals(3, sections.size(), "Sections");
+        assertEquals("Big", sections.get(1).name(), "Section name");
+        assertTrue(sections.get(1).rawBytes() > big.length, "Big section size");
+
+        assertTrue(SaveFormat.isChunked(file), "Chunked format");
+        try (var ois = new ObjectInputStream(new SaveInputStream(file))) {
+            assertArrayEquals(big, (byte[]) ois.readObject(), "Big array");
+            @SuppressWarnings("unchecked")
+            var first = (List<String>) ois.readObject();
+            assertEquals(names, first, "Names");
+            assertTrue(first == ois.readObject(), "Shared reference kept");
+        }
+    }
+
+    @Test
+    void testSnapshot() throws IOException, ClassNotFoundException {
+        Path file = dir.resolve("snapshot.sim");
+        byte[] big = buildData(SaveFormat.CHUNK_SIZE + 5);
+
+        var snapshot = new SaveSnapshot();
+        var oos = new ObjectOutputStream(snapshot);
+        oos.flush();
+        snapshot.startSection("First");
+        oos.writeObject("Hello");
+        oos.flush();
+        snapshot.startSection("Second");
+        oos.writeObject(big);
+        oos.flush();
+
+        // Only the compressed form is kept
+        assertTrue(snapshot.getCompressedSize() < snapshot.getSize(), "Snapshot compressed");
+
+        var sections = snapshot.writeTo(file);
+        assertEquals(List.of("Header", "First", "Second"),
+                        sections.stream().map(SaveFormat.Section::name).toList(), "Sections");
+        assertEquals(snapshot.getSize(), sections.stream().mapToLong(SaveFormat.Section::rawBytes).sum(),
+                        "Bytes written");
+
+        try (var ois = new ObjectInputStream(new SaveInputStream(file))) {
+            assertEquals("Hello", ois.readObject(), "First object");
+            assertArrayEquals(big, (byte[]) ois.readObject(), "Second object");
+        }
+    }
+
+    @Test
+    void testOldFormat() throws IOException {
+        Path file = dir.resolve("old.sim");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(buildData(1000));
+        }
+        assertFalse(SaveFormat.isChunked(file), "GZIP is not chunked");
+        assertThrows(IOException.class, () -> new SaveInputStream(file));
+    }
+
+    @Test
+    void testCorruptChunk() throws IOException {
+        Path file = dir.resolve("corrupt.sim");
+        try (var out = new SaveOutputStream(file)) {
+            out.write(buildData(50_000));
+        }
+
+        // Damage the compressed data of the first frame
+        byte[] content = Files.readAllBytes(file);
+        int offset = SaveFormat.HEADER_SIZE + SaveFormat.FRAME_HEADER_SIZE + 100;
+        content[offset] ^= 0x55;
+        Files.write(file, content);
+
+        try (var in = new SaveInputStream(file)) {
+            assertThrows(IOException.class, () -> in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testBadFrameLength() throws IOException {
+        Path file = dir.resolve("length.sim");
+        try (var out = new SaveOutputStream(file)) {
+            out.write(buildData(50_000));
+        }
+
+        // Claim a huge compressed length for the first frame
+        byte[] content = Files.readAllBytes(file);
+        ByteBuffer.wrap(content).putInt(SaveFormat.HEADER_SIZE + 4, Integer.MAX_VALUE);
+        Files.write(file, content);
+
+        try (var in = new SaveInputStream(file)) {
+            assertThrows(IOException.class, () -> in.readAllBytes());
+        }
+    }
+}
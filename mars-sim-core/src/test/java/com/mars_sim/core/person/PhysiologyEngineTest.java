@@ -0,0 +1,60 @@
+package com.mars_sim.core.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+
+/**
+ * Tests the vitals of a settlement's citizens drift together.
+ */
+public class PhysiologyEngineTest extends AbstractMarsSimUnitTest {
+
+	private static final double DELTA = 0.000001D;
+
+	public void testDriftAllCitizens() {
+		var settlement = buildSettlement();
+		List<Person> people = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			people.add(buildPerson("Citizen " + i, settlement));
+		}
+		var engine = settlement.getPhysiology();
+		assertEquals("Slots allocated", people.size(), engine.getSize());
+
+		double[][] before = new double[people.size()][];
+		for (int i = 0; i < people.size(); i++) {
+			var pc = people.get(i).getPhysicalCondition();
+			pc.setStress(50D);
+			before[i] = new double[] {pc.getThirst(), pc.getFatigue(), pc.getHunger(), pc.getMuscleSoreness()};
+		}
+
+		var pulse = createPulse(1, 100, false, false);
+		engine.timePassing(pulse);
+		// The same pulse again must not be applied twice
+		engine.timePassing(pulse);
+
+		for (int i = 0; i < people.size(); i++) {
+			var pc = people.get(i).getPhysicalCondition();
+			String name = people.get(i).getName();
+			double thirstGain = pc.getThirst() - before[i][0];
+			assertTrue(name + " thirst increased", thirstGain > 0D);
+			assertEquals(name + " hunger follows thirst", thirstGain, pc.getHunger() - before[i][2], DELTA);
+			assertEquals(name + " fatigue", before[i][1] + 1D, pc.getFatigue(), DELTA);
+			assertEquals(name + " soreness", Math.max(0D, before[i][3] - 1D), pc.getMuscleSoreness(), DELTA);
+			assertEquals(name + " stress", 50D - (pulse.getElapsed() / 10), pc.getStress(), DELTA);
+		}
+	}
+
+	public void testPersonCatchesUp() {
+		var settlement = buildSettlement();
+		var person = buildPerson("Solo", settlement);
+		var pc = person.getPhysicalCondition();
+		double fatigue = pc.getFatigue();
+
+		// Condition updated without the settlement pulse still drifts, but only once
+		var pulse = createPulse(1, 100, false, false);
+		pc.timePassing(pulse, settlement);
+		settlement.getPhysiology().timePassing(pulse);
+		assertEquals("Fatigue after pulse", fatigue + 1D, pc.getFatigue(), DELTA);
+	}
+}
@@ -0,0 +1,136 @@
+package com.mars_sim.core.person.ai.mission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RoutePlannerTest {
+
+    private static final double DELTA = 0.000001D;
+
+    /**
+     * Points scattered on a plane with a climb cost that differs each way.
+     */
+    private static double[][] buildCosts(Random rand, int points) {
+        double[] x = new double[points];
+        double[] y = new double[points];
+        double[] z = new double[points];
+        for (int i = 0; i < points; i++) {
+            x[i] = rand.nextDouble() * 100D;
+            y[i] = rand.nextDouble() * 100D;
+            z[i] = rand.nextDouble() * 5D;
+        }
+
+        double[][] cost = new double[points][points];
+        for (int i = 0; i < points; i++) {
+            for (int j = 0; j < points; j++) {
+                cost[i][j] = Math.hypot(x[i] - x[j], y[i] - y[j]) + 3D * Math.max(0D, z[j] - z[i]);
+            }
+        }
+        return cost;
+    }
+
+    private static double bruteForce(double[][] cost, int[] tour, int k) {
+        if (k == tour.length) {
+            return RoutePlanner.getRouteCost(cost, tour);
+        }
+        double best = Double.MAX_VALUE;
+        for (int i = k; i < tour.length; i++) {
+            swap(tour, k, i);
+            best = Math.min(best, bruteForce(cost, tour, k + 1));
+            swap(tour, k, i);
+        }
+        return best;
+    }
+
+    private static void swap(int[] tour, int i, int j) {
+        int t = tour[i];
+        tour[i] = tour[j];
+        tour[j] = t;
+    }
+
+    private static int[] identity(int sites) {
+        int[] tour = new int[sites];
+        for (int i = 0; i < sites; i++) {
+            tour[i] = i + 1;
+        }
+        return tour;
+    }
+
+    private static void assertVisitsAll(int[] tour, int sites) {
+        int[] sorted = tour.clone();
+        Arrays.sort(sorted);
+        assertTrue(Arrays.equals(identity(sites), sorted), "Every site visited once");
+    }
+
+    @Test
+    void testExactSmallRoutes() {
+        Random rand = new Random(17);
+        for (int sites = 1; sites <= RoutePlanner.MAX_EXACT; sites++) {
+            double[][] cost = buildCosts(rand, sites + 1);
+            int[] tour = RoutePlanner.solve(cost);
+            assertVisitsAll(tour, sites);
+            assertEquals(bruteForce(cost, identity(sites), 0), RoutePlanner.getRouteCost(cost, tour), DELTA,
+                        "Optimal route for " + sites + " sites");
+        }
+    }
+
+    @Test
+    void testImprovesLongRoutes() {
+        Random rand = new Random(42);
+        for (int trial = 0; trial < 5; trial++) {
+            int sites = 12 + trial * 3;
+            double[][] cost = buildCosts(rand, sites + 1);
+            int[] tour = RoutePlanner.solve(cost);
+            assertVisitsAll(tour, sites);
+            double routeCost = RoutePlanner.getRouteCost(cost, tour);
+            assertTrue(routeCost <= RoutePlanner.getRouteCost(cost, identity(sites)),
+                        "No worse than the order given");
+
+            // No single reversal is left that saves anything
+            for (int i = 0; i < sites - 1; i++) {
+                for (int j = i + 1; j < sites; j++) {
+                    int[] reversed = tour.clone();
+                    for (int a = i, b = j; a < b; a++, b--) {
+                        int t = reversed[a];
+                        reversed[a] = reversed[b];
+                        reversed[b] = t;
+                    }
+                    assertTrue(RoutePlanner.getRouteCost(cost, reversed) >= routeCost - DELTA,
+                                "Reversing " + i + " to " + j);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testUntanglesCircle() {
+        // Sites round a circle given in a crossing order; the best route follows the circle
+        int sites = 16;
+        double[] x = new double[sites + 1];
+        double[] y = new double[sites + 1];
+        for (int i = 1; i <= sites; i++) {
+            int position = (i * 5) % sites;
+            x[i] = Math.cos(2 * Math.PI * position / sites);
+            y[i] = Math.sin(2 * Math.PI * position / sites);
+        }
+        x[0] = 1.5D;
+        double[][] cost = new double[sites + 1][sites + 1];
+        for (int i = 0; i <= sites; i++) {
+            for (int j = 0; j <= sites; j++) {
+                cost[i][j] = Math.hypot(x[i] - x[j], y[i] - y[j]);
+            }
+        }
+
+        int[] tour = RoutePlanner.solve(cost);
+        // Home is outside the site at position 0, so it joins that site and a neighbour
+        double chord = 2 * Math.sin(Math.PI / sites);
+        double neighbour = Math.hypot(x[0] - Math.cos(2 * Math.PI / sites), Math.sin(2 * Math.PI / sites));
+        double expected = (sites - 1) * chord + 0.5D + neighbour;
+        assertEquals(expected, RoutePlanner.getRouteCost(cost, tour), DELTA, "Follows the circle");
+    }
+}
@@ -4,10 +4,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.activities.GroupActivity;
+import com.mars_sim.core.activities.GroupActivityMetaTask;
 import com.mars_sim.core.data.RatingScore;
+import com.mars_sim.core.map.location.LocalPosition;
 import com.mars_sim.core.person.Person;
 import com.mars_sim.core.person.ai.shift.ShiftSlot.WorkStatus;
+import com.mars_sim.core.person.ai.task.util.MetaTask.ScoreDependency;
 import com.mars_sim.core.person.ai.task.util.MetaTask.TaskScope;
+import com.mars_sim.core.structure.GroupActivityType;
 import com.mars_sim.core.structure.Settlement;
 
 public class SettlementTaskManagerTest extends AbstractMarsSimUnitTest {
@@ -26,6 +31,12 @@ public class SettlementTaskManagerTest extends AbstractMarsSimUnitTest {
             when = counter++;
         }
 
+        @Override
+        public Task createTask(Person person) {
+            // No real Task needed
+            return null;
+        }
+
         @Override
         public int hashCode() {
             final int prime = 31;
@@ -74,6 +85,14 @@ public class SettlementTaskManagerTest extends AbstractMarsSimUnitTest {
         }
     };
 
+    // Test Meta whose tasks only depend on the Settlement resources
+    private static class ResourceMetaTask extends TestMetaTask {
+        ResourceMetaTask() {
+            super(TaskScope.ANY_HOUR, false);
+            setScoreDependencies(ScoreDependency.RESOURCES);
+        }
+    }
+
     private static final List<SettlementMetaTask> SCOPE_METATTASKS = List.of(
                             new TestMetaTask(TaskScope.ANY_HOUR, false),
                             new TestMetaTask(TaskScope.WORK_HOUR, false),
@@ -111,7 +130,7 @@ public class SettlementTaskManagerTest extends AbstractMarsSimUnitTest {
         assertEquals("Settlement Tasks same on second call", available1, available2);
 
         // Do a refresh by simulating time passing
-        manager.timePassing();
+        manager.timePassing(createPulse(1, 100, false, false).getMarsTime());
         manager.getTasks(p);
         var available3 = manager.getAvailableTasks();
         assertFalse("Settlement Tasks change after timepassing", available1.equals(available3));
@@ -175,4 +194,97 @@ public class SettlementTaskManagerTest extends AbstractMarsSimUnitTest {
         assertEquals("Number of Suitable Settlement Tasks", TASKS_PER_META, selected.size());
         assertEquals("Number of Total Settlement Tasks", 2 * TASKS_PER_META, available1.size());
     }
+
+    /**
+     * Check the tasks of a Meta are kept until the state they depend on changes
+     */
+    public void testReuseTasks() {
+        var s = buildSettlement();
+        var meta = new ResourceMetaTask();
+        var manager = buildManager(s, List.of(meta));
+        Person p = buildPerson("Worker", s);
+
+        manager.getTasks(p);
+        var available1 = new ArrayList<>(manager.getAvailableTasks());
+        int version = manager.getVersion();
+
+        // Time passing does not change the resources so the same tasks
+        manager.timePassing(createPulse(1, 100, false, false).getMarsTime());
+        manager.getTasks(p);
+        assertEquals("Settlement Tasks kept after timepassing", available1, manager.getAvailableTasks());
+        assertEquals("Pool unchanged", version, manager.getVersion());
+        assertEquals("Tasks created", 1, meta.getScoringStats().getScored());
+        assertEquals("Tasks reused", 1, meta.getScoringStats().getReused());
+
+        // Using up a task takes it out of the pool even though the rest are reused
+        var job = manager.getTasks(p).get(0);
+        job.createTask(p);
+        manager.timePassing(createPulse(1, 101, false, false).getMarsTime());
+        manager.getTasks(p);
+        assertEquals("Used task dropped", available1.size() - 1, manager.getAvailableTasks().size());
+        assertTrue("Pool changed", version != manager.getVersion());
+    }
+
+    /**
+     * Check the real Settlement Metas reuse their tasks on the pulses within one period
+     */
+    public void testRealMetasReuse() {
+        MetaTaskUtil.initializeMetaTasks();
+        var s = buildSettlement("Real", true);
+        var manager = new SettlementTaskManager(s);
+        var metas = MetaTaskUtil.getSettlementMetaTasks();
+
+        manager.timePassing(createPulse(1, 100, false, false).getMarsTime());
+        int version = manager.getVersion();
+        long reused = getReused(metas);
+
+        // Nothing changes at the Settlement so the pool is kept
+        int pulses = 5;
+        for (int i = 1; i <= pulses; i++) {
+            manager.timePassing(createPulse(1, 100 + i, false, false).getMarsTime());
+            assertEquals("Pool unchanged on pulse " + i, version, manager.getVersion());
+        }
+        assertEquals("Tasks reused", pulses * metas.size(), getReused(metas) - reused);
+
+        // A new period scores the Metas again
+        long scored = getScored(metas);
+        manager.timePassing(createPulse(1, 100 + TaskScoreCache.PERIOD_MSOLS, false, false).getMarsTime());
+        manager.getVersion();
+        assertEquals("Tasks scored in next period", metas.size(), getScored(metas) - scored);
+    }
+
+    /**
+     * Check a group activity is offered as soon as it opens rather than at the next period
+     */
+    public void testActivityOpensWithinPeriod() {
+        var s = buildSettlement();
+        buildAccommodation(s.getBuildingManager(), LocalPosition.DEFAULT_POSITION, BUILDING_LENGTH, 0);
+        var meta = new GroupActivityMetaTask();
+        var manager = buildManager(s, List.of(meta));
+        Person p = buildPerson("Worker", s);
+        for (int i = 0; i < 9; i++) {
+            buildPerson("Audience " + i, s);
+        }
+
+        var ga = GroupActivity.createPersonActivity("Promotion", GroupActivityType.ANNOUNCEMENT, s,
+                                                p, 0, sim.getMasterClock().getMarsTime());
+        manager.timePassing(createPulse(1, 100, false, false).getMarsTime());
+        manager.getTasks(p);
+        assertTrue("No tasks before the activity opens", manager.getAvailableTasks().isEmpty());
+
+        // Open the activity part way through the same period
+        ga.execute(ga.getStartTime());
+        assertFalse("Activity has tasks", meta.getSettlementTasks(s).isEmpty());
+        manager.timePassing(createPulse(1, 101, false, false).getMarsTime());
+        manager.getTasks(p);
+        assertEquals("Activity offered in the same period", 1, manager.getAvailableTasks().size());
+    }
+
+    private static long getReused(List<SettlementMetaTask> metas) {
+        return metas.stream().mapToLong(m -> m.getScoringStats().getReused()).sum();
+    }
+
+    private static long getScored(List<SettlementMetaTask> metas) {
+        return metas.stream().mapToLong(m -> m.getScoringStats().getScored()).sum();
+    }
 }
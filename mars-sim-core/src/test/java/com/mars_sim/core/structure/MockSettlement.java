@@ -6,6 +6,7 @@ import com.mars_sim.core.goods.GoodsManager;
 import com.mars_sim.core.map.location.Coordinates;
 import com.mars_sim.core.structure.building.BuildingManager;
 import com.mars_sim.core.structure.building.connection.BuildingConnectorManager;
+import com.mars_sim.core.structure.building.utility.heating.ThermalSystem;
 import com.mars_sim.core.structure.building.utility.power.PowerGrid;
 import com.mars_sim.core.structure.construction.ConstructionManager;
 
@@ -44,6 +45,9 @@ public class MockSettlement extends Settlement {
         // Initialize power grid
         powerGrid = new PowerGrid(this);
 
+        // Initialize thermal system
+        thermalSystem = new ThermalSystem(this);
+
 		if (needGoods)
 			goodsManager = new GoodsManager(this);
 	}	
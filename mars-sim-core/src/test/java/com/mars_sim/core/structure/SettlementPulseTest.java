@@ -0,0 +1,143 @@
+/*
+ * Mars Simulation Project
+ * SettlementPulseTest.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.core.structure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.resource.ResourceUtil;
+import com.mars_sim.core.time.ClockPulse;
+import com.mars_sim.core.tool.RandomUtil;
+import com.mars_sim.core.vehicle.Rover;
+import com.mars_sim.core.vehicle.VehicleSpec;
+
+public class SettlementPulseTest extends AbstractMarsSimUnitTest {
+
+	private static final long SEED = 20261017L;
+	private static final int SETTLEMENTS = 3;
+	private static final int ROVERS = 6;
+	private static final int PULSES = 30;
+	private static final double START_OXYGEN = 100D;
+
+	/**
+	 * A rover that takes a random amount of oxygen from its settlement on each pulse
+	 * and gives back water, so the order the units run in shows in the stores.
+	 */
+	@SuppressWarnings("serial")
+	private static class DrawingRover extends Rover {
+		private double drawn = 0;
+
+		DrawingRover(String name, VehicleSpec spec, Settlement settlement) {
+			super(name, spec, settlement);
+		}
+
+		@Override
+		public boolean timePassing(ClockPulse pulse) {
+			var home = getAssociatedSettlement();
+			double wanted = RandomUtil.getRandomDouble(5D);
+			drawn += wanted - home.retrieveAmountResource(ResourceUtil.oxygenID, wanted);
+			home.storeAmountResource(ResourceUtil.waterID, RandomUtil.getRandomDouble(1D));
+			return super.timePassing(pulse);
+		}
+	}
+
+	/**
+	 * Runs the same seed with the settlements updated one after another and on a
+	 * pool, and checks both runs leave the settlements in the same state.
+	 */
+	public void testSequentialMatchesPool() throws Exception {
+		var sequential = runSettlements(null);
+
+		List<String> pooled;
+		var pool = new ForkJoinPool(4);
+		try {
+			pooled = runSettlements(pool);
+		}
+		finally {
+			pool.shutdown();
+		}
+
+		assertEquals("Steps recorded", PULSES, sequential.size());
+		for (int i = 0; i < PULSES; i++) {
+			assertEquals("State at pulse " + i, sequential.get(i), pooled.get(i));
+		}
+	}
+
+	/**
+	 * Builds the settlements from the seed and pulses them.
+	 *
+	 * @param pool Pool to run the settlements on; null runs them on this thread
+	 * @return The state after each pulse
+	 */
+	private List<String> runSettlements(ForkJoinPool pool) throws Exception {
+		setUp();
+		RandomUtil.setSeed(SEED);
+
+		var spec = simConfig.getVehicleConfiguration().getVehicleSpec("explorer rover");
+		List<Settlement> settlements = new ArrayList<>();
+		List<DrawingRover> rovers = new ArrayList<>();
+		for (int s = 0; s < SETTLEMENTS; s++) {
+			var settlement = buildSettlement("Base " + s, true);
+			settlement.storeAmountResource(ResourceUtil.oxygenID, START_OXYGEN);
+			settlements.add(settlement);
+			for (int r = 0; r < ROVERS; r++) {
+				var rover = new DrawingRover("Rover " + s + "-" + r, spec, settlement);
+				unitManager.addUnit(rover);
+				rovers.add(rover);
+			}
+		}
+
+		List<String> steps = new ArrayList<>();
+		for (int i = 0; i < PULSES; i++) {
+			var pulse = createPulse(1, 100 + i, false, false);
+			for (PulsePhase phase : PulsePhase.values()) {
+				if (pool == null) {
+					for (Settlement s : settlements) {
+						runPhase(s, pulse, phase);
+					}
+				}
+				else {
+					List<Callable<Boolean>> jobs = new ArrayList<>();
+					for (Settlement s : settlements) {
+						jobs.add(() -> runPhase(s, pulse, phase));
+					}
+					for (Future<Boolean> f : pool.invokeAll(jobs)) {
+						f.get();
+					}
+				}
+			}
+
+			StringBuilder state = new StringBuilder();
+			for (Settlement s : settlements) {
+				state.append(s.getName()).append(':')
+						.append(s.getAmountResourceStored(ResourceUtil.oxygenID)).append(':')
+						.append(s.getAmountResourceStored(ResourceUtil.waterID)).append(' ');
+			}
+			for (DrawingRover r : rovers) {
+				state.append(r.getName()).append(':').append(r.drawn).append(' ');
+			}
+			steps.add(state.toString());
+		}
+		return steps;
+	}
+
+	/**
+	 * Applies one phase to a settlement whilst it draws from its own random stream.
+	 */
+	private static boolean runPhase(Settlement s, ClockPulse pulse, PulsePhase phase) {
+		var previous = RandomUtil.setActiveStream(s.getRandomStream());
+		try {
+			return s.timePassing(pulse, phase);
+		}
+		finally {
+			RandomUtil.setActiveStream(previous);
+		}
+	}
+}
@@ -222,4 +222,79 @@ public class BuildingConnectorManagerTest extends TestCase {
         assertEquals(1D, nextPath.getPosition().getY(), SMALL_DELTA);
         assertTrue(path3.isEndOfPath());
     }
+
+    public void testShortestPathAroundLoop() {
+        Settlement settlement = new MockSettlement();
+        BuildingConnectorManager manager = new BuildingConnectorManager(settlement, new ArrayList<>());
+
+        // Four buildings in a loop; the route through building 1 is the shorter one
+        MockBuilding building0 = new MockBuilding(settlement, 0, new BoundedObject(0D, 0D, 4D, 4D, 0D));
+        MockBuilding building1 = new MockBuilding(settlement, 1, new BoundedObject(10D, 0D, 4D, 4D, 0D));
+        MockBuilding building2 = new MockBuilding(settlement, 2, new BoundedObject(10D, 10D, 4D, 4D, 0D));
+        MockBuilding building3 = new MockBuilding(settlement, 3, new BoundedObject(0D, 20D, 4D, 4D, 0D));
+        connect(manager, building0, building1, new LocalPosition(5D, 0D));
+        connect(manager, building1, building2, new LocalPosition(10D, 5D));
+        connect(manager, building2, building3, new LocalPosition(5D, 15D));
+        connect(manager, building3, building0, new LocalPosition(0D, 10D));
+
+        InsideBuildingPath path = manager.determineShortestPath(building0, building0.getPosition(),
+                                                                building2, building2.getPosition());
+        assertNotNull(path);
+        assertEquals(20D, path.getPathLength(), SMALL_DELTA);
+        assertTrue(path.containsPathLocation(building1));
+        assertTrue(manager.hasValidPath(building0, building2));
+
+        // Removing building 1 forces the long way round
+        manager.removeAllConnectionsToBuilding(building1);
+        path = manager.determineShortestPath(building0, building0.getPosition(),
+                                             building2, building2.getPosition());
+        assertNotNull(path);
+        assertEquals(20D + 2 * Math.sqrt(50D), path.getPathLength(), SMALL_DELTA);
+        assertTrue(path.containsPathLocation(building3));
+        assertFalse(manager.hasValidPath(building0, building1));
+
+        // No route left
+        manager.removeAllConnectionsToBuilding(building3);
+        assertNull(manager.determineShortestPath(building0, building0.getPosition(),
+                                                 building2, building2.getPosition()));
+        assertFalse(manager.hasValidPath(building0, building2));
+        assertTrue(manager.hasValidPath(building0, building0));
+    }
+
+    public void testRouteLoopingBack() {
+        Settlement settlement = new MockSettlement();
+        BuildingConnectorManager manager = new BuildingConnectorManager(settlement, new ArrayList<>());
+
+        // A hub with two spokes; the route from one spoke to the other loops back through the hub
+        MockBuilding hub = new MockBuilding(settlement, 0, new BoundedObject(0D, 0D, 4D, 4D, 0D));
+        MockBuilding east = new MockBuilding(settlement, 1, new BoundedObject(10D, 0D, 4D, 4D, 0D));
+        MockBuilding west = new MockBuilding(settlement, 2, new BoundedObject(-10D, 0D, 4D, 4D, 0D));
+        MockBuilding end = new MockBuilding(settlement, 3, new BoundedObject(10D, 10D, 4D, 4D, 0D));
+        connect(manager, hub, east, new LocalPosition(5D, 0D));
+        connect(manager, hub, west, new LocalPosition(-5D, 0D));
+        connect(manager, east, end, new LocalPosition(10D, 5D));
+
+        // Leaving the hub by the west spoke would have to come back through the hub
+        InsideBuildingPath path = manager.determineShortestPath(hub, hub.getPosition(),
+                                                                end, end.getPosition());
+        assertNotNull(path);
+        assertEquals(20D, path.getPathLength(), SMALL_DELTA);
+        assertFalse(path.containsPathLocation(west));
+
+        // Both answers agree for every pair of buildings
+        List<MockBuilding> buildings = List.of(hub, east, west, end);
+        for (MockBuilding from : buildings) {
+            for (MockBuilding to : buildings) {
+                InsideBuildingPath p = manager.determineShortestPath(from, from.getPosition(),
+                                                                     to, to.getPosition());
+                assertEquals(from.getName() + " to " + to.getName(), (p != null), manager.hasValidPath(from, to));
+                assertTrue(from.getName() + " to " + to.getName(), manager.hasValidPath(from, to));
+            }
+        }
+    }
+
+    private static void connect(BuildingConnectorManager manager, MockBuilding building1,
+                                MockBuilding building2, LocalPosition hatch) {
+        manager.addBuildingConnection(new BuildingConnector(building1, hatch, 0D, building2, hatch, 0D));
+    }
 }
\ No newline at end of file
@@ -79,6 +79,30 @@ public class ComputingJobTest extends AbstractMarsSimUnitTest {
 
     }
 
+    public void testMultipleNodes() {
+        var s = buildSettlement("Compute Cluster");
+        var bm = s.getBuildingManager();
+        var first = buildFunction(bm, "Server Farm", BuildingCategory.LABORATORY,
+                        FunctionType.COMPUTATION, new LocalPosition(0D, 0D), 0D, true).getComputation();
+        var second = buildFunction(bm, "Server Farm", BuildingCategory.LABORATORY,
+                        FunctionType.COMPUTATION, new LocalPosition(30D, 0D), 0D, true).getComputation();
+
+        // Part of the first node is already busy
+        int start = 101;
+        int end = start + (int) DURATION;
+        double busy = first.getSpareCU(start, end) / 2;
+        assertTrue("Busy node booked", first.scheduleTask(busy, start, end));
+        assertEquals("Least loaded node first", second, bm.getLeastLoadedComputingNodes(start, end).get(0));
+
+        var job = new ComputingJob(s, ComputingLoadType.HEAVY, 100, DURATION, "Cluster Task");
+        double spareBefore = first.getSpareCU(start, end) + second.getSpareCU(start, end);
+        assertTrue("Job spread over nodes", job.pickMultipleNodes(0, 100));
+        assertEquals("Both nodes used", 2, job.getNodes().size());
+
+        double spareAfter = first.getSpareCU(start, end) + second.getSpareCU(start, end);
+        assertEquals("Whole demand booked", job.getRemainingNeed(), spareBefore - spareAfter, 1E-6);
+    }
+
     public void testNoCompute() {
         var s = buildSettlement("Compute");
 
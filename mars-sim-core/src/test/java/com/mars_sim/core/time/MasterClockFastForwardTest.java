@@ -0,0 +1,79 @@
+package com.mars_sim.core.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.mars_sim.core.SimulationConfig;
+
+class MasterClockFastForwardTest {
+
+    private static final double PULSE = 2D;
+    private static final int SOLS = 1;
+
+    private static class PulseRecorder implements ClockListener {
+        private List<Double> elapsed = new ArrayList<>();
+        private List<Double> millisols = new ArrayList<>();
+
+        @Override
+        public void clockPulse(ClockPulse currentPulse) {
+            elapsed.add(currentPulse.getElapsed());
+            millisols.add(currentPulse.getMarsTime().getTotalMillisols());
+        }
+
+        @Override
+        public void pauseChange(boolean isPaused, boolean showPane) {
+            // Not needed
+        }
+    }
+
+    private static SimulationConfig config;
+
+    @BeforeAll
+    static void loadConfig() {
+        config = SimulationConfig.instance();
+        config.loadConfig();
+    }
+
+    private PulseRecorder runFastForward() throws InterruptedException {
+        var clock = new MasterClock(config, 1);
+        var recorder = new PulseRecorder();
+        clock.addClockListener(recorder, 0);
+        clock.setFastForward(PULSE, SOLS);
+        clock.start();
+
+        long end = System.currentTimeMillis() + 30_000;
+        while (!clock.isFastForwardComplete() && (System.currentTimeMillis() < end)) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        clock.shutdown();
+
+        assertTrue(clock.isFastForwardComplete(), "Fast-forward completed");
+        return recorder;
+    }
+
+    @Test
+    void testFixedPulses() throws InterruptedException {
+        var recorder = runFastForward();
+
+        int expectedPulses = (int) Math.ceil(SOLS * 1000D / PULSE);
+        assertEquals(expectedPulses, recorder.elapsed.size(), "Pulses fired");
+        for (double e : recorder.elapsed) {
+            assertEquals(PULSE, e, 0D, "Pulse width");
+        }
+    }
+
+    @Test
+    void testRepeatable() throws InterruptedException {
+        var first = runFastForward();
+        var second = runFastForward();
+
+        assertEquals(first.millisols, second.millisols, "Same pulse sequence");
+    }
+}
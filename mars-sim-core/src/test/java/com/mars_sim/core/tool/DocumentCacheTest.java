@@ -0,0 +1,103 @@
+package com.mars_sim.core.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.jdom2.Document;
+import org.jdom2.JDOMException;
+import org.jdom2.output.Format;
+import org.jdom2.output.XMLOutputter;
+import org.junit.jupiter.api.Test;
+
+class DocumentCacheTest {
+
+    private static final String STAMP = "1.0-test";
+
+    private static final String TEST_XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE root [
+                <!ELEMENT root (item*)>
+                <!ELEMENT item (#PCDATA)>
+                <!ATTLIST item name CDATA #REQUIRED>
+                <!ATTLIST item size CDATA "small">
+            ]>
+            <root>
+                <item name="first">Some text</item>
+                <item name="second" size="big"/>
+            </root>
+            """;
+
+    private static String toText(Document doc) {
+        return new XMLOutputter(Format.getCompactFormat()).outputString(doc.getRootElement());
+    }
+
+    @Test
+    void testCachedMatchesParsed() throws IOException, JDOMException {
+        File output = Files.createTempDirectory("docs").toFile();
+        try {
+            File xml = new File(output, "test.xml");
+            Files.writeString(xml.toPath(), TEST_XML);
+            File cacheDir = new File(output, "cache");
+
+            var parsed = new DocumentCache(cacheDir, STAMP).load(xml);
+            File cacheFile = new File(cacheDir, "test.xml.bin");
+            assertTrue(cacheFile.exists(), "Cache written");
+            assertEquals("small", parsed.getRootElement().getChildren().get(0).getAttributeValue("size"),
+                                    "DTD default");
+
+            // New cache instance to load from the file
+            var cached = new DocumentCache(cacheDir, STAMP).load(xml);
+            assertEquals(toText(parsed), toText(cached), "Cached document");
+            assertEquals("small", cached.getRootElement().getChildren().get(0).getAttributeValue("size"),
+                                    "Cached DTD default");
+            assertEquals("Some text", cached.getRootElement().getChildren().get(0).getText(), "Cached text");
+        }
+        finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    void testChangedSource() throws IOException, JDOMException {
+        File output = Files.createTempDirectory("docs").toFile();
+        try {
+            File xml = new File(output, "test.xml");
+            Files.writeString(xml.toPath(), TEST_XML);
+            var cache = new DocumentCache(new File(output, "cache"), STAMP);
+            cache.load(xml);
+
+            Files.writeString(xml.toPath(), TEST_XML.replace("first", "changed"));
+            var changed = cache.load(xml);
+            assertEquals("changed", changed.getRootElement().getChildren().get(0).getAttributeValue("name"),
+                                    "Changed source parsed");
+        }
+        finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    void testChangedStamp() throws IOException, JDOMException {
+        File output = Files.createTempDirectory("docs").toFile();
+        try {
+            File xml = new File(output, "test.xml");
+            Files.writeString(xml.toPath(), TEST_XML);
+            File cacheDir = new File(output, "cache");
+            new DocumentCache(cacheDir, STAMP).load(xml);
+
+            // A cached document has no DOCTYPE so a parsed one can be told apart
+            assertNull(new DocumentCache(cacheDir, STAMP).load(xml).getDocType(), "Same stamp cached");
+            assertNotNull(new DocumentCache(cacheDir, "2.0-test").load(xml).getDocType(), "New stamp parsed");
+        }
+        finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+}
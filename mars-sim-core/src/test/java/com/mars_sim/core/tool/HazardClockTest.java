@@ -0,0 +1,81 @@
+package com.mars_sim.core.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.IntToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the hazard clock gives the same event rate as a random trial at every check.
+ */
+class HazardClockTest {
+
+    private static final int CHECKS = 1_000_000;
+    // Allowed difference in standard deviations of the event count
+    private static final double SIGMAS = 5D;
+
+    private RandomGenerator previous;
+
+    @BeforeEach
+    void setUp() {
+        previous = RandomUtil.setActiveStream(new RandomStream(20261017L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RandomUtil.setActiveStream(previous);
+    }
+
+    @Test
+    void testConstantRate() {
+        compareRates(i -> 0.002D);
+    }
+
+    @Test
+    void testChangingRate() {
+        // Rate rises and falls as wear builds up and is repaired
+        compareRates(i -> 0.004D * (i % 5000) / 5000D);
+    }
+
+    @Test
+    void testCertain() {
+        var clock = new HazardClock();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(clock.accrue(HazardClock.toHazard(1D)), "Certain event " + i);
+        }
+        assertEquals(0D, HazardClock.toHazard(0D), "No chance");
+    }
+
+    /**
+     * Runs the clock and the trials it replaces over the same chances and checks both
+     * are within a few standard deviations of the expected count.
+     */
+    private static void compareRates(IntToDoubleFunction chance) {
+        var clock = new HazardClock();
+        double expected = 0D;
+        double variance = 0D;
+        int clockEvents = 0;
+        int trialEvents = 0;
+        for (int i = 0; i < CHECKS; i++) {
+            double p = chance.applyAsDouble(i);
+            expected += p;
+            variance += p * (1D - p);
+            if (clock.accrue(HazardClock.toHazard(p))) {
+                clockEvents++;
+            }
+            if (RandomUtil.lessThanRandPercent(p * 100D)) {
+                trialEvents++;
+            }
+        }
+
+        double limit = SIGMAS * Math.sqrt(variance);
+        assertEquals(expected, trialEvents, limit, "Trial events");
+        assertEquals(expected, clockEvents, limit, "Clock events");
+        assertEquals(trialEvents, clockEvents, 2 * limit, "Clock against trials");
+    }
+}
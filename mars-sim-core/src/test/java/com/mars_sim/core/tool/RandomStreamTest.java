@@ -0,0 +1,165 @@
+package com.mars_sim.core.tool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mars_sim.core.AbstractMarsSimUnitTest;
+import com.mars_sim.core.map.location.LocalPosition;
+import com.mars_sim.core.person.Person;
+import com.mars_sim.core.resource.ResourceUtil;
+import com.mars_sim.core.structure.Settlement;
+import com.mars_sim.core.time.ClockPulse;
+import com.mars_sim.core.vehicle.Rover;
+import com.mars_sim.core.vehicle.VehicleSpec;
+
+public class RandomStreamTest extends AbstractMarsSimUnitTest {
+
+	private static final long SEED = 20261017L;
+	private static final int PULSES = 50;
+	private static final int CROWDED_UNITS = 10;
+	private static final double START_OXYGEN = 100D;
+
+	/**
+	 * A rover that draws on the random stream and takes oxygen from its settlement
+	 * on each pulse, so the order the units run in shows in the stores.
+	 */
+	@SuppressWarnings("serial")
+	private static class DrawingRover extends Rover {
+		private double drawn = 0;
+
+		DrawingRover(String name, VehicleSpec spec, Settlement settlement) {
+			super(name, spec, settlement);
+		}
+
+		@Override
+		public boolean timePassing(ClockPulse pulse) {
+			var home = getAssociatedSettlement();
+			double wanted = RandomUtil.getRandomDouble(5D);
+			drawn += wanted - home.retrieveAmountResource(ResourceUtil.oxygenID, wanted);
+			return super.timePassing(pulse);
+		}
+	}
+
+	public void testSplitIsStable() {
+		var root = new RandomStream(SEED);
+		var first = root.split(7);
+		root.nextLong();
+		root.split(3).nextLong();
+		var second = root.split(7);
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals("Child value " + i, first.nextLong(), second.nextLong());
+		}
+		assertTrue("Different keys", root.split(7).nextLong() != root.split(8).nextLong());
+	}
+
+	public void testActiveStream() {
+		var stream = new RandomStream(SEED);
+		var copy = new RandomStream(SEED);
+
+		var previous = RandomUtil.setActiveStream(stream);
+		try {
+			assertEquals("Drawn from active stream", copy.nextDouble() * 10D, RandomUtil.getRandomDouble(10D));
+		}
+		finally {
+			RandomUtil.setActiveStream(previous);
+		}
+	}
+
+	/**
+	 * Runs the same seed twice with the settlements updated in parallel and
+	 * checks the people do the same things.
+	 */
+	public void testSameSeedSameRun() {
+		var first = runSettlements();
+		var second = runSettlements();
+
+		assertEquals("Steps recorded", PULSES, first.size());
+		for (int i = 0; i < PULSES; i++) {
+			assertEquals("State at pulse " + i, first.get(i), second.get(i));
+		}
+	}
+
+	/**
+	 * Runs the same seed twice with more units in one settlement than a single
+	 * unit would take, and checks the units and the shared stores end up the same.
+	 */
+	public void testSameSeedCrowdedSettlement() {
+		var first = runCrowded();
+		var second = runCrowded();
+
+		assertEquals("Steps recorded", PULSES, first.size());
+		for (int i = 0; i < PULSES; i++) {
+			assertEquals("State at pulse " + i, first.get(i), second.get(i));
+		}
+	}
+
+	private List<String> runCrowded() {
+		setUp();
+		RandomUtil.setSeed(SEED);
+
+		var spec = simConfig.getVehicleConfiguration().getVehicleSpec("explorer rover");
+		List<Settlement> settlements = new ArrayList<>();
+		List<DrawingRover> rovers = new ArrayList<>();
+		for (int s = 0; s < 2; s++) {
+			var settlement = buildSettlement("Base " + s, true);
+			settlement.storeAmountResource(ResourceUtil.oxygenID, START_OXYGEN);
+			settlements.add(settlement);
+			for (int r = 0; r < CROWDED_UNITS; r++) {
+				var rover = new DrawingRover("Rover " + s + "-" + r, spec, settlement);
+				unitManager.addUnit(rover);
+				rovers.add(rover);
+			}
+		}
+
+		List<String> steps = new ArrayList<>();
+		for (int i = 0; i < PULSES; i++) {
+			unitManager.timePassing(createPulse(1, 100 + i, false, false));
+
+			StringBuilder state = new StringBuilder();
+			for (Settlement s : settlements) {
+				state.append(s.getName()).append(':')
+						.append(s.getAmountResourceStored(ResourceUtil.oxygenID)).append(' ');
+			}
+			for (DrawingRover r : rovers) {
+				state.append(r.getName()).append(':').append(r.drawn).append(' ');
+			}
+			steps.add(state.toString());
+		}
+
+		// The units must have run for the comparison to mean anything
+		assertTrue("Oxygen drawn", settlements.get(0).getAmountResourceStored(ResourceUtil.oxygenID) < START_OXYGEN);
+		return steps;
+	}
+
+	private List<String> runSettlements() {
+		setUp();
+		RandomUtil.setSeed(SEED);
+
+		List<Person> people = new ArrayList<>();
+		for (int s = 0; s < 3; s++) {
+			var settlement = buildSettlement("Base " + s, true);
+			buildAccommodation(settlement.getBuildingManager(), LocalPosition.DEFAULT_POSITION, 0D, s);
+			for (int p = 0; p < 3; p++) {
+				people.add(buildPerson("Person " + s + "-" + p, settlement));
+			}
+		}
+
+		List<String> steps = new ArrayList<>();
+		for (int i = 0; i < PULSES; i++) {
+			unitManager.timePassing(createPulse(1, 100 + i, false, false));
+
+			StringBuilder state = new StringBuilder();
+			for (Person p : people) {
+				var pc = p.getPhysicalCondition();
+				state.append(p.getName()).append(':')
+						.append(p.getTaskDescription()).append(':')
+						.append(pc.getHunger()).append(':')
+						.append(pc.getFatigue()).append(':')
+						.append(pc.getStress()).append(' ');
+			}
+			steps.add(state.toString());
+		}
+		return steps;
+	}
+}
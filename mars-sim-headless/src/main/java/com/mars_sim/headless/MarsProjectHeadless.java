@@ -11,6 +11,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -41,6 +42,11 @@ public class MarsProjectHeadless {
 	private static final String DISPLAYHELP = "help";
 	private static final String RESETADMIN = "resetadmin";
 	private static final String LOAD_ARG = "load";
+	private static final String FASTFORWARD_ARG = "fastforward";
+	private static final String PULSE_ARG = "pulse";
+
+	/** Default fixed pulse width [in millisols] in fast-forward mode. */
+	private static final double DEFAULT_FIXED_PULSE = 0.5;
 
 
 	/** initialized logger for this class. */
@@ -88,6 +94,10 @@ public class MarsProjectHeadless {
 
 		options.addOption(Option.builder(LOAD_ARG).argName("path to simulation file").hasArg().optionalArg(true)
 				.desc("Load the a previously saved sim. No argument then the default is used").build());
+		options.addOption(Option.builder(FASTFORWARD_ARG).argName("number of sols").hasArg()
+				.desc("Run the given number of sols as fast as possible with a fixed pulse, then stop").build());
+		options.addOption(Option.builder(PULSE_ARG).argName("millisols").hasArg()
+				.desc("Fixed pulse width in fast-forward mode [default " + DEFAULT_FIXED_PULSE + "]").build());
 		options.addOption(Option.builder(DISPLAYHELP)
 				.desc("Help of the options").build());
 		OptionGroup remoteGrp = new OptionGroup();
@@ -102,6 +112,7 @@ public class MarsProjectHeadless {
 
 		CommandLineParser commandline = new DefaultParser();
 		boolean resetAdmin = false;
+		boolean fastForward = false;
 		try {
 			CommandLine line = commandline.parse(options, args);
 
@@ -131,6 +142,15 @@ public class MarsProjectHeadless {
 				}
 				builder.setSimFile(simFile);
 			}
+			if (line.hasOption(FASTFORWARD_ARG)) {
+				int sols = Integer.parseInt(line.getOptionValue(FASTFORWARD_ARG));
+				double pulse = DEFAULT_FIXED_PULSE;
+				if (line.hasOption(PULSE_ARG)) {
+					pulse = Double.parseDouble(line.getOptionValue(PULSE_ARG));
+				}
+				builder.setFastForward(pulse, sols);
+				fastForward = true;
+			}
 		}
 		catch (Exception e1) {
 			usage("Problem with arguments: " + e1.getMessage(), options);
@@ -139,11 +159,14 @@ public class MarsProjectHeadless {
 		// Do it
 		try {
 			// Build and run the simulator
-			builder.start();
+			Simulation sim = builder.start();
 
 			if (startServer) {
 				startRemoteConsole(serverPort, resetAdmin);
 			}
+			else if (fastForward) {
+				awaitFastForward(sim);
+			}
 		}
 		catch(Exception e) {
 			// Catch everything
@@ -154,6 +177,23 @@ public class MarsProjectHeadless {
 		return true;
 	}
 
+	/**
+	 * Waits for a fast-forward run to reach its last sol and then ends the simulation.
+	 * 
+	 * @param sim
+	 * @throws InterruptedException
+	 */
+	private void awaitFastForward(Simulation sim) throws InterruptedException {
+		var clock = sim.getMasterClock();
+		while (!clock.isFastForwardComplete()) {
+			TimeUnit.SECONDS.sleep(1);
+		}
+		logger.config("Fast-forward run took " + clock.getUpTimer().getUptime()
+				+ " for " + clock.getTotalPulses() + " pulses.");
+		sim.endSimulation();
+		System.exit(0);
+	}
+
 	private void usage(String message, Options options) {
 		HelpFormatter format = new HelpFormatter();
 		System.out.println();
@@ -7,14 +7,17 @@
 package com.mars_sim.ui.swing.tool.monitor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.TableModelEvent;
 
 import com.mars_sim.ui.swing.utils.ColumnSpec;
 
@@ -23,17 +26,29 @@ import com.mars_sim.ui.swing.utils.ColumnSpec;
  * a single simulation entity. The properties of the entity are mapped into columns
  * by the sub implementation. It provides the ability to cache specific columns in a 
  * backing store to reduce the computation effort.
- * 
+ * Changed cells are collected and the table is told about them at most once per refresh
+ * interval, one event per run of changed rows, so a busy simulation does not flood the
+ * Swing thread.
  */
 @SuppressWarnings("serial")
 public abstract class EntityTableModel<T> extends AbstractMonitorModel {
 
+    /** Default time between table refreshes; 10 a second. */
+    private static final int DEFAULT_REFRESH_MS = 100;
 
     private List<T> entities;
-    private Map<T ,Map<Integer, Object>> rowCache;
-    private Set<Integer> cachedColumns;
+    /** Row of each entity; only changed in the Swing thread. */
+    private Map<T, Integer> entityRows;
+    /** Cached values of each entity indexed by column. */
+    private Map<T, Object[]> rowCache;
+    private BitSet cachedColumns;
     private boolean fireEnabled;
 
+    /** Columns changed for each entity since the last refresh. */
+    private Map<T, BitSet> dirtyCells = new HashMap<>();
+    private AtomicBoolean refreshPending = new AtomicBoolean();
+    private Timer refreshTimer;
+
     /**
 	 * Constructor.
 	 *
@@ -45,7 +60,20 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
         super(name, countingMsgKey, names);
 
         this.entities = new ArrayList<>();
-        this.cachedColumns = new HashSet<>();
+        this.entityRows = new ConcurrentHashMap<>();
+        this.cachedColumns = new BitSet();
+
+        refreshTimer = new Timer(DEFAULT_REFRESH_MS, e -> fireDirtyCells());
+        refreshTimer.setRepeats(false);
+    }
+
+    /**
+     * Sets the shortest time between refreshes of the table when values change.
+     * 
+     * @param millis Milliseconds
+     */
+    protected void setRefreshInterval(int millis) {
+        refreshTimer.setInitialDelay(millis);
     }
  
     /**
@@ -55,9 +83,7 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
      * @param maxCol Last column (inclusive) that can be cached.
      */
     protected void setCachedColumns(int minCol, int maxCol) {
-        for(int i = minCol; i <= maxCol; i++) {
-            cachedColumns.add(i);
-        }
+        cachedColumns.set(minCol, maxCol + 1);
 
         // Caching activated
         if (rowCache == null) {
@@ -66,7 +92,7 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
     }
 
     protected void resetCache() {
-        rowCache = new HashMap<>();   
+        rowCache = new ConcurrentHashMap<>();   
     }
 
     /**
@@ -102,7 +128,7 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
      * @return 
      */
     protected boolean addEntity(T newEntity) {
-        boolean add = !entities.contains(newEntity);
+        boolean add = !entityRows.containsKey(newEntity);
         if (add) {
             if (fireEnabled) {
                 // Do async
@@ -116,15 +142,20 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
     }
 
     private void addRow(T newEntity) {
+        if (entityRows.containsKey(newEntity)) {
+            // Added twice before the first add was done
+            return;
+        }
+        int idx = entities.size();
         entities.add(newEntity);
+        entityRows.put(newEntity, idx);
 
         if (rowCache != null) {
             // Add the data row now
-            rowCache.put(newEntity, new HashMap<>());
+            rowCache.put(newEntity, new Object[getColumnCount()]);
         }
 
         if (fireEnabled) {
-            int idx = entities.indexOf(newEntity);
             fireTableRowsInserted(idx, idx);
         }
     }
@@ -133,22 +164,29 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
      * Removes a previously added Entity form the model.
      */
     protected void removeEntity(T oldEntity) {
-        int idx = entities.indexOf(oldEntity);
-        if (idx < 0) {
+        if (!entityRows.containsKey(oldEntity)) {
             return;
         }
 
         if (fireEnabled) {
             // Do async
-            SwingUtilities.invokeLater(() -> removeRow(oldEntity, idx));
+            SwingUtilities.invokeLater(() -> removeRow(oldEntity));
         }
         else {
-            removeRow(oldEntity, idx);
+            removeRow(oldEntity);
         }
     }
 
-    private void removeRow(T oldEntity, int idx) {
-        entities.remove(oldEntity);
+    private void removeRow(T oldEntity) {
+        Integer idx = entityRows.remove(oldEntity);
+        if (idx == null) {
+            return;
+        }
+        entities.remove(idx.intValue());
+        // Rows below move up
+        for(int i = idx; i < entities.size(); i++) {
+            entityRows.put(entities.get(i), i);
+        }
         if (rowCache != null) {
             rowCache.remove(oldEntity);
         }
@@ -221,7 +259,7 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
         }
         
         // Pick a value out of the cache if suitable
-        boolean useCache = cachedColumns.contains(columnIndex);
+        boolean useCache = cachedColumns.get(columnIndex);
         if (useCache) {
             Object cachedValue = getCacheValue(entity, columnIndex);
             if (cachedValue != null) {
@@ -242,67 +280,113 @@ public abstract class EntityTableModel<T> extends AbstractMonitorModel {
     }
 
     private Object getCacheValue(T entity, int columnIndex) {
-        Map<Integer, Object> rowValues = rowCache.get(entity);
-        if (rowValues != null) {
-            return rowValues.get(columnIndex);
+        Object[] rowValues = rowCache.get(entity);
+        if ((rowValues != null) && (columnIndex < rowValues.length)) {
+            return rowValues[columnIndex];
         }
         return null;
     }
 
     private void setCacheValue(T entity, int columnIndex, Object value) {
-        rowCache.computeIfAbsent(entity, k -> new HashMap<Integer, Object>()).put(columnIndex, value);
+        Object[] rowValues = rowCache.computeIfAbsent(entity, k -> new Object[getColumnCount()]);
+        if (columnIndex < rowValues.length) {
+            rowValues[columnIndex] = value;
+        }
     }
 
     /**
      * Updates a range of column values that have been changed. 
      * This will recalculate any cached columns if needed
-     * and always fire a model change event asynchronously.
+     * and schedule a model change event for the next refresh.
      * 
      * @param entity
      * @param firstCol
      * @param lastCol
      */
 	protected void entityValueUpdated(T entity, int firstCol, int lastCol) {
-        int rowIndex = entities.indexOf(entity);
-        if (rowIndex < 0) {
+        if (!entityRows.containsKey(entity)) {
             return;
         }
 
+        BitSet changed = new BitSet();
         for(int i = firstCol; i<= lastCol; i++) {
-            if (cachedColumns.contains(i)) {
+            if (cachedColumns.get(i)) {
                 // Recalculate cached value in this Thread to avoid problem
                 // with calculating derived values in the UI Thread
                 Object newValue = getEntityValue(entity, i);
                 Object cachedValue = getCacheValue(entity, i);
                 if ((cachedValue == null) || !cachedValue.equals(newValue)) {
-                    setCacheValue(entity, i, getEntityValue(entity, i));
+                    setCacheValue(entity, i, newValue);
+                    changed.set(i);
                 }
             }
+            else {
+                changed.set(i);
+            }
+        }
 
-            // Fire the cell update in the background thread
-            SwingUtilities.invokeLater(new TableCellUpdater(rowIndex, i));
+        if (!changed.isEmpty()) {
+            synchronized (dirtyCells) {
+                dirtyCells.computeIfAbsent(entity, k -> new BitSet()).or(changed);
+            }
+            if (refreshPending.compareAndSet(false, true)) {
+                refreshTimer.restart();
+            }
         }
     }
 
     /**
-     * Gets the real value of this entity for a specific column. This implementation
-     * may involve expensive calculations.
+     * Tells the table about the cells changed since the last refresh. Each run of
+     * neighbouring changed rows becomes one event.
      */
-    protected abstract Object getEntityValue(T entity, int column);
+    private void fireDirtyCells() {
+        Map<T, BitSet> changed;
+        synchronized (dirtyCells) {
+            refreshPending.set(false);
+            if (dirtyCells.isEmpty()) {
+                return;
+            }
+            changed = new HashMap<>(dirtyCells);
+            dirtyCells.clear();
+        }
 
-    private class TableCellUpdater implements Runnable {
+        // Put the columns changed in row order
+        BitSet[] rowColumns = new BitSet[entities.size()];
+        BitSet rows = new BitSet();
+        for(Map.Entry<T, BitSet> e : changed.entrySet()) {
+            Integer row = entityRows.get(e.getKey());
+            if ((row != null) && (row < rowColumns.length)) {
+                rowColumns[row] = e.getValue();
+                rows.set(row);
+            }
+        }
 
-        private int colIndex;
-        private int rowIndex;
+        int first = rows.nextSetBit(0);
+        while (first >= 0) {
+            int last = rows.nextClearBit(first) - 1;
+            BitSet columns = new BitSet();
+            for(int r = first; r <= last; r++) {
+                columns.or(rowColumns[r]);
+            }
+            int column = (columns.cardinality() == 1 ? columns.nextSetBit(0) : TableModelEvent.ALL_COLUMNS);
+            fireTableChanged(new TableModelEvent(this, first, last, column));
 
-        public TableCellUpdater(int rowIndex, int colIndex) {
-            this.rowIndex = rowIndex;
-            this.colIndex = colIndex;
+            first = rows.nextSetBit(last + 1);
         }
+    }
 
-        @Override
-        public void run() {
-            fireTableCellUpdated(rowIndex, colIndex);
-        }
+    /**
+     * Tidies up the refresh timer.
+     */
+    @Override
+    public void destroy() {
+        refreshTimer.stop();
+        super.destroy();
     }
+
+    /**
+     * Gets the real value of this entity for a specific column. This implementation
+     * may involve expensive calculations.
+     */
+    protected abstract Object getEntityValue(T entity, int column);
 }
@@ -163,7 +163,7 @@ public class TradeTableModel extends CategoryTableModel<Good> {
 			case DEMAND_COL:
 				return selectedSettlement.getGoodsManager().getDemandValue(selectedGood);
 			case MARKET_DEMAND_COL:
-				return selectedSettlement.getGoodsManager().getMarketData(0, selectedGood);
+				return selectedSettlement.getGoodsManager().getMarketSnapshot(selectedGood).demand();
 			case SUPPLY_COL:
 				return selectedSettlement.getGoodsManager().getSupplyValue(selectedGood);
 			case QUANTITY_COL:
@@ -173,15 +173,15 @@ public class TradeTableModel extends CategoryTableModel<Good> {
 			case VALUE_COL:
 				return selectedSettlement.getGoodsManager().getGoodValuePoint(selectedGood.getID());
 			case MARKET_VALUE_COL:
-				return selectedSettlement.getGoodsManager().getMarketData(1, selectedGood);
+				return selectedSettlement.getGoodsManager().getMarketSnapshot(selectedGood).value();
 			case COST_COL:
 				return selectedGood.getCostOutput();
 			case MARKET_COST_COL:
-				return selectedSettlement.getGoodsManager().getMarketData(2, selectedGood);
+				return selectedSettlement.getGoodsManager().getMarketSnapshot(selectedGood).cost();
 			case PRICE_COL:
 				return selectedGood.getPrice();
 			case MARKET_PRICE_COL:
-				return selectedSettlement.getGoodsManager().getMarketData(3, selectedGood);
+				return selectedSettlement.getGoodsManager().getMarketSnapshot(selectedGood).price();
 			default:
 				return null;
 		}
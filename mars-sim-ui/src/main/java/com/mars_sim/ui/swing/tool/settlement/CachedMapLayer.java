@@ -0,0 +1,115 @@
+/*
+ * Mars Simulation Project
+ * CachedMapLayer.java
+ * @date 2026-10-17
+ */
+package com.mars_sim.ui.swing.tool.settlement;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.function.Function;
+
+import com.mars_sim.core.structure.Settlement;
+
+/**
+ * A map layer that keeps what another layer draws in an offscreen image. The image is
+ * drawn again on each repaint and only redrawn when the view or the content of the
+ * layer changes, so layers that rarely change are not rendered on every clock pulse.
+ */
+class CachedMapLayer implements SettlementMapLayer {
+
+	/** What the image was drawn for. */
+	private record ViewKey(Settlement settlement, double xPos, double yPos, int mapWidth, int mapHeight,
+						double rotation, double scale, double deviceScaleX, double deviceScaleY,
+						Object content) {}
+
+	private SettlementMapLayer layer;
+	private Function<Settlement, Object> contentKey;
+
+	private ViewKey imageKey;
+	private BufferedImage image;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param layer The layer to cache
+	 * @param contentKey Gets a value that changes whenever the layer would draw differently at a settlement
+	 */
+	CachedMapLayer(SettlementMapLayer layer, Function<Settlement, Object> contentKey) {
+		this.layer = layer;
+		this.contentKey = contentKey;
+	}
+
+	@Override
+	public void displayLayer(Settlement settlement, MapViewPoint viewpoint) {
+		var g2d = viewpoint.graphics();
+		AffineTransform saveTransform = g2d.getTransform();
+
+		// Only a scaled and translated screen can be copied pixel for pixel
+		if ((settlement == null) || (saveTransform.getShearX() != 0D) || (saveTransform.getShearY() != 0D)) {
+			layer.displayLayer(settlement, viewpoint);
+			return;
+		}
+
+		double deviceScaleX = saveTransform.getScaleX();
+		double deviceScaleY = saveTransform.getScaleY();
+		int width = (int) Math.ceil(viewpoint.mapWidth() * deviceScaleX);
+		int height = (int) Math.ceil(viewpoint.mapHeight() * deviceScaleY);
+		if ((width <= 0) || (height <= 0)) {
+			return;
+		}
+
+		ViewKey key = new ViewKey(settlement, viewpoint.xPos(), viewpoint.yPos(),
+						viewpoint.mapWidth(), viewpoint.mapHeight(),
+						viewpoint.rotation(), viewpoint.scale(), deviceScaleX, deviceScaleY,
+						contentKey.apply(settlement));
+		if ((image == null) || !key.equals(imageKey)) {
+			renderImage(settlement, viewpoint, width, height, deviceScaleX, deviceScaleY);
+			imageKey = key;
+		}
+
+		// Draw the image in device pixels
+		g2d.setTransform(AffineTransform.getTranslateInstance(saveTransform.getTranslateX(),
+									saveTransform.getTranslateY()));
+		g2d.drawImage(image, 0, 0, null);
+		g2d.setTransform(saveTransform);
+	}
+
+	/**
+	 * Redraws the layer into the offscreen image.
+	 */
+	private void renderImage(Settlement settlement, MapViewPoint viewpoint, int width, int height,
+							double deviceScaleX, double deviceScaleY) {
+		if ((image == null) || (image.getWidth() != width) || (image.getHeight() != height)) {
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		Graphics2D imageG2d = image.createGraphics();
+
+		// Clear what was drawn last time
+		imageG2d.setComposite(AlphaComposite.Clear);
+		imageG2d.fillRect(0, 0, width, height);
+		imageG2d.setComposite(AlphaComposite.SrcOver);
+
+		var g2d = viewpoint.graphics();
+		imageG2d.setRenderingHints(g2d.getRenderingHints());
+		imageG2d.setFont(g2d.getFont());
+		imageG2d.scale(deviceScaleX, deviceScaleY);
+
+		layer.displayLayer(settlement, new MapViewPoint(imageG2d, viewpoint.xPos(), viewpoint.yPos(),
+							viewpoint.mapWidth(), viewpoint.mapHeight(),
+							viewpoint.rotation(), viewpoint.scale()));
+		imageG2d.dispose();
+	}
+
+	@Override
+	public void destroy() {
+		layer.destroy();
+		layer = null;
+		contentKey = null;
+		imageKey = null;
+		image = null;
+	}
+}
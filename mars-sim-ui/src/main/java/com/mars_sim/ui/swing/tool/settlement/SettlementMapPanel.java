@@ -28,6 +28,7 @@ import java.util.Properties;
 import java.util.Set;
 
 import javax.swing.JPanel;
+import javax.swing.Timer;
 
 import com.mars_sim.core.CollectionUtils;
 import com.mars_sim.core.Unit;
@@ -76,6 +77,16 @@ public class SettlementMapPanel extends JPanel {
 	// Static members.
 	public static final double DEFAULT_SCALE = 10D;
 	private static final double SELECTION_RANGE = 0.10D; // This is the Settlement coordinate frame, 10cm
+	/** Shortest time between two clock pulse repaints in milliseconds. */
+	private static final long MIN_FRAME_MILLIS = 50L;
+
+	// What the cached building layer draws
+	private record BuildingsKey(Map<Building, String> buildings, int connectors, Building selected,
+						boolean labels, Set<FunctionType> spotLabels) {}
+
+	// What the cached construction layer draws for a site
+	private record SiteKey(ConstructionSite site, LocalPosition position, double width, double length,
+						double facing, String label, boolean picked) {}
 
 
 	// Data members
@@ -87,6 +98,11 @@ public class SettlementMapPanel extends JPanel {
 	private double rotation;
 	private double scale;
 
+	/** When a clock pulse last repainted the map. */
+	private volatile long lastFrame;
+	/** Repaints once after the clock pulses that were skipped. */
+	private Timer trailingFrame;
+
 	/** Last X mouse drag position. */
 	private int xLast;
 	/** Last Y mouse drag position. */
@@ -153,6 +169,12 @@ public class SettlementMapPanel extends JPanel {
 
 		setDoubleBuffered(true);
 
+		trailingFrame = new Timer((int) MIN_FRAME_MILLIS, e -> {
+			lastFrame = System.currentTimeMillis();
+			repaint();
+		});
+		trailingFrame.setRepeats(false);
+
 		// Initialize data members.
 		xPos = UIConfig.extractDouble(userSettings, X_PROP, 0D);
 		yPos = UIConfig.extractDouble(userSettings, Y_PROP, 0D);
@@ -207,12 +229,12 @@ public class SettlementMapPanel extends JPanel {
 		// Check the DayNightLayer at the start of the sim
 		displayOptions.remove(DisplayOption.DAYLIGHT_LAYER);
 
-		// Create map layers.
+		// Create map layers. Those that rarely change are kept in offscreen images
 		mapLayers = new ArrayList<>();
-		mapLayers.add(new BackgroundTileMapLayer(this));
+		mapLayers.add(new CachedMapLayer(new BackgroundTileMapLayer(this), s -> null));
 		mapLayers.add(dayNightMapLayer);
-		mapLayers.add(new BuildingMapLayer(this));
-		mapLayers.add(new ConstructionMapLayer(this));
+		mapLayers.add(new CachedMapLayer(new BuildingMapLayer(this), this::getBuildingsKey));
+		mapLayers.add(new CachedMapLayer(new ConstructionMapLayer(this), this::getConstructionKey));
 		mapLayers.add(new VehicleMapLayer(this));
 		mapLayers.add(new PersonMapLayer(this));
 		mapLayers.add(new RobotMapLayer(this));
@@ -897,7 +919,53 @@ public class SettlementMapPanel extends JPanel {
 	
     void update(ClockPulse pulse) {
 		settlementTransparentPanel.update(pulse);
-		repaint();
+
+		// Cap the frame rate when the clock pulses quickly
+		long now = System.currentTimeMillis();
+		long sinceFrame = now - lastFrame;
+		if (sinceFrame >= MIN_FRAME_MILLIS) {
+			lastFrame = now;
+			repaint();
+		}
+		else if (!trailingFrame.isRunning()) {
+			// Show the last pulse once the cap allows
+			trailingFrame.setInitialDelay((int) (MIN_FRAME_MILLIS - sinceFrame));
+			trailingFrame.restart();
+		}
+	}
+
+	/**
+	 * Gets what the building layer draws at a settlement.
+	 *
+	 * @param s
+	 * @return
+	 */
+	private Object getBuildingsKey(Settlement s) {
+		Map<Building, String> buildings = new HashMap<>();
+		for (Building b : s.getBuildingManager().getBuildingSet()) {
+			buildings.put(b, b.getName());
+		}
+		return new BuildingsKey(buildings,
+						s.getBuildingConnectorManager().getAllBuildingConnections().size(),
+						getSelectedBuilding(), isOptionDisplayed(DisplayOption.BUILDING_LABELS),
+						Set.copyOf(showSpotLabels));
+	}
+
+	/**
+	 * Gets what the construction layer draws at a settlement.
+	 *
+	 * @param s
+	 * @return
+	 */
+	private Object getConstructionKey(Settlement s) {
+		List<Object> key = new ArrayList<>();
+		key.add(isOptionDisplayed(DisplayOption.CONSTRUCTION_LABELS));
+		for (ConstructionSite site : s.getConstructionManager().getConstructionSites()) {
+			key.add(new SiteKey(site, site.getPosition(), site.getWidth(), site.getLength(),
+						site.getFacing(), ConstructionMapLayer.getConstructionLabel(site),
+						site.isMousePicked()));
+		}
+		return key;
 	}
 
 	/**
@@ -926,6 +994,7 @@ public class SettlementMapPanel extends JPanel {
 	 * Cleans up the map panel for disposal.
 	 */
 	public void destroy() {
+		trailingFrame.stop();
 		settlementTransparentPanel.destroy();
 		
 		menu = null;